@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.util.List;
+
+import com.tsurugidb.jdbc.TsurugiConfig;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.mock.LowSessionTestMock;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * Tsurugi JDBC benchmark support.
+ */
+public final class BenchSupport {
+
+    /**
+     * Create connection to mock session.
+     *
+     * @param sqlClient mock SQL client
+     * @return connection
+     */
+    public static TsurugiJdbcConnection createConnection(LowSqlClientTestMock sqlClient) {
+        var factory = new TsurugiJdbcFactory() {
+            @Override
+            public SqlClient createLowSqlClient(Session lowSession) {
+                return sqlClient;
+            }
+        };
+        var config = TsurugiJdbcConnectionConfig.of(new TsurugiConfig());
+        return factory.createConnection(new LowSessionTestMock(), config);
+    }
+
+    /**
+     * Create column.
+     *
+     * @param name     column name
+     * @param atomType type
+     * @return column
+     */
+    public static SqlCommon.Column column(String name, AtomType atomType) {
+        return SqlCommon.Column.newBuilder().setName(name).setAtomType(atomType).build();
+    }
+
+    /**
+     * Create columns.
+     *
+     * @param columns columns
+     * @return columns
+     */
+    public static List<SqlCommon.Column> columns(SqlCommon.Column... columns) {
+        return List.of(columns);
+    }
+
+    private BenchSupport() {
+        // do nothing
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.util.TsurugiJdbcConvertUtil;
+
+/**
+ * Tsurugi JDBC TsurugiJdbcConvertUtil benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertUtilBenchmark {
+
+    private TsurugiJdbcConvertUtil convertUtil;
+
+    private final Object longValue = 123456789L;
+    private final Object intValue = 12345;
+    private final Object stringValue = "12345.678";
+    private final Object decimalValue = new BigDecimal("12345.678");
+    private final Object localDateValue = LocalDate.of(2025, 4, 1);
+    private final Object localDateTimeValue = LocalDateTime.of(2025, 4, 1, 12, 34, 56, 789_000_000);
+    private final ZoneId zone = ZoneId.of("Asia/Tokyo");
+
+    @Setup
+    public void setup() {
+        var factory = new TsurugiJdbcFactory();
+        this.convertUtil = factory.createConvertUtil(() -> factory);
+    }
+
+    @Benchmark
+    public int longToInt() throws SQLException {
+        return convertUtil.convertToInt(longValue);
+    }
+
+    @Benchmark
+    public long intToLong() throws SQLException {
+        return convertUtil.convertToLong(intValue);
+    }
+
+    @Benchmark
+    public String intToString() throws SQLException {
+        return convertUtil.convertToString(intValue);
+    }
+
+    @Benchmark
+    public BigDecimal stringToDecimal() throws SQLException {
+        return convertUtil.convertToDecimal(stringValue);
+    }
+
+    @Benchmark
+    public double decimalToDouble() throws SQLException {
+        return convertUtil.convertToDouble(decimalValue);
+    }
+
+    @Benchmark
+    public java.sql.Date localDateToDate() throws SQLException {
+        return convertUtil.convertToDate(localDateValue);
+    }
+
+    @Benchmark
+    public java.sql.Timestamp localDateTimeToTimestamp() throws SQLException {
+        return convertUtil.convertToTimestamp(localDateTimeValue);
+    }
+
+    @Benchmark
+    public java.sql.Timestamp localDateTimeToTimestampWithZone() throws SQLException {
+        return convertUtil.convertToTimestamp(localDateTimeValue, zone);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.exception.CcException;
+import com.tsurugidb.tsubakuro.sql.exception.UniqueConstraintViolationException;
+
+/**
+ * Tsurugi JDBC exception mapping benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionMappingBenchmark {
+
+    private TsurugiJdbcExceptionHandler exceptionHandler;
+
+    private final CcException ccException = new CcException(SqlServiceCode.CC_EXCEPTION, "bench");
+    private final UniqueConstraintViolationException uniqueException = new UniqueConstraintViolationException(SqlServiceCode.UNIQUE_CONSTRAINT_VIOLATION_EXCEPTION, "bench");
+    private final IOException ioException = new IOException("bench");
+    private final TimeoutException timeoutException = new TimeoutException("bench");
+
+    @Setup
+    public void setup() {
+        this.exceptionHandler = new TsurugiJdbcFactory().getExceptionHandler();
+    }
+
+    @Benchmark
+    public SQLException ccException() {
+        return exceptionHandler.sqlException("execute error", ccException);
+    }
+
+    @Benchmark
+    public SQLException uniqueConstraintViolation() {
+        return exceptionHandler.sqlException("execute error", uniqueException);
+    }
+
+    @Benchmark
+    public SQLException ioException() {
+        return exceptionHandler.sqlException("execute error", ioException);
+    }
+
+    @Benchmark
+    public SQLException timeoutException() {
+        return exceptionHandler.sqlException("execute error", timeoutException);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+
+/**
+ * Tsurugi JDBC PreparedStatement executeBatch() benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecuteBatchBenchmark {
+
+    @Param({ "100" })
+    private int batchSize;
+
+    private TsurugiJdbcConnection connection;
+    private TsurugiJdbcPreparedStatement ps;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        this.connection = BenchSupport.createConnection(new LowSqlClientTestMock());
+        this.ps = connection.prepareStatement("insert into test values(?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        ps.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] executeBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            ps.setInt(1, i);
+            ps.setLong(2, i * 10L);
+            ps.setString(3, "name");
+            ps.addBatch();
+        }
+        return ps.executeBatch();
+    }
+
+    @Benchmark
+    public int executeUpdate() throws SQLException {
+        ps.setInt(1, 1);
+        ps.setLong(2, 10L);
+        ps.setString(3, "name");
+        return ps.executeUpdate();
+    }
+}
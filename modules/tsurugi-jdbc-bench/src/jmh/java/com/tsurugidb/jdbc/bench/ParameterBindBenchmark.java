@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+
+/**
+ * Tsurugi JDBC PreparedStatement setXxx() benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterBindBenchmark {
+
+    private TsurugiJdbcConnection connection;
+    private TsurugiJdbcPreparedStatement ps;
+
+    private int count = 0;
+    private final BigDecimal amount = new BigDecimal("123.45");
+    private final LocalDate date = LocalDate.of(2025, 4, 1);
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        this.connection = BenchSupport.createConnection(new LowSqlClientTestMock());
+        this.ps = connection.prepareStatement("insert into test values(?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        ps.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public TsurugiJdbcPreparedStatement bind() throws SQLException {
+        int i = count++;
+        ps.setInt(1, i);
+        ps.setLong(2, i * 10L);
+        ps.setString(3, "name");
+        ps.setBigDecimal(4, amount);
+        ps.setObject(5, date);
+        return ps;
+    }
+
+    @Benchmark
+    public TsurugiJdbcPreparedStatement bindNull() throws SQLException {
+        ps.setNull(1, java.sql.Types.INTEGER);
+        ps.setNull(2, java.sql.Types.BIGINT);
+        ps.setNull(3, java.sql.Types.VARCHAR);
+        ps.setNull(4, java.sql.Types.DECIMAL);
+        ps.setNull(5, java.sql.Types.DATE);
+        return ps;
+    }
+}
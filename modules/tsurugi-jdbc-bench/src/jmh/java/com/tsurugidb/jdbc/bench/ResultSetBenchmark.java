@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.bench;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+
+/**
+ * Tsurugi JDBC ResultSet next()/getXxx() benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultSetBenchmark {
+
+    @Param({ "1000" })
+    private int rowSize;
+
+    private TsurugiJdbcConnection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        var columns = BenchSupport.columns( //
+                BenchSupport.column("pk", AtomType.INT4), //
+                BenchSupport.column("value", AtomType.INT8), //
+                BenchSupport.column("name", AtomType.CHARACTER), //
+                BenchSupport.column("amount", AtomType.DECIMAL), //
+                BenchSupport.column("date", AtomType.DATE));
+        var rows = new Object[rowSize][];
+        for (int i = 0; i < rowSize; i++) {
+            rows[i] = new Object[] { i, i * 10L, "name" + i, BigDecimal.valueOf(i, 2), (i % 10 == 0) ? null : LocalDate.of(2025, 1, 1).plusDays(i) };
+        }
+
+        this.connection = BenchSupport.createConnection(new LowSqlClientTestMock(columns, rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole bh) throws SQLException {
+        try (var statement = connection.createStatement(); var rs = statement.executeQuery("select * from test")) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+                bh.consume(rs.getLong(2));
+                bh.consume(rs.getString(3));
+                bh.consume(rs.getBigDecimal(4));
+                bh.consume(rs.getObject(5, LocalDate.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getByName(Blackhole bh) throws SQLException {
+        try (var statement = connection.createStatement(); var rs = statement.executeQuery("select * from test")) {
+            while (rs.next()) {
+                bh.consume(rs.getInt("pk"));
+                bh.consume(rs.getLong("value"));
+                bh.consume(rs.getString("name"));
+                bh.consume(rs.getBigDecimal("amount"));
+                bh.consume(rs.getDate("date"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getObject(Blackhole bh) throws SQLException {
+        try (var statement = connection.createStatement(); var rs = statement.executeQuery("select * from test")) {
+            while (rs.next()) {
+                for (int i = 1; i <= 5; i++) {
+                    bh.consume(rs.getObject(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+
+/**
+ * Column of fake SQL service.
+ */
+final class FakeColumn {
+
+    private final String name;
+    private final AtomType atomType;
+    private final FakeExpression defaultValue;
+    private final SqlCommon.Column lowColumn;
+
+    FakeColumn(String name, AtomType atomType, @Nullable FakeExpression defaultValue) {
+        this.name = name;
+        this.atomType = atomType;
+        this.defaultValue = defaultValue;
+        this.lowColumn = SqlCommon.Column.newBuilder().setName(name).setAtomType(atomType).build();
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    AtomType getAtomType() {
+        return this.atomType;
+    }
+
+    @Nullable
+    FakeExpression getDefaultValue() {
+        return this.defaultValue;
+    }
+
+    SqlCommon.Column getLowColumn() {
+        return this.lowColumn;
+    }
+}
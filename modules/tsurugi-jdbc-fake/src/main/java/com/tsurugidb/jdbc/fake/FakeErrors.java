@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.exception.CcException;
+import com.tsurugidb.tsubakuro.sql.exception.InactiveTransactionException;
+import com.tsurugidb.tsubakuro.sql.exception.SymbolAnalysisException;
+import com.tsurugidb.tsubakuro.sql.exception.SyntaxException;
+import com.tsurugidb.tsubakuro.sql.exception.TargetAlreadyExistsException;
+import com.tsurugidb.tsubakuro.sql.exception.UniqueConstraintViolationException;
+import com.tsurugidb.tsubakuro.sql.exception.ValueEvaluationException;
+import com.tsurugidb.tsubakuro.sql.exception.WriteOperationByRtxException;
+
+/**
+ * Exceptions of fake SQL service.
+ */
+final class FakeErrors {
+
+    static SyntaxException syntax(String message, String sql) {
+        return new SyntaxException(SqlServiceCode.SYNTAX_EXCEPTION, message + ". sql=" + sql);
+    }
+
+    static SymbolAnalysisException tableNotFound(String tableName) {
+        return new SymbolAnalysisException(SqlServiceCode.SYMBOL_ANALYSIS_EXCEPTION, "table not found. table=" + tableName);
+    }
+
+    static SymbolAnalysisException columnNotFound(String tableName, String columnName) {
+        return new SymbolAnalysisException(SqlServiceCode.SYMBOL_ANALYSIS_EXCEPTION, "column not found. table=" + tableName + ", column=" + columnName);
+    }
+
+    static SymbolAnalysisException parameterNotFound(String name) {
+        return new SymbolAnalysisException(SqlServiceCode.SYMBOL_ANALYSIS_EXCEPTION, "parameter not found. name=" + name);
+    }
+
+    static TargetAlreadyExistsException tableAlreadyExists(String tableName) {
+        return new TargetAlreadyExistsException(SqlServiceCode.TARGET_ALREADY_EXISTS_EXCEPTION, "table already exists. table=" + tableName);
+    }
+
+    static UniqueConstraintViolationException duplicateKey(String tableName) {
+        return new UniqueConstraintViolationException(SqlServiceCode.UNIQUE_CONSTRAINT_VIOLATION_EXCEPTION, "primary key duplicated. table=" + tableName);
+    }
+
+    static ValueEvaluationException value(String message, Exception cause) {
+        return new ValueEvaluationException(SqlServiceCode.VALUE_EVALUATION_EXCEPTION, message + ". " + cause.getMessage());
+    }
+
+    static InactiveTransactionException inactive(String message) {
+        return new InactiveTransactionException(SqlServiceCode.INACTIVE_TRANSACTION_EXCEPTION, message);
+    }
+
+    static WriteOperationByRtxException writeByReadOnly() {
+        return new WriteOperationByRtxException(SqlServiceCode.WRITE_OPERATION_BY_RTX_EXCEPTION, "write operation by read only transaction");
+    }
+
+    static CcException abort(String message) {
+        return new CcException(SqlServiceCode.CC_EXCEPTION, message);
+    }
+
+    private FakeErrors() {
+        // do nothing
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Expression of fake SQL service.
+ */
+abstract class FakeExpression {
+
+    /**
+     * Evaluate expression.
+     *
+     * @param table  table
+     * @param row    row. null if no row
+     * @param params parameters
+     * @return value
+     * @throws ServerException if evaluation fails
+     */
+    abstract Object evaluate(FakeTable table, @Nullable Object[] row, Map<String, Object> params) throws ServerException;
+
+    /**
+     * Literal.
+     */
+    static final class Literal extends FakeExpression {
+        private final Object value;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) {
+            return this.value;
+        }
+    }
+
+    /**
+     * Placeholder.
+     */
+    static final class Placeholder extends FakeExpression {
+        private final String name;
+
+        Placeholder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            if (!params.containsKey(name)) {
+                throw FakeErrors.parameterNotFound(name);
+            }
+            return params.get(name);
+        }
+    }
+
+    /**
+     * Column reference.
+     */
+    static final class Column extends FakeExpression {
+        private final String name;
+
+        Column(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return this.name;
+        }
+
+        int index(FakeTable table) throws ServerException {
+            int index = table.getColumnIndex(name);
+            if (index < 0) {
+                throw FakeErrors.columnNotFound(table.getName(), name);
+            }
+            return index;
+        }
+
+        AtomType atomType(FakeTable table) throws ServerException {
+            return table.getColumns().get(index(table)).getAtomType();
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            if (row == null) {
+                throw FakeErrors.columnNotFound(table.getName(), name);
+            }
+            return row[index(table)];
+        }
+    }
+
+    /**
+     * Arithmetic operation.
+     */
+    static final class Arithmetic extends FakeExpression {
+        private final char operator;
+        private final FakeExpression left;
+        private final FakeExpression right;
+
+        Arithmetic(char operator, FakeExpression left, FakeExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            Object value1 = left.evaluate(table, row, params);
+            Object value2 = right.evaluate(table, row, params);
+            if (value1 == null || value2 == null) {
+                return null;
+            }
+            try {
+                if (operator == '+' && (value1 instanceof String || value2 instanceof String)) {
+                    throw new IllegalArgumentException("use || to concatenate strings");
+                }
+                if (operator == '|') {
+                    return value1.toString() + value2;
+                }
+                if (isInteger(value1) && isInteger(value2)) {
+                    long x = ((Number) value1).longValue();
+                    long y = ((Number) value2).longValue();
+                    long r = calculate(x, y);
+                    if (value1 instanceof Integer && value2 instanceof Integer && r == (int) r) {
+                        return (int) r;
+                    }
+                    return r;
+                }
+                if (value1 instanceof Double || value2 instanceof Double || value1 instanceof Float || value2 instanceof Float) {
+                    return calculate(((Number) value1).doubleValue(), ((Number) value2).doubleValue());
+                }
+                return calculate(FakeValues.toDecimal(value1), FakeValues.toDecimal(value2));
+            } catch (RuntimeException e) {
+                throw FakeErrors.value("arithmetic error", e);
+            }
+        }
+
+        private static boolean isInteger(Object value) {
+            return value instanceof Integer || value instanceof Long;
+        }
+
+        private long calculate(long x, long y) {
+            switch (operator) {
+            case '+':
+                return Math.addExact(x, y);
+            case '-':
+                return Math.subtractExact(x, y);
+            case '*':
+                return Math.multiplyExact(x, y);
+            case '/':
+                return x / y;
+            default:
+                throw new IllegalStateException("operator=" + operator);
+            }
+        }
+
+        private double calculate(double x, double y) {
+            switch (operator) {
+            case '+':
+                return x + y;
+            case '-':
+                return x - y;
+            case '*':
+                return x * y;
+            case '/':
+                return x / y;
+            default:
+                throw new IllegalStateException("operator=" + operator);
+            }
+        }
+
+        private BigDecimal calculate(BigDecimal x, BigDecimal y) {
+            switch (operator) {
+            case '+':
+                return x.add(y);
+            case '-':
+                return x.subtract(y);
+            case '*':
+                return x.multiply(y);
+            case '/':
+                return x.divide(y, MathContext.DECIMAL128);
+            default:
+                throw new IllegalStateException("operator=" + operator);
+            }
+        }
+    }
+
+    /**
+     * Comparison.
+     */
+    static final class Comparison extends FakeExpression {
+        private final String operator;
+        private final FakeExpression left;
+        private final FakeExpression right;
+
+        Comparison(String operator, FakeExpression left, FakeExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Get key value if this is {@code column = value}.
+         *
+         * @param columnName column name
+         * @return value expression, or null if not matched
+         */
+        @Nullable
+        FakeExpression equalValue(String columnName) {
+            if (!operator.equals("=")) {
+                return null;
+            }
+            if (left instanceof Column && ((Column) left).getName().equalsIgnoreCase(columnName) && !(right instanceof Column)) {
+                return right;
+            }
+            if (right instanceof Column && ((Column) right).getName().equalsIgnoreCase(columnName) && !(left instanceof Column)) {
+                return left;
+            }
+            return null;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            Object value1 = left.evaluate(table, row, params);
+            Object value2 = right.evaluate(table, row, params);
+            if (operator.equals("IS NULL")) {
+                return value1 == null;
+            }
+            if (operator.equals("IS NOT NULL")) {
+                return value1 != null;
+            }
+            if (value1 == null || value2 == null) {
+                return null;
+            }
+
+            try {
+                if (left instanceof Column) {
+                    value2 = FakeValues.convert(value2, ((Column) left).atomType(table));
+                } else if (right instanceof Column) {
+                    value1 = FakeValues.convert(value1, ((Column) right).atomType(table));
+                }
+                int c = FakeValues.compare(value1, value2);
+                switch (operator) {
+                case "=":
+                    return c == 0;
+                case "<>":
+                    return c != 0;
+                case "<":
+                    return c < 0;
+                case "<=":
+                    return c <= 0;
+                case ">":
+                    return c > 0;
+                case ">=":
+                    return c >= 0;
+                default:
+                    throw new IllegalStateException("operator=" + operator);
+                }
+            } catch (RuntimeException e) {
+                throw FakeErrors.value("comparison error", e);
+            }
+        }
+    }
+
+    /**
+     * Logical AND.
+     */
+    static final class And extends FakeExpression {
+        private final List<FakeExpression> list;
+
+        And(List<FakeExpression> list) {
+            this.list = list;
+        }
+
+        List<FakeExpression> getList() {
+            return this.list;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            boolean unknown = false;
+            for (var expression : list) {
+                Object value = expression.evaluate(table, row, params);
+                if (value == null) {
+                    unknown = true;
+                } else if (!Boolean.TRUE.equals(value)) {
+                    return false;
+                }
+            }
+            return unknown ? null : true;
+        }
+    }
+
+    /**
+     * Logical OR.
+     */
+    static final class Or extends FakeExpression {
+        private final List<FakeExpression> list;
+
+        Or(List<FakeExpression> list) {
+            this.list = list;
+        }
+
+        @Override
+        Object evaluate(FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+            boolean unknown = false;
+            for (var expression : list) {
+                Object value = expression.evaluate(table, row, params);
+                if (value == null) {
+                    unknown = true;
+                } else if (Boolean.TRUE.equals(value)) {
+                    return true;
+                }
+            }
+            return unknown ? null : false;
+        }
+    }
+
+    /**
+     * Whether the condition is satisfied.
+     *
+     * @param condition condition. null if no condition
+     * @param table     table
+     * @param row       row
+     * @param params    parameters
+     * @return {@code true} if satisfied
+     * @throws ServerException if evaluation fails
+     */
+    static boolean test(@Nullable FakeExpression condition, FakeTable table, Object[] row, Map<String, Object> params) throws ServerException {
+        if (condition == null) {
+            return true;
+        }
+        return Boolean.TRUE.equals(condition.evaluate(table, row, params));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * FutureResponse of fake SQL service.
+ * <p>
+ * The result is already computed, but it is not returned until the simulated response time.
+ * </p>
+ *
+ * @param <V> the result value type
+ */
+final class FakeFutureResponse<V> implements FutureResponse<V> {
+
+    private final V value;
+    private final ServerException exception;
+    private final long readyNanos;
+
+    FakeFutureResponse(@Nullable V value, @Nullable ServerException exception, long readyNanos) {
+        this.value = value;
+        this.exception = exception;
+        this.readyNanos = readyNanos;
+    }
+
+    @Override
+    public boolean isDone() {
+        return System.nanoTime() - readyNanos >= 0;
+    }
+
+    @Override
+    public V get() throws IOException, ServerException, InterruptedException {
+        waitUntil(readyNanos);
+        return result();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (deadline - readyNanos < 0) {
+            waitUntil(deadline);
+            throw new TimeoutException("fake response timeout");
+        }
+        waitUntil(readyNanos);
+        return result();
+    }
+
+    private V result() throws ServerException {
+        if (exception != null) {
+            throw exception;
+        }
+        return value;
+    }
+
+    private static void waitUntil(long nanos) throws InterruptedException {
+        for (;;) {
+            long wait = nanos - System.nanoTime();
+            if (wait <= 0) {
+                return;
+            }
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // do nothing
+    }
+}
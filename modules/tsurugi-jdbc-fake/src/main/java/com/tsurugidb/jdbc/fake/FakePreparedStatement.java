@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+
+/**
+ * PreparedStatement of fake SQL service.
+ */
+final class FakePreparedStatement implements PreparedStatement {
+
+    private final FakeStatement statement;
+
+    FakePreparedStatement(FakeStatement statement) {
+        this.statement = statement;
+    }
+
+    FakeStatement getStatement() {
+        return this.statement;
+    }
+
+    @Override
+    public boolean hasResultRecords() {
+        return statement.hasResultRecords();
+    }
+
+    @Override
+    public void close() {
+        // do nothing
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.util.Collection;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * SqlClient of fake SQL service.
+ */
+final class FakeSqlClient implements SqlClient {
+
+    private final TsurugiJdbcFakeService service;
+
+    FakeSqlClient(TsurugiJdbcFakeService service) {
+        this.service = service;
+    }
+
+    @Override
+    public FutureResponse<Transaction> createTransaction(SqlRequest.TransactionOption option) {
+        return service.respond(new FakeTransaction(service, option));
+    }
+
+    @Override
+    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends SqlRequest.Placeholder> placeholders) {
+        try {
+            var statement = service.parse(source);
+            return service.respond(new FakePreparedStatement(statement));
+        } catch (ServerException e) {
+            return service.fail(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // do nothing
+    }
+}
@@ -0,0 +1,670 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.tsurugidb.jdbc.util.SqlTokenizer;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.sql.exception.SyntaxException;
+
+/**
+ * SQL parser of fake SQL service.
+ * <p>
+ * Supports a small subset of Tsurugi SQL: CREATE TABLE, DROP TABLE, INSERT (OR REPLACE / IF NOT EXISTS), single-table SELECT (columns or COUNT(*), WHERE, ORDER BY,
+ * LIMIT), UPDATE and DELETE. Placeholders are {@code ?} (named {@code 1}, {@code 2}, ... in order) or {@code :name}.
+ * </p>
+ */
+final class FakeSqlParser {
+
+    private static final class Token {
+        final String text;
+        final boolean quoted;
+
+        Token(String text, boolean quoted) {
+            this.text = text;
+            this.quoted = quoted;
+        }
+    }
+
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL
+     * @return statement
+     * @throws SyntaxException if the SQL is not supported
+     */
+    static FakeStatement parse(String sql) throws SyntaxException {
+        return new FakeSqlParser(sql).parseStatement();
+    }
+
+    private final String sql;
+    private final List<Token> tokens = new ArrayList<>();
+    private int position = 0;
+    private int placeholderCount = 0;
+
+    private FakeSqlParser(String sql) {
+        this.sql = sql;
+        var tokenizer = new SqlTokenizer(sql);
+        for (;;) {
+            String text = tokenizer.next();
+            if (text == null) {
+                break;
+            }
+            tokens.add(new Token(text, tokenizer.isQuoted()));
+        }
+    }
+
+    private FakeStatement parseStatement() throws SyntaxException {
+        FakeStatement statement;
+        String keyword = upper(next());
+        switch (keyword) {
+        case "CREATE":
+            statement = parseCreateTable();
+            break;
+        case "DROP":
+            statement = parseDropTable();
+            break;
+        case "INSERT":
+            statement = parseInsert();
+            break;
+        case "SELECT":
+            statement = parseSelect();
+            break;
+        case "UPDATE":
+            statement = parseUpdate();
+            break;
+        case "DELETE":
+            statement = parseDelete();
+            break;
+        default:
+            throw error("unsupported statement '" + keyword + "'");
+        }
+
+        accept(";");
+        if (position < tokens.size()) {
+            throw error("unexpected token '" + tokens.get(position).text + "'");
+        }
+        return statement;
+    }
+
+    private FakeStatement parseCreateTable() throws SyntaxException {
+        expect("TABLE");
+        boolean ifNotExists = accept("IF");
+        if (ifNotExists) {
+            expect("NOT");
+            expect("EXISTS");
+        }
+        String tableName = parseName();
+
+        var columns = new ArrayList<FakeColumn>();
+        var keys = new ArrayList<String>();
+        expect("(");
+        do {
+            if (accept("PRIMARY")) {
+                expect("KEY");
+                expect("(");
+                do {
+                    keys.add(parseName());
+                } while (accept(","));
+                expect(")");
+                continue;
+            }
+
+            String columnName = parseName();
+            var atomType = parseType();
+            FakeExpression defaultValue = null;
+            for (;;) {
+                if (accept("PRIMARY")) {
+                    expect("KEY");
+                    keys.add(columnName);
+                } else if (accept("NOT")) {
+                    expect("NULL");
+                } else if (accept("NULL")) {
+                    continue;
+                } else if (accept("DEFAULT")) {
+                    defaultValue = parsePrimary();
+                } else {
+                    break;
+                }
+            }
+            columns.add(new FakeColumn(columnName, atomType, defaultValue));
+        } while (accept(","));
+        expect(")");
+
+        return new FakeStatement.CreateTable(tableName, ifNotExists, columns, keys);
+    }
+
+    private AtomType parseType() throws SyntaxException {
+        String type = upper(next());
+        AtomType atomType;
+        switch (type) {
+        case "BOOLEAN":
+            atomType = AtomType.BOOLEAN;
+            break;
+        case "INT":
+        case "INTEGER":
+            atomType = AtomType.INT4;
+            break;
+        case "BIGINT":
+            atomType = AtomType.INT8;
+            break;
+        case "REAL":
+        case "FLOAT":
+            atomType = AtomType.FLOAT4;
+            break;
+        case "DOUBLE":
+            accept("PRECISION");
+            atomType = AtomType.FLOAT8;
+            break;
+        case "DECIMAL":
+        case "NUMERIC":
+            atomType = AtomType.DECIMAL;
+            break;
+        case "CHAR":
+        case "CHARACTER":
+        case "VARCHAR":
+            accept("VARYING");
+            atomType = AtomType.CHARACTER;
+            break;
+        case "BINARY":
+        case "VARBINARY":
+            accept("VARYING");
+            atomType = AtomType.OCTET;
+            break;
+        case "DATE":
+            atomType = AtomType.DATE;
+            break;
+        case "TIME":
+            atomType = acceptWithTimeZone() ? AtomType.TIME_OF_DAY_WITH_TIME_ZONE : AtomType.TIME_OF_DAY;
+            break;
+        case "TIMESTAMP":
+            atomType = acceptWithTimeZone() ? AtomType.TIME_POINT_WITH_TIME_ZONE : AtomType.TIME_POINT;
+            break;
+        default:
+            throw error("unsupported type '" + type + "'");
+        }
+
+        if (accept("(")) {
+            while (!accept(")")) {
+                next();
+            }
+        }
+        return atomType;
+    }
+
+    private boolean acceptWithTimeZone() throws SyntaxException {
+        if (accept("WITH")) {
+            expect("TIME");
+            expect("ZONE");
+            return true;
+        }
+        return false;
+    }
+
+    private FakeStatement parseDropTable() throws SyntaxException {
+        expect("TABLE");
+        boolean ifExists = accept("IF");
+        if (ifExists) {
+            expect("EXISTS");
+        }
+        String tableName = parseName();
+        return new FakeStatement.DropTable(tableName, ifExists);
+    }
+
+    private FakeStatement parseInsert() throws SyntaxException {
+        var mode = FakeTable.InsertMode.INSERT;
+        if (accept("OR")) {
+            expect("REPLACE");
+            mode = FakeTable.InsertMode.REPLACE;
+        } else if (accept("IF")) {
+            expect("NOT");
+            expect("EXISTS");
+            mode = FakeTable.InsertMode.IGNORE;
+        }
+        expect("INTO");
+        String tableName = parseName();
+
+        List<String> columnNames = null;
+        if (accept("(")) {
+            columnNames = new ArrayList<>();
+            do {
+                columnNames.add(parseName());
+            } while (accept(","));
+            expect(")");
+        }
+
+        expect("VALUES");
+        var valuesList = new ArrayList<List<FakeExpression>>();
+        do {
+            expect("(");
+            var values = new ArrayList<FakeExpression>();
+            do {
+                values.add(parseAdditive());
+            } while (accept(","));
+            expect(")");
+            valuesList.add(values);
+        } while (accept(","));
+
+        return new FakeStatement.Insert(tableName, mode, columnNames, valuesList);
+    }
+
+    private FakeStatement parseSelect() throws SyntaxException {
+        List<FakeStatement.SelectItem> items = null;
+        if (!accept("*")) {
+            items = new ArrayList<>();
+            do {
+                String columnName;
+                String label;
+                if (peekIs("COUNT", "(")) {
+                    position++;
+                    expect("(");
+                    expect("*");
+                    expect(")");
+                    columnName = null;
+                    label = "count";
+                } else {
+                    columnName = parseName();
+                    label = columnName;
+                }
+                if (accept("AS")) {
+                    label = parseName();
+                }
+                items.add(new FakeStatement.SelectItem(columnName, label));
+            } while (accept(","));
+        }
+
+        expect("FROM");
+        String tableName = parseName();
+        FakeExpression where = parseWhere();
+
+        var orderBy = new ArrayList<FakeStatement.OrderBy>();
+        if (accept("ORDER")) {
+            expect("BY");
+            do {
+                String columnName = parseName();
+                boolean descending = accept("DESC");
+                if (!descending) {
+                    accept("ASC");
+                }
+                orderBy.add(new FakeStatement.OrderBy(columnName, descending));
+            } while (accept(","));
+        }
+
+        long limit = -1;
+        if (accept("LIMIT")) {
+            String text = next();
+            try {
+                limit = Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw error("illegal limit '" + text + "'");
+            }
+        }
+
+        return new FakeStatement.Select(tableName, items, where, orderBy, limit);
+    }
+
+    private FakeStatement parseUpdate() throws SyntaxException {
+        String tableName = parseName();
+        expect("SET");
+        var assignments = new ArrayList<FakeTable.Assignment>();
+        do {
+            String columnName = parseName();
+            expect("=");
+            assignments.add(new FakeTable.Assignment(columnName, parseAdditive()));
+        } while (accept(","));
+        FakeExpression where = parseWhere();
+        return new FakeStatement.Update(tableName, assignments, where);
+    }
+
+    private FakeStatement parseDelete() throws SyntaxException {
+        expect("FROM");
+        String tableName = parseName();
+        FakeExpression where = parseWhere();
+        return new FakeStatement.Delete(tableName, where);
+    }
+
+    private FakeExpression parseWhere() throws SyntaxException {
+        if (accept("WHERE")) {
+            return parseOr();
+        }
+        return null;
+    }
+
+    private FakeExpression parseOr() throws SyntaxException {
+        var list = new ArrayList<FakeExpression>();
+        do {
+            list.add(parseAnd());
+        } while (accept("OR"));
+        return (list.size() == 1) ? list.get(0) : new FakeExpression.Or(list);
+    }
+
+    private FakeExpression parseAnd() throws SyntaxException {
+        var list = new ArrayList<FakeExpression>();
+        do {
+            list.add(parseComparison());
+        } while (accept("AND"));
+        return (list.size() == 1) ? list.get(0) : new FakeExpression.And(list);
+    }
+
+    private FakeExpression parseComparison() throws SyntaxException {
+        if (peekIs("(") && isConditionInParentheses()) {
+            expect("(");
+            var condition = parseOr();
+            expect(")");
+            return condition;
+        }
+
+        var left = parseAdditive();
+        if (accept("IS")) {
+            boolean not = accept("NOT");
+            expect("NULL");
+            return new FakeExpression.Comparison(not ? "IS NOT NULL" : "IS NULL", left, left);
+        }
+
+        String operator;
+        if (accept("=")) {
+            operator = "=";
+        } else if (accept("<")) {
+            if (accept("=")) {
+                operator = "<=";
+            } else if (accept(">")) {
+                operator = "<>";
+            } else {
+                operator = "<";
+            }
+        } else if (accept(">")) {
+            operator = accept("=") ? ">=" : ">";
+        } else if (accept("!")) {
+            expect("=");
+            operator = "<>";
+        } else {
+            throw error("comparison operator expected");
+        }
+        var right = parseAdditive();
+        return new FakeExpression.Comparison(operator, left, right);
+    }
+
+    private boolean isConditionInParentheses() {
+        int depth = 0;
+        for (int i = position; i < tokens.size(); i++) {
+            var token = tokens.get(i);
+            if (token.quoted) {
+                continue;
+            }
+            switch (upper(token.text)) {
+            case "(":
+                depth++;
+                break;
+            case ")":
+                depth--;
+                if (depth == 0) {
+                    return false;
+                }
+                break;
+            case "=":
+            case "<":
+            case ">":
+            case "!":
+            case "IS":
+                if (depth == 1) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return false;
+    }
+
+    private FakeExpression parseAdditive() throws SyntaxException {
+        var expression = parseMultiplicative();
+        for (;;) {
+            if (accept("+")) {
+                expression = new FakeExpression.Arithmetic('+', expression, parseMultiplicative());
+            } else if (accept("-")) {
+                expression = new FakeExpression.Arithmetic('-', expression, parseMultiplicative());
+            } else if (peekIs("|", "|")) {
+                expect("|");
+                expect("|");
+                expression = new FakeExpression.Arithmetic('|', expression, parseMultiplicative());
+            } else {
+                return expression;
+            }
+        }
+    }
+
+    private FakeExpression parseMultiplicative() throws SyntaxException {
+        var expression = parsePrimary();
+        for (;;) {
+            if (accept("*")) {
+                expression = new FakeExpression.Arithmetic('*', expression, parsePrimary());
+            } else if (accept("/")) {
+                expression = new FakeExpression.Arithmetic('/', expression, parsePrimary());
+            } else {
+                return expression;
+            }
+        }
+    }
+
+    private FakeExpression parsePrimary() throws SyntaxException {
+        if (accept("(")) {
+            var expression = parseAdditive();
+            expect(")");
+            return expression;
+        }
+        if (accept("-")) {
+            return new FakeExpression.Arithmetic('-', new FakeExpression.Literal(0), parsePrimary());
+        }
+        if (accept("?")) {
+            return new FakeExpression.Placeholder(Integer.toString(++placeholderCount));
+        }
+        if (accept(":")) {
+            return new FakeExpression.Placeholder(next());
+        }
+
+        var token = peek();
+        String text = token.text;
+        if (!token.quoted) {
+            if (text.startsWith("'")) {
+                position++;
+                return new FakeExpression.Literal(unquote(text));
+            }
+            if (Character.isDigit(text.charAt(0))) {
+                return new FakeExpression.Literal(parseNumber());
+            }
+            switch (upper(text)) {
+            case "NULL":
+                position++;
+                return new FakeExpression.Literal(null);
+            case "TRUE":
+                position++;
+                return new FakeExpression.Literal(true);
+            case "FALSE":
+                position++;
+                return new FakeExpression.Literal(false);
+            case "DATE":
+                if (isStringLiteral(1)) {
+                    position++;
+                    return new FakeExpression.Literal(parseTypedLiteral(LocalDate.class));
+                }
+                break;
+            case "TIME":
+                if (isStringLiteral(1)) {
+                    position++;
+                    return new FakeExpression.Literal(parseTypedLiteral(LocalTime.class));
+                }
+                break;
+            case "TIMESTAMP":
+                if (isStringLiteral(1)) {
+                    position++;
+                    return new FakeExpression.Literal(parseTypedLiteral(LocalDateTime.class));
+                }
+                if (isStringLiteral(4)) {
+                    position++;
+                    acceptWithTimeZone();
+                    return new FakeExpression.Literal(parseTypedLiteral(OffsetDateTime.class));
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        return new FakeExpression.Column(parseName());
+    }
+
+    private Object parseNumber() throws SyntaxException {
+        String text = next();
+        if (accept(".")) {
+            if (position < tokens.size() && Character.isDigit(peek().text.charAt(0))) {
+                text += "." + next();
+            } else {
+                text += ".";
+            }
+        }
+        try {
+            String upper = upper(text);
+            if (upper.contains("E")) {
+                return Double.parseDouble(text);
+            }
+            if (text.contains(".")) {
+                return new BigDecimal(text);
+            }
+            long value = Long.parseLong(text);
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw error("illegal number '" + text + "'");
+        }
+    }
+
+    private Object parseTypedLiteral(Class<?> type) throws SyntaxException {
+        String text = unquote(next());
+        try {
+            if (type == LocalDate.class) {
+                return LocalDate.parse(text);
+            }
+            if (type == LocalTime.class) {
+                return LocalTime.parse(text);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(text.replace(' ', 'T'));
+            }
+            return OffsetDateTime.parse(text.replace(' ', 'T'));
+        } catch (RuntimeException e) {
+            throw error("illegal " + type.getSimpleName() + " literal '" + text + "'");
+        }
+    }
+
+    private boolean isStringLiteral(int offset) {
+        int index = position + offset;
+        if (index >= tokens.size()) {
+            return false;
+        }
+        var token = tokens.get(index);
+        return !token.quoted && token.text.startsWith("'");
+    }
+
+    private static String unquote(String literal) {
+        return literal.substring(1, literal.length() - 1).replace("''", "'");
+    }
+
+    private String parseName() throws SyntaxException {
+        var token = peek();
+        if (!token.quoted && !isWord(token.text)) {
+            throw error("name expected but '" + token.text + "'");
+        }
+        position++;
+        String name = token.text;
+        while (peekIs(".")) {
+            position++;
+            name = next(); // use the last part of qualified name
+        }
+        return name;
+    }
+
+    private static boolean isWord(String text) {
+        char c = text.charAt(0);
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private Token peek() throws SyntaxException {
+        if (position >= tokens.size()) {
+            throw error("unexpected end of SQL");
+        }
+        return tokens.get(position);
+    }
+
+    private boolean peekIs(String text) {
+        if (position >= tokens.size()) {
+            return false;
+        }
+        var token = tokens.get(position);
+        return !token.quoted && token.text.equalsIgnoreCase(text);
+    }
+
+    private String next() throws SyntaxException {
+        var token = peek();
+        position++;
+        return token.text;
+    }
+
+    private boolean accept(String text) {
+        if (peekIs(text)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean peekIs(String text, String nextText) {
+        if (!peekIs(text)) {
+            return false;
+        }
+        int index = position + 1;
+        if (index >= tokens.size()) {
+            return false;
+        }
+        var token = tokens.get(index);
+        return !token.quoted && token.text.equalsIgnoreCase(nextText);
+    }
+
+    private void expect(String text) throws SyntaxException {
+        if (!accept(text)) {
+            String actual = (position < tokens.size()) ? tokens.get(position).text : "<EOF>";
+            throw error("'" + text + "' expected but '" + actual + "'");
+        }
+    }
+
+    private static String upper(String text) {
+        return text.toUpperCase(Locale.ROOT);
+    }
+
+    private SyntaxException error(String message) {
+        return FakeErrors.syntax(message, sql);
+    }
+}
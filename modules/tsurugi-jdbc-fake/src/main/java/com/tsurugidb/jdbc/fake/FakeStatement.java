@@ -0,0 +1,365 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+
+/**
+ * Parsed SQL statement of fake SQL service.
+ */
+abstract class FakeStatement {
+
+    /**
+     * Execution result.
+     */
+    static final class Result {
+        final List<SqlCommon.Column> columns;
+        final List<Object[]> rows;
+        final CounterType counterType;
+        final long count;
+
+        Result(List<SqlCommon.Column> columns, List<Object[]> rows) {
+            this.columns = columns;
+            this.rows = rows;
+            this.counterType = null;
+            this.count = 0;
+        }
+
+        Result(@Nullable CounterType counterType, long count) {
+            this.columns = List.of();
+            this.rows = List.of();
+            this.counterType = counterType;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Whether this statement returns result records.
+     *
+     * @return {@code true} if query
+     */
+    boolean hasResultRecords() {
+        return false;
+    }
+
+    /**
+     * Whether this statement writes data.
+     *
+     * @return {@code true} if write
+     */
+    boolean isWrite() {
+        return true;
+    }
+
+    /**
+     * Execute statement.
+     *
+     * @param service fake SQL service
+     * @param params  parameters
+     * @param undo    undo log
+     * @return result
+     * @throws ServerException if execution fails
+     */
+    abstract Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException;
+
+    /**
+     * CREATE TABLE.
+     */
+    static final class CreateTable extends FakeStatement {
+        private final String tableName;
+        private final boolean ifNotExists;
+        private final List<FakeColumn> columns;
+        private final List<String> keyColumnNames;
+
+        CreateTable(String tableName, boolean ifNotExists, List<FakeColumn> columns, List<String> keyColumnNames) {
+            this.tableName = tableName;
+            this.ifNotExists = ifNotExists;
+            this.columns = columns;
+            this.keyColumnNames = keyColumnNames;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            FakeTable table;
+            try {
+                table = new FakeTable(tableName, columns, keyColumnNames);
+            } catch (IllegalArgumentException e) {
+                throw FakeErrors.columnNotFound(tableName, e.getMessage());
+            }
+            service.createTable(table, ifNotExists);
+            return new Result(null, 0);
+        }
+    }
+
+    /**
+     * DROP TABLE.
+     */
+    static final class DropTable extends FakeStatement {
+        private final String tableName;
+        private final boolean ifExists;
+
+        DropTable(String tableName, boolean ifExists) {
+            this.tableName = tableName;
+            this.ifExists = ifExists;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            service.dropTable(tableName, ifExists);
+            return new Result(null, 0);
+        }
+    }
+
+    /**
+     * INSERT.
+     */
+    static final class Insert extends FakeStatement {
+        private final String tableName;
+        private final FakeTable.InsertMode mode;
+        private final List<String> columnNames;
+        private final List<List<FakeExpression>> valuesList;
+
+        Insert(String tableName, FakeTable.InsertMode mode, @Nullable List<String> columnNames, List<List<FakeExpression>> valuesList) {
+            this.tableName = tableName;
+            this.mode = mode;
+            this.columnNames = columnNames;
+            this.valuesList = valuesList;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            var table = service.getTable(tableName);
+            var columns = table.getColumns();
+
+            int[] indexes;
+            if (columnNames == null) {
+                indexes = new int[columns.size()];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = i;
+                }
+            } else {
+                indexes = new int[columnNames.size()];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = table.getColumnIndex(columnNames.get(i));
+                    if (indexes[i] < 0) {
+                        throw FakeErrors.columnNotFound(tableName, columnNames.get(i));
+                    }
+                }
+            }
+
+            long count = 0;
+            for (var values : valuesList) {
+                if (values.size() != indexes.length) {
+                    throw FakeErrors.value("column count mismatch", new IllegalArgumentException("columns=" + indexes.length + ", values=" + values.size()));
+                }
+
+                var row = new Object[columns.size()];
+                var assigned = new boolean[row.length];
+                for (int i = 0; i < indexes.length; i++) {
+                    Object value = values.get(i).evaluate(table, null, params);
+                    row[indexes[i]] = table.convert(value, indexes[i]);
+                    assigned[indexes[i]] = true;
+                }
+                for (int i = 0; i < row.length; i++) {
+                    var defaultValue = columns.get(i).getDefaultValue();
+                    if (!assigned[i] && defaultValue != null) {
+                        row[i] = table.convert(defaultValue.evaluate(table, null, params), i);
+                    }
+                }
+                count += table.insert(row, mode, undo);
+            }
+            return new Result((mode == FakeTable.InsertMode.REPLACE) ? CounterType.MERGED_ROWS : CounterType.INSERTED_ROWS, count);
+        }
+    }
+
+    /**
+     * Select item.
+     */
+    static final class SelectItem {
+        /** column name. null if COUNT(*) */
+        final String columnName;
+        final String label;
+
+        SelectItem(@Nullable String columnName, String label) {
+            this.columnName = columnName;
+            this.label = label;
+        }
+    }
+
+    /**
+     * Order by item.
+     */
+    static final class OrderBy {
+        final String columnName;
+        final boolean descending;
+
+        OrderBy(String columnName, boolean descending) {
+            this.columnName = columnName;
+            this.descending = descending;
+        }
+    }
+
+    /**
+     * SELECT.
+     */
+    static final class Select extends FakeStatement {
+        private final String tableName;
+        /** select items. null if {@code *} */
+        private final List<SelectItem> items;
+        private final FakeExpression where;
+        private final List<OrderBy> orderBy;
+        private final long limit;
+
+        Select(String tableName, @Nullable List<SelectItem> items, @Nullable FakeExpression where, List<OrderBy> orderBy, long limit) {
+            this.tableName = tableName;
+            this.items = items;
+            this.where = where;
+            this.orderBy = orderBy;
+            this.limit = limit;
+        }
+
+        @Override
+        boolean hasResultRecords() {
+            return true;
+        }
+
+        @Override
+        boolean isWrite() {
+            return false;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            var table = service.getTable(tableName);
+            var rows = table.select(where, params);
+
+            if (!orderBy.isEmpty()) {
+                Comparator<Object[]> comparator = null;
+                for (var item : orderBy) {
+                    int index = table.getColumnIndex(item.columnName);
+                    if (index < 0) {
+                        throw FakeErrors.columnNotFound(tableName, item.columnName);
+                    }
+                    Comparator<Object[]> c = (row1, row2) -> FakeValues.compare(row1[index], row2[index]);
+                    if (item.descending) {
+                        c = c.reversed();
+                    }
+                    comparator = (comparator == null) ? c : comparator.thenComparing(c);
+                }
+                rows.sort(comparator);
+            }
+            if (limit >= 0 && rows.size() > limit) {
+                rows = rows.subList(0, (int) limit);
+            }
+
+            if (items == null) {
+                var columns = new ArrayList<SqlCommon.Column>();
+                for (var column : table.getColumns()) {
+                    columns.add(column.getLowColumn());
+                }
+                return new Result(columns, rows);
+            }
+
+            boolean aggregate = items.stream().anyMatch(item -> item.columnName == null);
+            if (aggregate) {
+                var columns = new ArrayList<SqlCommon.Column>();
+                var values = new Object[items.size()];
+                for (int i = 0; i < values.length; i++) {
+                    var item = items.get(i);
+                    if (item.columnName != null) {
+                        throw FakeErrors.syntax("column and COUNT(*) cannot be mixed", "select");
+                    }
+                    columns.add(SqlCommon.Column.newBuilder().setName(item.label).setAtomType(AtomType.INT8).build());
+                    values[i] = (long) rows.size();
+                }
+                return new Result(columns, List.<Object[]>of(values));
+            }
+
+            var columns = new ArrayList<SqlCommon.Column>();
+            int[] indexes = new int[items.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                var item = items.get(i);
+                indexes[i] = table.getColumnIndex(item.columnName);
+                if (indexes[i] < 0) {
+                    throw FakeErrors.columnNotFound(tableName, item.columnName);
+                }
+                var column = table.getColumns().get(indexes[i]);
+                columns.add(SqlCommon.Column.newBuilder().setName(item.label).setAtomType(column.getAtomType()).build());
+            }
+            var result = new ArrayList<Object[]>(rows.size());
+            for (var row : rows) {
+                var values = new Object[indexes.length];
+                for (int i = 0; i < indexes.length; i++) {
+                    values[i] = row[indexes[i]];
+                }
+                result.add(values);
+            }
+            return new Result(columns, result);
+        }
+    }
+
+    /**
+     * UPDATE.
+     */
+    static final class Update extends FakeStatement {
+        private final String tableName;
+        private final List<FakeTable.Assignment> assignments;
+        private final FakeExpression where;
+
+        Update(String tableName, List<FakeTable.Assignment> assignments, @Nullable FakeExpression where) {
+            this.tableName = tableName;
+            this.assignments = assignments;
+            this.where = where;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            var table = service.getTable(tableName);
+            int count = table.update(where, assignments, params, undo);
+            return new Result(CounterType.UPDATED_ROWS, count);
+        }
+    }
+
+    /**
+     * DELETE.
+     */
+    static final class Delete extends FakeStatement {
+        private final String tableName;
+        private final FakeExpression where;
+
+        Delete(String tableName, @Nullable FakeExpression where) {
+            this.tableName = tableName;
+            this.where = where;
+        }
+
+        @Override
+        Result execute(TsurugiJdbcFakeService service, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+            var table = service.getTable(tableName);
+            int count = table.delete(where, params, undo);
+            return new Result(CounterType.DELETED_ROWS, count);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * In-memory table of fake SQL service.
+ * <p>
+ * Rows are ordered by the primary key (or by insertion order if the table has no primary key). Row arrays are never modified after they are stored, so the rows
+ * returned by {@link #select(FakeExpression, Map)} can be read without lock.
+ * </p>
+ */
+final class FakeTable {
+
+    /**
+     * Insert mode.
+     */
+    enum InsertMode {
+        /** INSERT. */
+        INSERT,
+        /** INSERT OR REPLACE. */
+        REPLACE,
+        /** INSERT IF NOT EXISTS. */
+        IGNORE,
+    }
+
+    /**
+     * Assignment of UPDATE.
+     */
+    static final class Assignment {
+        final String columnName;
+        final FakeExpression value;
+
+        Assignment(String columnName, FakeExpression value) {
+            this.columnName = columnName;
+            this.value = value;
+        }
+    }
+
+    private final String name;
+    private final List<FakeColumn> columns;
+    private final Map<String, Integer> columnIndexMap = new HashMap<>();
+    private final int[] keyIndexes;
+    private final TreeMap<List<Object>, Object[]> rows = new TreeMap<>(FakeValues::compareKey);
+    private long rowIdGenerator = 0;
+
+    FakeTable(String name, List<FakeColumn> columns, List<String> keyColumnNames) {
+        this.name = name;
+        this.columns = List.copyOf(columns);
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndexMap.put(normalize(columns.get(i).getName()), i);
+        }
+        this.keyIndexes = new int[keyColumnNames.size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            String keyName = keyColumnNames.get(i);
+            int index = getColumnIndex(keyName);
+            if (index < 0) {
+                throw new IllegalArgumentException("primary key column not found. column=" + keyName);
+            }
+            keyIndexes[i] = index;
+        }
+    }
+
+    static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    List<FakeColumn> getColumns() {
+        return this.columns;
+    }
+
+    int getColumnIndex(String columnName) {
+        Integer index = columnIndexMap.get(normalize(columnName));
+        return (index != null) ? index : -1;
+    }
+
+    synchronized int size() {
+        return rows.size();
+    }
+
+    private List<Object> keyOf(Object[] row) {
+        if (keyIndexes.length == 0) {
+            return List.of(++rowIdGenerator);
+        }
+        var key = new ArrayList<Object>(keyIndexes.length);
+        for (int index : keyIndexes) {
+            key.add(row[index]);
+        }
+        return key;
+    }
+
+    /**
+     * Insert row.
+     *
+     * @param row  row (values are already converted to the column types)
+     * @param mode insert mode
+     * @param undo undo log
+     * @return number of inserted rows
+     * @throws ServerException if the primary key is duplicated
+     */
+    synchronized int insert(Object[] row, InsertMode mode, List<Runnable> undo) throws ServerException {
+        var key = keyOf(row);
+        var old = rows.get(key);
+        if (old != null) {
+            switch (mode) {
+            case IGNORE:
+                return 0;
+            case REPLACE:
+                break;
+            default:
+                throw FakeErrors.duplicateKey(name);
+            }
+        }
+
+        rows.put(key, row);
+        undo.add(() -> restore(key, old));
+        return 1;
+    }
+
+    /**
+     * Select rows.
+     *
+     * @param where  condition. null if no condition
+     * @param params parameters
+     * @return rows
+     * @throws ServerException if evaluation fails
+     */
+    synchronized List<Object[]> select(@Nullable FakeExpression where, Map<String, Object> params) throws ServerException {
+        var result = new ArrayList<Object[]>();
+        for (var entry : candidates(where, params)) {
+            var row = entry.getValue();
+            if (FakeExpression.test(where, this, row, params)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Update rows.
+     *
+     * @param where       condition. null if no condition
+     * @param assignments assignments
+     * @param params      parameters
+     * @param undo        undo log
+     * @return number of updated rows
+     * @throws ServerException if evaluation fails or the primary key is duplicated
+     */
+    synchronized int update(@Nullable FakeExpression where, List<Assignment> assignments, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+        int[] indexes = new int[assignments.size()];
+        boolean keyUpdated = false;
+        for (int i = 0; i < indexes.length; i++) {
+            String columnName = assignments.get(i).columnName;
+            int index = getColumnIndex(columnName);
+            if (index < 0) {
+                throw FakeErrors.columnNotFound(name, columnName);
+            }
+            indexes[i] = index;
+            for (int keyIndex : keyIndexes) {
+                keyUpdated |= (keyIndex == index);
+            }
+        }
+
+        var targets = new ArrayList<Map.Entry<List<Object>, Object[]>>();
+        for (var entry : candidates(where, params)) {
+            if (FakeExpression.test(where, this, entry.getValue(), params)) {
+                targets.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        for (var target : targets) {
+            var key = target.getKey();
+            var oldRow = target.getValue();
+            var newRow = Arrays.copyOf(oldRow, oldRow.length);
+            for (int i = 0; i < indexes.length; i++) {
+                Object value = assignments.get(i).value.evaluate(this, oldRow, params);
+                newRow[indexes[i]] = convert(value, indexes[i]);
+            }
+
+            if (keyUpdated) {
+                var newKey = keyOf(newRow);
+                if (FakeValues.compareKey(key, newKey) != 0) {
+                    if (rows.containsKey(newKey)) {
+                        throw FakeErrors.duplicateKey(name);
+                    }
+                    rows.remove(key);
+                    rows.put(newKey, newRow);
+                    undo.add(() -> {
+                        restore(newKey, null);
+                        restore(key, oldRow);
+                    });
+                    continue;
+                }
+            }
+            rows.put(key, newRow);
+            undo.add(() -> restore(key, oldRow));
+        }
+        return targets.size();
+    }
+
+    /**
+     * Delete rows.
+     *
+     * @param where  condition. null if no condition
+     * @param params parameters
+     * @param undo   undo log
+     * @return number of deleted rows
+     * @throws ServerException if evaluation fails
+     */
+    synchronized int delete(@Nullable FakeExpression where, Map<String, Object> params, List<Runnable> undo) throws ServerException {
+        var keys = new ArrayList<List<Object>>();
+        for (var entry : candidates(where, params)) {
+            if (FakeExpression.test(where, this, entry.getValue(), params)) {
+                keys.add(entry.getKey());
+            }
+        }
+
+        for (var key : keys) {
+            var oldRow = rows.remove(key);
+            undo.add(() -> restore(key, oldRow));
+        }
+        return keys.size();
+    }
+
+    /**
+     * Convert value to the column type.
+     *
+     * @param value value
+     * @param index column index
+     * @return converted value
+     * @throws ServerException if conversion fails
+     */
+    Object convert(Object value, int index) throws ServerException {
+        var column = columns.get(index);
+        try {
+            return FakeValues.convert(value, column.getAtomType());
+        } catch (RuntimeException e) {
+            throw FakeErrors.value("value conversion error. column=" + column.getName(), e);
+        }
+    }
+
+    private synchronized void restore(List<Object> key, @Nullable Object[] row) {
+        if (row == null) {
+            rows.remove(key);
+        } else {
+            rows.put(key, row);
+        }
+    }
+
+    /**
+     * Get candidate rows. If the condition specifies all primary key columns with {@code =}, only that row is returned.
+     */
+    private Iterable<Map.Entry<List<Object>, Object[]>> candidates(@Nullable FakeExpression where, Map<String, Object> params) throws ServerException {
+        if (where == null || keyIndexes.length == 0) {
+            return rows.entrySet();
+        }
+
+        List<FakeExpression> conditions;
+        if (where instanceof FakeExpression.And) {
+            conditions = ((FakeExpression.And) where).getList();
+        } else {
+            conditions = List.of(where);
+        }
+
+        var key = new ArrayList<Object>(keyIndexes.length);
+        for (int keyIndex : keyIndexes) {
+            String keyName = columns.get(keyIndex).getName();
+            FakeExpression valueExpression = null;
+            for (var condition : conditions) {
+                if (condition instanceof FakeExpression.Comparison) {
+                    valueExpression = ((FakeExpression.Comparison) condition).equalValue(keyName);
+                    if (valueExpression != null) {
+                        break;
+                    }
+                }
+            }
+            if (valueExpression == null) {
+                return rows.entrySet();
+            }
+            Object value = valueExpression.evaluate(this, null, params);
+            if (value == null) {
+                return List.of();
+            }
+            key.add(convert(value, keyIndex));
+        }
+
+        var row = rows.get(key);
+        if (row == null) {
+            return List.of();
+        }
+        return List.of(Map.entry(key, row));
+    }
+}
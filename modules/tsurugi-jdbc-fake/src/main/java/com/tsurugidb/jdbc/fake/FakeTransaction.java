@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Transaction of fake SQL service.
+ * <p>
+ * Updates are applied to the tables immediately and reverted by the undo log on rollback or abort. Transactions are not isolated from each other.
+ * </p>
+ */
+final class FakeTransaction implements Transaction {
+
+    private static final class FakeExecuteResult implements ExecuteResult {
+        private final Map<CounterType, Long> counters;
+
+        FakeExecuteResult(@Nullable CounterType counterType, long count) {
+            this.counters = (counterType != null) ? Map.of(counterType, count) : Map.of();
+        }
+
+        @Override
+        public Map<CounterType, Long> getCounters() {
+            return this.counters;
+        }
+    }
+
+    private final TsurugiJdbcFakeService service;
+    private final boolean readOnly;
+    private final List<Runnable> undoLog = new ArrayList<>();
+    private SqlServiceException failure = null;
+    private boolean finished = false;
+
+    FakeTransaction(TsurugiJdbcFakeService service, SqlRequest.TransactionOption option) {
+        this.service = service;
+        this.readOnly = (option.getType() == SqlRequest.TransactionType.READ_ONLY);
+    }
+
+    @Override
+    public FutureResponse<ExecuteResult> executeStatement(String source) {
+        return execute(source, List.of(), result -> new FakeExecuteResult(result.counterType, result.count));
+    }
+
+    @Override
+    public FutureResponse<ExecuteResult> executeStatement(PreparedStatement statement, Collection<? extends SqlRequest.Parameter> parameters) {
+        return execute(statement, parameters, result -> new FakeExecuteResult(result.counterType, result.count));
+    }
+
+    @Override
+    public FutureResponse<ResultSet> executeQuery(String source) {
+        return execute(source, List.of(), result -> new FakeResultSet(result.columns, result.rows));
+    }
+
+    @Override
+    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends SqlRequest.Parameter> parameters) {
+        return execute(statement, parameters, result -> new FakeResultSet(result.columns, result.rows));
+    }
+
+    @FunctionalInterface
+    private interface ResultConverter<V> {
+        V convert(FakeStatement.Result result);
+    }
+
+    private <V> FutureResponse<V> execute(String source, Collection<? extends SqlRequest.Parameter> parameters, ResultConverter<V> converter) {
+        FakeStatement statement;
+        try {
+            statement = service.parse(source);
+        } catch (ServerException e) {
+            return service.fail(e);
+        }
+        return execute(statement, parameters, converter);
+    }
+
+    private <V> FutureResponse<V> execute(PreparedStatement statement, Collection<? extends SqlRequest.Parameter> parameters, ResultConverter<V> converter) {
+        if (!(statement instanceof FakePreparedStatement)) {
+            throw new IllegalArgumentException("not fake prepared statement. statement=" + statement);
+        }
+        return execute(((FakePreparedStatement) statement).getStatement(), parameters, converter);
+    }
+
+    private synchronized <V> FutureResponse<V> execute(FakeStatement statement, Collection<? extends SqlRequest.Parameter> parameters, ResultConverter<V> converter) {
+        if (this.failure != null) {
+            return service.fail(failure);
+        }
+        if (this.finished) {
+            return service.fail(FakeErrors.inactive("transaction already finished"));
+        }
+        if (readOnly && statement.isWrite()) {
+            return service.fail(FakeErrors.writeByReadOnly());
+        }
+
+        try {
+            var params = new HashMap<String, Object>(parameters.size());
+            for (var parameter : parameters) {
+                try {
+                    params.put(parameter.getName(), FakeValues.fromParameter(parameter));
+                } catch (RuntimeException e) {
+                    throw FakeErrors.value("parameter error", e);
+                }
+            }
+
+            var result = statement.execute(service, params, undoLog);
+            return service.respond(converter.convert(result));
+        } catch (SqlServiceException e) {
+            rollbackUndoLog();
+            this.failure = e;
+            return service.fail(e);
+        } catch (ServerException e) {
+            rollbackUndoLog();
+            return service.fail(e);
+        }
+    }
+
+    @Override
+    public synchronized FutureResponse<Void> commit(SqlRequest.CommitOption option) {
+        if (this.failure != null) {
+            return service.fail(failure);
+        }
+        if (this.finished) {
+            return service.fail(FakeErrors.inactive("transaction already finished"));
+        }
+        this.finished = true;
+
+        if (!readOnly && service.shouldAbort()) {
+            rollbackUndoLog();
+            this.failure = FakeErrors.abort("injected abort by fake SQL service");
+            service.recordAbort();
+            return service.fail(failure);
+        }
+
+        undoLog.clear();
+        return service.respond(null);
+    }
+
+    @Override
+    public synchronized FutureResponse<Void> rollback() {
+        rollbackUndoLog();
+        this.finished = true;
+        return service.respond(null);
+    }
+
+    @Override
+    public synchronized FutureResponse<SqlServiceException> getSqlServiceException() {
+        return service.respond(this.failure);
+    }
+
+    private void rollbackUndoLog() {
+        for (int i = undoLog.size() - 1; i >= 0; i--) {
+            undoLog.get(i).run();
+        }
+        undoLog.clear();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!this.finished) {
+            rollbackUndoLog();
+            this.finished = true;
+        }
+    }
+}
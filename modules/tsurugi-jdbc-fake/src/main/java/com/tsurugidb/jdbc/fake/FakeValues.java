@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+
+/**
+ * Value utility for fake SQL service.
+ */
+final class FakeValues {
+
+    /**
+     * Convert parameter to Java value.
+     *
+     * @param parameter parameter
+     * @return value
+     */
+    static Object fromParameter(Parameter parameter) {
+        switch (parameter.getValueCase()) {
+        case VALUE_NOT_SET:
+            return null;
+        case BOOLEAN_VALUE:
+            return parameter.getBooleanValue();
+        case INT4_VALUE:
+            return parameter.getInt4Value();
+        case INT8_VALUE:
+            return parameter.getInt8Value();
+        case FLOAT4_VALUE:
+            return parameter.getFloat4Value();
+        case FLOAT8_VALUE:
+            return parameter.getFloat8Value();
+        case DECIMAL_VALUE: {
+            var decimal = parameter.getDecimalValue();
+            byte[] unscaled = decimal.getUnscaledValue().toByteArray();
+            var unscaledValue = (unscaled.length == 0) ? BigInteger.ZERO : new BigInteger(unscaled);
+            return new BigDecimal(unscaledValue, -decimal.getExponent());
+        }
+        case CHARACTER_VALUE:
+            return parameter.getCharacterValue();
+        case OCTET_VALUE:
+            return parameter.getOctetValue().toByteArray();
+        case DATE_VALUE:
+            return LocalDate.ofEpochDay(parameter.getDateValue());
+        case TIME_OF_DAY_VALUE:
+            return LocalTime.ofNanoOfDay(parameter.getTimeOfDayValue());
+        case TIME_POINT_VALUE: {
+            var value = parameter.getTimePointValue();
+            return LocalDateTime.ofEpochSecond(value.getOffsetSeconds(), value.getNanoAdjustment(), ZoneOffset.UTC);
+        }
+        case TIME_OF_DAY_WITH_TIME_ZONE_VALUE: {
+            var value = parameter.getTimeOfDayWithTimeZoneValue();
+            var offset = ZoneOffset.ofTotalSeconds(value.getTimeZoneOffset() * 60);
+            return OffsetTime.of(LocalTime.ofNanoOfDay(value.getOffsetNanoseconds()), offset);
+        }
+        case TIME_POINT_WITH_TIME_ZONE_VALUE: {
+            var value = parameter.getTimePointWithTimeZoneValue();
+            var offset = ZoneOffset.ofTotalSeconds(value.getTimeZoneOffset() * 60);
+            return OffsetDateTime.of(LocalDateTime.ofEpochSecond(value.getOffsetSeconds(), value.getNanoAdjustment(), ZoneOffset.UTC), offset);
+        }
+        default:
+            throw new UnsupportedOperationException("unsupported parameter type. name=" + parameter.getName() + ", type=" + parameter.getValueCase());
+        }
+    }
+
+    /**
+     * Convert value to the column type.
+     *
+     * @param value    value
+     * @param atomType column type
+     * @return converted value
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    static Object convert(Object value, AtomType atomType) {
+        if (value == null) {
+            return null;
+        }
+
+        switch (atomType) {
+        case BOOLEAN:
+            if (value instanceof Boolean) {
+                return value;
+            }
+            return Boolean.parseBoolean(value.toString());
+        case INT4:
+            if (value instanceof Number) {
+                return ((Number) value).intValue();
+            }
+            return Integer.parseInt(value.toString().trim());
+        case INT8:
+            if (value instanceof Number) {
+                return ((Number) value).longValue();
+            }
+            return Long.parseLong(value.toString().trim());
+        case FLOAT4:
+            if (value instanceof Number) {
+                return ((Number) value).floatValue();
+            }
+            return Float.parseFloat(value.toString().trim());
+        case FLOAT8:
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            return Double.parseDouble(value.toString().trim());
+        case DECIMAL:
+            return toDecimal(value);
+        case CHARACTER:
+            return value.toString();
+        case OCTET:
+            if (value instanceof byte[]) {
+                return value;
+            }
+            break;
+        case DATE:
+            if (value instanceof LocalDate) {
+                return value;
+            }
+            if (value instanceof LocalDateTime) {
+                return ((LocalDateTime) value).toLocalDate();
+            }
+            return LocalDate.parse(value.toString().trim());
+        case TIME_OF_DAY:
+            if (value instanceof LocalTime) {
+                return value;
+            }
+            return LocalTime.parse(value.toString().trim());
+        case TIME_POINT:
+            if (value instanceof LocalDateTime) {
+                return value;
+            }
+            if (value instanceof LocalDate) {
+                return ((LocalDate) value).atStartOfDay();
+            }
+            return LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        case TIME_OF_DAY_WITH_TIME_ZONE:
+            if (value instanceof OffsetTime) {
+                return value;
+            }
+            return OffsetTime.parse(value.toString().trim());
+        case TIME_POINT_WITH_TIME_ZONE:
+            if (value instanceof OffsetDateTime) {
+                return value;
+            }
+            return OffsetDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        default:
+            break;
+        }
+        throw new IllegalArgumentException("cannot convert " + value.getClass().getSimpleName() + " to " + atomType);
+    }
+
+    /**
+     * Convert value to BigDecimal.
+     *
+     * @param value value
+     * @return BigDecimal
+     */
+    static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString());
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    /**
+     * Compare values.
+     * <p>
+     * null is smaller than any other value.
+     * </p>
+     *
+     * @param value1 value
+     * @param value2 value
+     * @return comparison result
+     */
+    @SuppressWarnings("unchecked")
+    static int compare(Object value1, Object value2) {
+        if (value1 == value2) {
+            return 0;
+        }
+        if (value1 == null) {
+            return -1;
+        }
+        if (value2 == null) {
+            return 1;
+        }
+        if (value1 instanceof byte[] && value2 instanceof byte[]) {
+            return Arrays.compare((byte[]) value1, (byte[]) value2);
+        }
+        if (value1 instanceof Number && value2 instanceof Number && value1.getClass() != value2.getClass()) {
+            return toDecimal(value1).compareTo(toDecimal(value2));
+        }
+        return ((Comparable<Object>) value1).compareTo(value2);
+    }
+
+    /**
+     * Compare keys.
+     *
+     * @param key1 key
+     * @param key2 key
+     * @return comparison result
+     */
+    static int compareKey(List<Object> key1, List<Object> key2) {
+        int size = Math.min(key1.size(), key2.size());
+        for (int i = 0; i < size; i++) {
+            int c = compare(key1.get(i), key2.get(i));
+            if (c != 0) {
+                return c;
+            }
+        }
+        return Integer.compare(key1.size(), key2.size());
+    }
+
+    private FakeValues() {
+        // do nothing
+    }
+}
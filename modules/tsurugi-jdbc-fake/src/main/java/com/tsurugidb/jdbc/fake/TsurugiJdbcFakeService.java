@@ -0,0 +1,342 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.exception.SymbolAnalysisException;
+import com.tsurugidb.tsubakuro.sql.exception.SyntaxException;
+import com.tsurugidb.tsubakuro.sql.exception.TargetAlreadyExistsException;
+
+/**
+ * Tsurugi JDBC fake SQL service.
+ * <p>
+ * In-process stand-in of the Tsurugi SQL service for load testing without a server. It is selected by the endpoint {@code fake:<name>}, for example
+ * {@code jdbc:tsurugi:fake:bench;latency=0.5;abortRate=0.01;maxRequestsPerSecond=20000}. Connections to the same name share the in-memory tables.
+ * </p>
+ * <ul>
+ * <li>{@code latency} - response time of each request [milliseconds]</li>
+ * <li>{@code abortRate} - probability that commit fails with CcException (0.0 - 1.0)</li>
+ * <li>{@code maxRequestsPerSecond} - throughput limit of the service. 0 if unlimited</li>
+ * </ul>
+ * <p>
+ * Only a small subset of SQL is supported (see {@link FakeSqlParser}), and transactions are not isolated from each other.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class TsurugiJdbcFakeService {
+
+    /** endpoint prefix. */
+    public static final String ENDPOINT_PREFIX = "fake:";
+
+    private static final Map<String, TsurugiJdbcFakeService> SERVICE_MAP = new ConcurrentHashMap<>();
+    private static final int STATEMENT_CACHE_SIZE = 1024;
+
+    /**
+     * Whether the endpoint is fake SQL service.
+     *
+     * @param endpoint endpoint
+     * @return {@code true} if fake SQL service
+     */
+    public static boolean isFakeEndpoint(@Nullable String endpoint) {
+        return endpoint != null && endpoint.startsWith(ENDPOINT_PREFIX);
+    }
+
+    /**
+     * Get fake SQL service for the endpoint.
+     * <p>
+     * The options in the endpoint are applied to the service.
+     * </p>
+     *
+     * @param endpoint endpoint ({@code fake:<name>[;key=value...]})
+     * @return fake SQL service
+     * @throws IllegalArgumentException if the endpoint is invalid
+     */
+    public static TsurugiJdbcFakeService of(String endpoint) {
+        if (!isFakeEndpoint(endpoint)) {
+            throw new IllegalArgumentException("not fake endpoint. endpoint=" + endpoint);
+        }
+
+        String[] ss = endpoint.substring(ENDPOINT_PREFIX.length()).split(";");
+        String name = ss[0].trim();
+        var service = get(name);
+        for (int i = 1; i < ss.length; i++) {
+            String option = ss[i].trim();
+            if (option.isEmpty()) {
+                continue;
+            }
+            String[] keyValue = option.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("illegal fake endpoint option. option=" + option);
+            }
+            service.setOption(keyValue[0].trim(), keyValue[1].trim());
+        }
+        return service;
+    }
+
+    /**
+     * Get fake SQL service. If not exists, it is created.
+     *
+     * @param name service name
+     * @return fake SQL service
+     */
+    public static TsurugiJdbcFakeService get(String name) {
+        return SERVICE_MAP.computeIfAbsent(name, TsurugiJdbcFakeService::new);
+    }
+
+    /**
+     * Remove fake SQL service.
+     *
+     * @param name service name
+     */
+    public static void remove(String name) {
+        SERVICE_MAP.remove(name);
+    }
+
+    private final String name;
+    private final Map<String, FakeTable> tableMap = new ConcurrentHashMap<>();
+    private final Map<String, FakeStatement> statementCache = new ConcurrentHashMap<>();
+
+    private volatile long latencyNanos = 0;
+    private volatile double abortRate = 0;
+    private volatile long requestIntervalNanos = 0;
+    private final AtomicLong nextRequestNanos = new AtomicLong(System.nanoTime());
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder abortCount = new LongAdder();
+
+    private TsurugiJdbcFakeService(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get service name.
+     *
+     * @return service name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    private void setOption(String key, String value) {
+        try {
+            switch (key) {
+            case "latency":
+                setLatency((long) (Double.parseDouble(value) * 1_000_000), TimeUnit.NANOSECONDS);
+                break;
+            case "abortRate":
+                setAbortRate(Double.parseDouble(value));
+                break;
+            case "maxRequestsPerSecond":
+                setMaxRequestsPerSecond(Integer.parseInt(value));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown fake endpoint option. key=" + key);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("illegal fake endpoint option value. key=" + key + ", value=" + value, e);
+        }
+    }
+
+    /**
+     * Set response time of each request.
+     *
+     * @param latency latency
+     * @param unit    time unit
+     */
+    public void setLatency(long latency, TimeUnit unit) {
+        if (latency < 0) {
+            throw new IllegalArgumentException("latency must be non-negative. latency=" + latency);
+        }
+        this.latencyNanos = unit.toNanos(latency);
+    }
+
+    /**
+     * Get response time of each request.
+     *
+     * @return latency [nanoseconds]
+     */
+    public long getLatencyNanos() {
+        return this.latencyNanos;
+    }
+
+    /**
+     * Set probability that commit fails with CcException.
+     *
+     * @param abortRate abort rate (0.0 - 1.0)
+     */
+    public void setAbortRate(double abortRate) {
+        if (!(0 <= abortRate && abortRate <= 1)) {
+            throw new IllegalArgumentException("abortRate must be between 0.0 and 1.0. abortRate=" + abortRate);
+        }
+        this.abortRate = abortRate;
+    }
+
+    /**
+     * Get probability that commit fails with CcException.
+     *
+     * @return abort rate
+     */
+    public double getAbortRate() {
+        return this.abortRate;
+    }
+
+    /**
+     * Set throughput limit.
+     *
+     * @param maxRequestsPerSecond maximum requests per second. 0 if unlimited
+     */
+    public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        if (maxRequestsPerSecond < 0) {
+            throw new IllegalArgumentException("maxRequestsPerSecond must be non-negative. maxRequestsPerSecond=" + maxRequestsPerSecond);
+        }
+        this.requestIntervalNanos = (maxRequestsPerSecond > 0) ? TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond : 0;
+    }
+
+    /**
+     * Get number of requests.
+     *
+     * @return number of requests
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Get number of injected aborts.
+     *
+     * @return number of aborts
+     */
+    public long getAbortCount() {
+        return abortCount.sum();
+    }
+
+    /**
+     * Get number of rows.
+     *
+     * @param tableName table name
+     * @return number of rows. -1 if the table does not exist
+     */
+    public int getTableSize(String tableName) {
+        var table = tableMap.get(FakeTable.normalize(tableName));
+        return (table != null) ? table.size() : -1;
+    }
+
+    /**
+     * Drop all tables.
+     */
+    public void clear() {
+        tableMap.clear();
+    }
+
+    /**
+     * Create session.
+     *
+     * @return session
+     */
+    public TsurugiJdbcFakeSession createSession() {
+        return new TsurugiJdbcFakeSession(this);
+    }
+
+    FakeStatement parse(String sql) throws SyntaxException {
+        var statement = statementCache.get(sql);
+        if (statement == null) {
+            statement = FakeSqlParser.parse(sql);
+            if (statementCache.size() < STATEMENT_CACHE_SIZE) {
+                statementCache.put(sql, statement);
+            }
+        }
+        return statement;
+    }
+
+    FakeTable getTable(String tableName) throws SymbolAnalysisException {
+        var table = tableMap.get(FakeTable.normalize(tableName));
+        if (table == null) {
+            throw FakeErrors.tableNotFound(tableName);
+        }
+        return table;
+    }
+
+    void createTable(FakeTable table, boolean ifNotExists) throws TargetAlreadyExistsException {
+        var old = tableMap.putIfAbsent(FakeTable.normalize(table.getName()), table);
+        if (old != null && !ifNotExists) {
+            throw FakeErrors.tableAlreadyExists(table.getName());
+        }
+    }
+
+    void dropTable(String tableName, boolean ifExists) throws SymbolAnalysisException {
+        var old = tableMap.remove(FakeTable.normalize(tableName));
+        if (old == null && !ifExists) {
+            throw FakeErrors.tableNotFound(tableName);
+        }
+    }
+
+    boolean shouldAbort() {
+        double rate = this.abortRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    void recordAbort() {
+        abortCount.increment();
+    }
+
+    <V> FakeFutureResponse<V> respond(@Nullable V value) {
+        return new FakeFutureResponse<>(value, null, readyNanos());
+    }
+
+    <V> FakeFutureResponse<V> fail(ServerException exception) {
+        return new FakeFutureResponse<>(null, exception, readyNanos());
+    }
+
+    /**
+     * Compute the time when the response becomes available, considering latency and throughput limit.
+     */
+    private long readyNanos() {
+        requestCount.increment();
+        long now = System.nanoTime();
+        long ready = now + latencyNanos;
+
+        long interval = this.requestIntervalNanos;
+        if (interval > 0) {
+            long slot;
+            for (;;) {
+                long next = nextRequestNanos.get();
+                slot = (next - now > 0) ? next : now;
+                if (nextRequestNanos.compareAndSet(next, slot + interval)) {
+                    break;
+                }
+            }
+            if (slot - ready > 0) {
+                ready = slot;
+            }
+        }
+        return ready;
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcFakeService(name=" + name + ", latencyNanos=" + latencyNanos + ", abortRate=" + abortRate + ", requestIntervalNanos=" + requestIntervalNanos + ")";
+    }
+}
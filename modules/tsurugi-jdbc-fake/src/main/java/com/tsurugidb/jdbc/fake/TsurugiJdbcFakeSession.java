@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.tsurugidb.tsubakuro.channel.common.connection.wire.Wire;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.common.ShutdownType;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+import com.tsurugidb.tsubakuro.util.ServerResource;
+import com.tsurugidb.tsubakuro.util.Timeout;
+
+/**
+ * Tsurugi JDBC fake session.
+ * <p>
+ * Session connected to {@link TsurugiJdbcFakeService} instead of a Tsurugi server.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcFakeSession implements Session {
+
+    private final TsurugiJdbcFakeService service;
+    private Timeout closeTimeout = new Timeout();
+    private final Map<ServerResource, Boolean> resourceSet = new IdentityHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param service fake SQL service
+     */
+    public TsurugiJdbcFakeSession(TsurugiJdbcFakeService service) {
+        this.service = service;
+    }
+
+    /**
+     * Get fake SQL service.
+     *
+     * @return fake SQL service
+     */
+    public TsurugiJdbcFakeService getService() {
+        return this.service;
+    }
+
+    /**
+     * Create SQL client.
+     *
+     * @return SQL client
+     */
+    public SqlClient createSqlClient() {
+        return new FakeSqlClient(service);
+    }
+
+    @Override
+    public void connect(Wire sessionWire) {
+        throw new UnsupportedOperationException("fake session does not use wire");
+    }
+
+    @Override
+    public Wire getWire() {
+        throw new UnsupportedOperationException("fake session does not use wire");
+    }
+
+    @Override
+    public void setCloseTimeout(Timeout timeout) {
+        this.closeTimeout = timeout;
+    }
+
+    @Override
+    public Timeout getCloseTimeout() {
+        return this.closeTimeout;
+    }
+
+    @Override
+    public synchronized void put(ServerResource resource) {
+        resourceSet.put(resource, true);
+    }
+
+    @Override
+    public synchronized void remove(ServerResource resource) {
+        resourceSet.remove(resource);
+    }
+
+    @Override
+    public FutureResponse<Void> shutdown(ShutdownType type) throws IOException {
+        return FutureResponse.returns(null);
+    }
+
+    @Override
+    public boolean isAlive() {
+        return !this.closed;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+    }
+}
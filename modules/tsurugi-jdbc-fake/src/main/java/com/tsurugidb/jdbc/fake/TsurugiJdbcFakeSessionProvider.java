@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.TsurugiConfig;
+import com.tsurugidb.jdbc.driver.TsurugiJdbcSessionProvider;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * Session provider of {@link TsurugiJdbcFakeService}.
+ * <p>
+ * Registered by {@link java.util.ServiceLoader}, so the endpoint {@code fake:<name>} is available when this module is on the class path.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcFakeSessionProvider implements TsurugiJdbcSessionProvider {
+
+    @Override
+    public boolean accepts(String endpoint) {
+        return TsurugiJdbcFakeService.isFakeEndpoint(endpoint);
+    }
+
+    @Override
+    public Session createSession(TsurugiConfig config) {
+        return TsurugiJdbcFakeService.of(config.getEndpoint()).createSession();
+    }
+
+    @Override
+    public @Nullable SqlClient createSqlClient(Session session) {
+        if (session instanceof TsurugiJdbcFakeSession) {
+            return ((TsurugiJdbcFakeSession) session).createSqlClient();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.exception.SymbolAnalysisException;
+import com.tsurugidb.tsubakuro.sql.exception.ValueEvaluationException;
+
+class FakeExpressionTest {
+
+    private static final FakeTable TABLE = new FakeTable("test", List.of( //
+            new FakeColumn("foo", AtomType.INT4, null), //
+            new FakeColumn("bar", AtomType.INT8, null), //
+            new FakeColumn("zzz", AtomType.CHARACTER, null)), List.of("foo"));
+
+    private static final Object[] ROW = { 1, 10L, "abc" };
+
+    private static FakeExpression literal(Object value) {
+        return new FakeExpression.Literal(value);
+    }
+
+    private static FakeExpression column(String name) {
+        return new FakeExpression.Column(name);
+    }
+
+    private static Object evaluate(FakeExpression expression) throws ServerException {
+        return expression.evaluate(TABLE, ROW, Map.of());
+    }
+
+    @Test
+    void placeholder() throws ServerException {
+        var placeholder = new FakeExpression.Placeholder("1");
+        assertEquals(123, placeholder.evaluate(TABLE, null, Map.of("1", 123)));
+        assertThrows(SymbolAnalysisException.class, () -> placeholder.evaluate(TABLE, null, Map.of()));
+    }
+
+    @Test
+    void column() throws ServerException {
+        assertEquals(10L, evaluate(column("BAR")));
+        assertThrows(SymbolAnalysisException.class, () -> evaluate(column("hoge")));
+        assertThrows(SymbolAnalysisException.class, () -> column("foo").evaluate(TABLE, null, Map.of()));
+    }
+
+    @Test
+    void arithmetic() throws ServerException {
+        assertEquals(3, evaluate(new FakeExpression.Arithmetic('+', literal(1), literal(2))));
+        assertEquals(Integer.MAX_VALUE + 1L, evaluate(new FakeExpression.Arithmetic('+', literal(Integer.MAX_VALUE), literal(1))));
+        assertEquals(20L, evaluate(new FakeExpression.Arithmetic('*', column("bar"), literal(2))));
+        assertEquals(2.5, evaluate(new FakeExpression.Arithmetic('/', literal(5.0), literal(2))));
+        assertEquals(new BigDecimal("1.5"), evaluate(new FakeExpression.Arithmetic('-', literal(new BigDecimal("2.5")), literal(1))));
+        assertEquals("abc1", evaluate(new FakeExpression.Arithmetic('|', column("zzz"), column("foo"))));
+        assertNull(evaluate(new FakeExpression.Arithmetic('+', literal(null), literal(1))));
+
+        assertThrows(ValueEvaluationException.class, () -> evaluate(new FakeExpression.Arithmetic('+', column("zzz"), literal(1))));
+        assertThrows(ValueEvaluationException.class, () -> evaluate(new FakeExpression.Arithmetic('/', literal(1), literal(0))));
+        assertThrows(ValueEvaluationException.class, () -> evaluate(new FakeExpression.Arithmetic('*', literal(Long.MAX_VALUE), literal(2))));
+    }
+
+    @Test
+    void comparison() throws ServerException {
+        assertEquals(true, evaluate(new FakeExpression.Comparison("=", column("foo"), literal(1L))));
+        assertEquals(true, evaluate(new FakeExpression.Comparison("<", literal("5"), column("bar"))));
+        assertEquals(false, evaluate(new FakeExpression.Comparison(">=", column("zzz"), literal("abd"))));
+        assertEquals(true, evaluate(new FakeExpression.Comparison("<>", column("foo"), literal(2))));
+        assertNull(evaluate(new FakeExpression.Comparison("=", column("foo"), literal(null))));
+        assertEquals(true, evaluate(new FakeExpression.Comparison("IS NULL", literal(null), literal(null))));
+        assertEquals(true, evaluate(new FakeExpression.Comparison("IS NOT NULL", column("foo"), column("foo"))));
+
+        assertThrows(ValueEvaluationException.class, () -> evaluate(new FakeExpression.Comparison("=", column("foo"), literal("x"))));
+    }
+
+    @Test
+    void equalValue() {
+        var value = literal(1);
+        assertSame(value, new FakeExpression.Comparison("=", column("foo"), value).equalValue("FOO"));
+        assertSame(value, new FakeExpression.Comparison("=", value, column("foo")).equalValue("foo"));
+        assertNull(new FakeExpression.Comparison("<", column("foo"), value).equalValue("foo"));
+        assertNull(new FakeExpression.Comparison("=", column("foo"), column("bar")).equalValue("foo"));
+        assertNull(new FakeExpression.Comparison("=", column("bar"), value).equalValue("foo"));
+    }
+
+    @Test
+    void logical() throws ServerException {
+        var t = literal(true);
+        var f = literal(false);
+        var u = literal(null);
+
+        assertEquals(true, evaluate(new FakeExpression.And(List.of(t, t))));
+        assertEquals(false, evaluate(new FakeExpression.And(List.of(t, u, f))));
+        assertNull(evaluate(new FakeExpression.And(List.of(t, u))));
+
+        assertEquals(false, evaluate(new FakeExpression.Or(List.of(f, f))));
+        assertEquals(true, evaluate(new FakeExpression.Or(List.of(f, u, t))));
+        assertNull(evaluate(new FakeExpression.Or(List.of(f, u))));
+
+        assertTrue(FakeExpression.test(null, TABLE, ROW, Map.of()));
+        assertTrue(FakeExpression.test(t, TABLE, ROW, Map.of()));
+        assertFalse(FakeExpression.test(u, TABLE, ROW, Map.of()));
+    }
+}
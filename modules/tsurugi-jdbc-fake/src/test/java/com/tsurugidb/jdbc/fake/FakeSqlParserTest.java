@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.exception.SymbolAnalysisException;
+import com.tsurugidb.tsubakuro.sql.exception.SyntaxException;
+
+class FakeSqlParserTest {
+
+    private static final String NAME = "fake-sql-parser-test";
+
+    private TsurugiJdbcFakeService service;
+
+    @BeforeEach
+    void setUp() {
+        this.service = TsurugiJdbcFakeService.of(TsurugiJdbcFakeService.ENDPOINT_PREFIX + NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TsurugiJdbcFakeService.remove(NAME);
+    }
+
+    private FakeStatement.Result execute(String sql) throws ServerException {
+        return execute(sql, Map.of());
+    }
+
+    private FakeStatement.Result execute(String sql, Map<String, Object> params) throws ServerException {
+        return FakeSqlParser.parse(sql).execute(service, params, new ArrayList<>());
+    }
+
+    @Test
+    void statementType() throws SyntaxException {
+        assertInstanceOf(FakeStatement.CreateTable.class, FakeSqlParser.parse("create table test (foo int primary key)"));
+        assertInstanceOf(FakeStatement.DropTable.class, FakeSqlParser.parse("drop table if exists test"));
+        assertInstanceOf(FakeStatement.Insert.class, FakeSqlParser.parse("insert or replace into test values(1)"));
+        assertInstanceOf(FakeStatement.Update.class, FakeSqlParser.parse("update test set foo = foo + 1"));
+        assertInstanceOf(FakeStatement.Delete.class, FakeSqlParser.parse("delete from test where foo = 1;"));
+
+        var select = FakeSqlParser.parse("SELECT * FROM test ORDER BY foo DESC LIMIT 10");
+        assertInstanceOf(FakeStatement.Select.class, select);
+        assertTrue(select.hasResultRecords());
+        assertFalse(select.isWrite());
+    }
+
+    @Test
+    void syntaxError() {
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("merge into test values(1)"));
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("select * from test limit x"));
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("select * from test where foo"));
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("delete from test where foo = 1 zzz"));
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("create table test (foo unknown_type)"));
+        assertThrows(SyntaxException.class, () -> FakeSqlParser.parse("insert into test values(1"));
+    }
+
+    @Test
+    void createTable() throws ServerException {
+        execute("create table test (foo int, bar varchar(10) not null default 'a', zzz decimal(10, 2), primary key(foo))");
+        var table = service.getTable("TEST");
+        var columns = table.getColumns();
+        assertEquals(3, columns.size());
+        assertEquals(AtomType.INT4, columns.get(0).getAtomType());
+        assertEquals(AtomType.CHARACTER, columns.get(1).getAtomType());
+        assertEquals(AtomType.DECIMAL, columns.get(2).getAtomType());
+
+        execute("create table if not exists test (foo int)");
+        assertThrows(ServerException.class, () -> execute("create table test (foo int)"));
+
+        execute("drop table test");
+        assertThrows(SymbolAnalysisException.class, () -> service.getTable("test"));
+        execute("drop table if exists test");
+    }
+
+    @Test
+    void insertMode() throws ServerException {
+        execute("create table test (foo int primary key, bar varchar(10) default 'x')");
+
+        var result = execute("insert into test (foo) values(1), (2)");
+        assertEquals(CounterType.INSERTED_ROWS, result.counterType);
+        assertEquals(2, result.count);
+        assertEquals(0, execute("insert if not exists into test values(1, 'a')").count);
+
+        result = execute("insert or replace into test values(1, 'b')");
+        assertEquals(CounterType.MERGED_ROWS, result.counterType);
+        assertEquals(1, result.count);
+
+        var rows = execute("select bar from test order by foo").rows;
+        assertEquals(2, rows.size());
+        assertEquals("b", rows.get(0)[0]);
+        assertEquals("x", rows.get(1)[0]);
+    }
+
+    @Test
+    void placeholder() throws ServerException {
+        execute("create table test (foo int primary key, bar bigint, zzz date)");
+        execute("insert into test values(?, ?, ?)", Map.of("1", 1, "2", 10L, "3", "2025-01-02"));
+        execute("insert into test values(:foo, :bar, date '2025-01-03')", Map.of("foo", 2, "bar", 20L));
+
+        var rows = execute("select * from test where bar >= :bar order by foo", Map.of("bar", 10L)).rows;
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.of(2025, 1, 2), rows.get(0)[2]);
+        assertEquals(LocalDate.of(2025, 1, 3), rows.get(1)[2]);
+
+        assertThrows(SymbolAnalysisException.class, () -> execute("select * from test where foo = ?"));
+    }
+
+    @Test
+    void select() throws ServerException {
+        execute("create table test (foo int primary key, bar bigint, zzz decimal(10, 2))");
+        for (int i = 0; i < 5; i++) {
+            execute("insert into test values(" + i + ", " + (i % 2) + ", " + i + ".5)");
+        }
+
+        var result = execute("select foo as f, zzz from test where bar = 1 or foo = 0 order by foo desc limit 2");
+        assertEquals("f", result.columns.get(0).getName());
+        assertEquals(AtomType.DECIMAL, result.columns.get(1).getAtomType());
+        assertEquals(2, result.rows.size());
+        assertEquals(3, result.rows.get(0)[0]);
+        assertEquals(new BigDecimal("3.5"), result.rows.get(0)[1]);
+        assertEquals(1, result.rows.get(1)[0]);
+
+        result = execute("select count(*) from test where (foo > 2 and bar = 0) or foo is null");
+        assertEquals("count", result.columns.get(0).getName());
+        assertEquals(1L, result.rows.get(0)[0]);
+
+        result = execute("select * from test order by bar, foo desc");
+        assertEquals(4, result.rows.get(0)[0]);
+        assertEquals(1, result.rows.get(4)[0]);
+
+        assertThrows(SymbolAnalysisException.class, () -> execute("select hoge from test"));
+        assertThrows(SymbolAnalysisException.class, () -> execute("select * from hoge"));
+    }
+
+    @Test
+    void updateDelete() throws ServerException {
+        execute("create table test (foo int primary key, bar bigint)");
+        execute("insert into test values(1, 10), (2, 20), (3, 30)");
+
+        var result = execute("update test set bar = bar * 2 + 1 where foo <> 2");
+        assertEquals(CounterType.UPDATED_ROWS, result.counterType);
+        assertEquals(2, result.count);
+
+        result = execute("delete from test where bar > 40 or foo != 1");
+        assertEquals(CounterType.DELETED_ROWS, result.counterType);
+        assertEquals(2, result.count);
+
+        var rows = execute("select * from test").rows;
+        assertEquals(1, rows.size());
+        assertEquals(21L, rows.get(0)[1]);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.exception.UniqueConstraintViolationException;
+import com.tsurugidb.tsubakuro.sql.exception.ValueEvaluationException;
+
+class FakeTableTest {
+
+    private static FakeTable createTable(String... keyColumnNames) {
+        return new FakeTable("test", List.of( //
+                new FakeColumn("foo", AtomType.INT4, null), //
+                new FakeColumn("bar", AtomType.INT8, null)), List.of(keyColumnNames));
+    }
+
+    private static FakeExpression equal(String columnName, Object value) {
+        return new FakeExpression.Comparison("=", new FakeExpression.Column(columnName), new FakeExpression.Literal(value));
+    }
+
+    private static void rollback(List<Runnable> undo) {
+        for (int i = undo.size() - 1; i >= 0; i--) {
+            undo.get(i).run();
+        }
+        undo.clear();
+    }
+
+    private static List<Integer> keys(FakeTable table) throws ServerException {
+        var list = new ArrayList<Integer>();
+        for (var row : table.select(null, Map.of())) {
+            list.add((Integer) row[0]);
+        }
+        return list;
+    }
+
+    @Test
+    void constructor() {
+        var table = createTable("FOO");
+        assertEquals("test", table.getName());
+        assertEquals(1, table.getColumnIndex("Bar"));
+        assertEquals(-1, table.getColumnIndex("hoge"));
+        assertThrows(IllegalArgumentException.class, () -> createTable("hoge"));
+    }
+
+    @Test
+    void insert() throws ServerException {
+        var table = createTable("foo");
+        var undo = new ArrayList<Runnable>();
+        assertEquals(1, table.insert(new Object[] { 2, 20L }, FakeTable.InsertMode.INSERT, undo));
+        assertEquals(1, table.insert(new Object[] { 1, 10L }, FakeTable.InsertMode.INSERT, undo));
+        assertEquals(List.of(1, 2), keys(table));
+
+        assertThrows(UniqueConstraintViolationException.class, () -> table.insert(new Object[] { 1, 11L }, FakeTable.InsertMode.INSERT, undo));
+        assertEquals(0, table.insert(new Object[] { 1, 11L }, FakeTable.InsertMode.IGNORE, undo));
+        assertEquals(1, table.insert(new Object[] { 1, 12L }, FakeTable.InsertMode.REPLACE, undo));
+        assertEquals(12L, table.select(equal("foo", 1), Map.of()).get(0)[1]);
+
+        rollback(undo);
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void insertWithoutKey() throws ServerException {
+        var table = createTable();
+        var undo = new ArrayList<Runnable>();
+        table.insert(new Object[] { 2, 20L }, FakeTable.InsertMode.INSERT, undo);
+        table.insert(new Object[] { 1, 10L }, FakeTable.InsertMode.INSERT, undo);
+        table.insert(new Object[] { 1, 10L }, FakeTable.InsertMode.INSERT, undo);
+        assertEquals(List.of(2, 1, 1), keys(table));
+    }
+
+    @Test
+    void select() throws ServerException {
+        var table = createTable("foo");
+        var undo = new ArrayList<Runnable>();
+        for (int i = 0; i < 5; i++) {
+            table.insert(new Object[] { i, (long) i % 2 }, FakeTable.InsertMode.INSERT, undo);
+        }
+
+        assertEquals(1, table.select(equal("foo", "3"), Map.of()).size());
+        assertEquals(0, table.select(equal("foo", 9), Map.of()).size());
+        assertEquals(0, table.select(equal("foo", null), Map.of()).size());
+        assertEquals(3, table.select(equal("bar", 0), Map.of()).size());
+
+        var and = new FakeExpression.And(List.of(equal("foo", new FakeExpression.Placeholder("1")), equal("bar", 1)));
+        assertEquals(1, table.select(and, Map.of("1", 1)).size());
+        assertEquals(0, table.select(and, Map.of("1", 2)).size());
+    }
+
+    @Test
+    void update() throws ServerException {
+        var table = createTable("foo");
+        var undo = new ArrayList<Runnable>();
+        table.insert(new Object[] { 1, 10L }, FakeTable.InsertMode.INSERT, undo);
+        table.insert(new Object[] { 2, 20L }, FakeTable.InsertMode.INSERT, undo);
+        undo.clear();
+
+        var add = new FakeExpression.Arithmetic('+', new FakeExpression.Column("bar"), new FakeExpression.Literal(1));
+        assertEquals(2, table.update(null, List.of(new FakeTable.Assignment("bar", add)), Map.of(), undo));
+        assertEquals(11L, table.select(equal("foo", 1), Map.of()).get(0)[1]);
+
+        assertEquals(1, table.update(equal("foo", 1), List.of(new FakeTable.Assignment("foo", new FakeExpression.Literal(3))), Map.of(), undo));
+        assertEquals(List.of(2, 3), keys(table));
+        assertThrows(UniqueConstraintViolationException.class,
+                () -> table.update(equal("foo", 2), List.of(new FakeTable.Assignment("foo", new FakeExpression.Literal(3))), Map.of(), undo));
+        assertThrows(ValueEvaluationException.class,
+                () -> table.update(null, List.of(new FakeTable.Assignment("bar", new FakeExpression.Literal("x"))), Map.of(), undo));
+
+        rollback(undo);
+        assertEquals(List.of(1, 2), keys(table));
+        assertEquals(10L, table.select(equal("foo", 1), Map.of()).get(0)[1]);
+    }
+
+    @Test
+    void delete() throws ServerException {
+        var table = createTable("foo");
+        var undo = new ArrayList<Runnable>();
+        for (int i = 0; i < 5; i++) {
+            table.insert(new Object[] { i, (long) i * 10 }, FakeTable.InsertMode.INSERT, undo);
+        }
+        undo.clear();
+
+        var greater = new FakeExpression.Comparison(">", new FakeExpression.Column("bar"), new FakeExpression.Literal(20));
+        assertEquals(2, table.delete(greater, Map.of(), undo));
+        assertEquals(1, table.delete(equal("foo", 0), Map.of(), undo));
+        assertEquals(List.of(1, 2), keys(table));
+
+        rollback(undo);
+        assertEquals(List.of(0, 1, 2, 3, 4), keys(table));
+    }
+}
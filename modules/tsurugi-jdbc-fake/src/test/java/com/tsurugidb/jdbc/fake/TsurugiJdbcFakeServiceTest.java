@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.fake;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcFakeServiceTest {
+
+    private static final String NAME = "fake-service-test";
+    private static final String URL = "jdbc:tsurugi:fake:" + NAME;
+
+    @AfterEach
+    void tearDown() {
+        TsurugiJdbcFakeService.remove(NAME);
+    }
+
+    @Test
+    void of() {
+        var service = TsurugiJdbcFakeService.of("fake:" + NAME + ";latency=1.5;abortRate=0.25;maxRequestsPerSecond=100");
+        assertEquals(NAME, service.getName());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1500), service.getLatencyNanos());
+        assertEquals(0.25, service.getAbortRate());
+        assertEquals(service, TsurugiJdbcFakeService.get(NAME));
+
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcFakeService.of("fake:" + NAME + ";hoge=1"));
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcFakeService.of("fake:" + NAME + ";abortRate=2"));
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcFakeService.of("tcp://localhost:12345"));
+    }
+
+    @Test
+    void crud() throws SQLException {
+        try (var connection = DriverManager.getConnection(URL); var statement = connection.createStatement()) {
+            statement.executeUpdate("create table test (foo int primary key, bar bigint, zzz varchar(10))");
+
+            try (var ps = connection.prepareStatement("insert into test values(?, ?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    ps.setInt(1, i);
+                    ps.setLong(2, i * 10L);
+                    ps.setString(3, "z" + i);
+                    assertEquals(1, ps.executeUpdate());
+                }
+            }
+            assertThrows(SQLIntegrityConstraintViolationException.class, () -> statement.executeUpdate("insert into test values(0, 0, 'dup')"));
+
+            assertEquals(1, statement.executeUpdate("update test set bar = bar + 1 where foo = 1"));
+            assertEquals(1, statement.executeUpdate("delete from test where foo = 2"));
+
+            try (var rs = statement.executeQuery("select foo, bar, zzz from test order by foo")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt("foo"));
+                assertEquals(0L, rs.getLong("bar"));
+                assertEquals("z0", rs.getString("zzz"));
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt("foo"));
+                assertEquals(11L, rs.getLong("bar"));
+                assertEquals("z1", rs.getString("zzz"));
+                assertFalse(rs.next());
+            }
+        }
+
+        assertEquals(2, TsurugiJdbcFakeService.get(NAME).getTableSize("test"));
+    }
+
+    @Test
+    void rollback() throws SQLException {
+        try (var connection = DriverManager.getConnection(URL); var statement = connection.createStatement()) {
+            statement.executeUpdate("create table test (foo int primary key, bar bigint)");
+
+            connection.setAutoCommit(false);
+            statement.executeUpdate("insert into test values(1, 10)");
+            connection.rollback();
+            statement.executeUpdate("insert into test values(2, 20)");
+            connection.commit();
+        }
+
+        assertEquals(1, TsurugiJdbcFakeService.get(NAME).getTableSize("test"));
+    }
+
+    @Test
+    void abort() throws SQLException {
+        try (var connection = DriverManager.getConnection(URL); var statement = connection.createStatement()) {
+            statement.executeUpdate("create table test (foo int primary key, bar bigint)");
+
+            var service = TsurugiJdbcFakeService.get(NAME);
+            service.setAbortRate(1);
+
+            connection.setAutoCommit(false);
+            statement.executeUpdate("insert into test values(1, 10)");
+            assertThrows(SQLTransactionRollbackException.class, () -> connection.commit());
+            assertEquals(1, service.getAbortCount());
+            assertEquals(0, service.getTableSize("test"));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
+
+/**
+ * TPC-C-style order entry workload (simplified, single warehouse).
+ * <ul>
+ * <li>new_order - read and update district and stock, insert order and order lines by executeBatch (LTX)</li>
+ * <li>payment - update district and customer (OCC)</li>
+ * <li>order_status - select customer and the last order lines of the district (RTX)</li>
+ * <li>stock_level - select recent order lines and stock (RTX)</li>
+ * </ul>
+ * <p>
+ * The number of customers and items is {@code --records}.
+ * </p>
+ */
+public class OrderEntryWorkload extends Workload {
+
+    /** workload name. */
+    public static final String NAME = "order";
+
+    private static final int DISTRICTS = 10;
+    private static final int MIN_ORDER_LINES = 5;
+    private static final int MAX_ORDER_LINES = 15;
+    private static final int STOCK_LEVEL_ORDERS = 20;
+    private static final int STOCK_THRESHOLD = 15;
+    private static final long ORDER_ID_PER_DISTRICT = 1_000_000_000L;
+    private static final int LOAD_COMMIT_SIZE = 1000;
+
+    private final int records;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config configuration
+     */
+    public OrderEntryWorkload(WorkloadConfig config) {
+        super(config);
+        this.records = config.getRecords();
+
+        addOperation("new_order", 45, TsurugiJdbcTransactionType.LTX, List.of("district", "stock", "orders", "order_line"), false, this::newOrder);
+        addOperation("payment", 43, TsurugiJdbcTransactionType.OCC, List.of(), false, this::payment);
+        addOperation("order_status", 6, TsurugiJdbcTransactionType.RTX, List.of(), false, this::orderStatus);
+        addOperation("stock_level", 6, TsurugiJdbcTransactionType.RTX, List.of(), false, this::stockLevel);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void load(Connection connection) throws SQLException {
+        for (String table : List.of("district", "customer", "stock", "orders", "order_line")) {
+            dropTable(connection, table);
+        }
+        executeDdl(connection, "create table district (d_id int primary key, d_next_o_id bigint, d_ytd bigint)");
+        executeDdl(connection, "create table customer (c_id bigint primary key, c_d_id int, c_balance bigint, c_data varchar(100))");
+        executeDdl(connection, "create table stock (s_i_id bigint primary key, s_quantity int, s_ytd bigint)");
+        executeDdl(connection, "create table orders (o_id bigint primary key, o_d_id int, o_c_id bigint, o_ol_cnt int, o_entry_d timestamp)");
+        executeDdl(connection, "create table order_line (ol_o_id bigint, ol_number int, ol_i_id bigint, ol_quantity int, ol_amount bigint, primary key(ol_o_id, ol_number))");
+
+        var random = new Random(0);
+        connection.setAutoCommit(false);
+        try {
+            try (var ps = connection.prepareStatement("insert into district values(?, ?, ?)")) {
+                for (int d = 0; d < DISTRICTS; d++) {
+                    ps.setInt(1, d);
+                    ps.setLong(2, d * ORDER_ID_PER_DISTRICT + 1);
+                    ps.setLong(3, 0);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (var ps = connection.prepareStatement("insert into customer values(?, ?, ?, ?)")) {
+                for (int i = 0; i < records; i++) {
+                    ps.setLong(1, i);
+                    ps.setInt(2, i % DISTRICTS);
+                    ps.setLong(3, 0);
+                    ps.setString(4, randomString(random, 100));
+                    ps.addBatch();
+                    if ((i + 1) % LOAD_COMMIT_SIZE == 0) {
+                        ps.executeBatch();
+                        connection.commit();
+                    }
+                }
+                ps.executeBatch();
+            }
+            try (var ps = connection.prepareStatement("insert into stock values(?, ?, ?)")) {
+                for (int i = 0; i < records; i++) {
+                    ps.setLong(1, i);
+                    ps.setInt(2, 10 + random.nextInt(91));
+                    ps.setLong(3, 0);
+                    ps.addBatch();
+                    if ((i + 1) % LOAD_COMMIT_SIZE == 0) {
+                        ps.executeBatch();
+                        connection.commit();
+                    }
+                }
+                ps.executeBatch();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private long nextOrderId(Connection connection, int districtId) throws SQLException {
+        long orderId;
+        try (var ps = connection.prepareStatement("select d_next_o_id from district where d_id = ?")) {
+            ps.setInt(1, districtId);
+            try (var rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("district not found. d_id=" + districtId);
+                }
+                orderId = rs.getLong(1);
+            }
+        }
+        return orderId;
+    }
+
+    private void newOrder(Connection connection, Random random) throws SQLException {
+        int districtId = random.nextInt(DISTRICTS);
+        long customerId = random.nextInt(records);
+        int lineCount = MIN_ORDER_LINES + random.nextInt(MAX_ORDER_LINES - MIN_ORDER_LINES + 1);
+
+        long orderId = nextOrderId(connection, districtId);
+        try (var ps = connection.prepareStatement("update district set d_next_o_id = d_next_o_id + 1 where d_id = ?")) {
+            ps.setInt(1, districtId);
+            ps.executeUpdate();
+        }
+
+        try (var select = connection.prepareStatement("select s_quantity from stock where s_i_id = ?");
+                var update = connection.prepareStatement("update stock set s_quantity = ?, s_ytd = s_ytd + ? where s_i_id = ?");
+                var insertLine = connection.prepareStatement("insert into order_line values(?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < lineCount; i++) {
+                long itemId = random.nextInt(records);
+                int quantity = 1 + random.nextInt(10);
+
+                int stock;
+                select.setLong(1, itemId);
+                try (var rs = select.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("stock not found. s_i_id=" + itemId);
+                    }
+                    stock = rs.getInt(1);
+                }
+                int newStock = (stock - quantity >= 10) ? stock - quantity : stock - quantity + 91;
+                update.setInt(1, newStock);
+                update.setLong(2, quantity);
+                update.setLong(3, itemId);
+                update.executeUpdate();
+
+                insertLine.setLong(1, orderId);
+                insertLine.setInt(2, i + 1);
+                insertLine.setLong(3, itemId);
+                insertLine.setInt(4, quantity);
+                insertLine.setLong(5, quantity * (1L + itemId % 100));
+                insertLine.addBatch();
+            }
+            insertLine.executeBatch();
+        }
+
+        try (var ps = connection.prepareStatement("insert into orders values(?, ?, ?, ?, ?)")) {
+            ps.setLong(1, orderId);
+            ps.setInt(2, districtId);
+            ps.setLong(3, customerId);
+            ps.setInt(4, lineCount);
+            ps.setObject(5, LocalDateTime.now());
+            ps.executeUpdate();
+        }
+    }
+
+    private void payment(Connection connection, Random random) throws SQLException {
+        int districtId = random.nextInt(DISTRICTS);
+        long customerId = random.nextInt(records);
+        long amount = 1 + random.nextInt(5000);
+
+        try (var ps = connection.prepareStatement("update district set d_ytd = d_ytd + ? where d_id = ?")) {
+            ps.setLong(1, amount);
+            ps.setInt(2, districtId);
+            ps.executeUpdate();
+        }
+        try (var ps = connection.prepareStatement("update customer set c_balance = c_balance - ? where c_id = ?")) {
+            ps.setLong(1, amount);
+            ps.setLong(2, customerId);
+            ps.executeUpdate();
+        }
+    }
+
+    private void orderStatus(Connection connection, Random random) throws SQLException {
+        int districtId = random.nextInt(DISTRICTS);
+        long customerId = random.nextInt(records);
+
+        try (var ps = connection.prepareStatement("select c_balance, c_data from customer where c_id = ?")) {
+            ps.setLong(1, customerId);
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                    rs.getString(2);
+                }
+            }
+        }
+
+        long lastOrderId = nextOrderId(connection, districtId) - 1;
+        try (var ps = connection.prepareStatement("select ol_i_id, ol_quantity, ol_amount from order_line where ol_o_id = ?")) {
+            ps.setLong(1, lastOrderId);
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                    rs.getInt(2);
+                    rs.getLong(3);
+                }
+            }
+        }
+    }
+
+    private void stockLevel(Connection connection, Random random) throws SQLException {
+        int districtId = random.nextInt(DISTRICTS);
+
+        long nextOrderId = nextOrderId(connection, districtId);
+        var itemIds = new HashSet<Long>();
+        try (var ps = connection.prepareStatement("select ol_i_id from order_line where ol_o_id >= ? and ol_o_id < ?")) {
+            ps.setLong(1, nextOrderId - STOCK_LEVEL_ORDERS);
+            ps.setLong(2, nextOrderId);
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    itemIds.add(rs.getLong(1));
+                }
+            }
+        }
+
+        try (var ps = connection.prepareStatement("select s_quantity from stock where s_i_id = ? and s_quantity < ?")) {
+            for (long itemId : itemIds) {
+                ps.setLong(1, itemId);
+                ps.setInt(2, STOCK_THRESHOLD);
+                try (var rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getInt(1);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.bridge.SLF4JBridgeHandler;
+
+import com.tsurugidb.jdbc.fake.TsurugiJdbcFakeService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Tsurugi JDBC macro workload driver.
+ * <p>
+ * Usage: {@code TsurugiJdbcWorkloadMain --url=jdbc:tsurugi:fake:workload --workload=ycsb --threads=8 --duration=30 --output=build/workload}
+ * </p>
+ * <p>
+ * The exit code is 2 if the throughput is lower than the baseline ({@code --baseline=<result.json>}) by more than {@code --max-regression}.
+ * </p>
+ */
+public class TsurugiJdbcWorkloadMain {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiJdbcWorkloadMain.class);
+
+    /** exit code on throughput regression. */
+    public static final int EXIT_REGRESSION = 2;
+
+    static {
+        SLF4JBridgeHandler.removeHandlersForRootLogger();
+        SLF4JBridgeHandler.install();
+    }
+
+    public static void main(String[] args) throws Exception {
+        var config = WorkloadConfig.parse(args);
+        LOG.info("{}", config);
+
+        var workload = Workload.create(config);
+        WorkloadReport report;
+        try (var dataSource = createDataSource(config)) {
+            if (!config.isSkipLoad()) {
+                LOG.info("load start. records={}", config.getRecords());
+                try (var connection = dataSource.getConnection()) {
+                    workload.load(connection);
+                }
+                LOG.info("load end");
+            }
+
+            var runner = new WorkloadRunner(config, dataSource, workload);
+            var statistics = runner.run();
+            report = new WorkloadReport(config, statistics, runner.getMeasuredNanos());
+        }
+
+        if (config.isFakeEndpoint()) {
+            var service = TsurugiJdbcFakeService.of(config.getEndpoint());
+            LOG.info("fake service requests={}, aborts={}", service.getRequestCount(), service.getAbortCount());
+        }
+
+        var output = config.getOutput();
+        report.write(output);
+        LOG.info("throughput={} [ops/s], result={}", String.format(Locale.ROOT, "%.1f", report.getThroughput()), output.resolve(WorkloadReport.RESULT_FILE));
+
+        var baseline = config.getBaseline();
+        if (baseline != null) {
+            var base = WorkloadReport.readThroughput(baseline);
+            if (base.isEmpty()) {
+                throw new IllegalArgumentException("throughput not found in baseline. baseline=" + baseline);
+            }
+            double ratio = report.getThroughput() / base.getAsDouble();
+            LOG.info("baseline={} [ops/s], ratio={}", String.format(Locale.ROOT, "%.1f", base.getAsDouble()), String.format(Locale.ROOT, "%.3f", ratio));
+            if (ratio < 1 - config.getMaxRegression()) {
+                LOG.error("throughput regression. ratio={}, maxRegression={}", String.format(Locale.ROOT, "%.3f", ratio), config.getMaxRegression());
+                System.exit(EXIT_REGRESSION);
+            }
+        }
+    }
+
+    static HikariDataSource createDataSource(WorkloadConfig config) {
+        var hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("tsurugi-workload");
+        hikariConfig.setJdbcUrl(config.getUrl());
+        if (config.getUser() != null) {
+            hikariConfig.setUsername(config.getUser());
+        }
+        if (config.getPassword() != null) {
+            hikariConfig.setPassword(config.getPassword());
+        }
+        hikariConfig.setMaximumPoolSize(config.getPoolSize());
+        hikariConfig.setMinimumIdle(config.getPoolSize());
+        hikariConfig.setAutoCommit(true);
+        return new HikariDataSource(hikariConfig);
+    }
+}
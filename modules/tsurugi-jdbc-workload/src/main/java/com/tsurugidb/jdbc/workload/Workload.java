@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
+
+/**
+ * Tsurugi JDBC workload.
+ */
+public abstract class Workload {
+
+    /**
+     * Create workload.
+     *
+     * @param config configuration
+     * @return workload
+     * @throws IllegalArgumentException if the workload name is unknown
+     */
+    public static Workload create(WorkloadConfig config) {
+        String name = config.getWorkload();
+        switch (name) {
+        case YcsbWorkload.NAME:
+            return new YcsbWorkload(config);
+        case OrderEntryWorkload.NAME:
+            return new OrderEntryWorkload(config);
+        default:
+            throw new IllegalArgumentException("unknown workload. workload=" + name);
+        }
+    }
+
+    /** configuration. */
+    protected final WorkloadConfig config;
+    private final List<WorkloadOperation> operationList = new ArrayList<>();
+    private int totalWeight = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config configuration
+     */
+    protected Workload(WorkloadConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Get workload name.
+     *
+     * @return workload name
+     */
+    public abstract String getName();
+
+    /**
+     * Create tables and load the initial data.
+     *
+     * @param connection connection
+     * @throws SQLException if a database access error occurs
+     */
+    public abstract void load(Connection connection) throws SQLException;
+
+    /**
+     * Add operation.
+     * <p>
+     * The weight can be overridden by {@code --mix=name:weight,...}.
+     * </p>
+     *
+     * @param name            operation name
+     * @param defaultWeight   default weight in the mix
+     * @param transactionType transaction type
+     * @param writePreserve   write preserve (for LTX)
+     * @param singleStatement {@code true} if the operation executes only one statement
+     * @param body            operation body
+     */
+    protected void addOperation(String name, int defaultWeight, TsurugiJdbcTransactionType transactionType, List<String> writePreserve, boolean singleStatement, WorkloadOperation.Body body) {
+        int weight = config.getWeight(name, defaultWeight);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must be non-negative. name=" + name + ", weight=" + weight);
+        }
+        operationList.add(new WorkloadOperation(name, weight, transactionType, writePreserve, singleStatement, body));
+        this.totalWeight += weight;
+    }
+
+    /**
+     * Get operations.
+     *
+     * @return operations
+     */
+    public List<WorkloadOperation> getOperations() {
+        return this.operationList;
+    }
+
+    /**
+     * Choose operation by the weights.
+     *
+     * @param random random
+     * @return operation
+     */
+    public WorkloadOperation chooseOperation(Random random) {
+        if (totalWeight <= 0) {
+            throw new IllegalStateException("no operation in the mix");
+        }
+        int n = random.nextInt(totalWeight);
+        for (var operation : operationList) {
+            n -= operation.getWeight();
+            if (n < 0) {
+                return operation;
+            }
+        }
+        throw new AssertionError(n);
+    }
+
+    /**
+     * Drop table if exists.
+     *
+     * @param connection connection
+     * @param tableName  table name
+     * @throws SQLException if a database access error occurs
+     */
+    protected static void dropTable(Connection connection, String tableName) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate("drop table if exists " + tableName);
+        }
+    }
+
+    /**
+     * Execute DDL.
+     *
+     * @param connection connection
+     * @param sql        DDL
+     * @throws SQLException if a database access error occurs
+     */
+    protected static void executeDdl(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    /**
+     * Create random string.
+     *
+     * @param random random
+     * @param length length
+     * @return string
+     */
+    protected static String randomString(Random random, int length) {
+        var sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.tsurugidb.jdbc.fake.TsurugiJdbcFakeService;
+
+/**
+ * Tsurugi JDBC workload configuration.
+ * <p>
+ * The arguments are specified as {@code --key=value}.
+ * </p>
+ */
+public class WorkloadConfig {
+
+    private static final String JDBC_URL_PREFIX = "jdbc:tsurugi:";
+
+    private String url = JDBC_URL_PREFIX + "fake:workload";
+    private String user = null;
+    private String password = null;
+    private String workload = "ycsb";
+    private int threads = 8;
+    private int poolSize = 0;
+    private int warmupSeconds = 5;
+    private int durationSeconds = 30;
+    private int records = 10_000;
+    private int batchSize = 100;
+    private int lobSize = 4096;
+    private boolean autoCommit = true;
+    private int maxRetry = 10;
+    private boolean skipLoad = false;
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+    private Path output = Path.of("build", "workload");
+    private String label = null;
+    private Path baseline = null;
+    private double maxRegression = 0.1;
+
+    /**
+     * Parse arguments.
+     *
+     * @param args arguments
+     * @return configuration
+     * @throws IllegalArgumentException if the argument is invalid
+     */
+    public static WorkloadConfig parse(String... args) {
+        var config = new WorkloadConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("illegal argument. arg=" + arg);
+            }
+            String[] keyValue = arg.substring(2).split("=", 2);
+            String key = keyValue[0];
+            String value = (keyValue.length == 2) ? keyValue[1] : "true";
+            try {
+                config.set(key, value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("illegal argument value. arg=" + arg, e);
+            }
+        }
+        return config;
+    }
+
+    private void set(String key, String value) {
+        switch (key) {
+        case "url":
+            this.url = value.startsWith(JDBC_URL_PREFIX) ? value : JDBC_URL_PREFIX + value;
+            break;
+        case "user":
+            this.user = value;
+            break;
+        case "password":
+            this.password = value;
+            break;
+        case "workload":
+            this.workload = value;
+            break;
+        case "threads":
+            this.threads = Integer.parseInt(value);
+            break;
+        case "pool-size":
+            this.poolSize = Integer.parseInt(value);
+            break;
+        case "warmup":
+            this.warmupSeconds = Integer.parseInt(value);
+            break;
+        case "duration":
+            this.durationSeconds = Integer.parseInt(value);
+            break;
+        case "records":
+            this.records = Integer.parseInt(value);
+            break;
+        case "batch-size":
+            this.batchSize = Integer.parseInt(value);
+            break;
+        case "lob-size":
+            this.lobSize = Integer.parseInt(value);
+            break;
+        case "auto-commit":
+            this.autoCommit = Boolean.parseBoolean(value);
+            break;
+        case "max-retry":
+            this.maxRetry = Integer.parseInt(value);
+            break;
+        case "skip-load":
+            this.skipLoad = Boolean.parseBoolean(value);
+            break;
+        case "mix":
+            for (String s : value.split(",")) {
+                String[] nameWeight = s.split(":", 2);
+                if (nameWeight.length != 2) {
+                    throw new IllegalArgumentException("illegal mix. mix=" + value);
+                }
+                mix.put(nameWeight[0].trim(), Integer.parseInt(nameWeight[1].trim()));
+            }
+            break;
+        case "output":
+            this.output = Path.of(value);
+            break;
+        case "label":
+            this.label = value;
+            break;
+        case "baseline":
+            this.baseline = Path.of(value);
+            break;
+        case "max-regression":
+            this.maxRegression = Double.parseDouble(value);
+            break;
+        default:
+            throw new IllegalArgumentException("unknown argument. key=" + key);
+        }
+    }
+
+    /**
+     * Get JDBC URL.
+     *
+     * @return JDBC URL
+     */
+    public String getUrl() {
+        return this.url;
+    }
+
+    /**
+     * Get endpoint.
+     *
+     * @return endpoint (JDBC URL without the prefix and the properties)
+     */
+    public String getEndpoint() {
+        int end = url.indexOf('?');
+        return url.substring(JDBC_URL_PREFIX.length(), (end >= 0) ? end : url.length());
+    }
+
+    /**
+     * Whether the URL is the fake SQL service of tsurugi-jdbc-fake.
+     *
+     * @return {@code true} if fake SQL service
+     */
+    public boolean isFakeEndpoint() {
+        return TsurugiJdbcFakeService.isFakeEndpoint(getEndpoint());
+    }
+
+    /**
+     * Get user.
+     *
+     * @return user
+     */
+    public String getUser() {
+        return this.user;
+    }
+
+    /**
+     * Get password.
+     *
+     * @return password
+     */
+    public String getPassword() {
+        return this.password;
+    }
+
+    /**
+     * Get workload name.
+     *
+     * @return workload name
+     */
+    public String getWorkload() {
+        return this.workload;
+    }
+
+    /**
+     * Get number of threads.
+     *
+     * @return number of threads
+     */
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Get connection pool size.
+     *
+     * @return pool size. Same as the number of threads if not specified
+     */
+    public int getPoolSize() {
+        return (this.poolSize > 0) ? this.poolSize : this.threads;
+    }
+
+    /**
+     * Get warmup time.
+     *
+     * @return warmup time [seconds]
+     */
+    public int getWarmupSeconds() {
+        return this.warmupSeconds;
+    }
+
+    /**
+     * Get measurement time.
+     *
+     * @return measurement time [seconds]
+     */
+    public int getDurationSeconds() {
+        return this.durationSeconds;
+    }
+
+    /**
+     * Get number of initial records.
+     *
+     * @return number of records
+     */
+    public int getRecords() {
+        return this.records;
+    }
+
+    /**
+     * Get batch size.
+     *
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Get LOB size.
+     *
+     * @return LOB size [bytes]
+     */
+    public int getLobSize() {
+        return this.lobSize;
+    }
+
+    /**
+     * Whether single statement operations are executed in auto commit.
+     *
+     * @return {@code true} if auto commit
+     */
+    public boolean isAutoCommit() {
+        return this.autoCommit;
+    }
+
+    /**
+     * Get maximum number of retries on serialization failure.
+     *
+     * @return maximum number of retries
+     */
+    public int getMaxRetry() {
+        return this.maxRetry;
+    }
+
+    /**
+     * Whether loading the initial data is skipped.
+     *
+     * @return {@code true} if skipped
+     */
+    public boolean isSkipLoad() {
+        return this.skipLoad;
+    }
+
+    /**
+     * Get operation weight.
+     *
+     * @param name          operation name
+     * @param defaultWeight default weight
+     * @return weight
+     */
+    public int getWeight(String name, int defaultWeight) {
+        return mix.getOrDefault(name, defaultWeight);
+    }
+
+    /**
+     * Get output directory.
+     *
+     * @return output directory
+     */
+    public Path getOutput() {
+        return this.output;
+    }
+
+    /**
+     * Get run label.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return (this.label != null) ? this.label : this.workload;
+    }
+
+    /**
+     * Get baseline result file.
+     *
+     * @return baseline result file. {@code null} if not compared
+     */
+    public Path getBaseline() {
+        return this.baseline;
+    }
+
+    /**
+     * Get allowed throughput regression ratio.
+     *
+     * @return ratio (0.1 means 10%)
+     */
+    public double getMaxRegression() {
+        return this.maxRegression;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadConfig(url=" + url + ", user=" + user + ", workload=" + workload + ", threads=" + threads + ", poolSize=" + getPoolSize() + ", warmupSeconds=" + warmupSeconds
+                + ", durationSeconds=" + durationSeconds + ", records=" + records + ", batchSize=" + batchSize + ", lobSize=" + lobSize + ", autoCommit=" + autoCommit + ", maxRetry=" + maxRetry
+                + ", mix=" + mix + ", output=" + output + ", label=" + getLabel() + ", baseline=" + baseline + ", maxRegression=" + maxRegression + ")";
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
+
+/**
+ * Tsurugi JDBC workload operation.
+ */
+public class WorkloadOperation {
+
+    /**
+     * Operation body.
+     */
+    @FunctionalInterface
+    public interface Body {
+        /**
+         * Execute the operation.
+         *
+         * @param connection connection
+         * @param random     random
+         * @throws SQLException if a database access error occurs
+         */
+        void execute(Connection connection, Random random) throws SQLException;
+    }
+
+    private final String name;
+    private final int weight;
+    private final TsurugiJdbcTransactionType transactionType;
+    private final List<String> writePreserve;
+    private final boolean singleStatement;
+    private final Body body;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name            operation name
+     * @param weight          weight in the mix
+     * @param transactionType transaction type
+     * @param writePreserve   write preserve (for LTX)
+     * @param singleStatement {@code true} if the operation executes only one statement, which can be executed in auto commit
+     * @param body            operation body
+     */
+    public WorkloadOperation(String name, int weight, TsurugiJdbcTransactionType transactionType, List<String> writePreserve, boolean singleStatement, Body body) {
+        this.name = name;
+        this.weight = weight;
+        this.transactionType = transactionType;
+        this.writePreserve = writePreserve;
+        this.singleStatement = singleStatement;
+        this.body = body;
+    }
+
+    /**
+     * Get operation name.
+     *
+     * @return operation name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get weight in the mix.
+     *
+     * @return weight
+     */
+    public int getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * Get transaction type.
+     *
+     * @return transaction type
+     */
+    public TsurugiJdbcTransactionType getTransactionType() {
+        return this.transactionType;
+    }
+
+    /**
+     * Get write preserve.
+     *
+     * @return write preserve
+     */
+    public List<String> getWritePreserve() {
+        return this.writePreserve;
+    }
+
+    /**
+     * Whether the operation executes only one statement.
+     *
+     * @return {@code true} if single statement
+     */
+    public boolean isSingleStatement() {
+        return this.singleStatement;
+    }
+
+    /**
+     * Execute the operation.
+     *
+     * @param connection connection
+     * @param random     random
+     * @throws SQLException if a database access error occurs
+     */
+    public void execute(Connection connection, Random random) throws SQLException {
+        body.execute(connection, random);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadOperation(name=" + name + ", weight=" + weight + ", transactionType=" + transactionType + ", writePreserve=" + writePreserve + ", singleStatement=" + singleStatement + ")";
+    }
+}
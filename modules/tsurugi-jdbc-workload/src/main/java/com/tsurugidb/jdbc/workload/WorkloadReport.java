@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Tsurugi JDBC workload report.
+ * <p>
+ * The result is written to {@code result.json} (machine-readable summary) and {@code <operation>.hgrm} (HdrHistogram percentile distribution [microseconds]) in the output
+ * directory.
+ * </p>
+ */
+public class WorkloadReport {
+
+    /** result file name. */
+    public static final String RESULT_FILE = "result.json";
+
+    private static final Pattern THROUGHPUT_PATTERN = Pattern.compile("\"throughput\"\\s*:\\s*([0-9.eE+-]+)");
+
+    private final WorkloadConfig config;
+    private final WorkloadStatistics statistics;
+    private final double seconds;
+    private final ZonedDateTime endTime = ZonedDateTime.now();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config        configuration
+     * @param statistics    statistics
+     * @param measuredNanos measurement period [nanoseconds]
+     */
+    public WorkloadReport(WorkloadConfig config, WorkloadStatistics statistics, long measuredNanos) {
+        this.config = config;
+        this.statistics = statistics;
+        this.seconds = measuredNanos / 1e9;
+    }
+
+    /**
+     * Get throughput of all operations.
+     *
+     * @return throughput [operations/second]
+     */
+    public double getThroughput() {
+        return statistics.getTotal().getCount() / seconds;
+    }
+
+    /**
+     * Write the result files.
+     *
+     * @param dir output directory
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(RESULT_FILE), toJson(), StandardCharsets.UTF_8);
+
+        writeHistogram(dir.resolve("total.hgrm"), statistics.getTotal().getLatency());
+        for (var e : statistics.getEntries().entrySet()) {
+            writeHistogram(dir.resolve(e.getKey() + ".hgrm"), e.getValue().getLatency());
+        }
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (var out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1.0);
+        }
+    }
+
+    /**
+     * Convert the result to JSON.
+     *
+     * @return JSON
+     */
+    public String toJson() {
+        var sb = new StringBuilder(1024);
+        sb.append("{\n");
+        appendField(sb, 1, "label", config.getLabel()).append(",\n");
+        appendField(sb, 1, "workload", config.getWorkload()).append(",\n");
+        appendField(sb, 1, "url", config.getUrl()).append(",\n");
+        appendField(sb, 1, "endTime", endTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)).append(",\n");
+        appendNumber(sb, 1, "threads", config.getThreads()).append(",\n");
+        appendNumber(sb, 1, "poolSize", config.getPoolSize()).append(",\n");
+        appendNumber(sb, 1, "records", config.getRecords()).append(",\n");
+        appendNumber(sb, 1, "batchSize", config.getBatchSize()).append(",\n");
+        appendNumber(sb, 1, "lobSize", config.getLobSize()).append(",\n");
+        indent(sb, 1).append("\"autoCommit\": ").append(config.isAutoCommit()).append(",\n");
+        appendNumber(sb, 1, "durationSeconds", seconds).append(",\n");
+
+        indent(sb, 1).append("\"total\": ");
+        appendEntry(sb, 1, statistics.getTotal());
+        sb.append(",\n");
+
+        indent(sb, 1).append("\"operations\": {");
+        String separator = "\n";
+        for (var e : statistics.getEntries().entrySet()) {
+            sb.append(separator);
+            separator = ",\n";
+            indent(sb, 2).append(quote(e.getKey())).append(": ");
+            appendEntry(sb, 2, e.getValue());
+        }
+        sb.append('\n');
+        indent(sb, 1).append("}\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void appendEntry(StringBuilder sb, int level, WorkloadStatistics.Entry entry) {
+        var latency = entry.getLatency();
+        boolean empty = latency.getTotalCount() == 0;
+
+        sb.append("{\n");
+        appendNumber(sb, level + 1, "throughput", entry.getCount() / seconds).append(",\n");
+        appendNumber(sb, level + 1, "count", entry.getCount()).append(",\n");
+        appendNumber(sb, level + 1, "aborts", entry.getAborts()).append(",\n");
+        appendNumber(sb, level + 1, "errors", entry.getErrors()).append(",\n");
+        indent(sb, level + 1).append("\"latencyMicros\": {\n");
+        appendNumber(sb, level + 2, "mean", empty ? 0 : latency.getMean()).append(",\n");
+        appendNumber(sb, level + 2, "p50", empty ? 0 : latency.getValueAtPercentile(50)).append(",\n");
+        appendNumber(sb, level + 2, "p90", empty ? 0 : latency.getValueAtPercentile(90)).append(",\n");
+        appendNumber(sb, level + 2, "p99", empty ? 0 : latency.getValueAtPercentile(99)).append(",\n");
+        appendNumber(sb, level + 2, "p999", empty ? 0 : latency.getValueAtPercentile(99.9)).append(",\n");
+        appendNumber(sb, level + 2, "max", empty ? 0 : latency.getMaxValue()).append('\n');
+        indent(sb, level + 1).append("}\n");
+        indent(sb, level).append('}');
+    }
+
+    private static StringBuilder indent(StringBuilder sb, int level) {
+        for (int i = 0; i < level; i++) {
+            sb.append("  ");
+        }
+        return sb;
+    }
+
+    private static StringBuilder appendField(StringBuilder sb, int level, String name, String value) {
+        return indent(sb, level).append(quote(name)).append(": ").append(quote(value));
+    }
+
+    private static StringBuilder appendNumber(StringBuilder sb, int level, String name, long value) {
+        return indent(sb, level).append(quote(name)).append(": ").append(value);
+    }
+
+    private static StringBuilder appendNumber(StringBuilder sb, int level, String name, double value) {
+        return indent(sb, level).append(quote(name)).append(": ").append(String.format(Locale.ROOT, "%.3f", value));
+    }
+
+    private static String quote(String s) {
+        if (s == null) {
+            return "null";
+        }
+        var sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+                break;
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+
+    /**
+     * Read the total throughput from the result file.
+     *
+     * @param file result file
+     * @return throughput. empty if not found
+     * @throws IOException if an I/O error occurs
+     */
+    public static OptionalDouble readThroughput(Path file) throws IOException {
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        int total = json.indexOf("\"total\"");
+        if (total < 0) {
+            return OptionalDouble.empty();
+        }
+        var matcher = THROUGHPUT_PATTERN.matcher(json);
+        if (!matcher.find(total)) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Double.parseDouble(matcher.group(1)));
+    }
+}
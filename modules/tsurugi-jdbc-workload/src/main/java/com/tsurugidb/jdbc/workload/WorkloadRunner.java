@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+
+/**
+ * Tsurugi JDBC workload runner.
+ */
+public class WorkloadRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(WorkloadRunner.class);
+
+    private static final int MAX_ERROR_LOG = 10;
+
+    private final WorkloadConfig config;
+    private final DataSource dataSource;
+    private final Workload workload;
+    private volatile long measureStartNanos;
+    private volatile long measureEndNanos;
+    private volatile long measuredNanos;
+    private int errorLogCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config     configuration
+     * @param dataSource data source (connection pool)
+     * @param workload   workload
+     */
+    public WorkloadRunner(WorkloadConfig config, DataSource dataSource, Workload workload) {
+        this.config = config;
+        this.dataSource = dataSource;
+        this.workload = workload;
+    }
+
+    /**
+     * Run the workload.
+     *
+     * @return statistics of the measurement period
+     * @throws InterruptedException if interrupted
+     */
+    public WorkloadStatistics run() throws InterruptedException {
+        int threads = config.getThreads();
+        long start = System.nanoTime();
+        this.measureStartNanos = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        this.measureEndNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        this.measuredNanos = measureEndNanos - measureStartNanos;
+
+        LOG.info("run start. workload={}, threads={}, warmup={}s, duration={}s", workload.getName(), threads, config.getWarmupSeconds(), config.getDurationSeconds());
+        var executor = Executors.newFixedThreadPool(threads, r -> {
+            var thread = new Thread(r);
+            thread.setName("workload-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var futureList = new ArrayList<Future<WorkloadStatistics>>(threads);
+            for (int i = 0; i < threads; i++) {
+                long seed = i;
+                futureList.add(executor.submit(() -> work(new Random(seed))));
+            }
+            return merge(futureList);
+        } finally {
+            executor.shutdownNow();
+            LOG.info("run end. workload={}", workload.getName());
+        }
+    }
+
+    private static WorkloadStatistics merge(List<Future<WorkloadStatistics>> futureList) throws InterruptedException {
+        var result = new WorkloadStatistics();
+        for (var future : futureList) {
+            try {
+                result.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("worker error", e.getCause());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get length of the measurement period.
+     *
+     * @return measurement period [nanoseconds]
+     */
+    public long getMeasuredNanos() {
+        return this.measuredNanos;
+    }
+
+    private WorkloadStatistics work(Random random) {
+        var statistics = new WorkloadStatistics();
+        for (;;) {
+            var operation = workload.chooseOperation(random);
+            long start = System.nanoTime();
+            if (start - measureEndNanos >= 0) {
+                break;
+            }
+            boolean measuring = start - measureStartNanos >= 0;
+
+            int aborts = 0;
+            boolean success = false;
+            try {
+                aborts = execute(operation, random);
+                success = true;
+            } catch (SQLException e) {
+                logError(operation, e);
+            }
+            long end = System.nanoTime();
+            if (!measuring || end - measureEndNanos > 0) {
+                continue;
+            }
+
+            String name = operation.getName();
+            for (int i = 0; i < aborts; i++) {
+                statistics.recordAbort(name);
+            }
+            if (success) {
+                statistics.recordSuccess(name, TimeUnit.NANOSECONDS.toMicros(end - start));
+            } else {
+                statistics.recordError(name);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Execute the operation. Retry on serialization failure.
+     *
+     * @return number of serialization failures
+     */
+    private int execute(WorkloadOperation operation, Random random) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            var tsurugiConnection = connection.unwrap(TsurugiJdbcConnection.class);
+            tsurugiConnection.setTransactionType(operation.getTransactionType());
+            tsurugiConnection.setWritePreserve(operation.getWritePreserve());
+
+            boolean autoCommit = operation.isSingleStatement() && config.isAutoCommit();
+            connection.setAutoCommit(autoCommit);
+
+            for (int aborts = 0;; aborts++) {
+                try {
+                    operation.execute(connection, random);
+                    if (!autoCommit) {
+                        connection.commit();
+                    }
+                    return aborts;
+                } catch (SQLTransactionRollbackException e) {
+                    if (!autoCommit) {
+                        rollback(connection, e);
+                    }
+                    if (aborts >= config.getMaxRetry()) {
+                        throw e;
+                    }
+                } catch (SQLException e) {
+                    if (!autoCommit) {
+                        rollback(connection, e);
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void rollback(Connection connection, SQLException cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private synchronized void logError(WorkloadOperation operation, SQLException e) {
+        if (errorLogCount < MAX_ERROR_LOG) {
+            errorLogCount++;
+            LOG.warn("operation error. operation={}", operation.getName(), e);
+        }
+    }
+}
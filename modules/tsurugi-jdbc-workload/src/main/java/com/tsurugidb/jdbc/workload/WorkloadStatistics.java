@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Tsurugi JDBC workload statistics.
+ * <p>
+ * Each worker thread has its own instance, and they are merged after the run.
+ * </p>
+ */
+public class WorkloadStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Statistics of an operation.
+     */
+    public static class Entry {
+        private final Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+        private long count = 0;
+        private long aborts = 0;
+        private long errors = 0;
+
+        /**
+         * Get latency histogram.
+         *
+         * @return latency histogram [microseconds]
+         */
+        public Histogram getLatency() {
+            return this.latency;
+        }
+
+        /**
+         * Get number of succeeded operations.
+         *
+         * @return count
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Get number of serialization failures (retried).
+         *
+         * @return count
+         */
+        public long getAborts() {
+            return this.aborts;
+        }
+
+        /**
+         * Get number of failed operations.
+         *
+         * @return count
+         */
+        public long getErrors() {
+            return this.errors;
+        }
+
+        void add(Entry other) {
+            latency.add(other.latency);
+            this.count += other.count;
+            this.aborts += other.aborts;
+            this.errors += other.errors;
+        }
+    }
+
+    private final Map<String, Entry> entryMap = new LinkedHashMap<>();
+
+    private Entry entry(String name) {
+        return entryMap.computeIfAbsent(name, k -> new Entry());
+    }
+
+    /**
+     * Record succeeded operation.
+     *
+     * @param name          operation name
+     * @param latencyMicros latency [microseconds]
+     */
+    public void recordSuccess(String name, long latencyMicros) {
+        var entry = entry(name);
+        entry.latency.recordValue(latencyMicros);
+        entry.count++;
+    }
+
+    /**
+     * Record serialization failure.
+     *
+     * @param name operation name
+     */
+    public void recordAbort(String name) {
+        entry(name).aborts++;
+    }
+
+    /**
+     * Record failed operation.
+     *
+     * @param name operation name
+     */
+    public void recordError(String name) {
+        entry(name).errors++;
+    }
+
+    /**
+     * Merge statistics.
+     *
+     * @param other statistics
+     */
+    public void add(WorkloadStatistics other) {
+        for (var e : other.entryMap.entrySet()) {
+            entry(e.getKey()).add(e.getValue());
+        }
+    }
+
+    /**
+     * Get statistics of each operation.
+     *
+     * @return operation name to statistics
+     */
+    public Map<String, Entry> getEntries() {
+        return this.entryMap;
+    }
+
+    /**
+     * Get statistics of all operations.
+     *
+     * @return statistics
+     */
+    public Entry getTotal() {
+        var total = new Entry();
+        for (var entry : entryMap.values()) {
+            total.add(entry);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.workload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
+
+/**
+ * YCSB-style key-value workload.
+ * <ul>
+ * <li>read - point select (RTX)</li>
+ * <li>update - point update (OCC)</li>
+ * <li>scan - range select (RTX)</li>
+ * <li>insert_batch - upsert by executeBatch (OCC)</li>
+ * <li>read_modify_write - select and update (OCC)</li>
+ * <li>ltx_update - multiple updates (LTX)</li>
+ * <li>lob_write - upsert LOB (OCC)</li>
+ * <li>lob_read - select LOB (RTX)</li>
+ * </ul>
+ * <p>
+ * The fake SQL service does not support LOB, so VARBINARY is used instead of BLOB for it.
+ * </p>
+ */
+public class YcsbWorkload extends Workload {
+
+    /** workload name. */
+    public static final String NAME = "ycsb";
+
+    private static final String TABLE = "usertable";
+    private static final String LOB_TABLE = "usertable_lob";
+    private static final int FIELD_LENGTH = 100;
+    private static final int SCAN_LENGTH = 10;
+    private static final int LTX_UPDATE_SIZE = 10;
+    private static final int LOAD_COMMIT_SIZE = 1000;
+
+    private final int records;
+    private final int lobRecords;
+    private final boolean useBlob;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param config configuration
+     */
+    public YcsbWorkload(WorkloadConfig config) {
+        super(config);
+        this.records = config.getRecords();
+        this.lobRecords = Math.max(records / 100, 10);
+        this.useBlob = !config.isFakeEndpoint();
+
+        var occ = TsurugiJdbcTransactionType.OCC;
+        var ltx = TsurugiJdbcTransactionType.LTX;
+        var rtx = TsurugiJdbcTransactionType.RTX;
+        addOperation("read", 50, rtx, List.of(), true, this::read);
+        addOperation("update", 25, occ, List.of(), true, this::update);
+        addOperation("scan", 5, rtx, List.of(), true, this::scan);
+        addOperation("insert_batch", 5, occ, List.of(), false, this::insertBatch);
+        addOperation("read_modify_write", 8, occ, List.of(), false, this::readModifyWrite);
+        addOperation("ltx_update", 3, ltx, List.of(TABLE), false, this::ltxUpdate);
+        addOperation("lob_write", 2, occ, List.of(), true, this::lobWrite);
+        addOperation("lob_read", 2, rtx, List.of(), true, this::lobRead);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void load(Connection connection) throws SQLException {
+        dropTable(connection, TABLE);
+        dropTable(connection, LOB_TABLE);
+        executeDdl(connection, "create table " + TABLE + " (ycsb_key bigint primary key, field0 varchar(" + FIELD_LENGTH + "), field1 varchar(" + FIELD_LENGTH + "), field2 varchar("
+                + FIELD_LENGTH + "))");
+        String lobType = useBlob ? "blob" : "varbinary(" + config.getLobSize() + ")";
+        executeDdl(connection, "create table " + LOB_TABLE + " (lob_key bigint primary key, content " + lobType + ")");
+
+        var random = new Random(0);
+        connection.setAutoCommit(false);
+        try (var ps = connection.prepareStatement("insert into " + TABLE + " values(?, ?, ?, ?)")) {
+            for (int i = 0; i < records; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, randomString(random, FIELD_LENGTH));
+                ps.setString(3, randomString(random, FIELD_LENGTH));
+                ps.setString(4, randomString(random, FIELD_LENGTH));
+                ps.addBatch();
+                if ((i + 1) % LOAD_COMMIT_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+        try (var ps = connection.prepareStatement("insert into " + LOB_TABLE + " values(?, ?)")) {
+            for (int i = 0; i < lobRecords; i++) {
+                ps.setLong(1, i);
+                setLob(ps, 2, random);
+                ps.executeUpdate();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private long randomKey(Random random) {
+        return random.nextInt(records);
+    }
+
+    private void read(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("select field0, field1, field2 from " + TABLE + " where ycsb_key = ?")) {
+            ps.setLong(1, randomKey(random));
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getString(1);
+                    rs.getString(2);
+                    rs.getString(3);
+                }
+            }
+        }
+    }
+
+    private void update(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("update " + TABLE + " set field0 = ? where ycsb_key = ?")) {
+            ps.setString(1, randomString(random, FIELD_LENGTH));
+            ps.setLong(2, randomKey(random));
+            ps.executeUpdate();
+        }
+    }
+
+    private void scan(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("select ycsb_key, field0 from " + TABLE + " where ycsb_key >= ? and ycsb_key < ?")) {
+            long start = randomKey(random);
+            ps.setLong(1, start);
+            ps.setLong(2, start + SCAN_LENGTH);
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                    rs.getString(2);
+                }
+            }
+        }
+    }
+
+    private void insertBatch(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("insert or replace into " + TABLE + " values(?, ?, ?, ?)")) {
+            long start = randomKey(random);
+            for (int i = 0; i < config.getBatchSize(); i++) {
+                ps.setLong(1, (start + i) % records);
+                ps.setString(2, randomString(random, FIELD_LENGTH));
+                ps.setString(3, randomString(random, FIELD_LENGTH));
+                ps.setString(4, randomString(random, FIELD_LENGTH));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void readModifyWrite(Connection connection, Random random) throws SQLException {
+        long key = randomKey(random);
+        String value = null;
+        try (var ps = connection.prepareStatement("select field1 from " + TABLE + " where ycsb_key = ?")) {
+            ps.setLong(1, key);
+            try (var rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    value = rs.getString(1);
+                }
+            }
+        }
+        if (value == null) {
+            return;
+        }
+        try (var ps = connection.prepareStatement("update " + TABLE + " set field1 = ? where ycsb_key = ?")) {
+            ps.setString(1, value.substring(1) + value.charAt(0));
+            ps.setLong(2, key);
+            ps.executeUpdate();
+        }
+    }
+
+    private void ltxUpdate(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("update " + TABLE + " set field2 = ? where ycsb_key = ?")) {
+            for (int i = 0; i < LTX_UPDATE_SIZE; i++) {
+                ps.setString(1, randomString(random, FIELD_LENGTH));
+                ps.setLong(2, randomKey(random));
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    private void lobWrite(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("insert or replace into " + LOB_TABLE + " values(?, ?)")) {
+            ps.setLong(1, random.nextInt(lobRecords));
+            setLob(ps, 2, random);
+            ps.executeUpdate();
+        }
+    }
+
+    private void setLob(PreparedStatement ps, int index, Random random) throws SQLException {
+        var data = new byte[config.getLobSize()];
+        random.nextBytes(data);
+        if (useBlob) {
+            ps.setBlob(index, new ByteArrayInputStream(data), data.length);
+        } else {
+            ps.setBytes(index, data);
+        }
+    }
+
+    private void lobRead(Connection connection, Random random) throws SQLException {
+        try (var ps = connection.prepareStatement("select content from " + LOB_TABLE + " where lob_key = ?")) {
+            ps.setLong(1, random.nextInt(lobRecords));
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (useBlob) {
+                        var blob = rs.getBlob(1);
+                        try (InputStream is = blob.getBinaryStream()) {
+                            is.readAllBytes();
+                        } catch (IOException e) {
+                            throw new SQLException("BLOB read error", e);
+                        } finally {
+                            blob.free();
+                        }
+                    } else {
+                        rs.getBytes(1);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.alloc;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocated bytes meter of the current thread.
+ */
+public final class AllocationMeter {
+
+    /**
+     * Measured task.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Run the task.
+         *
+         * @throws Exception if an error occurs
+         */
+        void run() throws Exception;
+    }
+
+    private static final int WARMUP = 20;
+    private static final int ROUNDS = 10;
+
+    /**
+     * Get ThreadMXBean which supports allocated bytes measurement. The test is skipped if not supported.
+     *
+     * @return ThreadMXBean
+     */
+    static com.sun.management.ThreadMXBean threadBean() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "com.sun.management.ThreadMXBean not available");
+        var sunBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sunBean.isThreadAllocatedMemorySupported(), "thread allocated memory measurement not supported");
+        if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return sunBean;
+    }
+
+    /**
+     * Measure allocated bytes of the task.
+     * <p>
+     * The task is run {@value #WARMUP} times for JIT warmup, and the minimum of {@value #ROUNDS} rounds is returned to exclude the noise such as class loading.
+     * </p>
+     *
+     * @param task task
+     * @return allocated bytes
+     * @throws Exception if an error occurs in the task
+     */
+    public static long measure(Task task) throws Exception {
+        var bean = threadBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long overhead = Long.MAX_VALUE;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = bean.getThreadAllocatedBytes(threadId);
+            long end = bean.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, end - start);
+
+            start = bean.getThreadAllocatedBytes(threadId);
+            task.run();
+            end = bean.getThreadAllocatedBytes(threadId);
+            min = Math.min(min, end - start);
+        }
+        return Math.max(min - overhead, 0);
+    }
+
+    private AllocationMeter() {
+        // do nothing
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.alloc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tsurugidb.jdbc.TsurugiConfig;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.mock.LowSessionTestMock;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * Allocation test support.
+ */
+public final class AllocationTestSupport {
+
+    /**
+     * Create connection to mock session.
+     *
+     * @param sqlClient mock SQL client
+     * @return connection
+     */
+    public static TsurugiJdbcConnection createConnection(LowSqlClientTestMock sqlClient) {
+        var factory = new TsurugiJdbcFactory() {
+            @Override
+            public SqlClient createLowSqlClient(Session lowSession) {
+                return sqlClient;
+            }
+        };
+        var config = TsurugiJdbcConnectionConfig.of(new TsurugiConfig());
+        return factory.createConnection(new LowSessionTestMock(), config);
+    }
+
+    /**
+     * Create columns.
+     *
+     * @param columns column name and type pairs
+     * @return columns
+     */
+    public static List<SqlCommon.Column> columns(Object... columns) {
+        var list = new ArrayList<SqlCommon.Column>(columns.length / 2);
+        for (int i = 0; i < columns.length; i += 2) {
+            list.add(SqlCommon.Column.newBuilder().setName((String) columns[i]).setAtomType((AtomType) columns[i + 1]).build());
+        }
+        return list;
+    }
+
+    /**
+     * Format bytes per unit for assertion messages.
+     *
+     * @param bytes  allocated bytes
+     * @param count  number of units
+     * @param budget budget per unit
+     * @return message
+     */
+    public static String message(long bytes, int count, long budget) {
+        return String.format("allocated %d bytes / %d = %.1f bytes, budget=%d bytes", bytes, count, (double) bytes / count, budget);
+    }
+
+    private AllocationTestSupport() {
+        // do nothing
+    }
+}
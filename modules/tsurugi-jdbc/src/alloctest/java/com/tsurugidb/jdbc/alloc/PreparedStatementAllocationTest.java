@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.alloc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+
+class PreparedStatementAllocationTest {
+
+    private static final int EXECUTE_SIZE = 1_000;
+    private static final int BIND_SIZE = 10_000;
+
+    /** budget of setLong()+setString()+executeUpdate() per execution (auto commit) [bytes]. */
+    private static final long EXECUTE_BUDGET = 16 * 1024;
+    /** budget of setXxx() per parameter [bytes]. */
+    private static final long BIND_BUDGET = 512;
+
+    private TsurugiJdbcConnection connection;
+    private TsurugiJdbcPreparedStatement ps;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.connection = AllocationTestSupport.createConnection(new LowSqlClientTestMock());
+        this.ps = connection.prepareStatement("insert into test values(?, ?)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (connection; ps) {
+            // close
+        }
+    }
+
+    @Test
+    void perExecute() throws Exception {
+        long bytes = AllocationMeter.measure(() -> {
+            for (int i = 0; i < EXECUTE_SIZE; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "value");
+                ps.executeUpdate();
+            }
+        });
+        assertTrue(bytes / EXECUTE_SIZE <= EXECUTE_BUDGET, AllocationTestSupport.message(bytes, EXECUTE_SIZE, EXECUTE_BUDGET));
+    }
+
+    @Test
+    void perBind() throws Exception {
+        long bytes = AllocationMeter.measure(() -> {
+            for (int i = 0; i < BIND_SIZE; i += 2) {
+                ps.setLong(1, i);
+                ps.setString(2, "value");
+            }
+        });
+        assertTrue(bytes / BIND_SIZE <= BIND_BUDGET, AllocationTestSupport.message(bytes, BIND_SIZE, BIND_BUDGET));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.alloc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+
+class ResultSetAllocationTest {
+
+    private static final int ROW_SIZE = 10_000;
+
+    /** budget of next()+getLong()+getString() per row [bytes]. */
+    private static final long ROW_BUDGET = 128;
+    /** budget of executeQuery()+close() per query [bytes]. */
+    private static final long QUERY_BUDGET = 32 * 1024;
+
+    private TsurugiJdbcConnection connection;
+    private TsurugiJdbcConnection connection2;
+    private TsurugiJdbcConnection emptyConnection;
+
+    @BeforeEach
+    void setUp() {
+        var columns = AllocationTestSupport.columns("foo", AtomType.INT8, "bar", AtomType.CHARACTER);
+        var rows = new Object[ROW_SIZE * 2][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] { (long) i * 1000, "value" + i };
+        }
+        var halfRows = new Object[ROW_SIZE][];
+        System.arraycopy(rows, 0, halfRows, 0, ROW_SIZE);
+
+        this.connection = AllocationTestSupport.createConnection(new LowSqlClientTestMock(columns, halfRows));
+        this.connection2 = AllocationTestSupport.createConnection(new LowSqlClientTestMock(columns, rows));
+        this.emptyConnection = AllocationTestSupport.createConnection(new LowSqlClientTestMock(columns, new Object[0][]));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (connection; connection2; emptyConnection) {
+            // close
+        }
+    }
+
+    private static long selectAll(TsurugiJdbcConnection connection) throws Exception {
+        long sum = 0;
+        try (var statement = connection.createStatement(); var rs = statement.executeQuery("select foo, bar from test")) {
+            while (rs.next()) {
+                sum += rs.getLong(1);
+                sum += rs.getString(2).length();
+            }
+        }
+        return sum;
+    }
+
+    @Test
+    void perRow() throws Exception {
+        // the difference excludes the fixed cost of executeQuery()
+        long bytes = AllocationMeter.measure(() -> selectAll(connection));
+        long bytes2 = AllocationMeter.measure(() -> selectAll(connection2));
+        long perRow = (bytes2 - bytes) / ROW_SIZE;
+        assertTrue(perRow <= ROW_BUDGET, AllocationTestSupport.message(bytes2 - bytes, ROW_SIZE, ROW_BUDGET));
+    }
+
+    @Test
+    void perQuery() throws Exception {
+        long bytes = AllocationMeter.measure(() -> selectAll(emptyConnection));
+        assertTrue(bytes <= QUERY_BUDGET, AllocationTestSupport.message(bytes, 1, QUERY_BUDGET));
+    }
+}
@@ -100,6 +100,24 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
      * @since 0.5.0
      */
     public static final String BLOB_RELAY_SERVICE_ENDPOINT = "blobRelayServiceEndpoint";
+    /**
+     * number of pooled large object temporary files per connection (PRIVILEGED mode)
+     *
+     * @since 0.5.0
+     */
+    public static final String LOB_TMP_FILE_POOL_SIZE = "lobTmpFilePoolSize";
+    /**
+     * metadata cache time to live [seconds]. If 0, DatabaseMetaData does not cache table metadata.
+     *
+     * @since 0.5.0
+     */
+    public static final String METADATA_CACHE_TTL = "metadataCacheTtl";
+    /**
+     * number of table metadata requests in flight in DatabaseMetaData
+     *
+     * @since 0.5.0
+     */
+    public static final String METADATA_QUEUE_SIZE = "metadataQueueSize";
     /** SessionOption: session keep alive (default - {@code true}) */
     public static final String KEEP_ALIVE = "keepAlive";
     /** session connect timeout [seconds] */
@@ -108,6 +126,12 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
     public static final String SHUTDOWN_TYPE = "shutdownType";
     /** session shutdown timeout [seconds] */
     public static final String SHUTDOWN_TIMEOUT = "shutdownTimeout";
+    /**
+     * execution listener class names (comma separate). Each class must have a public no-argument constructor.
+     *
+     * @since 0.5.0
+     */
+    public static final String EXECUTION_LISTENER = "executionListener";
 
     // Transaction
     /** TransactionOption: transaction type (default - {@code OCC}) */
@@ -124,6 +148,24 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
     public static final String EXCLUSIVE_READ_AREA = "exclusiveReadArea";
     /** TransactionOption: RTX scan parallel */
     public static final String SCAN_PARALLEL = "scanParallel";
+    /**
+     * adaptive LTX escalation: OCC abort rate threshold [%] (default - {@code 0}: disabled)
+     *
+     * @since 0.5.0
+     */
+    public static final String ADAPTIVE_LTX_THRESHOLD = "adaptiveLtxThreshold";
+    /**
+     * execute auto-commit queries in RTX (default - {@code false})
+     *
+     * @since 0.5.0
+     */
+    public static final String READ_ONLY_ROUTING = "readOnlyRouting";
+    /**
+     * adaptive RTX scan parallel: total scan parallel budget of the endpoint (default - {@code 0}: disabled)
+     *
+     * @since 0.5.0
+     */
+    public static final String ADAPTIVE_SCAN_PARALLEL = "adaptiveScanParallel";
     /** auto commit (default - {@code true}) */
     public static final String AUTO_COMMIT = "autoCommit";
     /** CommitOption: commit type (default - {@code DEFAULT}) */
@@ -148,6 +190,24 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
      * @since 0.5.0
      */
     public static final String LOB_UPLOAD_TIMEOUT = "lobUploadTimeout";
+    /**
+     * max number of SQL fingerprints in the statement statistics. If 0, the statistics are disabled (default - {@code 0})
+     *
+     * @since 0.5.0
+     */
+    public static final String STATEMENT_STATISTICS_SIZE = "statementStatisticsSize";
+    /**
+     * slow statement log threshold [milliseconds]. If 0, the log is disabled (default - {@code 0})
+     *
+     * @since 0.5.0
+     */
+    public static final String SLOW_STATEMENT_THRESHOLD = "slowStatementThreshold";
+    /**
+     * whether to log the execution plan of slow statements (default - {@code false})
+     *
+     * @since 0.5.0
+     */
+    public static final String SLOW_STATEMENT_EXPLAIN = "slowStatementExplain";
 
     // ResultSet
     /** SELECT timeout [seconds] */
@@ -158,6 +218,12 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
      * @since 0.5.0
      */
     public static final String LOB_DOWNLOAD_TIMEOUT = "lobDownloadTimeout";
+    /**
+     * large object inline fetch threshold [bytes]. If 0, large objects are not fetched inline.
+     *
+     * @since 0.5.0
+     */
+    public static final String LOB_INLINE_THRESHOLD = "lobInlineThreshold";
 
     // Common
     /** default timeout [seconds] */
@@ -176,11 +242,15 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
     private final TsurugiJdbcPropertyStringList lobPathMappingOnSend = new TsurugiJdbcPropertyStringList(LOB_PATH_MAPPING_ON_SEND).description("large object path mapping on send");
     private final TsurugiJdbcPropertyStringList lobPathMappingOnReceive = new TsurugiJdbcPropertyStringList(LOB_PATH_MAPPING_ON_RECEIVE).description("large object path mapping on receive");
     private final TsurugiJdbcPropertyUri blobRelayServiceEndpoint = new TsurugiJdbcPropertyUri(BLOB_RELAY_SERVICE_ENDPOINT).description("blob relay service endpoint");
+    private final TsurugiJdbcPropertyInt lobTmpFilePoolSize = new TsurugiJdbcPropertyInt(LOB_TMP_FILE_POOL_SIZE).defaultValue(16).description("large object temporary file pool size");
+    private final TsurugiJdbcPropertyInt metadataCacheTtl = new TsurugiJdbcPropertyInt(METADATA_CACHE_TTL).defaultValue(0).description("metadata cache time to live [seconds]");
+    private final TsurugiJdbcPropertyInt metadataQueueSize = new TsurugiJdbcPropertyInt(METADATA_QUEUE_SIZE).defaultValue(16).description("DatabaseMetaData table metadata queue size");
     private final TsurugiJdbcPropertyBoolean keepAlive = new TsurugiJdbcPropertyBoolean(KEEP_ALIVE).defaultValue(true).description("session keep alive");
     private final TsurugiJdbcPropertyInt connectTimeout = new TsurugiJdbcPropertyInt(CONNECT_TIMEOUT).description("connect timeout [seconds]").defaultValue(() -> DriverManager.getLoginTimeout());
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcShutdownType> shutdownType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcShutdownType.class, SHUTDOWN_TYPE)
             .defaultValue(TsurugiJdbcShutdownType.GRACEFUL).description("session shutdown type");
     private final TsurugiJdbcPropertyInt shutdownTimeout = new TsurugiJdbcPropertyInt(SHUTDOWN_TIMEOUT).description("session shutdown timeout [seconds]");
+    private final TsurugiJdbcPropertyStringList executionListener = new TsurugiJdbcPropertyStringList(EXECUTION_LISTENER).description("execution listener class names (comma separate)");
 
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcTransactionType> transactionType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcTransactionType.class, TRANSACTION_TYPE)
             .defaultValue(TsurugiJdbcTransactionType.OCC).description("transaction type");
@@ -190,6 +260,9 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
     private final TsurugiJdbcPropertyStringList inclusiveReadArea = new TsurugiJdbcPropertyStringList(INCLUSIVE_READ_AREA).description("LTX inclusive read area table names (comma separate)");
     private final TsurugiJdbcPropertyStringList exclusiveReadArea = new TsurugiJdbcPropertyStringList(EXCLUSIVE_READ_AREA).description("LTX exclusive read area table names (comma separate)");
     private final TsurugiJdbcPropertyInt scanParallel = new TsurugiJdbcPropertyInt(SCAN_PARALLEL).description("RTX scan parallel");
+    private final TsurugiJdbcPropertyInt adaptiveLtxThreshold = new TsurugiJdbcPropertyInt(ADAPTIVE_LTX_THRESHOLD).defaultValue(0).description("adaptive LTX escalation OCC abort rate threshold [%]");
+    private final TsurugiJdbcPropertyBoolean readOnlyRouting = new TsurugiJdbcPropertyBoolean(READ_ONLY_ROUTING).defaultValue(false).description("execute auto-commit queries in RTX");
+    private final TsurugiJdbcPropertyInt adaptiveScanParallel = new TsurugiJdbcPropertyInt(ADAPTIVE_SCAN_PARALLEL).defaultValue(0).description("adaptive RTX scan parallel budget");
     private final TsurugiJdbcPropertyBoolean autoCommit = new TsurugiJdbcPropertyBoolean(AUTO_COMMIT).defaultValue(true).description("auto commit");
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcCommitType> commitType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcCommitType.class, COMMIT_TYPE).defaultValue(TsurugiJdbcCommitType.DEFAULT)
             .description("commit type");
@@ -201,22 +274,29 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
     private final TsurugiJdbcPropertyInt lobUploadTimeout = new TsurugiJdbcPropertyInt(LOB_UPLOAD_TIMEOUT).description("large object upload timeout [seconds]");
     private final TsurugiJdbcPropertyInt executeTimeout = new TsurugiJdbcPropertyInt(EXECUTE_TIMEOUT).description("transaction execute timeout [seconds]");
     private final TsurugiJdbcPropertyInt batchQueueSize = new TsurugiJdbcPropertyInt(BATCH_QUEUE_SIZE).defaultValue(-1).description("executeBatch queue size");
+    private final TsurugiJdbcPropertyInt statementStatisticsSize = new TsurugiJdbcPropertyInt(STATEMENT_STATISTICS_SIZE).defaultValue(0)
+            .description("max number of SQL fingerprints in the statement statistics");
+    private final TsurugiJdbcPropertyInt slowStatementThreshold = new TsurugiJdbcPropertyInt(SLOW_STATEMENT_THRESHOLD).defaultValue(0)
+            .description("slow statement log threshold [milliseconds]");
+    private final TsurugiJdbcPropertyBoolean slowStatementExplain = new TsurugiJdbcPropertyBoolean(SLOW_STATEMENT_EXPLAIN).defaultValue(false)
+            .description("log execution plan of slow statements");
 
     private final TsurugiJdbcPropertyInt queryTimeout = new TsurugiJdbcPropertyInt(QUERY_TIMEOUT).description("SELECT timeout [seconds]");
     private final TsurugiJdbcPropertyInt lobDownloadTimeout = new TsurugiJdbcPropertyInt(LOB_DOWNLOAD_TIMEOUT).description("large object download timeout [seconds]");
+    private final TsurugiJdbcPropertyInt lobInlineThreshold = new TsurugiJdbcPropertyInt(LOB_INLINE_THRESHOLD).defaultValue(0).description("large object inline fetch threshold [bytes]");
 
     private final TsurugiJdbcPropertyInt defaultTimeout = new TsurugiJdbcPropertyInt(DEFAULT_TIMEOUT).description("default timeout [seconds]").defaultValue(0);
 
     private final TsurugiJdbcProperties properties = TsurugiJdbcProperties.of(//
             user, password, authToken, credentials, //
             applicationName, sessionLabel, keepAlive, connectTimeout, //
-            lobTransferType, lobPathMappingOnSend, lobPathMappingOnReceive, blobRelayServiceEndpoint, //
-            shutdownType, shutdownTimeout, //
-            transactionType, transactionLabel, includeDdl, writePreserve, inclusiveReadArea, exclusiveReadArea, scanParallel, //
+            lobTransferType, lobPathMappingOnSend, lobPathMappingOnReceive, blobRelayServiceEndpoint, lobTmpFilePoolSize, //
+            metadataCacheTtl, metadataQueueSize, shutdownType, shutdownTimeout, executionListener, //
+            transactionType, transactionLabel, includeDdl, writePreserve, inclusiveReadArea, exclusiveReadArea, scanParallel, adaptiveLtxThreshold, readOnlyRouting, adaptiveScanParallel, //
             autoCommit, commitType, autoDispose, //
             beginTimeout, commitTimeout, rollbackTimeout, //
-            lobUploadTimeout, executeTimeout, batchQueueSize, //
-            queryTimeout, lobDownloadTimeout, //
+            lobUploadTimeout, executeTimeout, batchQueueSize, statementStatisticsSize, slowStatementThreshold, slowStatementExplain, //
+            queryTimeout, lobDownloadTimeout, lobInlineThreshold, //
             defaultTimeout);
 
     /**
@@ -527,6 +607,66 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
         return blobRelayServiceEndpoint.value();
     }
 
+    /**
+     * Set large object temporary file pool size.
+     *
+     * @param size number of pooled files per connection
+     * @since 0.5.0
+     */
+    public void setLobTmpFilePoolSize(int size) {
+        this.lobTmpFilePoolSize.setValue(size);
+    }
+
+    /**
+     * Get large object temporary file pool size.
+     *
+     * @return number of pooled files per connection
+     * @since 0.5.0
+     */
+    public OptionalInt getLobTmpFilePoolSize() {
+        return lobTmpFilePoolSize.value();
+    }
+
+    /**
+     * Set metadata cache time to live.
+     *
+     * @param ttl time to live [seconds]
+     * @since 0.5.0
+     */
+    public void setMetadataCacheTtl(int ttl) {
+        this.metadataCacheTtl.setValue(ttl);
+    }
+
+    /**
+     * Get metadata cache time to live.
+     *
+     * @return time to live [seconds]
+     * @since 0.5.0
+     */
+    public OptionalInt getMetadataCacheTtl() {
+        return metadataCacheTtl.value();
+    }
+
+    /**
+     * Set number of table metadata requests in flight in DatabaseMetaData.
+     *
+     * @param size queue size
+     * @since 0.5.0
+     */
+    public void setMetadataQueueSize(int size) {
+        this.metadataQueueSize.setValue(size);
+    }
+
+    /**
+     * Get number of table metadata requests in flight in DatabaseMetaData.
+     *
+     * @return queue size
+     * @since 0.5.0
+     */
+    public OptionalInt getMetadataQueueSize() {
+        return metadataQueueSize.value();
+    }
+
     /**
      * Set session keep alive.
      *
@@ -599,6 +739,26 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
         return shutdownTimeout.value();
     }
 
+    /**
+     * Set execution listener class names.
+     *
+     * @param classNames class names
+     * @since 0.5.0
+     */
+    public void setExecutionListener(List<String> classNames) {
+        this.executionListener.setValue(classNames);
+    }
+
+    /**
+     * Get execution listener class names.
+     *
+     * @return class names
+     * @since 0.5.0
+     */
+    public List<String> getExecutionListener() {
+        return executionListener.value();
+    }
+
     // Transaction
 
     /**
@@ -727,6 +887,66 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
         return scanParallel.value();
     }
 
+    /**
+     * Set adaptive LTX escalation threshold.
+     *
+     * @param threshold OCC abort rate threshold [%]. If 0, adaptive escalation is disabled
+     * @since 0.5.0
+     */
+    public void setAdaptiveLtxThreshold(int threshold) {
+        this.adaptiveLtxThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get adaptive LTX escalation threshold.
+     *
+     * @return OCC abort rate threshold [%]
+     * @since 0.5.0
+     */
+    public OptionalInt getAdaptiveLtxThreshold() {
+        return adaptiveLtxThreshold.value();
+    }
+
+    /**
+     * Set whether to execute auto-commit queries in RTX.
+     *
+     * @param routing {@code true} to execute in RTX
+     * @since 0.5.0
+     */
+    public void setReadOnlyRouting(boolean routing) {
+        this.readOnlyRouting.setValue(routing);
+    }
+
+    /**
+     * Get whether to execute auto-commit queries in RTX.
+     *
+     * @return {@code true} if execute in RTX
+     * @since 0.5.0
+     */
+    public boolean getReadOnlyRouting() {
+        return readOnlyRouting.value();
+    }
+
+    /**
+     * Set adaptive RTX scan parallel budget.
+     *
+     * @param budget total scan parallel of the endpoint. If 0, adaptive scan parallel is disabled
+     * @since 0.5.0
+     */
+    public void setAdaptiveScanParallel(int budget) {
+        this.adaptiveScanParallel.setValue(budget);
+    }
+
+    /**
+     * Get adaptive RTX scan parallel budget.
+     *
+     * @return total scan parallel of the endpoint
+     * @since 0.5.0
+     */
+    public OptionalInt getAdaptiveScanParallel() {
+        return adaptiveScanParallel.value();
+    }
+
     /**
      * Set auto commit.
      *
@@ -873,6 +1093,66 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
         return executeTimeout.value();
     }
 
+    /**
+     * Set max number of SQL fingerprints in the statement statistics.
+     *
+     * @param size max number of fingerprints. If 0, the statistics are disabled
+     * @since 0.5.0
+     */
+    public void setStatementStatisticsSize(int size) {
+        this.statementStatisticsSize.setValue(size);
+    }
+
+    /**
+     * Get max number of SQL fingerprints in the statement statistics.
+     *
+     * @return max number of fingerprints
+     * @since 0.5.0
+     */
+    public OptionalInt getStatementStatisticsSize() {
+        return statementStatisticsSize.value();
+    }
+
+    /**
+     * Set slow statement log threshold.
+     *
+     * @param threshold threshold [milliseconds]. If 0, the log is disabled
+     * @since 0.5.0
+     */
+    public void setSlowStatementThreshold(int threshold) {
+        this.slowStatementThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get slow statement log threshold.
+     *
+     * @return threshold [milliseconds]
+     * @since 0.5.0
+     */
+    public OptionalInt getSlowStatementThreshold() {
+        return slowStatementThreshold.value();
+    }
+
+    /**
+     * Set whether to log the execution plan of slow statements.
+     *
+     * @param explain {@code true} to log the execution plan
+     * @since 0.5.0
+     */
+    public void setSlowStatementExplain(boolean explain) {
+        this.slowStatementExplain.setValue(explain);
+    }
+
+    /**
+     * Get whether to log the execution plan of slow statements.
+     *
+     * @return {@code true} if the execution plan is logged
+     * @since 0.5.0
+     */
+    public boolean getSlowStatementExplain() {
+        return slowStatementExplain.value();
+    }
+
     // ResultSet
 
     /**
@@ -913,6 +1193,26 @@ public class TsurugiConfig implements TsurugiJdbcCredentialSetter, TsurugiJdbcLo
         return lobDownloadTimeout.value();
     }
 
+    /**
+     * Set large object inline fetch threshold.
+     *
+     * @param threshold large object inline fetch threshold [bytes]
+     * @since 0.5.0
+     */
+    public void setLobInlineThreshold(int threshold) {
+        this.lobInlineThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get large object inline fetch threshold.
+     *
+     * @return large object inline fetch threshold [bytes]
+     * @since 0.5.0
+     */
+    public OptionalInt getLobInlineThreshold() {
+        return lobInlineThreshold.value();
+    }
+
     // Common
 
     /**
@@ -31,10 +31,12 @@ import javax.annotation.Nonnull;
 
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
 import com.tsurugidb.jdbc.driver.TsurugiJdbcLobPathMappingEntry;
+import com.tsurugidb.jdbc.driver.TsurugiJdbcSessionProvider;
 import com.tsurugidb.jdbc.driver.TsurugiJdbcUrlParser;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
 import com.tsurugidb.jdbc.factory.HasFactory;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
 import com.tsurugidb.jdbc.property.TsurugiJdbcProperty;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.common.BlobPathMapping;
@@ -67,12 +69,19 @@ public class TsurugiDriver implements Driver, HasFactory {
     static {
         try {
             INSTANCE = new TsurugiDriver();
-            DriverManager.registerDriver(INSTANCE);
+            DriverManager.registerDriver(INSTANCE, TsurugiDriver::deregistered);
         } catch (SQLException e) {
             throw new ExceptionInInitializerError(e);
         }
     }
 
+    /**
+     * Called when the driver is deregistered from DriverManager.
+     */
+    private static void deregistered() {
+        TsurugiJdbcMetrics.unregisterAll();
+    }
+
     /**
      * Get the singleton instance of TsurugiDriver.
      *
@@ -122,19 +131,60 @@ public class TsurugiDriver implements Driver, HasFactory {
      */
     public TsurugiJdbcConnection connect(@Nonnull TsurugiConfig config) throws SQLException {
         Objects.requireNonNull(config, "config is null");
+        Session session = createLowSession(config);
+
+        var connection = factory.createConnection(session, config);
+        try {
+            connection.setExecutionDispatcher(factory.createExecutionDispatcher(connection, config.getExecutionListener()));
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (Exception ce) {
+                e.addSuppressed(ce);
+            }
+            throw e;
+        }
+
+        connection.attachMetrics();
+        connection.getMetrics().recordConnect();
+
+        return connection;
+    }
+
+    /**
+     * Create low-level Session.
+     * <p>
+     * If a {@link TsurugiJdbcSessionProvider} accepts the endpoint, the session is created by the provider.
+     * </p>
+     *
+     * @param config configuration
+     * @return Session
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    protected Session createLowSession(TsurugiConfig config) throws SQLException {
+        String endpoint = config.getEndpoint();
+        for (var provider : getFactory().getSessionProviders()) {
+            if (provider.accepts(endpoint)) {
+                LOG.config(() -> String.format("endpoint=%s, sessionProvider=%s", endpoint, provider.getClass().getName()));
+                try {
+                    return provider.createSession(config);
+                } catch (Exception e) {
+                    throw getExceptionHandler().sqlException("Connect error", e);
+                }
+            }
+        }
+
         var builder = createLowSessionBuilder(config);
 
         int timeout = config.getConnectTimeout();
         LOG.config(() -> String.format("connectTimeout=%d [seconds]", timeout));
 
-        Session session;
         try {
-            session = builder.create(timeout, TimeUnit.SECONDS);
+            return builder.create(timeout, TimeUnit.SECONDS);
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("Connect error", e);
         }
-
-        return factory.createConnection(session, config);
     }
 
     /**
@@ -32,14 +32,18 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.annotation.Nullable;
@@ -49,19 +53,38 @@ import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcNotSupported;
 import com.tsurugidb.jdbc.exception.SQLRuntimeException;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.explain.TsurugiJdbcExplainResult;
 import com.tsurugidb.jdbc.factory.HasFactory;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.jfr.TsurugiJdbcTransactionEvent;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionDispatcher;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcSlowStatement;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcSlowStatementLog;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcStatementStatistics;
+import com.tsurugidb.jdbc.resultset.FixedResultSet;
+import com.tsurugidb.jdbc.resultset.FixedResultSetColumn;
 import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
 import com.tsurugidb.jdbc.statement.TsurugiJdbcStatement;
+import com.tsurugidb.jdbc.statement.type.TsurugiJdbcLobTmpFileManager;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcAdaptiveTransactionPolicy;
 import com.tsurugidb.jdbc.transaction.TsurugiJdbcCommitType;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcReadOnlyRouting;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcRetryPolicy;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcScanParallelPolicy;
 import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionAction;
 import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
 import com.tsurugidb.jdbc.util.LowCloser;
+import com.tsurugidb.jdbc.util.SqlTableAnalyzer;
+import com.tsurugidb.jdbc.util.TsurugiJdbcDeadline;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
 import com.tsurugidb.sql.proto.SqlRequest;
 import com.tsurugidb.tsubakuro.common.Session;
 import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
 import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
 
 /**
  * Tsurugi JDBC Connection.
@@ -78,6 +101,21 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
 
     private TsurugiJdbcTransaction transaction = null;
 
+    private TsurugiJdbcLobTmpFileManager lobTmpFileManager = null;
+
+    private TsurugiJdbcMetadataCache metadataCache = null;
+    private boolean ddlExecuted = false;
+
+    private TsurugiJdbcAdaptiveTransactionPolicy adaptiveTransactionPolicy = null;
+    private TsurugiJdbcAdaptiveTransactionPolicy.Tracker adaptiveTracker = null;
+    private TsurugiJdbcScanParallelPolicy scanParallelPolicy = null;
+    private TsurugiJdbcMetrics metrics = null;
+    private TsurugiJdbcMetrics attachedMetrics = null;
+    private TsurugiJdbcStatementStatistics statementStatistics = null;
+    private boolean statementStatisticsResolved = false;
+    private final TsurugiJdbcSlowStatementLog slowStatementLog;
+    private TsurugiJdbcExecutionDispatcher executionDispatcher = null;
+
     /**
      * Creates a new instance.
      *
@@ -87,12 +125,27 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
      */
     @TsurugiJdbcInternal
     public TsurugiJdbcConnection(TsurugiJdbcFactory factory, Session lowSession, TsurugiJdbcConnectionConfig config) {
+        this(factory, lowSession, SqlClient.attach(lowSession), config);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param factory      factory
+     * @param lowSession   low-level session
+     * @param lowSqlClient low-level SQL client
+     * @param config       connection configuration
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public TsurugiJdbcConnection(TsurugiJdbcFactory factory, Session lowSession, SqlClient lowSqlClient, TsurugiJdbcConnectionConfig config) {
         config.setAutoCommitEventHanlder(this::autoCommitChanged);
 
         this.factory = Objects.requireNonNull(factory, "factory is null");
         this.lowSession = Objects.requireNonNull(lowSession);
-        this.lowSqlClient = SqlClient.attach(lowSession);
+        this.lowSqlClient = Objects.requireNonNull(lowSqlClient);
         this.config = config;
+        this.slowStatementLog = factory.createSlowStatementLog(config);
     }
 
     @Override
@@ -114,6 +167,137 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
         return getFactory().getExceptionHandler();
     }
 
+    /**
+     * Get metrics.
+     *
+     * @return metrics shared by the endpoint
+     * @since 0.5.0
+     */
+    public TsurugiJdbcMetrics getMetrics() {
+        var metrics = this.metrics;
+        if (metrics == null) {
+            metrics = factory.getMetrics(config);
+            this.metrics = metrics;
+        }
+        return metrics;
+    }
+
+    /**
+     * Attach this connection to the metrics.
+     * <p>
+     * The metrics MXBean is registered while at least one attached connection is open. This connection is detached when closed.
+     * </p>
+     *
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public synchronized void attachMetrics() {
+        if (this.attachedMetrics != null) {
+            return;
+        }
+        var metrics = getMetrics();
+        metrics.attach();
+        this.attachedMetrics = metrics;
+    }
+
+    private synchronized void detachMetrics() {
+        var metrics = this.attachedMetrics;
+        if (metrics != null) {
+            this.attachedMetrics = null;
+            metrics.detach();
+        }
+    }
+
+    /**
+     * Get statement statistics.
+     *
+     * @return statement statistics shared by the endpoint. null if disabled (see {@link com.tsurugidb.jdbc.TsurugiConfig#STATEMENT_STATISTICS_SIZE})
+     * @since 0.5.0
+     */
+    public synchronized TsurugiJdbcStatementStatistics getStatementStatistics() {
+        if (!this.statementStatisticsResolved) {
+            this.statementStatistics = factory.getStatementStatistics(config);
+            this.statementStatisticsResolved = true;
+        }
+        return this.statementStatistics;
+    }
+
+    /**
+     * Set execution listener dispatcher.
+     *
+     * @param dispatcher dispatcher. null if no listener is registered
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void setExecutionDispatcher(TsurugiJdbcExecutionDispatcher dispatcher) {
+        this.executionDispatcher = dispatcher;
+    }
+
+    /**
+     * Get execution listener dispatcher.
+     *
+     * @return dispatcher. null if no listener is registered
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public TsurugiJdbcExecutionDispatcher getExecutionDispatcher() {
+        return this.executionDispatcher;
+    }
+
+    /**
+     * Get slow statement log.
+     *
+     * @return slow statement log. null if disabled (see {@link com.tsurugidb.jdbc.TsurugiConfig#SLOW_STATEMENT_THRESHOLD})
+     * @since 0.5.0
+     */
+    public TsurugiJdbcSlowStatementLog getSlowStatementLog() {
+        return this.slowStatementLog;
+    }
+
+    /**
+     * Get statement statistics as ResultSet.
+     * <p>
+     * The rows are ordered by total time (descending). Times are in milliseconds. If the statistics are disabled, the ResultSet is empty.
+     * </p>
+     *
+     * @return statement statistics
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public ResultSet getStatementStatisticsResultSet() throws SQLException {
+        var columns = List.of( //
+                FixedResultSetColumn.ofString("FINGERPRINT"), //
+                FixedResultSetColumn.ofLong("CALLS"), //
+                FixedResultSetColumn.ofDouble("TOTAL_TIME"), //
+                FixedResultSetColumn.ofDouble("MEAN_TIME"), //
+                FixedResultSetColumn.ofDouble("MAX_TIME"), //
+                FixedResultSetColumn.ofLong("ROWS"), //
+                FixedResultSetColumn.ofLong("ROWS_AFFECTED"), //
+                FixedResultSetColumn.ofLong("RETRIES"), //
+                FixedResultSetColumn.ofLong("ABORTS"));
+
+        var valuesList = new ArrayList<Object[]>();
+        var statistics = getStatementStatistics();
+        if (statistics != null) {
+            for (var entry : statistics.getEntries()) {
+                Object[] values = { //
+                        entry.getFingerprint(), // FINGERPRINT
+                        entry.getCalls(), // CALLS
+                        entry.getTotalMillis(), // TOTAL_TIME
+                        entry.getMeanMillis(), // MEAN_TIME
+                        entry.getMaxMillis(), // MAX_TIME
+                        entry.getRows(), // ROWS
+                        entry.getRowsAffected(), // ROWS_AFFECTED
+                        entry.getRetries(), // RETRIES
+                        entry.getAborts(), // ABORTS
+                };
+                valuesList.add(values);
+            }
+        }
+
+        return new FixedResultSet(this, columns, valuesList);
+    }
+
     /**
      * Get I/O utility.
      *
@@ -168,6 +352,189 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
         }
     }
 
+    /**
+     * Get large object temporary file manager.
+     *
+     * @return temporary file manager
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public synchronized TsurugiJdbcLobTmpFileManager getLobTmpFileManager() {
+        if (this.lobTmpFileManager == null) {
+            this.lobTmpFileManager = factory.createLobTmpFileManager(config);
+        }
+        return this.lobTmpFileManager;
+    }
+
+    /**
+     * Get metadata cache.
+     *
+     * @return metadata cache shared by the endpoint and the authenticated user
+     * @throws SQLException if an error occurs while getting the authenticated user
+     * @since 0.5.0
+     */
+    public synchronized TsurugiJdbcMetadataCache getMetadataCache() throws SQLException {
+        if (this.metadataCache == null) {
+            this.metadataCache = factory.getMetadataCache(config, getAuthenticatedUser());
+        }
+        return this.metadataCache;
+    }
+
+    private @Nullable String getAuthenticatedUser() throws SQLException {
+        int timeout = config.getDefaultTimeout();
+        try {
+            var io = getIoUtil();
+            Optional<String> userName = io.get(lowSession.getUserName(), timeout);
+            return userName.orElse("");
+        } catch (UnsupportedOperationException e) {
+            LOG.log(Level.FINE, "getUserName not supported", e);
+            return null;
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("getUserName error", e);
+        }
+    }
+
+    /**
+     * Notify that SQL has been executed.
+     * <p>
+     * If the SQL is DDL, the metadata cache is invalidated now and again when the transaction ends.
+     * </p>
+     *
+     * @param sql SQL
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void notifyExecuted(String sql) {
+        var tracker = this.adaptiveTracker;
+        if (tracker != null) {
+            tracker.recordSql(sql);
+        }
+
+        if (TsurugiJdbcMetadataCache.isDdl(sql)) {
+            synchronized (this) {
+                // in auto-commit mode, the transaction has already ended
+                this.ddlExecuted = !config.getAutoCommit();
+            }
+            factory.invalidateMetadataCache(config);
+        }
+    }
+
+    /**
+     * Notify that SQL has been executed, with its statistics.
+     *
+     * @param sql          SQL
+     * @param elapsedNanos elapsed time [nanoseconds]
+     * @param rowsAffected number of rows affected
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void notifyExecuted(String sql, long elapsedNanos, long rowsAffected) {
+        notifyExecuted(sql);
+
+        var statistics = getStatementStatistics();
+        if (statistics != null) {
+            statistics.recordUpdate(sql, elapsedNanos, rowsAffected);
+        }
+    }
+
+    /**
+     * Log the statement if it is slow.
+     * <p>
+     * The elapsed time of the statement is split into begin (only for the first statement of the transaction), execute, fetch and commit (only if auto-committed).
+     * </p>
+     *
+     * @param transaction  transaction
+     * @param sql          SQL
+     * @param lowPs        low-level prepared statement. null if not prepared
+     * @param parameters   parameters
+     * @param elapsedNanos elapsed time from execution to completion [nanoseconds]
+     * @param fetchNanos   fetch time [nanoseconds]
+     * @param rows         number of rows returned or affected
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void checkSlowStatement(TsurugiJdbcTransaction transaction, String sql, @Nullable com.tsurugidb.tsubakuro.sql.PreparedStatement lowPs,
+            @Nullable List<SqlRequest.Parameter> parameters, long elapsedNanos, long fetchNanos, long rows) {
+        var log = getSlowStatementLog();
+        if (log == null) {
+            return;
+        }
+
+        long beginNanos = transaction.takeBeginNanos();
+        if (!log.isSlow(beginNanos + elapsedNanos)) {
+            return;
+        }
+
+        long commitNanos = transaction.getCommitNanos();
+        long executeNanos = Math.max(0, elapsedNanos - fetchNanos - commitNanos);
+        var option = transaction.getLowTransactionOption();
+        String transactionType = (option != null) ? option.getType().name() : null;
+        var statement = new TsurugiJdbcSlowStatement(sql, TsurugiJdbcSlowStatement.summarizeParameters(parameters), transactionType, transaction.getTransactionLabel(), beginNanos,
+                executeNanos, fetchNanos, commitNanos, rows);
+
+        FutureResponse<StatementMetadata> explainFuture = null;
+        if (log.isExplain()) {
+            try {
+                if (lowPs != null) {
+                    explainFuture = lowSqlClient.explain(lowPs, (parameters != null) ? parameters : List.of());
+                } else {
+                    explainFuture = lowSqlClient.explain(sql);
+                }
+            } catch (Exception e) {
+                LOG.log(Level.CONFIG, "slow statement explain error", e);
+            }
+        }
+        log.log(statement, explainFuture, config.getDefaultTimeout());
+    }
+
+    /**
+     * Explain SQL.
+     *
+     * @param sql SQL
+     * @return execution plan
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public TsurugiJdbcExplainResult explain(String sql) throws SQLException {
+        try {
+            var io = getIoUtil();
+            var metadata = io.get(lowSqlClient.explain(sql), config.getDefaultTimeout());
+            return TsurugiJdbcExplainResult.of(this, metadata);
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("explain error", e);
+        }
+    }
+
+    /**
+     * Explain prepared statement.
+     *
+     * @param lowPs      low-level prepared statement
+     * @param parameters parameters
+     * @return execution plan
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public TsurugiJdbcExplainResult explain(com.tsurugidb.tsubakuro.sql.PreparedStatement lowPs, List<SqlRequest.Parameter> parameters) throws SQLException {
+        try {
+            var io = getIoUtil();
+            var metadata = io.get(lowSqlClient.explain(lowPs, parameters), config.getDefaultTimeout());
+            return TsurugiJdbcExplainResult.of(this, metadata);
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("explain error", e);
+        }
+    }
+
+    private void invalidateMetadataCacheIfDdlExecuted() {
+        synchronized (this) {
+            if (!this.ddlExecuted) {
+                return;
+            }
+            this.ddlExecuted = false;
+        }
+        factory.invalidateMetadataCache(config);
+    }
+
     @Override
     public TsurugiJdbcStatement createStatement() throws SQLException {
         return factory.createStatement(this, config);
@@ -317,6 +684,25 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
         return config.getExclusiveReadArea();
     }
 
+    /**
+     * Declare the statements executed in the following transactions, and use LTX.
+     * <p>
+     * The transaction type is set to LTX, and the write preserve and the inclusive read area are inferred from the tables written and read by the statements. The inferred
+     * tables can be obtained by {@link #getWritePreserve()} and {@link #getInclusiveReadArea()}. The settings take effect from the next transaction.
+     * </p>
+     *
+     * @param sqlList SQL statements
+     * @since 0.5.0
+     */
+    public void declareLtxStatements(List<String> sqlList) {
+        var analyzer = SqlTableAnalyzer.of(sqlList);
+        LOG.config(() -> String.format("declareLtxStatements. writePreserve=%s, inclusiveReadArea=%s", analyzer.getWriteTables(), analyzer.getReadTables()));
+
+        config.setTransactionType(TsurugiJdbcTransactionType.LTX);
+        config.setWritePreserve(analyzer.getWriteTables());
+        config.setInclusiveReadArea(analyzer.getReadTables());
+    }
+
     /**
      * Set RTX scan parallel.
      *
@@ -335,6 +721,30 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
         return config.getScanParallel();
     }
 
+    /**
+     * Set transaction deadline.
+     * <p>
+     * Every wait for the server in a transaction, from begin to commit, is bounded by the time remaining until the deadline. When the deadline passes, the request is cancelled
+     * and the transaction is rolled back. The setting takes effect from the next transaction.
+     * </p>
+     *
+     * @param deadline time from the beginning of a transaction to its end. If null, no deadline
+     * @since 0.5.0
+     */
+    public void setTransactionDeadline(@Nullable Duration deadline) {
+        config.setTransactionDeadline(deadline);
+    }
+
+    /**
+     * Get transaction deadline.
+     *
+     * @return time from the beginning of a transaction to its end. null if no deadline
+     * @since 0.5.0
+     */
+    public @Nullable Duration getTransactionDeadline() {
+        return config.getTransactionDeadline();
+    }
+
     /**
      * Get or create transaction.
      *
@@ -342,28 +752,119 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
      * @throws SQLException if a database access error occurs
      */
     @TsurugiJdbcInternal
-    public synchronized TsurugiJdbcTransaction getTransaction() throws SQLException {
+    public TsurugiJdbcTransaction getTransaction() throws SQLException {
+        return getTransaction(null);
+    }
+
+    /**
+     * Get or create transaction.
+     *
+     * @param sql SQL to be executed first in the transaction
+     * @return transaction
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public TsurugiJdbcTransaction getTransaction(@Nullable String sql) throws SQLException {
+        return getTransaction(sql, false);
+    }
+
+    /**
+     * Get or create transaction.
+     *
+     * @param sql   SQL to be executed first in the transaction
+     * @param query {@code true} if the SQL returns result records
+     * @return transaction
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public TsurugiJdbcTransaction getTransaction(@Nullable String sql, boolean query) throws SQLException {
+        return getTransaction(sql, query, OptionalInt.empty());
+    }
+
+    /**
+     * Get or create transaction.
+     *
+     * @param sql          SQL to be executed first in the transaction
+     * @param query        {@code true} if the SQL returns result records
+     * @param scanParallel RTX scan parallel of the statement
+     * @return transaction
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public synchronized TsurugiJdbcTransaction getTransaction(@Nullable String sql, boolean query, OptionalInt scanParallel) throws SQLException {
         var transaction = getCurrentTransaction();
         if (transaction != null) {
             return transaction;
         }
 
-        var option = getLowTransactionOption();
+        TsurugiJdbcAdaptiveTransactionPolicy.Tracker tracker;
+        SqlRequest.TransactionOption baseOption;
+        if (query && isReadOnlyRouting(sql)) {
+            tracker = null;
+            baseOption = config.getLowReadOnlyTransactionOption();
+        } else {
+            tracker = beginAdaptiveTracker(sql);
+            baseOption = getLowTransactionOption(tracker);
+        }
+
+        TsurugiJdbcScanParallelPolicy.Lease lease = null;
+        if (baseOption.getType() == TsurugiJdbcTransactionType.RTX.getLowTransactionType()) {
+            if (scanParallel.isPresent()) {
+                baseOption = baseOption.toBuilder().setScanParallel(scanParallel.getAsInt()).build();
+            } else {
+                lease = acquireScanParallel(sql);
+                if (lease != null) {
+                    baseOption = baseOption.toBuilder().setScanParallel(lease.getScanParallel()).build();
+                }
+            }
+        }
+        var option = baseOption;
         LOG.config(() -> String.format("transactionOption=%s", option));
 
         int timeout = config.getBeginTimeout();
         LOG.config(() -> String.format("beginTimeout=%d [seconds]", timeout));
 
+        var duration = config.getTransactionDeadline();
+        var deadline = (duration != null) ? TsurugiJdbcDeadline.after(duration) : null;
+
+        var metrics = getMetrics();
+        var event = new TsurugiJdbcTransactionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long beginNanos;
         Transaction lowTransaction;
         try {
             var io = getIoUtil();
-            lowTransaction = io.get(lowSqlClient.createTransaction(option), timeout);
+            lowTransaction = io.get(lowSqlClient.createTransaction(option), timeout, deadline);
+            beginNanos = System.nanoTime() - start;
+            metrics.recordSince(TsurugiJdbcMetrics.Operation.BEGIN, start);
+            event.finish("BEGIN", option, sql, true);
         } catch (Exception e) {
+            event.finish("BEGIN", option, sql, false);
+            if (lease != null) {
+                lease.release();
+            }
             throw getExceptionHandler().sqlException("Transaction create error", e);
         }
 
         transaction = factory.createTransaction(lowTransaction, getAutoCommit(), config);
+        transaction.setAdaptiveTracker(tracker);
+        if (lease != null) {
+            lease.start();
+        }
+        transaction.setScanParallelLease(lease);
+        transaction.setDeadline(deadline);
+        transaction.setMetrics(metrics);
+        transaction.setStatementStatistics(getStatementStatistics());
+        transaction.setExecutionDispatcher(executionDispatcher);
+        transaction.setLowTransactionOption(option);
+        transaction.setSql(sql);
+        transaction.setBeginNanos(beginNanos);
         this.transaction = transaction;
+        this.adaptiveTracker = tracker;
         return transaction;
     }
 
@@ -376,6 +877,86 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
         return config.getLowTransactionOption();
     }
 
+    /**
+     * Get transaction option.
+     *
+     * @param tracker adaptive transaction tracker
+     * @return transaction option
+     * @since 0.5.0
+     */
+    protected SqlRequest.TransactionOption getLowTransactionOption(@Nullable TsurugiJdbcAdaptiveTransactionPolicy.Tracker tracker) {
+        var option = getLowTransactionOption();
+        if (tracker == null || !tracker.isLtx()) {
+            return option;
+        }
+
+        var builder = option.toBuilder();
+        builder.setType(TsurugiJdbcTransactionType.LTX.getLowTransactionType());
+        builder.clearWritePreserves();
+        for (String tableName : tracker.getWritePreserve()) {
+            builder.addWritePreserves(SqlRequest.WritePreserve.newBuilder().setTableName(tableName));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Acquire RTX scan parallel from the adaptive scan parallel policy.
+     *
+     * @param sql SQL
+     * @return lease, or null if adaptive scan parallel is disabled
+     * @since 0.5.0
+     */
+    protected @Nullable TsurugiJdbcScanParallelPolicy.Lease acquireScanParallel(@Nullable String sql) {
+        int budget = config.getAdaptiveScanParallel();
+        if (budget <= 0 || sql == null) {
+            return null;
+        }
+
+        if (this.scanParallelPolicy == null) {
+            this.scanParallelPolicy = factory.getScanParallelPolicy(config);
+        }
+        int maxParallel = config.getScanParallel().orElse(budget);
+        return scanParallelPolicy.acquire(sql, budget, maxParallel);
+    }
+
+    /**
+     * Whether to execute the auto-commit query in RTX.
+     *
+     * @param sql SQL
+     * @return {@code true} if execute in RTX
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    protected boolean isReadOnlyRouting(@Nullable String sql) throws SQLException {
+        if (!config.getReadOnlyRouting() || !getAutoCommit()) {
+            return false;
+        }
+        if (config.getTransactionType() == TsurugiJdbcTransactionType.RTX) {
+            return false;
+        }
+        return TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(sql);
+    }
+
+    /**
+     * Begin tracking the transaction for adaptive LTX escalation.
+     *
+     * @param sql SQL to be executed first in the transaction
+     * @return tracker, or null if adaptive escalation is not applicable
+     * @since 0.5.0
+     */
+    protected @Nullable TsurugiJdbcAdaptiveTransactionPolicy.Tracker beginAdaptiveTracker(@Nullable String sql) {
+        int threshold = config.getAdaptiveLtxThreshold();
+        var type = config.getTransactionType();
+        if (threshold <= 0 || (type != null && type != TsurugiJdbcTransactionType.OCC)) {
+            return null;
+        }
+
+        if (this.adaptiveTransactionPolicy == null) {
+            this.adaptiveTransactionPolicy = factory.getAdaptiveTransactionPolicy(config);
+        }
+        return adaptiveTransactionPolicy.begin(config.getTransactionLabel(), sql, threshold);
+    }
+
     /**
      * Check transaction active.
      *
@@ -497,6 +1078,7 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
                 transaction.commit();
             } finally {
                 this.transaction = null;
+                invalidateMetadataCacheIfDdlExecuted();
             }
         }
     }
@@ -517,10 +1099,106 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
                 transaction.rollback();
             } finally {
                 this.transaction = null;
+                invalidateMetadataCacheIfDdlExecuted();
+            }
+        }
+    }
+
+    /**
+     * Execute the action in a transaction, and retry it when a retriable failure (serialization failure) occurs.
+     * <p>
+     * The action is executed with auto-commit disabled, and the transaction is committed after the action. If the action or the commit fails with a retriable exception, the
+     * transaction is rolled back and the action is executed again after the backoff. If the action fails with any other exception (including unchecked exceptions), the
+     * transaction is rolled back and the exception is thrown. The auto-commit mode is restored at the end.
+     * </p>
+     * <p>
+     * In manual-commit mode, the transaction must not be active when this method is called, because this method never commits the caller's work.
+     * </p>
+     *
+     * @param <R>    return type
+     * @param action action
+     * @param policy retry policy
+     * @return result of the action
+     * @throws SQLException if the action fails with a non-retriable exception, the retry limit is exceeded, or a transaction is active
+     * @since 0.5.0
+     */
+    public <R> R executeInTransaction(TsurugiJdbcTransactionAction<R> action, TsurugiJdbcRetryPolicy policy) throws SQLException {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(policy, "policy");
+
+        boolean oldAutoCommit = getAutoCommit();
+        if (oldAutoCommit) {
+            setAutoCommit(false);
+        } else if (getCurrentTransaction() != null) {
+            throw getExceptionHandler().transactionFoundException();
+        }
+        try {
+            policy.executed();
+            long start = System.nanoTime();
+            for (int attempt = 1;; attempt++) {
+                try {
+                    R result = action.execute(this);
+                    doCommit();
+                    policy.succeeded(attempt);
+                    return result;
+                } catch (SQLException e) {
+                    var failedTransaction = this.transaction;
+                    String failedSql = (failedTransaction != null) ? failedTransaction.getSql() : null;
+                    rollbackQuietly(e);
+                    if (!policy.isRetriable(e)) {
+                        throw e;
+                    }
+
+                    long backoff = policy.getBackoffMillis(attempt);
+                    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    long maxTotal = policy.getMaxTotalTime();
+                    if (attempt >= policy.getMaxAttempts() || (maxTotal > 0 && elapsed + backoff > maxTotal)) {
+                        policy.exhausted();
+                        throw e;
+                    }
+
+                    int retry = attempt;
+                    LOG.config(() -> String.format("executeInTransaction retry. retry=%d, backoff=%d [ms], cause=%s", retry, backoff, e.getMessage()));
+                    policy.retried();
+                    getMetrics().recordRetry();
+                    var statistics = getStatementStatistics();
+                    if (statistics != null) {
+                        statistics.recordRetry(failedSql);
+                    }
+                    sleep(backoff);
+                } catch (Throwable e) {
+                    // never leave the transaction to be committed when the auto-commit mode is restored
+                    rollbackQuietly(e);
+                    throw e;
+                }
+            }
+        } finally {
+            if (oldAutoCommit) {
+                setAutoCommit(true);
             }
         }
     }
 
+    private void rollbackQuietly(Throwable cause) {
+        try {
+            doRollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void sleep(long millis) throws SQLException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw getExceptionHandler().sqlException("executeInTransaction interrupted", e);
+        }
+    }
+
     @Override
     public TsurugiJdbcDatabaseMetaData getMetaData() throws SQLException {
         if (this.metaData == null) {
@@ -908,10 +1586,12 @@ public class TsurugiJdbcConnection implements Connection, HasFactory {
             }
         }
 
-        try (var s = lowSession; shutdown; var c = lowSqlClient; var t = transaction) {
+        try (var s = lowSession; shutdown; var c = lowSqlClient; var t = transaction; var m = lobTmpFileManager) {
             this.transaction = null;
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("Connection close error", e);
+        } finally {
+            detachMetrics();
         }
     }
 
@@ -17,6 +17,8 @@ package com.tsurugidb.jdbc.connection;
 
 import static com.tsurugidb.jdbc.TsurugiConfig.AUTO_COMMIT;
 import static com.tsurugidb.jdbc.TsurugiConfig.AUTO_DISPOSE;
+import static com.tsurugidb.jdbc.TsurugiConfig.ADAPTIVE_LTX_THRESHOLD;
+import static com.tsurugidb.jdbc.TsurugiConfig.ADAPTIVE_SCAN_PARALLEL;
 import static com.tsurugidb.jdbc.TsurugiConfig.BATCH_QUEUE_SIZE;
 import static com.tsurugidb.jdbc.TsurugiConfig.BEGIN_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.COMMIT_TIMEOUT;
@@ -27,12 +29,20 @@ import static com.tsurugidb.jdbc.TsurugiConfig.EXECUTE_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.INCLUDE_DDL;
 import static com.tsurugidb.jdbc.TsurugiConfig.INCLUSIVE_READ_AREA;
 import static com.tsurugidb.jdbc.TsurugiConfig.LOB_DOWNLOAD_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.LOB_INLINE_THRESHOLD;
+import static com.tsurugidb.jdbc.TsurugiConfig.LOB_TMP_FILE_POOL_SIZE;
 import static com.tsurugidb.jdbc.TsurugiConfig.LOB_UPLOAD_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.METADATA_CACHE_TTL;
+import static com.tsurugidb.jdbc.TsurugiConfig.METADATA_QUEUE_SIZE;
 import static com.tsurugidb.jdbc.TsurugiConfig.QUERY_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.READ_ONLY_ROUTING;
 import static com.tsurugidb.jdbc.TsurugiConfig.ROLLBACK_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.SCAN_PARALLEL;
 import static com.tsurugidb.jdbc.TsurugiConfig.SHUTDOWN_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.SHUTDOWN_TYPE;
+import static com.tsurugidb.jdbc.TsurugiConfig.SLOW_STATEMENT_EXPLAIN;
+import static com.tsurugidb.jdbc.TsurugiConfig.SLOW_STATEMENT_THRESHOLD;
+import static com.tsurugidb.jdbc.TsurugiConfig.STATEMENT_STATISTICS_SIZE;
 import static com.tsurugidb.jdbc.TsurugiConfig.TRANSACTION_LABEL;
 import static com.tsurugidb.jdbc.TsurugiConfig.TRANSACTION_TYPE;
 import static com.tsurugidb.jdbc.TsurugiConfig.WRITE_PRESERVE;
@@ -40,6 +50,7 @@ import static com.tsurugidb.jdbc.TsurugiConfig.WRITE_PRESERVE;
 import java.nio.file.Path;
 import java.sql.ClientInfoStatus;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
@@ -94,6 +105,7 @@ public class TsurugiJdbcConnectionConfig {
 
     private final String endpoint;
     private TransactionOption transactionOption = null;
+    private TransactionOption readOnlyTransactionOption = null;
     private CommitOption commitOption = null;
 
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcTransactionType> transactionType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcTransactionType.class, TRANSACTION_TYPE)
@@ -104,6 +116,9 @@ public class TsurugiJdbcConnectionConfig {
     private final TsurugiJdbcPropertyStringList inclusiveReadArea = new TsurugiJdbcPropertyStringList(INCLUSIVE_READ_AREA).changeEvent(this::clearTransactionOption);
     private final TsurugiJdbcPropertyStringList exclusiveReadArea = new TsurugiJdbcPropertyStringList(EXCLUSIVE_READ_AREA).changeEvent(this::clearTransactionOption);
     private final TsurugiJdbcPropertyInt scanParallel = new TsurugiJdbcPropertyInt(SCAN_PARALLEL).changeEvent(this::clearTransactionOption);
+    private final TsurugiJdbcPropertyInt adaptiveLtxThreshold = new TsurugiJdbcPropertyInt(ADAPTIVE_LTX_THRESHOLD);
+    private final TsurugiJdbcPropertyBoolean readOnlyRouting = new TsurugiJdbcPropertyBoolean(READ_ONLY_ROUTING);
+    private final TsurugiJdbcPropertyInt adaptiveScanParallel = new TsurugiJdbcPropertyInt(ADAPTIVE_SCAN_PARALLEL);
     private final TsurugiJdbcPropertyBoolean autoCommit = new TsurugiJdbcPropertyBoolean(AUTO_COMMIT);
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcCommitType> commitType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcCommitType.class, COMMIT_TYPE).changeEvent(this::clearCommitOption);
     private final TsurugiJdbcPropertyBoolean autoDispose = new TsurugiJdbcPropertyBoolean(AUTO_DISPOSE).changeEvent(this::clearCommitOption);
@@ -114,24 +129,32 @@ public class TsurugiJdbcConnectionConfig {
     private final TsurugiJdbcPropertyInt lobUploadTimeout = new TsurugiJdbcPropertyInt(LOB_UPLOAD_TIMEOUT);
     private final TsurugiJdbcPropertyInt executeTimeout = new TsurugiJdbcPropertyInt(EXECUTE_TIMEOUT);
     private final TsurugiJdbcPropertyInt batchQueueSize = new TsurugiJdbcPropertyInt(BATCH_QUEUE_SIZE);
+    private final TsurugiJdbcPropertyInt statementStatisticsSize = new TsurugiJdbcPropertyInt(STATEMENT_STATISTICS_SIZE);
+    private final TsurugiJdbcPropertyInt slowStatementThreshold = new TsurugiJdbcPropertyInt(SLOW_STATEMENT_THRESHOLD);
+    private final TsurugiJdbcPropertyBoolean slowStatementExplain = new TsurugiJdbcPropertyBoolean(SLOW_STATEMENT_EXPLAIN);
     private final TsurugiJdbcPropertyInt queryTimeout = new TsurugiJdbcPropertyInt(QUERY_TIMEOUT);
     private final TsurugiJdbcPropertyInt lobDownloadTimeout = new TsurugiJdbcPropertyInt(LOB_DOWNLOAD_TIMEOUT);
+    private final TsurugiJdbcPropertyInt lobInlineThreshold = new TsurugiJdbcPropertyInt(LOB_INLINE_THRESHOLD);
 
     private final TsurugiJdbcPropertyEnum<TsurugiJdbcShutdownType> shutdownType = new TsurugiJdbcPropertyEnum<>(TsurugiJdbcShutdownType.class, SHUTDOWN_TYPE);
     private final TsurugiJdbcPropertyInt shutdownTimeout = new TsurugiJdbcPropertyInt(SHUTDOWN_TIMEOUT);
+    private final TsurugiJdbcPropertyInt lobTmpFilePoolSize = new TsurugiJdbcPropertyInt(LOB_TMP_FILE_POOL_SIZE);
+    private final TsurugiJdbcPropertyInt metadataCacheTtl = new TsurugiJdbcPropertyInt(METADATA_CACHE_TTL);
+    private final TsurugiJdbcPropertyInt metadataQueueSize = new TsurugiJdbcPropertyInt(METADATA_QUEUE_SIZE);
 
     private final TsurugiJdbcPropertyInt defaultTimeout = new TsurugiJdbcPropertyInt(DEFAULT_TIMEOUT);
 
     private final TsurugiJdbcProperties properties = TsurugiJdbcProperties.of(//
-            transactionType, transactionLabel, includeDdl, writePreserve, inclusiveReadArea, exclusiveReadArea, scanParallel, //
+            transactionType, transactionLabel, includeDdl, writePreserve, inclusiveReadArea, exclusiveReadArea, scanParallel, adaptiveLtxThreshold, readOnlyRouting, adaptiveScanParallel, //
             autoCommit, commitType, autoDispose, //
             beginTimeout, commitTimeout, rollbackTimeout, //
-            lobUploadTimeout, executeTimeout, batchQueueSize, //
-            queryTimeout, lobDownloadTimeout, //
-            shutdownType, shutdownTimeout, //
+            lobUploadTimeout, executeTimeout, batchQueueSize, statementStatisticsSize, slowStatementThreshold, slowStatementExplain, //
+            queryTimeout, lobDownloadTimeout, lobInlineThreshold, //
+            shutdownType, shutdownTimeout, lobTmpFilePoolSize, metadataCacheTtl, metadataQueueSize, //
             defaultTimeout);
 
     private Path lobTmpDir = null;
+    private Duration transactionDeadline = null;
 
     /**
      * Creates a new instance.
@@ -314,8 +337,69 @@ public class TsurugiJdbcConnectionConfig {
         return scanParallel.value();
     }
 
+    /**
+     * Set adaptive LTX escalation threshold.
+     *
+     * @param threshold OCC abort rate threshold [%]. If 0, adaptive escalation is disabled
+     * @since 0.5.0
+     */
+    public void setAdaptiveLtxThreshold(int threshold) {
+        adaptiveLtxThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get adaptive LTX escalation threshold.
+     *
+     * @return OCC abort rate threshold [%]
+     * @since 0.5.0
+     */
+    public int getAdaptiveLtxThreshold() {
+        return adaptiveLtxThreshold.value().orElse(0);
+    }
+
+    /**
+     * Set whether to execute auto-commit queries in RTX.
+     *
+     * @param routing {@code true} to execute in RTX
+     * @since 0.5.0
+     */
+    public void setReadOnlyRouting(boolean routing) {
+        readOnlyRouting.setValue(routing);
+    }
+
+    /**
+     * Get whether to execute auto-commit queries in RTX.
+     *
+     * @return {@code true} if execute in RTX
+     * @since 0.5.0
+     */
+    public boolean getReadOnlyRouting() {
+        return readOnlyRouting.value();
+    }
+
+    /**
+     * Set adaptive RTX scan parallel budget.
+     *
+     * @param budget total scan parallel of the endpoint. If 0, adaptive scan parallel is disabled
+     * @since 0.5.0
+     */
+    public void setAdaptiveScanParallel(int budget) {
+        adaptiveScanParallel.setValue(budget);
+    }
+
+    /**
+     * Get adaptive RTX scan parallel budget.
+     *
+     * @return total scan parallel of the endpoint
+     * @since 0.5.0
+     */
+    public int getAdaptiveScanParallel() {
+        return adaptiveScanParallel.value().orElse(0);
+    }
+
     private <T> void clearTransactionOption(T old) {
         this.transactionOption = null;
+        this.readOnlyTransactionOption = null;
     }
 
     /**
@@ -368,6 +452,24 @@ public class TsurugiJdbcConnectionConfig {
         return this.transactionOption;
     }
 
+    /**
+     * Get transaction option for read-only queries.
+     *
+     * @return RTX transaction option
+     * @since 0.5.0
+     */
+    public TransactionOption getLowReadOnlyTransactionOption() {
+        if (this.readOnlyTransactionOption == null) {
+            var builder = TransactionOption.newBuilder();
+            builder.setType(TsurugiJdbcTransactionType.RTX.getLowTransactionType());
+            transactionLabel.ifPresent(builder::setLabel);
+            scanParallel.ifPresent(builder::setScanParallel);
+
+            this.readOnlyTransactionOption = builder.build();
+        }
+        return this.readOnlyTransactionOption;
+    }
+
     // commit
 
     /**
@@ -506,6 +608,66 @@ public class TsurugiJdbcConnectionConfig {
         return lobUploadTimeout.value().orElse(getDefaultTimeout());
     }
 
+    /**
+     * Set max number of SQL fingerprints in the statement statistics.
+     *
+     * @param size max number of fingerprints. If 0, the statistics are disabled
+     * @since 0.5.0
+     */
+    public void setStatementStatisticsSize(int size) {
+        statementStatisticsSize.setValue(size);
+    }
+
+    /**
+     * Get max number of SQL fingerprints in the statement statistics.
+     *
+     * @return max number of fingerprints
+     * @since 0.5.0
+     */
+    public int getStatementStatisticsSize() {
+        return statementStatisticsSize.value().orElse(0);
+    }
+
+    /**
+     * Set slow statement log threshold.
+     *
+     * @param threshold threshold [milliseconds]. If 0, the log is disabled
+     * @since 0.5.0
+     */
+    public void setSlowStatementThreshold(int threshold) {
+        slowStatementThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get slow statement log threshold.
+     *
+     * @return threshold [milliseconds]
+     * @since 0.5.0
+     */
+    public int getSlowStatementThreshold() {
+        return slowStatementThreshold.value().orElse(0);
+    }
+
+    /**
+     * Set whether to log the execution plan of slow statements.
+     *
+     * @param explain {@code true} to log the execution plan
+     * @since 0.5.0
+     */
+    public void setSlowStatementExplain(boolean explain) {
+        slowStatementExplain.setValue(explain);
+    }
+
+    /**
+     * Get whether to log the execution plan of slow statements.
+     *
+     * @return {@code true} if the execution plan is logged
+     * @since 0.5.0
+     */
+    public boolean getSlowStatementExplain() {
+        return slowStatementExplain.value();
+    }
+
     // Session
 
     /**
@@ -567,4 +729,74 @@ public class TsurugiJdbcConnectionConfig {
         }
         return this.lobTmpDir;
     }
+
+    /**
+     * Set transaction deadline.
+     *
+     * @param deadline time from the beginning of a transaction to its end. If null, no deadline
+     * @since 0.5.0
+     */
+    public void setTransactionDeadline(@Nullable Duration deadline) {
+        this.transactionDeadline = deadline;
+    }
+
+    /**
+     * Get transaction deadline.
+     *
+     * @return time from the beginning of a transaction to its end. null if no deadline
+     * @since 0.5.0
+     */
+    public @Nullable Duration getTransactionDeadline() {
+        return this.transactionDeadline;
+    }
+
+    /**
+     * Get large object temporary file pool size.
+     *
+     * @return number of pooled files per connection
+     * @since 0.5.0
+     */
+    public int getLobTmpFilePoolSize() {
+        return lobTmpFilePoolSize.value().orElse(16);
+    }
+
+    /**
+     * Set metadata cache time to live.
+     *
+     * @param ttl time to live [seconds]
+     * @since 0.5.0
+     */
+    public void setMetadataCacheTtl(int ttl) {
+        metadataCacheTtl.setValue(ttl);
+    }
+
+    /**
+     * Get metadata cache time to live.
+     *
+     * @return time to live [seconds]
+     * @since 0.5.0
+     */
+    public int getMetadataCacheTtl() {
+        return metadataCacheTtl.value().orElse(0);
+    }
+
+    /**
+     * Set number of table metadata requests in flight in DatabaseMetaData.
+     *
+     * @param size queue size
+     * @since 0.5.0
+     */
+    public void setMetadataQueueSize(int size) {
+        metadataQueueSize.setValue(size);
+    }
+
+    /**
+     * Get number of table metadata requests in flight in DatabaseMetaData.
+     *
+     * @return queue size
+     * @since 0.5.0
+     */
+    public int getMetadataQueueSize() {
+        return metadataQueueSize.value().orElse(16);
+    }
 }
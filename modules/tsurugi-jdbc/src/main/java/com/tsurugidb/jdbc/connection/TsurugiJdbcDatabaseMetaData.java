@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.jdbc.connection;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.JDBCType;
@@ -22,9 +23,12 @@ import java.sql.ResultSet;
 import java.sql.RowIdLifetime;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import com.tsurugidb.jdbc.TsurugiDriver;
@@ -35,6 +39,7 @@ import com.tsurugidb.jdbc.factory.GetFactory;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
 import com.tsurugidb.jdbc.resultset.FixedResultSet;
 import com.tsurugidb.jdbc.resultset.FixedResultSetColumn;
+import com.tsurugidb.jdbc.util.TableNameIndex;
 import com.tsurugidb.jdbc.util.TableNameMatcher;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
 import com.tsurugidb.jdbc.util.TsurugiJdbcSqlTypeUtil;
@@ -308,7 +313,7 @@ public class TsurugiJdbcDatabaseMetaData implements DatabaseMetaData, GetFactory
 
     @Override
     public String getSearchStringEscape() throws SQLException {
-        return "";
+        return TableNameMatcher.SEARCH_STRING_ESCAPE;
     }
 
     @Override
@@ -766,17 +771,101 @@ public class TsurugiJdbcDatabaseMetaData implements DatabaseMetaData, GetFactory
             FixedResultSetColumn.ofStringNullable("REF_GENERATION") //
     );
 
+    /**
+     * Get table names.
+     *
+     * @return table name index
+     * @throws Exception if an error occurs
+     * @since 0.5.0
+     */
+    protected TableNameIndex getTableNames() throws Exception {
+        var config = ownerConnection.getConfig();
+        int timeout = config.getDefaultTimeout();
+        long ttl = TimeUnit.SECONDS.toMillis(config.getMetadataCacheTtl());
+
+        var cache = getMetadataCache(ttl);
+        return cache.getTableNames(ttl, () -> {
+            var lowSqlClient = ownerConnection.getLowSqlClient();
+            var io = getIoUtil();
+            var lowTableList = io.get(lowSqlClient.listTables(), timeout);
+            return lowTableList.getTableNames();
+        });
+    }
+
+    /**
+     * Get table metadata.
+     *
+     * @param tableName table name
+     * @return table metadata
+     * @throws Exception if an error occurs
+     * @since 0.5.0
+     */
+    protected TableMetadata getTableMetadata(String tableName) throws Exception {
+        var config = ownerConnection.getConfig();
+        int timeout = config.getDefaultTimeout();
+        long ttl = TimeUnit.SECONDS.toMillis(config.getMetadataCacheTtl());
+
+        var cache = getMetadataCache(ttl);
+        return cache.getTableMetadata(tableName, ttl, () -> {
+            var lowSqlClient = ownerConnection.getLowSqlClient();
+            var io = getIoUtil();
+            return io.get(lowSqlClient.getTableMetadata(tableName), timeout);
+        });
+    }
+
+    private TsurugiJdbcMetadataCache getMetadataCache(long ttl) throws SQLException {
+        if (ttl <= 0) {
+            // not cached, so the authenticated user is not necessary
+            return new TsurugiJdbcMetadataCache(ownerConnection.getConfig().getEndpoint(), null);
+        }
+        return ownerConnection.getMetadataCache();
+    }
+
+    /**
+     * Request table metadata without waiting for the response.
+     *
+     * @param tableName table name
+     * @return loader which waits for the table metadata
+     * @throws IOException  if an I/O error occurs while sending the request
+     * @throws SQLException if an error occurs while getting the metadata cache
+     * @since 0.5.0
+     */
+    protected TsurugiJdbcMetadataCache.Loader<TableMetadata> fetchTableMetadata(String tableName) throws IOException, SQLException {
+        var config = ownerConnection.getConfig();
+        int timeout = config.getDefaultTimeout();
+        long ttl = TimeUnit.SECONDS.toMillis(config.getMetadataCacheTtl());
+
+        var cache = getMetadataCache(ttl);
+        var cached = cache.findTableMetadata(tableName, ttl);
+        if (cached != null) {
+            return () -> cached;
+        }
+
+        long generation = cache.getGeneration();
+        var lowSqlClient = ownerConnection.getLowSqlClient();
+        var future = lowSqlClient.getTableMetadata(tableName);
+        return new TsurugiJdbcMetadataCache.Loader<>() {
+            @Override
+            public TableMetadata load() throws Exception {
+                var io = getIoUtil();
+                var lowMetadata = io.get(future, timeout);
+                cache.putTableMetadata(tableName, lowMetadata, ttl, generation);
+                return lowMetadata;
+            }
+
+            @Override
+            public void close() throws Exception {
+                future.close();
+            }
+        };
+    }
+
     @Override
     public ResultSet getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
         try {
             var matcher = TableNameMatcher.of(catalog, schemaPattern, tableNamePattern, types);
 
-            var lowSqlClient = ownerConnection.getLowSqlClient();
-
-            int timeout = ownerConnection.getConfig().getDefaultTimeout();
-            var io = getIoUtil();
-            var lowTableList = io.get(lowSqlClient.listTables(), timeout);
-            List<String> tableNames = lowTableList.getTableNames();
+            List<String> tableNames = matcher.selectTableNames(getTableNames());
 
             var valuesList = new ArrayList<Object[]>(tableNames.size());
             for (String tableName : tableNames) {
@@ -857,88 +946,122 @@ public class TsurugiJdbcDatabaseMetaData implements DatabaseMetaData, GetFactory
     @Override
     public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
         var valuesList = new ArrayList<Object[]>();
+        // request table metadata concurrently, and assemble rows in table order
+        int queueSize = Math.max(ownerConnection.getConfig().getMetadataQueueSize(), 1);
+        var queue = new ArrayDeque<Map.Entry<String, TsurugiJdbcMetadataCache.Loader<TableMetadata>>>(queueSize);
         try {
             var matcher = TableNameMatcher.of(catalog, schemaPattern, tableNamePattern, null).columnNamePattern(columnNamePattern);
-            var util = getSqlTypeUtil();
 
-            var lowSqlClient = ownerConnection.getLowSqlClient();
-
-            int timeout = ownerConnection.getConfig().getDefaultTimeout();
-            var io = getIoUtil();
-            var lowTableList = io.get(lowSqlClient.listTables(), timeout);
-            List<String> tableNames = lowTableList.getTableNames();
+            List<String> tableNames = matcher.selectTableNames(getTableNames());
 
             for (String tableName : tableNames) {
                 if (!matcher.matches(tableName, "TABLE")) {
                     continue;
                 }
 
-                var lowMetadata = io.get(lowSqlClient.getTableMetadata(tableName), timeout);
-                var lowColumnList = lowMetadata.getColumns();
-                int position = 1;
-                for (var lowColumn : lowColumnList) {
-                    var type = getFactory().createType(lowColumn);
-                    String columnName = lowColumn.getName();
-                    JDBCType jdbcType = type.getJdbcType();
-                    String typeName = type.getSqlTypeName();
-                    var nullableOpt = type.findNullable();
-                    int nullable;
-                    String isNullable;
-                    if (nullableOpt.isPresent()) {
-                        if (nullableOpt.get()) {
-                            nullable = columnNullable;
-                            isNullable = "YES";
-                        } else {
-                            nullable = columnNoNulls;
-                            isNullable = "NO";
-                        }
-                    } else {
-                        nullable = columnNullableUnknown;
-                        isNullable = "";
-                    }
-                    Integer columnSize = util.getColumnSize(type);
-                    Integer decimalDigits = util.getDecimalDigits(type);
-                    Integer numPrecRadix = util.getNumPrecRadix(type);
-                    Integer charOctetLength = util.getOctetLength(type);
-
-                    if (matcher.matchesColumnName(columnName)) {
-                        Object[] values = { //
-                                lowMetadata.getDatabaseName().orElse(null), // TABLE_CAT
-                                lowMetadata.getSchemaName().orElse(null), // TABLE_SCHEM
-                                tableName, // TABLE_NAME
-                                columnName, // COLUMN_NAME
-                                jdbcType.getVendorTypeNumber(), // DATA_TYPE
-                                typeName, // TYPE_NAME
-                                columnSize, // COLUMN_SIZE
-                                null, // BUFFER_LENGTH
-                                decimalDigits, // DECIMAL_DIGITS
-                                numPrecRadix, // NUM_PREC_RADIX
-                                nullable, // NULLABLE
-                                lowColumn.getDescription(), // REMARKS
-                                null, // COLUMN_DEF
-                                null, // SQL_DATA_TYPE
-                                null, // SQL_DATETIME_SUB
-                                charOctetLength, // CHAR_OCTET_LENGTH
-                                position, // ORDINAL_POSITION
-                                isNullable, // IS_NULLABLE
-                                null, // SCOPE_CATALOG
-                                null, // SCOPE_SCHEMA
-                                null, // SCOPE_TABLE
-                                null, // SOURCE_DATA_TYPE
-                                "", // IS_AUTOINCREMENT
-                                "", // IS_GENERATEDCOLUMN
-                        };
-                        valuesList.add(values);
-                    }
-                    position++;
+                while (queue.size() >= queueSize) {
+                    loadColumns(valuesList, matcher, queue);
                 }
+                queue.addLast(Map.entry(tableName, fetchTableMetadata(tableName)));
+            }
+
+            while (!queue.isEmpty()) {
+                loadColumns(valuesList, matcher, queue);
             }
         } catch (Exception e) {
-            throw getExceptionHandler().sqlException("getColumns error", e);
+            var se = getExceptionHandler().sqlException("getColumns error", e);
+            closeLoaders(queue, se);
+            throw se;
+        } catch (Throwable e) {
+            closeLoaders(queue, e);
+            throw e;
         }
         return new FixedResultSet(this, COLUMNS_COLUMN_LIST, valuesList);
     }
 
+    private void loadColumns(List<Object[]> valuesList, TableNameMatcher matcher, ArrayDeque<Map.Entry<String, TsurugiJdbcMetadataCache.Loader<TableMetadata>>> queue)
+            throws Exception {
+        // the entry is removed after loading, so that it is closed if the load fails
+        var entry = queue.peekFirst();
+        var lowMetadata = entry.getValue().load();
+        queue.pollFirst();
+        addColumns(valuesList, matcher, entry.getKey(), lowMetadata);
+    }
+
+    private static void closeLoaders(ArrayDeque<Map.Entry<String, TsurugiJdbcMetadataCache.Loader<TableMetadata>>> queue, Throwable cause) {
+        while (!queue.isEmpty()) {
+            var entry = queue.pollFirst();
+            try {
+                entry.getValue().close();
+            } catch (Exception e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    private void addColumns(List<Object[]> valuesList, TableNameMatcher matcher, String tableName, TableMetadata lowMetadata) {
+        var util = getSqlTypeUtil();
+
+        var lowColumnList = lowMetadata.getColumns();
+        int position = 1;
+        for (var lowColumn : lowColumnList) {
+            var type = getFactory().createType(lowColumn);
+            String columnName = lowColumn.getName();
+            JDBCType jdbcType = type.getJdbcType();
+            String typeName = type.getSqlTypeName();
+            var nullableOpt = type.findNullable();
+            int nullable;
+            String isNullable;
+            if (nullableOpt.isPresent()) {
+                if (nullableOpt.get()) {
+                    nullable = columnNullable;
+                    isNullable = "YES";
+                } else {
+                    nullable = columnNoNulls;
+                    isNullable = "NO";
+                }
+            } else {
+                nullable = columnNullableUnknown;
+                isNullable = "";
+            }
+            Integer columnSize = util.getColumnSize(type);
+            Integer decimalDigits = util.getDecimalDigits(type);
+            Integer numPrecRadix = util.getNumPrecRadix(type);
+            Integer charOctetLength = util.getOctetLength(type);
+
+            if (matcher.matchesColumnName(columnName)) {
+                Object[] values = { //
+                        lowMetadata.getDatabaseName().orElse(null), // TABLE_CAT
+                        lowMetadata.getSchemaName().orElse(null), // TABLE_SCHEM
+                        tableName, // TABLE_NAME
+                        columnName, // COLUMN_NAME
+                        jdbcType.getVendorTypeNumber(), // DATA_TYPE
+                        typeName, // TYPE_NAME
+                        columnSize, // COLUMN_SIZE
+                        null, // BUFFER_LENGTH
+                        decimalDigits, // DECIMAL_DIGITS
+                        numPrecRadix, // NUM_PREC_RADIX
+                        nullable, // NULLABLE
+                        lowColumn.getDescription(), // REMARKS
+                        null, // COLUMN_DEF
+                        null, // SQL_DATA_TYPE
+                        null, // SQL_DATETIME_SUB
+                        charOctetLength, // CHAR_OCTET_LENGTH
+                        position, // ORDINAL_POSITION
+                        isNullable, // IS_NULLABLE
+                        null, // SCOPE_CATALOG
+                        null, // SCOPE_SCHEMA
+                        null, // SCOPE_TABLE
+                        null, // SOURCE_DATA_TYPE
+                        "", // IS_AUTOINCREMENT
+                        "", // IS_GENERATEDCOLUMN
+                };
+                valuesList.add(values);
+            }
+            position++;
+        }
+    }
+
     @Override
     @TsurugiJdbcNotSupported
     public ResultSet getColumnPrivileges(String catalog, String schema, String table, String columnNamePattern) throws SQLException {
@@ -976,13 +1099,9 @@ public class TsurugiJdbcDatabaseMetaData implements DatabaseMetaData, GetFactory
     public ResultSet getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
         // FIXME getPrimaryKeys(): use catalog, schema
         try {
-            var lowSqlClient = ownerConnection.getLowSqlClient();
-
             TableMetadata lowTableMetadata;
             try {
-                int timeout = ownerConnection.getConfig().getDefaultTimeout();
-                var io = getIoUtil();
-                lowTableMetadata = io.get(lowSqlClient.getTableMetadata(table), timeout);
+                lowTableMetadata = getTableMetadata(table);
             } catch (TargetNotFoundException e) {
                 return new FixedResultSet(this, PRIMARY_KEYS_COLUMN_LIST, List.of());
             }
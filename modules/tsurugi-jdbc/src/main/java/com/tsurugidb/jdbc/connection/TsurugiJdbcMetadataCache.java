@@ -0,0 +1,306 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.connection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import com.tsurugidb.jdbc.util.SqlTokenizer;
+import com.tsurugidb.jdbc.util.TableNameIndex;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+
+/**
+ * Tsurugi JDBC metadata cache.
+ * <p>
+ * Table names and table metadata are shared by all connections to the same endpoint with the same authenticated user, because visible tables may differ by user. Entries
+ * expire after the TTL, and all entries of the endpoint are invalidated when DDL is executed through this driver.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcMetadataCache {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcMetadataCache.class.getName());
+
+    private static final Map<List<String>, TsurugiJdbcMetadataCache> CACHE_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metadata cache for the endpoint and the user.
+     *
+     * @param endpoint endpoint
+     * @param user     authenticated user (empty string if authentication is disabled)
+     * @return metadata cache
+     */
+    public static TsurugiJdbcMetadataCache of(String endpoint, String user) {
+        var key = List.of(String.valueOf(endpoint), String.valueOf(user));
+        return CACHE_MAP.computeIfAbsent(key, k -> new TsurugiJdbcMetadataCache(k.get(0), k.get(1)));
+    }
+
+    /**
+     * Invalidate the metadata caches of the endpoint (for all users).
+     *
+     * @param endpoint endpoint
+     */
+    public static void invalidate(String endpoint) {
+        String key = String.valueOf(endpoint);
+        for (var entry : CACHE_MAP.entrySet()) {
+            if (entry.getKey().get(0).equals(key)) {
+                entry.getValue().invalidate();
+            }
+        }
+    }
+
+    /**
+     * Invalidate the metadata caches of all endpoints.
+     */
+    public static void invalidateAll() {
+        for (var cache : CACHE_MAP.values()) {
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * Metadata loader.
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    public interface Loader<T> extends AutoCloseable {
+        /**
+         * Load value from the server.
+         *
+         * @return value
+         * @throws Exception if an error occurs
+         */
+        T load() throws Exception;
+
+        /**
+         * Release the pending request if {@link #load()} is not called.
+         *
+         * @throws Exception if an error occurs
+         */
+        @Override
+        default void close() throws Exception {
+            // do nothing
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long expireTime;
+
+        Entry(T value, long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+
+        boolean isValid(long now) {
+            return now - expireTime < 0;
+        }
+    }
+
+    private final String endpoint;
+    private final String user;
+    private long generation = 0;
+    private volatile Entry<TableNameIndex> tableNames = null;
+    private final Map<String, Entry<TableMetadata>> tableMetadataMap = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param endpoint endpoint
+     * @param user     authenticated user
+     */
+    public TsurugiJdbcMetadataCache(String endpoint, String user) {
+        this.endpoint = endpoint;
+        this.user = user;
+    }
+
+    /**
+     * Get endpoint.
+     *
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return this.endpoint;
+    }
+
+    /**
+     * Get authenticated user.
+     *
+     * @return user
+     */
+    public String getUser() {
+        return this.user;
+    }
+
+    /**
+     * Get table names.
+     *
+     * @param ttl    time to live [milliseconds]. If 0 or less, the cache is not used
+     * @param loader loader called if not cached
+     * @return table name index
+     * @throws Exception if the loader fails
+     */
+    public TableNameIndex getTableNames(long ttl, Loader<List<String>> loader) throws Exception {
+        if (ttl <= 0) {
+            return TableNameIndex.of(loader.load());
+        }
+
+        long now = System.nanoTime();
+        var entry = this.tableNames;
+        if (entry != null && entry.isValid(now)) {
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+
+        long loadGeneration = getGeneration();
+        var value = TableNameIndex.of(loader.load());
+        synchronized (this) {
+            if (this.generation == loadGeneration) {
+                this.tableNames = new Entry<>(value, now + TimeUnit.MILLISECONDS.toNanos(ttl));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get table metadata.
+     *
+     * @param tableName table name
+     * @param ttl       time to live [milliseconds]. If 0 or less, the cache is not used
+     * @param loader    loader called if not cached
+     * @return table metadata
+     * @throws Exception if the loader fails
+     */
+    public TableMetadata getTableMetadata(String tableName, long ttl, Loader<TableMetadata> loader) throws Exception {
+        if (ttl <= 0) {
+            return loader.load();
+        }
+
+        var cached = findTableMetadata(tableName, ttl);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = getGeneration();
+        var value = loader.load();
+        putTableMetadata(tableName, value, ttl, loadGeneration);
+        return value;
+    }
+
+    /**
+     * Find cached table metadata.
+     *
+     * @param tableName table name
+     * @param ttl       time to live [milliseconds]. If 0 or less, the cache is not used
+     * @return table metadata, or null if not cached
+     */
+    public TableMetadata findTableMetadata(String tableName, long ttl) {
+        if (ttl <= 0) {
+            return null;
+        }
+
+        var entry = tableMetadataMap.get(tableName);
+        if (entry != null && entry.isValid(System.nanoTime())) {
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Put table metadata.
+     * <p>
+     * The value is not cached if the cache has been invalidated since {@code loadGeneration} was taken.
+     * </p>
+     *
+     * @param tableName      table name
+     * @param value          table metadata
+     * @param ttl            time to live [milliseconds]. If 0 or less, the cache is not used
+     * @param loadGeneration generation when the load started
+     * @see #getGeneration()
+     */
+    public synchronized void putTableMetadata(String tableName, TableMetadata value, long ttl, long loadGeneration) {
+        if (ttl <= 0 || this.generation != loadGeneration) {
+            return;
+        }
+        tableMetadataMap.put(tableName, new Entry<>(value, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl)));
+    }
+
+    /**
+     * Get generation, which is incremented on every invalidation.
+     *
+     * @return generation
+     */
+    public synchronized long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Invalidate all entries.
+     * <p>
+     * Values being loaded at the same time are not cached.
+     * </p>
+     */
+    public synchronized void invalidate() {
+        this.generation++;
+        this.tableNames = null;
+        tableMetadataMap.clear();
+        LOG.config(() -> String.format("metadata cache invalidated. endpoint=%s, user=%s", endpoint, user));
+    }
+
+    /**
+     * Get number of cache hits.
+     *
+     * @return number of hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Get number of cache misses.
+     *
+     * @return number of misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Whether the SQL is a DDL statement which changes table definitions.
+     *
+     * @param sql SQL
+     * @return {@code true} if DDL
+     */
+    public static boolean isDdl(String sql) {
+        if (sql == null) {
+            return false;
+        }
+
+        var tokenizer = new SqlTokenizer(sql);
+        return tokenizer.peekKeyword("CREATE") || tokenizer.peekKeyword("DROP") || tokenizer.peekKeyword("ALTER");
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.driver;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.TsurugiConfig;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+
+/**
+ * Tsurugi JDBC session provider.
+ * <p>
+ * Provides the low-level session for endpoints which are not served by a Tsurugi server, such as an in-process fake SQL service. Providers are found by
+ * {@link java.util.ServiceLoader}, so an implementation is enabled just by putting its jar on the class path.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public interface TsurugiJdbcSessionProvider {
+
+    /**
+     * Whether this provider serves the endpoint.
+     *
+     * @param endpoint endpoint
+     * @return {@code true} if this provider creates the session for the endpoint
+     */
+    boolean accepts(String endpoint);
+
+    /**
+     * Create session.
+     *
+     * @param config configuration
+     * @return session
+     * @throws Exception if an error occurs while creating the session
+     */
+    Session createSession(TsurugiConfig config) throws Exception;
+
+    /**
+     * Create SQL client.
+     *
+     * @param session session
+     * @return SQL client. null if the session was not created by this provider
+     */
+    @Nullable
+    SqlClient createSqlClient(Session session);
+}
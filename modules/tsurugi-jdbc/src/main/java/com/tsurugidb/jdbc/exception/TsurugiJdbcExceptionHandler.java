@@ -28,6 +28,7 @@ import java.sql.SQLTimeoutException;
 import java.sql.SQLTransactionRollbackException;
 import java.text.MessageFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 import com.tsurugidb.tsubakuro.exception.CoreServiceCode;
@@ -44,6 +45,115 @@ import com.tsurugidb.tsubakuro.util.Doc;
  */
 public class TsurugiJdbcExceptionHandler {
 
+    private static final int SERVER_ERROR_CLASS_MAP_SIZE = 1024;
+
+    /**
+     * Kind of SQLException converted from ServerException.
+     *
+     * @since 0.5.0
+     */
+    public enum ServerErrorKind {
+        /** SQLTransactionRollbackException */
+        TRANSACTION_ROLLBACK,
+        /** SQLSyntaxErrorException */
+        SYNTAX_ERROR,
+        /** SQLIntegrityConstraintViolationException */
+        INTEGRITY_CONSTRAINT_VIOLATION,
+        /** SQLInvalidAuthorizationSpecException */
+        INVALID_AUTHORIZATION,
+        /** SQLException */
+        OTHER,
+    }
+
+    /**
+     * Classification of ServerException.
+     *
+     * @since 0.5.0
+     */
+    public static final class ServerErrorClass {
+        private final Class<?> exceptionClass;
+        private final int vendorCode;
+        private final SqlState sqlState;
+        private final ServerErrorKind kind;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param exceptionClass class of ServerException
+         * @param vendorCode     vendor code
+         * @param sqlState       SQLState (nullable)
+         * @param kind           kind of SQLException
+         */
+        public ServerErrorClass(Class<?> exceptionClass, int vendorCode, SqlState sqlState, ServerErrorKind kind) {
+            this.exceptionClass = exceptionClass;
+            this.vendorCode = vendorCode;
+            this.sqlState = sqlState;
+            this.kind = kind;
+        }
+
+        /**
+         * Get class of ServerException.
+         *
+         * @return exception class
+         */
+        public Class<?> getExceptionClass() {
+            return this.exceptionClass;
+        }
+
+        /**
+         * Get vendor code.
+         *
+         * @return vendor code
+         */
+        public int getVendorCode() {
+            return this.vendorCode;
+        }
+
+        /**
+         * Get SQLState.
+         *
+         * @return SQLState, or null
+         */
+        public SqlState getSqlState() {
+            return this.sqlState;
+        }
+
+        /**
+         * Get kind of SQLException.
+         *
+         * @return kind
+         */
+        public ServerErrorKind getKind() {
+            return this.kind;
+        }
+    }
+
+    private final Map<DiagnosticCode, ServerErrorClass> serverErrorClassMap = new ConcurrentHashMap<>();
+    private volatile boolean retriableStackTrace = true;
+
+    /**
+     * Set whether to capture the stack trace of retriable exceptions (SQLState 40001).
+     * <p>
+     * Under high contention, serialization failures occur frequently and are retried by the application. Disabling the stack trace reduces the cost of each abort.
+     * </p>
+     *
+     * @param enabled {@code false} if the stack trace is not captured
+     * @since 0.5.0
+     */
+    public void setRetriableStackTrace(boolean enabled) {
+        this.retriableStackTrace = enabled;
+    }
+
+    /**
+     * Get whether to capture the stack trace of retriable exceptions (SQLState 40001).
+     *
+     * @return {@code true} if the stack trace is captured
+     * @since 0.5.0
+     */
+    public boolean isRetriableStackTrace() {
+        return this.retriableStackTrace;
+    }
+
     /**
      * Convert exception to SQLException.
      *
@@ -101,6 +211,11 @@ public class TsurugiJdbcExceptionHandler {
      * @return SQLException
      */
     public SQLException sqlException(String baseMessage, SQLException e) {
+        if (e instanceof TsurugiJdbcTransactionRollbackException) {
+            boolean stackTrace = this.retriableStackTrace || !SqlState.S40001_SERIALIZATION_FAILURE.code().equals(e.getSQLState());
+            return new TsurugiJdbcTransactionRollbackException(baseMessage, e.getSQLState(), e.getErrorCode(), e, stackTrace);
+        }
+
         String message = message(baseMessage, e);
 
         if (e instanceof SQLTransactionRollbackException) {
@@ -168,6 +283,42 @@ public class TsurugiJdbcExceptionHandler {
      * @return SQLException
      */
     public SQLException sqlException(String baseMessage, ServerException e) {
+        var errorClass = serverErrorClass(e);
+        return sqlException(baseMessage, errorClass, e);
+    }
+
+    /**
+     * Get classification of ServerException.
+     * <p>
+     * The classification is computed once per diagnostic code and cached.
+     * </p>
+     *
+     * @param e exception
+     * @return classification
+     * @since 0.5.0
+     */
+    public ServerErrorClass serverErrorClass(ServerException e) {
+        var diagnosticCode = e.getDiagnosticCode();
+        var errorClass = serverErrorClassMap.get(diagnosticCode);
+        if (errorClass != null && errorClass.getExceptionClass() == e.getClass()) {
+            return errorClass;
+        }
+
+        errorClass = createServerErrorClass(e);
+        if (serverErrorClassMap.size() < SERVER_ERROR_CLASS_MAP_SIZE) {
+            serverErrorClassMap.put(diagnosticCode, errorClass);
+        }
+        return errorClass;
+    }
+
+    /**
+     * Create classification of ServerException.
+     *
+     * @param e exception
+     * @return classification
+     * @since 0.5.0
+     */
+    protected ServerErrorClass createServerErrorClass(ServerException e) {
         var diagnosticCode = e.getDiagnosticCode();
 
         int prefix = 0;
@@ -175,7 +326,28 @@ public class TsurugiJdbcExceptionHandler {
         int codeNumber = diagnosticCode.getCodeNumber();
         int vendorCode = vendorCode(prefix, category, codeNumber);
 
-        return sqlException(baseMessage, vendorCode, e);
+        var exceptionClass = e.getClass();
+        if (e instanceof CcException) {
+            return new ServerErrorClass(exceptionClass, vendorCode, SqlState.S40001_SERIALIZATION_FAILURE, ServerErrorKind.TRANSACTION_ROLLBACK);
+        }
+        if (e instanceof CompileException) {
+            return new ServerErrorClass(exceptionClass, vendorCode, SqlState.S42000_SYNTAX_ERROR_OR_ACCESS_RULE_VIOLATION, ServerErrorKind.SYNTAX_ERROR);
+        }
+
+        // SqlExecutionException
+        if (e instanceof ConstraintViolationException) {
+            return new ServerErrorClass(exceptionClass, vendorCode, SqlState.S23000_INTEGRITY_CONSTRAINT_VIOLATION, ServerErrorKind.INTEGRITY_CONSTRAINT_VIOLATION);
+        }
+
+        // TODO convert ServerException to SQLException
+
+        if (e instanceof CoreServiceException) {
+            if (diagnosticCode == CoreServiceCode.AUTHENTICATION_ERROR) {
+                return new ServerErrorClass(exceptionClass, vendorCode, SqlState.S28000_INVALID_AUTHORIZATION_SPECIFICATION, ServerErrorKind.INVALID_AUTHORIZATION);
+            }
+        }
+
+        return new ServerErrorClass(exceptionClass, vendorCode, null, ServerErrorKind.OTHER);
     }
 
     /**
@@ -219,36 +391,33 @@ public class TsurugiJdbcExceptionHandler {
      * Convert ServerException to SQLException.
      *
      * @param baseMessage base message
-     * @param vendorCode  vendor code
+     * @param errorClass  classification
      * @param e           exception
      * @return SQLException
+     * @since 0.5.0
      */
-    protected SQLException sqlException(String baseMessage, int vendorCode, ServerException e) {
-        String message = String.format("%s. %s: %s", baseMessage, e.getDiagnosticCode(), e.getMessage());
-
-        if (e instanceof CcException) {
-            var state = SqlState.S40001_SERIALIZATION_FAILURE;
-            return new SQLTransactionRollbackException(message, state.code(), vendorCode, e);
-        }
-        if (e instanceof CompileException) {
-            return new SQLSyntaxErrorException(message, SqlState.S42000_SYNTAX_ERROR_OR_ACCESS_RULE_VIOLATION.code(), vendorCode, e);
-        }
-
-        // SqlExecutionException
-        if (e instanceof ConstraintViolationException) {
-            return new SQLIntegrityConstraintViolationException(message, SqlState.S23000_INTEGRITY_CONSTRAINT_VIOLATION.code(), vendorCode, e);
-        }
-
-        // TODO convert ServerException to SQLException
-
-        if (e instanceof CoreServiceException) {
-            var diagnosticCode = e.getDiagnosticCode();
-            if (diagnosticCode == CoreServiceCode.AUTHENTICATION_ERROR) {
-                return new SQLInvalidAuthorizationSpecException(message, SqlState.S28000_INVALID_AUTHORIZATION_SPECIFICATION.code(), vendorCode, e);
-            }
+    protected SQLException sqlException(String baseMessage, ServerErrorClass errorClass, ServerException e) {
+        int vendorCode = errorClass.getVendorCode();
+        var state = errorClass.getSqlState();
+        String stateCode = (state != null) ? state.code() : null;
+
+        switch (errorClass.getKind()) {
+        case TRANSACTION_ROLLBACK:
+            boolean stackTrace = this.retriableStackTrace || state != SqlState.S40001_SERIALIZATION_FAILURE;
+            return new TsurugiJdbcTransactionRollbackException(baseMessage, stateCode, vendorCode, e, stackTrace);
+        case SYNTAX_ERROR:
+            return new SQLSyntaxErrorException(serverMessage(baseMessage, e), stateCode, vendorCode, e);
+        case INTEGRITY_CONSTRAINT_VIOLATION:
+            return new SQLIntegrityConstraintViolationException(serverMessage(baseMessage, e), stateCode, vendorCode, e);
+        case INVALID_AUTHORIZATION:
+            return new SQLInvalidAuthorizationSpecException(serverMessage(baseMessage, e), stateCode, vendorCode, e);
+        default:
+            return new SQLException(serverMessage(baseMessage, e), stateCode, vendorCode, e);
         }
+    }
 
-        return new SQLException(message, null, vendorCode, e);
+    static String serverMessage(String baseMessage, ServerException e) {
+        return baseMessage + ". " + e.getDiagnosticCode() + ": " + e.getMessage();
     }
 
     // Data
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.exception;
+
+import java.sql.SQLTransactionRollbackException;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * SQLTransactionRollbackException converted from ServerException or re-thrown with a base message.
+ * <p>
+ * The message is formatted when it is first requested, and the stack trace is not captured if {@code stackTrace} is {@code false}.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+@SuppressWarnings("serial")
+public class TsurugiJdbcTransactionRollbackException extends SQLTransactionRollbackException {
+
+    private final String baseMessage;
+    private volatile String message = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param baseMessage base message
+     * @param sqlState    SQLState
+     * @param vendorCode  vendor code
+     * @param cause       the cause
+     * @param stackTrace  {@code true} if capture the stack trace
+     */
+    public TsurugiJdbcTransactionRollbackException(String baseMessage, String sqlState, int vendorCode, Exception cause, boolean stackTrace) {
+        super(null, sqlState, vendorCode, cause);
+        this.baseMessage = baseMessage;
+        if (stackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        String s = this.message;
+        if (s == null) {
+            var cause = getCause();
+            if (cause instanceof ServerException) {
+                s = TsurugiJdbcExceptionHandler.serverMessage(baseMessage, (ServerException) cause);
+            } else {
+                String causeMessage = (cause != null) ? cause.getMessage() : null;
+                s = (causeMessage != null && !causeMessage.isEmpty()) ? baseMessage + " (" + causeMessage + ")" : baseMessage;
+            }
+            this.message = s;
+        }
+        return s;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // the stack trace is captured in the constructor if required
+        return this;
+    }
+}
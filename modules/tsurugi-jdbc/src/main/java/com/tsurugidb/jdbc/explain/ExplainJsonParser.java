@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.explain;
+
+import com.tsurugidb.jdbc.explain.TsurugiJdbcExplainNode.Kind;
+
+/**
+ * JSON parser for execution plan.
+ * <p>
+ * Minimal JSON parser which builds {@link TsurugiJdbcExplainNode} tree. Numbers are kept as text.
+ * </p>
+ */
+class ExplainJsonParser {
+
+    private final String json;
+    private int position = 0;
+
+    ExplainJsonParser(String json) {
+        this.json = json;
+    }
+
+    TsurugiJdbcExplainNode parse() {
+        var root = parseValue(null, null);
+        skipWhitespace();
+        if (position < json.length()) {
+            throw error("unexpected trailing characters");
+        }
+        return root;
+    }
+
+    private TsurugiJdbcExplainNode parseValue(TsurugiJdbcExplainNode parent, String name) {
+        skipWhitespace();
+        if (position >= json.length()) {
+            throw error("unexpected end of JSON");
+        }
+
+        char c = json.charAt(position);
+        switch (c) {
+        case '{':
+            return parseObject(parent, name);
+        case '[':
+            return parseArray(parent, name);
+        case '"':
+            return new TsurugiJdbcExplainNode(parent, name, Kind.STRING, parseString());
+        case 't':
+            expectLiteral("true");
+            return new TsurugiJdbcExplainNode(parent, name, Kind.BOOLEAN, "true");
+        case 'f':
+            expectLiteral("false");
+            return new TsurugiJdbcExplainNode(parent, name, Kind.BOOLEAN, "false");
+        case 'n':
+            expectLiteral("null");
+            return new TsurugiJdbcExplainNode(parent, name, Kind.NULL, null);
+        default:
+            if (c == '-' || ('0' <= c && c <= '9')) {
+                return new TsurugiJdbcExplainNode(parent, name, Kind.NUMBER, parseNumber());
+            }
+            throw error("unexpected character '" + c + "'");
+        }
+    }
+
+    private TsurugiJdbcExplainNode parseObject(TsurugiJdbcExplainNode parent, String name) {
+        var node = new TsurugiJdbcExplainNode(parent, name, Kind.OBJECT, null);
+        position++; // '{'
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return node;
+        }
+        for (;;) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("member name expected");
+            }
+            String memberName = parseString();
+            skipWhitespace();
+            expect(':');
+            node.addChild(parseValue(node, memberName));
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return node;
+            }
+            if (c != ',') {
+                throw error("',' or '}' expected");
+            }
+        }
+    }
+
+    private TsurugiJdbcExplainNode parseArray(TsurugiJdbcExplainNode parent, String name) {
+        var node = new TsurugiJdbcExplainNode(parent, name, Kind.ARRAY, null);
+        position++; // '['
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return node;
+        }
+        for (int index = 0;; index++) {
+            node.addChild(parseValue(node, Integer.toString(index)));
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return node;
+            }
+            if (c != ',') {
+                throw error("',' or ']' expected");
+            }
+        }
+    }
+
+    private String parseString() {
+        position++; // '"'
+        var sb = new StringBuilder();
+        for (;;) {
+            char c = next();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char e = next();
+            switch (e) {
+            case '"':
+            case '\\':
+            case '/':
+                sb.append(e);
+                break;
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                if (position + 4 > json.length()) {
+                    throw error("unexpected end of JSON");
+                }
+                try {
+                    sb.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                } catch (NumberFormatException ex) {
+                    throw error("illegal unicode escape");
+                }
+                position += 4;
+                break;
+            default:
+                throw error("illegal escape '\\" + e + "'");
+            }
+        }
+    }
+
+    private String parseNumber() {
+        int start = position;
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (('0' <= c && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        return json.substring(start, position);
+    }
+
+    private void expectLiteral(String literal) {
+        if (!json.startsWith(literal, position)) {
+            throw error("'" + literal + "' expected");
+        }
+        position += literal.length();
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("'" + expected + "' expected");
+        }
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("unexpected end of JSON");
+        }
+        return json.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("explain JSON parse error. " + message + " (position=" + position + ")");
+    }
+}
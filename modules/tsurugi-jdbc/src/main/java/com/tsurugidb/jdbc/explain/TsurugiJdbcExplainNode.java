@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.explain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tsurugi JDBC Explain Node.
+ * <p>
+ * A node of the execution plan tree. Each JSON value of the plan becomes one node.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcExplainNode {
+
+    /**
+     * Node kind.
+     */
+    public enum Kind {
+        /** JSON object. */
+        OBJECT,
+        /** JSON array. */
+        ARRAY,
+        /** JSON string. */
+        STRING,
+        /** JSON number. */
+        NUMBER,
+        /** JSON boolean. */
+        BOOLEAN,
+        /** JSON null. */
+        NULL,
+    }
+
+    /**
+     * Parse execution plan.
+     *
+     * @param json execution plan (JSON)
+     * @return root node
+     * @throws IllegalArgumentException if the JSON is malformed
+     */
+    public static TsurugiJdbcExplainNode parse(String json) {
+        return new ExplainJsonParser(json).parse();
+    }
+
+    private final TsurugiJdbcExplainNode parent;
+    private final String name;
+    private final Kind kind;
+    private final String value;
+    private final int depth;
+    private final List<TsurugiJdbcExplainNode> children;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param parent parent node. null if root
+     * @param name   member name (object member) or index (array element). null if root
+     * @param kind   node kind
+     * @param value  scalar value. null if object, array or null
+     */
+    protected TsurugiJdbcExplainNode(@Nullable TsurugiJdbcExplainNode parent, @Nullable String name, Kind kind, @Nullable String value) {
+        this.parent = parent;
+        this.name = name;
+        this.kind = kind;
+        this.value = value;
+        this.depth = (parent != null) ? parent.depth + 1 : 0;
+        this.children = (kind == Kind.OBJECT || kind == Kind.ARRAY) ? new ArrayList<>() : List.of();
+    }
+
+    void addChild(TsurugiJdbcExplainNode child) {
+        children.add(child);
+    }
+
+    /**
+     * Get parent node.
+     *
+     * @return parent node. null if root
+     */
+    public @Nullable TsurugiJdbcExplainNode getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Get member name.
+     *
+     * @return member name (object member) or index (array element). null if root
+     */
+    public @Nullable String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get node kind.
+     *
+     * @return node kind
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Get scalar value.
+     *
+     * @return scalar value. null if object, array or null
+     */
+    public @Nullable String getValue() {
+        return this.value;
+    }
+
+    /**
+     * Get depth.
+     *
+     * @return depth (root is 0)
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Get path from root.
+     *
+     * @return path (e.g. {@code $.operators[0].kind})
+     */
+    public String getPath() {
+        if (this.parent == null) {
+            return "$";
+        }
+        String parentPath = parent.getPath();
+        if (parent.kind == Kind.ARRAY) {
+            return parentPath + "[" + name + "]";
+        }
+        return parentPath + "." + name;
+    }
+
+    /**
+     * Get child nodes.
+     *
+     * @return child nodes
+     */
+    public List<TsurugiJdbcExplainNode> getChildren() {
+        return Collections.unmodifiableList(this.children);
+    }
+
+    /**
+     * Get child node.
+     *
+     * @param name member name or index
+     * @return child node
+     */
+    public Optional<TsurugiJdbcExplainNode> getChild(String name) {
+        for (var child : children) {
+            if (child.name.equals(name)) {
+                return Optional.of(child);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get child scalar value.
+     *
+     * @param name member name or index
+     * @return scalar value
+     */
+    public Optional<String> getChildValue(String name) {
+        return getChild(name).map(TsurugiJdbcExplainNode::getValue);
+    }
+
+    /**
+     * Find descendant nodes (including this node) by member name.
+     *
+     * @param name member name
+     * @return nodes (depth-first order)
+     */
+    public List<TsurugiJdbcExplainNode> findAll(String name) {
+        var list = new ArrayList<TsurugiJdbcExplainNode>();
+        forEach(node -> {
+            if (name.equals(node.name)) {
+                list.add(node);
+            }
+        });
+        return list;
+    }
+
+    /**
+     * Visit this node and its descendants (depth-first order).
+     *
+     * @param action action
+     */
+    public void forEach(Consumer<TsurugiJdbcExplainNode> action) {
+        action.accept(this);
+        for (var child : children) {
+            child.forEach(action);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcExplainNode(path=" + getPath() + ", kind=" + kind + ", value=" + value + ")";
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.explain;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import com.tsurugidb.jdbc.factory.GetFactory;
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.resultset.FixedResultSet;
+import com.tsurugidb.jdbc.resultset.FixedResultSetColumn;
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
+
+/**
+ * Tsurugi JDBC Explain Result.
+ * <p>
+ * Holds the execution plan returned by the server as JSON text, and provides it as a node tree or a ResultSet.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcExplainResult implements GetFactory {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param owner    owner
+     * @param metadata statement metadata
+     * @return explain result
+     */
+    public static TsurugiJdbcExplainResult of(GetFactory owner, StatementMetadata metadata) {
+        return new TsurugiJdbcExplainResult(owner, metadata.getFormatId(), metadata.getFormatVersion(), metadata.getContents());
+    }
+
+    private final GetFactory owner;
+    private final String formatId;
+    private final long formatVersion;
+    private final String json;
+    private TsurugiJdbcExplainNode root = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param owner         owner
+     * @param formatId      format ID
+     * @param formatVersion format version
+     * @param json          execution plan (JSON)
+     */
+    public TsurugiJdbcExplainResult(GetFactory owner, String formatId, long formatVersion, String json) {
+        this.owner = owner;
+        this.formatId = formatId;
+        this.formatVersion = formatVersion;
+        this.json = json;
+    }
+
+    @Override
+    public TsurugiJdbcFactory getFactory() {
+        return owner.getFactory();
+    }
+
+    /**
+     * Get format ID.
+     *
+     * @return format ID
+     */
+    public String getFormatId() {
+        return this.formatId;
+    }
+
+    /**
+     * Get format version.
+     *
+     * @return format version
+     */
+    public long getFormatVersion() {
+        return this.formatVersion;
+    }
+
+    /**
+     * Get execution plan.
+     *
+     * @return execution plan (JSON)
+     */
+    public String getJson() {
+        return this.json;
+    }
+
+    /**
+     * Get root node of execution plan.
+     *
+     * @return root node
+     * @throws SQLException if the execution plan cannot be parsed
+     */
+    public synchronized TsurugiJdbcExplainNode getRoot() throws SQLException {
+        if (this.root == null) {
+            try {
+                this.root = TsurugiJdbcExplainNode.parse(json);
+            } catch (IllegalArgumentException e) {
+                throw getFactory().getExceptionHandler().sqlException("explain parse error", e);
+            }
+        }
+        return this.root;
+    }
+
+    /**
+     * Get execution plan as ResultSet.
+     * <p>
+     * Each node of the execution plan becomes one row (depth-first order).
+     * </p>
+     *
+     * @return execution plan
+     * @throws SQLException if the execution plan cannot be parsed
+     */
+    public ResultSet getResultSet() throws SQLException {
+        var columns = List.of( //
+                FixedResultSetColumn.ofInt("NODE_ID"), //
+                FixedResultSetColumn.ofIntNullable("PARENT_ID"), //
+                FixedResultSetColumn.ofInt("DEPTH"), //
+                FixedResultSetColumn.ofString("PATH"), //
+                FixedResultSetColumn.ofStringNullable("NAME"), //
+                FixedResultSetColumn.ofString("KIND"), //
+                FixedResultSetColumn.ofStringNullable("VALUE"));
+
+        var valuesList = new ArrayList<Object[]>();
+        var idMap = new IdentityHashMap<TsurugiJdbcExplainNode, Integer>();
+        getRoot().forEach(node -> {
+            int id = idMap.size() + 1;
+            idMap.put(node, id);
+            var parent = node.getParent();
+            Object[] values = { //
+                    id, // NODE_ID
+                    (parent != null) ? idMap.get(parent) : null, // PARENT_ID
+                    node.getDepth(), // DEPTH
+                    node.getPath(), // PATH
+                    node.getName(), // NAME
+                    node.getKind().name(), // KIND
+                    node.getValue(), // VALUE
+            };
+            valuesList.add(values);
+        });
+
+        return new FixedResultSet(this, columns, valuesList);
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcExplainResult(formatId=" + formatId + ", formatVersion=" + formatVersion + ", json=" + json + ")";
+    }
+}
@@ -15,14 +15,27 @@
  */
 package com.tsurugidb.jdbc.factory;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.tsurugidb.jdbc.TsurugiConfig;
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcMetadataCache;
+import com.tsurugidb.jdbc.driver.TsurugiJdbcSessionProvider;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionDispatcher;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcSlowStatementLog;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcStatementStatistics;
 import com.tsurugidb.jdbc.resultset.AbstractResultSet;
 import com.tsurugidb.jdbc.resultset.TsurugiJdbcResultSet;
 import com.tsurugidb.jdbc.resultset.TsurugiJdbcResultSetConfig;
@@ -35,6 +48,9 @@ import com.tsurugidb.jdbc.statement.TsurugiJdbcStatement;
 import com.tsurugidb.jdbc.statement.TsurugiJdbcStatementConfig;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcBlob;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcClob;
+import com.tsurugidb.jdbc.statement.type.TsurugiJdbcLobTmpFileManager;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcAdaptiveTransactionPolicy;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcScanParallelPolicy;
 import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
 import com.tsurugidb.jdbc.util.TsurugiJdbcConvertUtil;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
@@ -45,6 +61,7 @@ import com.tsurugidb.sql.proto.SqlCommon;
 import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
 import com.tsurugidb.tsubakuro.common.Session;
 import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
 import com.tsurugidb.tsubakuro.sql.Transaction;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
@@ -76,6 +93,7 @@ public class TsurugiJdbcFactory {
     private TsurugiJdbcExceptionHandler exceptionHandler = new TsurugiJdbcExceptionHandler();
     private TsurugiJdbcSqlTypeUtil sqlTypeUtil = new TsurugiJdbcSqlTypeUtil();
     private TsurugiJdbcIoUtil ioUtil = new TsurugiJdbcIoUtil(this);
+    private final List<TsurugiJdbcExecutionListener> executionListenerList = new CopyOnWriteArrayList<>();
 
     /**
      * Set exception handler.
@@ -113,6 +131,70 @@ public class TsurugiJdbcFactory {
         return this.sqlTypeUtil;
     }
 
+    /**
+     * Add execution listener.
+     * <p>
+     * The listener is applied to connections created after this call.
+     * </p>
+     *
+     * @param listener execution listener
+     * @since 0.5.0
+     */
+    public void addExecutionListener(@Nonnull TsurugiJdbcExecutionListener listener) {
+        executionListenerList.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Remove execution listener.
+     *
+     * @param listener execution listener
+     * @since 0.5.0
+     */
+    public void removeExecutionListener(TsurugiJdbcExecutionListener listener) {
+        executionListenerList.remove(listener);
+    }
+
+    /**
+     * Create execution listener dispatcher.
+     *
+     * @param connection connection
+     * @param classNames execution listener class names
+     * @return dispatcher. null if no listener is registered
+     * @throws SQLException if the listener class cannot be instantiated
+     * @since 0.5.0
+     */
+    public TsurugiJdbcExecutionDispatcher createExecutionDispatcher(TsurugiJdbcConnection connection, List<String> classNames) throws SQLException {
+        var list = new ArrayList<TsurugiJdbcExecutionListener>(executionListenerList);
+        for (String className : classNames) {
+            list.add(createExecutionListener(className));
+        }
+        if (list.isEmpty()) {
+            return null;
+        }
+        return new TsurugiJdbcExecutionDispatcher(connection, list);
+    }
+
+    /**
+     * Create execution listener.
+     *
+     * @param className class name
+     * @return execution listener
+     * @throws SQLException if the listener class cannot be instantiated
+     * @since 0.5.0
+     */
+    protected TsurugiJdbcExecutionListener createExecutionListener(String className) throws SQLException {
+        try {
+            var loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null) {
+                loader = TsurugiJdbcFactory.class.getClassLoader();
+            }
+            var c = Class.forName(className.trim(), true, loader);
+            return c.asSubclass(TsurugiJdbcExecutionListener.class).getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("Execution listener create error. className=" + className, e);
+        }
+    }
+
     /**
      * Create Tsurugi JDBC connection.
      *
@@ -133,7 +215,50 @@ public class TsurugiJdbcFactory {
      * @return connection
      */
     public TsurugiJdbcConnection createConnection(Session lowSession, TsurugiJdbcConnectionConfig config) {
-        return new TsurugiJdbcConnection(this, lowSession, config);
+        var lowSqlClient = createLowSqlClient(lowSession);
+        return new TsurugiJdbcConnection(this, lowSession, lowSqlClient, config);
+    }
+
+    /**
+     * Create low-level SQL client.
+     *
+     * @param lowSession session
+     * @return SQL client
+     * @since 0.5.0
+     */
+    public SqlClient createLowSqlClient(Session lowSession) {
+        for (var provider : getSessionProviders()) {
+            var sqlClient = provider.createSqlClient(lowSession);
+            if (sqlClient != null) {
+                return sqlClient;
+            }
+        }
+        return SqlClient.attach(lowSession);
+    }
+
+    private static final class SessionProviderHolder {
+        static final List<TsurugiJdbcSessionProvider> PROVIDERS = load();
+
+        private static List<TsurugiJdbcSessionProvider> load() {
+            var list = new ArrayList<TsurugiJdbcSessionProvider>();
+            for (var provider : ServiceLoader.load(TsurugiJdbcSessionProvider.class, TsurugiJdbcFactory.class.getClassLoader())) {
+                list.add(provider);
+            }
+            return List.copyOf(list);
+        }
+    }
+
+    /**
+     * Get session providers.
+     * <p>
+     * The providers are loaded by {@link ServiceLoader} once.
+     * </p>
+     *
+     * @return session providers
+     * @since 0.5.0
+     */
+    public List<TsurugiJdbcSessionProvider> getSessionProviders() {
+        return SessionProviderHolder.PROVIDERS;
     }
 
     /**
@@ -156,6 +281,107 @@ public class TsurugiJdbcFactory {
         return new TsurugiJdbcClob(1024);
     }
 
+    /**
+     * Create large object temporary file manager.
+     *
+     * @param config connection configuration
+     * @return temporary file manager
+     * @since 0.5.0
+     */
+    public TsurugiJdbcLobTmpFileManager createLobTmpFileManager(TsurugiJdbcConnectionConfig config) {
+        return new TsurugiJdbcLobTmpFileManager(config.getLobTmpDir(), config.getLobTmpFilePoolSize());
+    }
+
+    /**
+     * Get metadata cache.
+     *
+     * @param config connection configuration
+     * @param user   authenticated user, or {@code null} if unknown
+     * @return metadata cache shared by the endpoint and the user. If the user is unknown, a cache which is not shared
+     * @since 0.5.0
+     */
+    public TsurugiJdbcMetadataCache getMetadataCache(TsurugiJdbcConnectionConfig config, @Nullable String user) {
+        if (user == null) {
+            return new TsurugiJdbcMetadataCache(config.getEndpoint(), null);
+        }
+        return TsurugiJdbcMetadataCache.of(config.getEndpoint(), user);
+    }
+
+    /**
+     * Invalidate metadata caches of the endpoint.
+     *
+     * @param config connection configuration
+     * @since 0.5.0
+     */
+    public void invalidateMetadataCache(TsurugiJdbcConnectionConfig config) {
+        TsurugiJdbcMetadataCache.invalidate(config.getEndpoint());
+    }
+
+    /**
+     * Get adaptive transaction policy.
+     *
+     * @param config connection configuration
+     * @return adaptive transaction policy shared by the endpoint
+     * @since 0.5.0
+     */
+    public TsurugiJdbcAdaptiveTransactionPolicy getAdaptiveTransactionPolicy(TsurugiJdbcConnectionConfig config) {
+        return TsurugiJdbcAdaptiveTransactionPolicy.of(config.getEndpoint());
+    }
+
+    /**
+     * Get adaptive scan parallel policy.
+     *
+     * @param config connection configuration
+     * @return adaptive scan parallel policy shared by the endpoint
+     * @since 0.5.0
+     */
+    public TsurugiJdbcScanParallelPolicy getScanParallelPolicy(TsurugiJdbcConnectionConfig config) {
+        return TsurugiJdbcScanParallelPolicy.of(config.getEndpoint());
+    }
+
+    /**
+     * Get metrics.
+     *
+     * @param config connection configuration
+     * @return metrics shared by the endpoint
+     * @since 0.5.0
+     */
+    public TsurugiJdbcMetrics getMetrics(TsurugiJdbcConnectionConfig config) {
+        return TsurugiJdbcMetrics.of(config.getEndpoint());
+    }
+
+    /**
+     * Create slow statement log.
+     *
+     * @param config connection configuration
+     * @return slow statement log. null if disabled
+     * @since 0.5.0
+     */
+    public TsurugiJdbcSlowStatementLog createSlowStatementLog(TsurugiJdbcConnectionConfig config) {
+        int threshold = config.getSlowStatementThreshold();
+        if (threshold <= 0) {
+            return null;
+        }
+        return new TsurugiJdbcSlowStatementLog(threshold, config.getSlowStatementExplain());
+    }
+
+    /**
+     * Get statement statistics.
+     *
+     * @param config connection configuration
+     * @return statement statistics shared by the endpoint. null if disabled
+     * @since 0.5.0
+     */
+    public TsurugiJdbcStatementStatistics getStatementStatistics(TsurugiJdbcConnectionConfig config) {
+        int size = config.getStatementStatisticsSize();
+        if (size <= 0) {
+            return null;
+        }
+        var statistics = TsurugiJdbcStatementStatistics.of(config.getEndpoint());
+        statistics.ensureMaxSize(size);
+        return statistics;
+    }
+
     /**
      * Create Tsurugi JDBC statement.
      *
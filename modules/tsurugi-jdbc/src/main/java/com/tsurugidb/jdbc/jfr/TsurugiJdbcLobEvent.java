@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for LOB upload and download.
+ *
+ * @since 0.5.0
+ */
+@Name("com.tsurugidb.jdbc.Lob")
+@Label("Tsurugi JDBC LOB")
+@Category({ "Tsurugi", "JDBC" })
+@Description("Upload or download of a BLOB/CLOB")
+public class TsurugiJdbcLobEvent extends jdk.jfr.Event {
+
+    /** operation (UPLOAD, OPEN, INLINE_FETCH or COPY) */
+    @Label("Operation")
+    public String operation;
+
+    /** LOB type (BLOB or CLOB) */
+    @Label("LOB Type")
+    public String lobType;
+
+    /** transaction label */
+    @Label("Transaction Label")
+    public String transactionLabel;
+
+    /** whether the operation succeeded */
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * End the event and commit it if enabled.
+     *
+     * @param operation        operation
+     * @param lobType          LOB type
+     * @param transactionLabel transaction label
+     * @param success          whether the operation succeeded
+     */
+    public void finish(String operation, String lobType, String transactionLabel, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.lobType = lobType;
+            this.transactionLabel = transactionLabel;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.jfr;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the lifetime of a ResultSet.
+ *
+ * @since 0.5.0
+ */
+@Name("com.tsurugidb.jdbc.ResultSet")
+@Label("Tsurugi JDBC ResultSet")
+@Category({ "Tsurugi", "JDBC" })
+@Description("From the query execution to the ResultSet close")
+public class TsurugiJdbcResultSetEvent extends jdk.jfr.Event {
+
+    /** SQL fingerprint */
+    @Label("SQL Fingerprint")
+    public String sqlFingerprint;
+
+    /** transaction label */
+    @Label("Transaction Label")
+    public String transactionLabel;
+
+    /** number of rows read */
+    @Label("Row Count")
+    public long rowCount;
+
+    /** whether all rows were read */
+    @Label("Completed")
+    public boolean completed;
+
+    /**
+     * End the event and commit it if enabled.
+     *
+     * @param sql              SQL
+     * @param transactionLabel transaction label
+     * @param rowCount         number of rows read
+     * @param completed        whether all rows were read
+     */
+    public void finish(String sql, String transactionLabel, long rowCount, boolean completed) {
+        end();
+        if (shouldCommit()) {
+            this.sqlFingerprint = SqlFingerprint.of(sql);
+            this.transactionLabel = transactionLabel;
+            this.rowCount = rowCount;
+            this.completed = completed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.jfr;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+import com.tsurugidb.sql.proto.SqlRequest;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for transaction begin, commit and rollback.
+ *
+ * @since 0.5.0
+ */
+@Name("com.tsurugidb.jdbc.Transaction")
+@Label("Tsurugi JDBC Transaction")
+@Category({ "Tsurugi", "JDBC" })
+@Description("Begin, commit or rollback of a Tsurugi transaction")
+public class TsurugiJdbcTransactionEvent extends jdk.jfr.Event {
+
+    /** operation (BEGIN, COMMIT or ROLLBACK) */
+    @Label("Operation")
+    public String operation;
+
+    /** transaction type */
+    @Label("Transaction Type")
+    public String transactionType;
+
+    /** transaction label */
+    @Label("Transaction Label")
+    public String transactionLabel;
+
+    /** fingerprint of the first SQL in the transaction */
+    @Label("SQL Fingerprint")
+    public String sqlFingerprint;
+
+    /** whether the operation succeeded */
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * End the event and commit it if enabled.
+     *
+     * @param operation operation
+     * @param option    transaction option
+     * @param sql       first SQL in the transaction
+     * @param success   whether the operation succeeded
+     */
+    public void finish(String operation, @Nullable SqlRequest.TransactionOption option, @Nullable String sql, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            if (option != null) {
+                this.transactionType = option.getType().name();
+                this.transactionLabel = option.getLabel();
+            }
+            this.sqlFingerprint = SqlFingerprint.of(sql);
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for waiting for a response from the server.
+ *
+ * @since 0.5.0
+ */
+@Name("com.tsurugidb.jdbc.Wait")
+@Label("Tsurugi JDBC Wait")
+@Category({ "Tsurugi", "JDBC" })
+@Description("Waiting for a response from the Tsurugi server")
+public class TsurugiJdbcWaitEvent extends jdk.jfr.Event {
+
+    /** operation (caller of the wait) */
+    @Label("Operation")
+    public String operation;
+
+    /** timeout */
+    @Label("Timeout")
+    @Timespan(Timespan.NANOSECONDS)
+    public long timeout;
+
+    /** whether the wait timed out */
+    @Label("Timed Out")
+    public boolean timedOut;
+}
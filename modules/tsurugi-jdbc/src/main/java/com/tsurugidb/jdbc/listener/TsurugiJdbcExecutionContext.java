@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener.Operation;
+
+/**
+ * Tsurugi JDBC execution context.
+ * <p>
+ * A context is created for each operation only when listeners are registered, and is shared by the listeners.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcExecutionContext {
+
+    final TsurugiJdbcExecutionDispatcher dispatcher;
+    private final Operation operation;
+    private final String sql;
+    private final String transactionLabel;
+    private final long startNanoTime = System.nanoTime();
+    private long endNanoTime = 0;
+    private long rowCount = -1;
+    private Throwable exception = null;
+    private Object[] attachments = null;
+    int listenerIndex = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param dispatcher       dispatcher
+     * @param operation        operation
+     * @param sql              SQL
+     * @param transactionLabel transaction label
+     */
+    protected TsurugiJdbcExecutionContext(TsurugiJdbcExecutionDispatcher dispatcher, Operation operation, @Nullable String sql, @Nullable String transactionLabel) {
+        this.dispatcher = dispatcher;
+        this.operation = operation;
+        this.sql = sql;
+        this.transactionLabel = transactionLabel;
+    }
+
+    void end(long rowCount, @Nullable Throwable exception) {
+        this.endNanoTime = System.nanoTime();
+        this.rowCount = rowCount;
+        this.exception = exception;
+    }
+
+    /**
+     * Get operation.
+     *
+     * @return operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Get connection.
+     *
+     * @return connection
+     */
+    public TsurugiJdbcConnection getConnection() {
+        return dispatcher.getConnection();
+    }
+
+    /**
+     * Get SQL.
+     *
+     * @return SQL. null if the operation is not related to a statement
+     */
+    public @Nullable String getSql() {
+        return sql;
+    }
+
+    /**
+     * Get transaction label.
+     *
+     * @return transaction label. null if not in a transaction
+     */
+    public @Nullable String getTransactionLabel() {
+        return transactionLabel;
+    }
+
+    /**
+     * Get start time.
+     *
+     * @return start time ({@link System#nanoTime()})
+     */
+    public long getStartNanoTime() {
+        return startNanoTime;
+    }
+
+    /**
+     * Get elapsed time.
+     *
+     * @return elapsed time [nanoseconds]. 0 before the operation ends
+     */
+    public long getElapsedNanos() {
+        if (endNanoTime == 0) {
+            return 0;
+        }
+        return endNanoTime - startNanoTime;
+    }
+
+    /**
+     * Get number of rows.
+     *
+     * @return number of rows returned (FETCH) or affected (EXECUTE). -1 if unknown
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get exception.
+     *
+     * @return exception. null if succeeded
+     */
+    public @Nullable Throwable getException() {
+        return exception;
+    }
+
+    /**
+     * Whether the operation succeeded.
+     *
+     * @return {@code true} if succeeded
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Set attachment of the current listener.
+     * <p>
+     * Each listener has its own attachment, which can be used to pass state (for example, a tracing span) from {@code before} to {@code after}.
+     * </p>
+     *
+     * @param attachment attachment
+     */
+    public void setAttachment(@Nullable Object attachment) {
+        if (this.attachments == null) {
+            this.attachments = new Object[dispatcher.getListenerCount()];
+        }
+        attachments[listenerIndex] = attachment;
+    }
+
+    /**
+     * Get attachment of the current listener.
+     *
+     * @return attachment
+     */
+    public @Nullable Object getAttachment() {
+        if (this.attachments == null) {
+            return null;
+        }
+        return attachments[listenerIndex];
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcExecutionContext{operation=" + operation + ", sql=" + sql + ", transactionLabel=" + transactionLabel + ", elapsedNanos=" + getElapsedNanos() + ", rowCount="
+                + rowCount + ", exception=" + exception + "}";
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener.Operation;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
+
+/**
+ * Tsurugi JDBC execution listener dispatcher.
+ * <p>
+ * A dispatcher exists only when listeners are registered. The static methods accept a null dispatcher (or context) and do nothing, so the call sites cost only a null check
+ * when no listener is registered.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+@TsurugiJdbcInternal
+public class TsurugiJdbcExecutionDispatcher {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcExecutionDispatcher.class.getName());
+
+    /**
+     * Start operation.
+     *
+     * @param dispatcher  dispatcher
+     * @param operation   operation
+     * @param sql         SQL
+     * @param transaction transaction
+     * @return execution context. null if dispatcher is null
+     */
+    public static @Nullable TsurugiJdbcExecutionContext start(@Nullable TsurugiJdbcExecutionDispatcher dispatcher, Operation operation, @Nullable String sql,
+            @Nullable TsurugiJdbcTransaction transaction) {
+        if (dispatcher == null) {
+            return null;
+        }
+        String label = (transaction != null) ? transaction.getTransactionLabel() : null;
+        return dispatcher.start(operation, sql, label);
+    }
+
+    /**
+     * Notify that the operation succeeded.
+     *
+     * @param context  execution context
+     * @param rowCount number of rows. -1 if unknown
+     */
+    public static void succeeded(@Nullable TsurugiJdbcExecutionContext context, long rowCount) {
+        if (context == null) {
+            return;
+        }
+        context.dispatcher.end(context, rowCount, null);
+    }
+
+    /**
+     * Notify that the operation failed.
+     *
+     * @param context   execution context
+     * @param exception exception
+     */
+    public static void failed(@Nullable TsurugiJdbcExecutionContext context, Throwable exception) {
+        if (context == null) {
+            return;
+        }
+        context.dispatcher.end(context, -1, exception);
+    }
+
+    private final TsurugiJdbcConnection connection;
+    private final TsurugiJdbcExecutionListener[] listeners;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connection connection
+     * @param listeners  listeners
+     */
+    public TsurugiJdbcExecutionDispatcher(TsurugiJdbcConnection connection, List<TsurugiJdbcExecutionListener> listeners) {
+        this.connection = connection;
+        this.listeners = listeners.toArray(new TsurugiJdbcExecutionListener[0]);
+    }
+
+    /**
+     * Get connection.
+     *
+     * @return connection
+     */
+    public TsurugiJdbcConnection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Get number of listeners.
+     *
+     * @return number of listeners
+     */
+    public int getListenerCount() {
+        return listeners.length;
+    }
+
+    /**
+     * Start operation.
+     *
+     * @param operation        operation
+     * @param sql              SQL
+     * @param transactionLabel transaction label
+     * @return execution context
+     */
+    public TsurugiJdbcExecutionContext start(Operation operation, @Nullable String sql, @Nullable String transactionLabel) {
+        var context = new TsurugiJdbcExecutionContext(this, operation, sql, transactionLabel);
+        for (int i = 0; i < listeners.length; i++) {
+            context.listenerIndex = i;
+            try {
+                listeners[i].before(context);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "execution listener error. operation=" + operation, e);
+            }
+        }
+        return context;
+    }
+
+    /**
+     * End operation.
+     *
+     * @param context   execution context
+     * @param rowCount  number of rows
+     * @param exception exception
+     */
+    protected void end(TsurugiJdbcExecutionContext context, long rowCount, @Nullable Throwable exception) {
+        context.end(rowCount, exception);
+        for (int i = listeners.length - 1; i >= 0; i--) {
+            context.listenerIndex = i;
+            try {
+                listeners[i].after(context);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "execution listener error. operation=" + context.getOperation(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+/**
+ * Tsurugi JDBC execution listener.
+ * <p>
+ * Listeners are registered by {@link com.tsurugidb.jdbc.factory.TsurugiJdbcFactory#addExecutionListener(TsurugiJdbcExecutionListener)} or the
+ * {@link com.tsurugidb.jdbc.TsurugiConfig#EXECUTION_LISTENER executionListener} property, and are called before and after each operation. Callbacks are nested: for example,
+ * the commit of an auto-commit statement is called inside its execute. {@code after} is called in the reverse order of {@code before}.
+ * </p>
+ * <p>
+ * Callbacks are called on the thread which executes the operation, so they should return quickly. Exceptions thrown by a listener are logged and ignored.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public interface TsurugiJdbcExecutionListener {
+
+    /**
+     * Operation.
+     */
+    enum Operation {
+        /** prepare statement */
+        PREPARE,
+        /** execute statement (including the auto-commit) */
+        EXECUTE,
+        /** fetch rows from the ResultSet until it is completed or closed */
+        FETCH,
+        /** commit */
+        COMMIT,
+        /** rollback */
+        ROLLBACK,
+        /** LOB upload */
+        LOB_UPLOAD,
+        /** LOB download */
+        LOB_DOWNLOAD,
+    }
+
+    /**
+     * Called before the operation.
+     *
+     * @param context execution context
+     */
+    default void before(TsurugiJdbcExecutionContext context) {
+        // do nothing
+    }
+
+    /**
+     * Called after the operation.
+     * <p>
+     * The elapsed time, row count and exception are available from the context.
+     * </p>
+     *
+     * @param context execution context
+     */
+    default void after(TsurugiJdbcExecutionContext context) {
+        // do nothing
+    }
+}
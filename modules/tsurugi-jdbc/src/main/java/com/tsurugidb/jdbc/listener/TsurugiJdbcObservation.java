@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.jfr.TsurugiJdbcLobEvent;
+import com.tsurugidb.jdbc.jfr.TsurugiJdbcResultSetEvent;
+import com.tsurugidb.jdbc.jfr.TsurugiJdbcTransactionEvent;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener.Operation;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Tsurugi JDBC observation of an operation.
+ * <p>
+ * Feeds the result of one operation to the metrics, the JFR event, the statement statistics and the execution listeners. A call site takes the start time, starts an
+ * observation and ends it once by {@link #succeeded(TsurugiJdbcObservation, TsurugiJdbcMetrics, TsurugiJdbcMetrics.Operation, long, long)} or
+ * {@link #failed(TsurugiJdbcObservation, Throwable)}.
+ * </p>
+ * <p>
+ * An observation exists only when listeners are registered or the JFR event is enabled. Otherwise the start methods return null and the end methods record straight into the
+ * metrics, so the call sites do not allocate objects.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+@TsurugiJdbcInternal
+public final class TsurugiJdbcObservation {
+
+    private static final EventType LOB_EVENT_TYPE = EventType.getEventType(TsurugiJdbcLobEvent.class);
+    private static final EventType TRANSACTION_EVENT_TYPE = EventType.getEventType(TsurugiJdbcTransactionEvent.class);
+    private static final EventType RESULT_SET_EVENT_TYPE = EventType.getEventType(TsurugiJdbcResultSetEvent.class);
+
+    private enum Kind {
+        LOB, TRANSACTION, FETCH
+    }
+
+    /**
+     * Start LOB download.
+     *
+     * @param transaction transaction
+     * @param operation   JFR operation (OPEN, INLINE_FETCH or COPY)
+     * @param lobType     LOB type (BLOB or CLOB)
+     * @return observation. null if no listener is registered and the JFR event is disabled
+     */
+    public static @Nullable TsurugiJdbcObservation startLobDownload(TsurugiJdbcTransaction transaction, String operation, String lobType) {
+        var dispatcher = transaction.getExecutionDispatcher();
+        if (dispatcher == null && !LOB_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+
+        var observation = new TsurugiJdbcObservation(Kind.LOB, new TsurugiJdbcLobEvent(), transaction, operation, lobType, transaction.getTransactionLabel());
+        observation.context = TsurugiJdbcExecutionDispatcher.start(dispatcher, Operation.LOB_DOWNLOAD, null, transaction);
+        return observation;
+    }
+
+    /**
+     * Start LOB upload.
+     *
+     * @param connection connection
+     * @param lobType    LOB type (BLOB or CLOB)
+     * @return observation. null if no listener is registered and the JFR event is disabled
+     */
+    public static @Nullable TsurugiJdbcObservation startLobUpload(TsurugiJdbcConnection connection, String lobType) {
+        var dispatcher = connection.getExecutionDispatcher();
+        if (dispatcher == null && !LOB_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+
+        String label = connection.getTransactionLabel();
+        var observation = new TsurugiJdbcObservation(Kind.LOB, new TsurugiJdbcLobEvent(), null, "UPLOAD", lobType, label);
+        if (dispatcher != null) {
+            observation.context = dispatcher.start(Operation.LOB_UPLOAD, null, label);
+        }
+        return observation;
+    }
+
+    /**
+     * Start commit.
+     *
+     * @param transaction transaction
+     * @return observation. null if no listener is registered and the JFR event is disabled
+     */
+    public static @Nullable TsurugiJdbcObservation startCommit(TsurugiJdbcTransaction transaction) {
+        return startTransaction(transaction, Operation.COMMIT);
+    }
+
+    /**
+     * Start rollback.
+     *
+     * @param transaction transaction
+     * @return observation. null if no listener is registered and the JFR event is disabled
+     */
+    public static @Nullable TsurugiJdbcObservation startRollback(TsurugiJdbcTransaction transaction) {
+        return startTransaction(transaction, Operation.ROLLBACK);
+    }
+
+    private static TsurugiJdbcObservation startTransaction(TsurugiJdbcTransaction transaction, Operation operation) {
+        var dispatcher = transaction.getExecutionDispatcher();
+        if (dispatcher == null && !TRANSACTION_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+
+        var observation = new TsurugiJdbcObservation(Kind.TRANSACTION, new TsurugiJdbcTransactionEvent(), transaction, operation.name(), null, transaction.getTransactionLabel());
+        observation.sql = transaction.getSql();
+        observation.context = TsurugiJdbcExecutionDispatcher.start(dispatcher, operation, observation.sql, transaction);
+        return observation;
+    }
+
+    /**
+     * Start fetch of a ResultSet.
+     * <p>
+     * The execution listeners are notified when the SQL is set by {@link #startFetchListener(TsurugiJdbcObservation, String)}.
+     * </p>
+     *
+     * @param transaction transaction
+     * @return observation. null if no listener is registered and the JFR event is disabled
+     */
+    public static @Nullable TsurugiJdbcObservation startFetch(TsurugiJdbcTransaction transaction) {
+        if (transaction.getExecutionDispatcher() == null && !RESULT_SET_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+
+        return new TsurugiJdbcObservation(Kind.FETCH, new TsurugiJdbcResultSetEvent(), transaction, null, null, transaction.getTransactionLabel());
+    }
+
+    /**
+     * Notify the execution listeners of the start of the fetch.
+     *
+     * @param observation observation
+     * @param sql         SQL
+     */
+    public static void startFetchListener(@Nullable TsurugiJdbcObservation observation, String sql) {
+        if (observation == null) {
+            return;
+        }
+
+        observation.sql = sql;
+        var transaction = observation.transaction;
+        observation.context = TsurugiJdbcExecutionDispatcher.start(transaction.getExecutionDispatcher(), Operation.FETCH, sql, transaction);
+    }
+
+    /**
+     * End the operation successfully.
+     *
+     * @param observation   observation
+     * @param metrics       metrics. null if not recorded
+     * @param operation     metrics operation
+     * @param startNanoTime start time ({@link System#nanoTime()})
+     * @param rowCount      number of rows. -1 if unknown
+     * @return elapsed time [nanoseconds]
+     */
+    public static long succeeded(@Nullable TsurugiJdbcObservation observation, @Nullable TsurugiJdbcMetrics metrics, TsurugiJdbcMetrics.Operation operation, long startNanoTime,
+            long rowCount) {
+        long elapsed = System.nanoTime() - startNanoTime;
+        if (metrics != null) {
+            metrics.getHistogram(operation).record(elapsed);
+        }
+        if (observation != null) {
+            observation.finishEvent(rowCount, true);
+            TsurugiJdbcExecutionDispatcher.succeeded(observation.context, rowCount);
+        }
+        return elapsed;
+    }
+
+    /**
+     * End the operation with failure.
+     *
+     * @param observation observation
+     * @param exception   exception
+     */
+    public static void failed(@Nullable TsurugiJdbcObservation observation, Throwable exception) {
+        if (observation != null) {
+            observation.finishEvent(-1, false);
+            TsurugiJdbcExecutionDispatcher.failed(observation.context, exception);
+        }
+    }
+
+    /**
+     * Stop the fetch.
+     * <p>
+     * Records the latency to the metrics if completed, the fetch to the statement statistics, and ends the JFR event. The execution listeners are notified later by
+     * {@link #endFetch(TsurugiJdbcObservation, long, Throwable)}.
+     * </p>
+     *
+     * @param observation   observation
+     * @param transaction   transaction
+     * @param sql           SQL. null if unknown
+     * @param startNanoTime start time ({@link System#nanoTime()})
+     * @param rowCount      number of rows
+     * @param completed     whether all rows were fetched
+     * @return elapsed time [nanoseconds]
+     */
+    public static long stopFetch(@Nullable TsurugiJdbcObservation observation, TsurugiJdbcTransaction transaction, @Nullable String sql, long startNanoTime, long rowCount,
+            boolean completed) {
+        long elapsed = System.nanoTime() - startNanoTime;
+        var metrics = transaction.getMetrics();
+        if (completed && metrics != null) {
+            metrics.getHistogram(TsurugiJdbcMetrics.Operation.QUERY_FULL_SCAN).record(elapsed);
+        }
+        var statistics = transaction.getStatementStatistics();
+        if (statistics != null && sql != null) {
+            statistics.recordQuery(sql, elapsed, rowCount);
+        }
+        if (observation != null) {
+            observation.finishEvent(rowCount, completed);
+        }
+        return elapsed;
+    }
+
+    /**
+     * Notify the execution listeners of the end of the fetch.
+     *
+     * @param observation observation
+     * @param rowCount    number of rows
+     * @param exception   exception. null if succeeded
+     */
+    public static void endFetch(@Nullable TsurugiJdbcObservation observation, long rowCount, @Nullable Throwable exception) {
+        if (observation == null) {
+            return;
+        }
+
+        if (exception == null) {
+            TsurugiJdbcExecutionDispatcher.succeeded(observation.context, rowCount);
+        } else {
+            TsurugiJdbcExecutionDispatcher.failed(observation.context, exception);
+        }
+    }
+
+    private final Kind kind;
+    private final Event event;
+    private final @Nullable TsurugiJdbcTransaction transaction;
+    private final @Nullable String eventOperation;
+    private final @Nullable String lobType;
+    private final @Nullable String transactionLabel;
+    private @Nullable String sql = null;
+    private @Nullable TsurugiJdbcExecutionContext context = null;
+    private boolean finished = false;
+
+    private TsurugiJdbcObservation(Kind kind, Event event, @Nullable TsurugiJdbcTransaction transaction, @Nullable String eventOperation, @Nullable String lobType,
+            @Nullable String transactionLabel) {
+        this.kind = kind;
+        this.event = event;
+        this.transaction = transaction;
+        this.eventOperation = eventOperation;
+        this.lobType = lobType;
+        this.transactionLabel = transactionLabel;
+        event.begin();
+    }
+
+    private void finishEvent(long rowCount, boolean completed) {
+        if (this.finished) {
+            return;
+        }
+        this.finished = true;
+
+        switch (kind) {
+        case LOB:
+            ((TsurugiJdbcLobEvent) event).finish(eventOperation, lobType, transactionLabel, completed);
+            break;
+        case TRANSACTION:
+            ((TsurugiJdbcTransactionEvent) event).finish(eventOperation, transaction.getLowTransactionOption(), sql, completed);
+            break;
+        case FETCH:
+            ((TsurugiJdbcResultSetEvent) event).finish(sql, transactionLabel, rowCount, completed);
+            break;
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tsurugi JDBC latency histogram.
+ * <p>
+ * Latencies are counted in fixed buckets whose upper bounds are powers of two in microseconds. Recording is lock-free and does not allocate objects.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class TsurugiJdbcLatencyHistogram {
+
+    static final int BUCKET_SIZE = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_SIZE];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a new instance.
+     */
+    public TsurugiJdbcLatencyHistogram() {
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record latency.
+     *
+     * @param nanos latency [nanoseconds]
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[bucketIndex(value)].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Record latency from the start time.
+     *
+     * @param startNanoTime start time ({@link System#nanoTime()})
+     */
+    public void recordSince(long startNanoTime) {
+        record(System.nanoTime() - startNanoTime);
+    }
+
+    static int bucketIndex(long nanos) {
+        long micros = nanos / 1000;
+        int index = Long.SIZE - Long.numberOfLeadingZeros(micros);
+        return Math.min(index, BUCKET_SIZE - 1);
+    }
+
+    static long bucketUpperNanos(int index) {
+        return TimeUnit.MICROSECONDS.toNanos(1L << index);
+    }
+
+    /**
+     * Get number of records.
+     *
+     * @return count
+     */
+    public long getCount() {
+        long count = 0;
+        for (var bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Get snapshot.
+     *
+     * @return snapshot
+     */
+    public TsurugiJdbcLatencySnapshot getSnapshot() {
+        var counts = new long[BUCKET_SIZE];
+        long count = 0;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        long max = maxNanos.get();
+        if (count == 0) {
+            return new TsurugiJdbcLatencySnapshot(0, 0, 0, 0, 0, 0);
+        }
+
+        double mean = toMillis(totalNanos.sum()) / count;
+        return new TsurugiJdbcLatencySnapshot(count, mean, toMillis(max), //
+                percentile(counts, count, max, 0.50), percentile(counts, count, max, 0.90), percentile(counts, count, max, 0.99));
+    }
+
+    private static double percentile(long[] counts, long count, long max, double p) {
+        long rank = (long) Math.ceil(count * p);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_SIZE - 1; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return toMillis(Math.min(bucketUpperNanos(i), max));
+            }
+        }
+        return toMillis(max);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Reset all records.
+     * <p>
+     * Values recorded at the same time may be partially lost.
+     * </p>
+     */
+    public void reset() {
+        for (var bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
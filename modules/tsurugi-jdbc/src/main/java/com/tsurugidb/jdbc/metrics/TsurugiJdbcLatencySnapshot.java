@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Tsurugi JDBC latency snapshot.
+ *
+ * @since 0.5.0
+ */
+public final class TsurugiJdbcLatencySnapshot {
+
+    /**
+     * Creates a new instance from CompositeData (used by MXBean proxies).
+     *
+     * @param data composite data
+     * @return snapshot
+     */
+    public static TsurugiJdbcLatencySnapshot from(CompositeData data) {
+        return new TsurugiJdbcLatencySnapshot( //
+                (Long) data.get("count"), //
+                (Double) data.get("meanMillis"), //
+                (Double) data.get("maxMillis"), //
+                (Double) data.get("p50Millis"), //
+                (Double) data.get("p90Millis"), //
+                (Double) data.get("p99Millis"));
+    }
+
+    private final long count;
+    private final double meanMillis;
+    private final double maxMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param count      number of records
+     * @param meanMillis mean [milliseconds]
+     * @param maxMillis  max [milliseconds]
+     * @param p50Millis  50th percentile [milliseconds]
+     * @param p90Millis  90th percentile [milliseconds]
+     * @param p99Millis  99th percentile [milliseconds]
+     */
+    public TsurugiJdbcLatencySnapshot(long count, double meanMillis, double maxMillis, double p50Millis, double p90Millis, double p99Millis) {
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.maxMillis = maxMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * Get number of records.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Get mean.
+     *
+     * @return mean [milliseconds]
+     */
+    public double getMeanMillis() {
+        return this.meanMillis;
+    }
+
+    /**
+     * Get max.
+     *
+     * @return max [milliseconds]
+     */
+    public double getMaxMillis() {
+        return this.maxMillis;
+    }
+
+    /**
+     * Get 50th percentile (upper bound of the bucket).
+     *
+     * @return 50th percentile [milliseconds]
+     */
+    public double getP50Millis() {
+        return this.p50Millis;
+    }
+
+    /**
+     * Get 90th percentile (upper bound of the bucket).
+     *
+     * @return 90th percentile [milliseconds]
+     */
+    public double getP90Millis() {
+        return this.p90Millis;
+    }
+
+    /**
+     * Get 99th percentile (upper bound of the bucket).
+     *
+     * @return 99th percentile [milliseconds]
+     */
+    public double getP99Millis() {
+        return this.p99Millis;
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcLatencySnapshot(count=" + count + ", mean=" + meanMillis + "ms, max=" + maxMillis + "ms, p50=" + p50Millis + "ms, p90=" + p90Millis + "ms, p99=" + p99Millis
+                + "ms)";
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.tsurugidb.tsubakuro.exception.DiagnosticCode;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+
+/**
+ * Tsurugi JDBC metrics.
+ * <p>
+ * Metrics are shared by all connections to the same endpoint, and exported as a JMX MXBean named {@code com.tsurugidb.jdbc:type=Metrics,endpoint="..."}. Recording is lock-free
+ * and does not allocate objects, so the metrics are always enabled.
+ * </p>
+ * <p>
+ * The MXBean is registered while at least one connection is attached (see {@link #attach()}), and is unregistered when the last attached connection is closed or the driver is
+ * deregistered, so that the platform MBean server does not keep the driver's class loader.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcMetrics implements TsurugiJdbcMetricsMXBean {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcMetrics.class.getName());
+
+    /** JMX domain */
+    public static final String JMX_DOMAIN = "com.tsurugidb.jdbc";
+
+    private static final int ABORT_CODE_MAP_SIZE = 1024;
+
+    private static final Map<String, TsurugiJdbcMetrics> METRICS_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metrics for the endpoint.
+     *
+     * @param endpoint endpoint
+     * @return metrics
+     */
+    public static TsurugiJdbcMetrics of(String endpoint) {
+        return METRICS_MAP.computeIfAbsent(String.valueOf(endpoint), TsurugiJdbcMetrics::new);
+    }
+
+    /**
+     * Unregister all metrics MXBeans from the platform MBean server.
+     * <p>
+     * Called when the driver is deregistered.
+     * </p>
+     */
+    public static void unregisterAll() {
+        for (var metrics : METRICS_MAP.values()) {
+            metrics.unregister();
+        }
+    }
+
+    /**
+     * Measured operation.
+     */
+    public enum Operation {
+        /** transaction begin */
+        BEGIN,
+        /** statement execution */
+        EXECUTE,
+        /** query until the first row */
+        QUERY_FIRST_ROW,
+        /** query until all rows */
+        QUERY_FULL_SCAN,
+        /** commit */
+        COMMIT,
+        /** rollback */
+        ROLLBACK,
+        /** LOB upload */
+        LOB_UPLOAD,
+        /** LOB download */
+        LOB_DOWNLOAD,
+    }
+
+    private final String endpoint;
+    private final TsurugiJdbcLatencyHistogram[] histograms;
+    private final LongAdder connectCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder abortCount = new LongAdder();
+    private final Map<DiagnosticCode, LongAdder> abortCodeMap = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName = null;
+    private int attachCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param endpoint endpoint
+     */
+    protected TsurugiJdbcMetrics(String endpoint) {
+        this.endpoint = endpoint;
+
+        var operations = Operation.values();
+        this.histograms = new TsurugiJdbcLatencyHistogram[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            histograms[i] = new TsurugiJdbcLatencyHistogram();
+        }
+    }
+
+    /**
+     * Attach a connection.
+     * <p>
+     * Registers this MXBean when the first connection is attached.
+     * </p>
+     */
+    public synchronized void attach() {
+        if (this.attachCount++ == 0) {
+            register();
+        }
+    }
+
+    /**
+     * Detach a connection.
+     * <p>
+     * Unregisters this MXBean when the last attached connection is detached.
+     * </p>
+     */
+    public synchronized void detach() {
+        if (this.attachCount > 0 && --this.attachCount == 0) {
+            unregister();
+        }
+    }
+
+    /**
+     * Register this MXBean to the platform MBean server.
+     * <p>
+     * Does nothing if already registered. If another instance (e.g. of another copy of the driver) is registered with the same name, this instance is not registered.
+     * Registration failure is logged and ignored.
+     * </p>
+     */
+    public void register() {
+        if (this.objectName != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.objectName != null) {
+                return;
+            }
+
+            try {
+                var name = new ObjectName(JMX_DOMAIN + ":type=Metrics,endpoint=" + ObjectName.quote(endpoint));
+                var server = ManagementFactory.getPlatformMBeanServer();
+                if (server.isRegistered(name)) {
+                    LOG.config(() -> String.format("metrics already registered by another instance. name=%s", name));
+                    return;
+                }
+                server.registerMBean(this, name);
+                this.objectName = name;
+                LOG.config(() -> String.format("metrics registered. name=%s", name));
+            } catch (JMException | RuntimeException e) {
+                LOG.log(Level.WARNING, "metrics register error. endpoint=" + endpoint, e);
+            }
+        }
+    }
+
+    /**
+     * Unregister this MXBean from the platform MBean server.
+     */
+    public synchronized void unregister() {
+        var name = this.objectName;
+        if (name == null) {
+            return;
+        }
+
+        this.objectName = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException | RuntimeException e) {
+            LOG.log(Level.FINE, "metrics unregister error. name=" + name, e);
+        }
+    }
+
+    /**
+     * Get object name.
+     *
+     * @return object name, or null if not registered
+     */
+    public @Nullable ObjectName getObjectName() {
+        return this.objectName;
+    }
+
+    @Override
+    public String getEndpoint() {
+        return this.endpoint;
+    }
+
+    /**
+     * Get histogram.
+     *
+     * @param operation operation
+     * @return histogram
+     */
+    public TsurugiJdbcLatencyHistogram getHistogram(Operation operation) {
+        return histograms[operation.ordinal()];
+    }
+
+    /**
+     * Record latency from the start time.
+     *
+     * @param operation     operation
+     * @param startNanoTime start time ({@link System#nanoTime()})
+     */
+    public void recordSince(Operation operation, long startNanoTime) {
+        histograms[operation.ordinal()].recordSince(startNanoTime);
+    }
+
+    /**
+     * Record a connection.
+     */
+    public void recordConnect() {
+        connectCount.increment();
+    }
+
+    /**
+     * Record a transaction retry.
+     */
+    public void recordRetry() {
+        retryCount.increment();
+    }
+
+    /**
+     * Record a transaction abort.
+     *
+     * @param cause cause of the abort
+     */
+    public void recordAbort(@Nullable Throwable cause) {
+        abortCount.increment();
+
+        var code = findDiagnosticCode(cause);
+        if (code == null) {
+            return;
+        }
+        var counter = abortCodeMap.get(code);
+        if (counter == null) {
+            if (abortCodeMap.size() >= ABORT_CODE_MAP_SIZE) {
+                return;
+            }
+            counter = abortCodeMap.computeIfAbsent(code, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static @Nullable DiagnosticCode findDiagnosticCode(@Nullable Throwable cause) {
+        for (var t = cause; t != null; t = t.getCause()) {
+            if (t instanceof ServerException) {
+                return ((ServerException) t).getDiagnosticCode();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long getConnectCount() {
+        return connectCount.sum();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getBeginLatency() {
+        return getHistogram(Operation.BEGIN).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getExecuteLatency() {
+        return getHistogram(Operation.EXECUTE).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getQueryFirstRowLatency() {
+        return getHistogram(Operation.QUERY_FIRST_ROW).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getQueryFullScanLatency() {
+        return getHistogram(Operation.QUERY_FULL_SCAN).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getCommitLatency() {
+        return getHistogram(Operation.COMMIT).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getRollbackLatency() {
+        return getHistogram(Operation.ROLLBACK).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getLobUploadLatency() {
+        return getHistogram(Operation.LOB_UPLOAD).getSnapshot();
+    }
+
+    @Override
+    public TsurugiJdbcLatencySnapshot getLobDownloadLatency() {
+        return getHistogram(Operation.LOB_DOWNLOAD).getSnapshot();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    @Override
+    public long getAbortCount() {
+        return abortCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getAbortCountByCode() {
+        var map = new TreeMap<String, Long>();
+        for (var entry : abortCodeMap.entrySet()) {
+            map.merge(String.valueOf(entry.getKey()), entry.getValue().sum(), Long::sum);
+        }
+        return map;
+    }
+
+    @Override
+    public void reset() {
+        for (var histogram : histograms) {
+            histogram.reset();
+        }
+        connectCount.reset();
+        retryCount.reset();
+        abortCount.reset();
+        abortCodeMap.clear();
+    }
+}
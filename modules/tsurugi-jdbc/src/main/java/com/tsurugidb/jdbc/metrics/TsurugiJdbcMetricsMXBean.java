@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.util.Map;
+
+/**
+ * Tsurugi JDBC metrics MXBean.
+ *
+ * @since 0.5.0
+ */
+public interface TsurugiJdbcMetricsMXBean {
+
+    /**
+     * Get endpoint.
+     *
+     * @return endpoint
+     */
+    String getEndpoint();
+
+    /**
+     * Get number of opened connections.
+     *
+     * @return count
+     */
+    long getConnectCount();
+
+    /**
+     * Get latency of transaction begin.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getBeginLatency();
+
+    /**
+     * Get latency of statement execution.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getExecuteLatency();
+
+    /**
+     * Get latency until the first row of the query is fetched.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getQueryFirstRowLatency();
+
+    /**
+     * Get latency until all rows of the query are fetched.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getQueryFullScanLatency();
+
+    /**
+     * Get latency of commit.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getCommitLatency();
+
+    /**
+     * Get latency of rollback.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getRollbackLatency();
+
+    /**
+     * Get latency of LOB upload.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getLobUploadLatency();
+
+    /**
+     * Get latency of LOB download.
+     *
+     * @return latency
+     */
+    TsurugiJdbcLatencySnapshot getLobDownloadLatency();
+
+    /**
+     * Get number of transaction retries.
+     *
+     * @return count
+     */
+    long getRetryCount();
+
+    /**
+     * Get number of transaction aborts.
+     *
+     * @return count
+     */
+    long getAbortCount();
+
+    /**
+     * Get number of transaction aborts by diagnostic code.
+     *
+     * @return diagnostic code to count
+     */
+    Map<String, Long> getAbortCountByCode();
+
+    /**
+     * Reset all metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+
+/**
+ * Tsurugi JDBC slow statement.
+ * <p>
+ * Holds the elapsed time of a statement split into begin, execute, fetch and commit.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcSlowStatement {
+
+    private static final int MAX_PARAMETERS = 16;
+
+    /**
+     * Summarize parameters.
+     * <p>
+     * Only the names and types are included, not the values.
+     * </p>
+     *
+     * @param parameters parameters
+     * @return summary. null if no parameters
+     */
+    public static @Nullable String summarizeParameters(@Nullable List<Parameter> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return null;
+        }
+
+        var sb = new StringBuilder(16 * Math.min(parameters.size(), MAX_PARAMETERS));
+        sb.append('[');
+        int i = 0;
+        for (var parameter : parameters) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            if (i >= MAX_PARAMETERS) {
+                sb.append("...(").append(parameters.size()).append(')');
+                break;
+            }
+            if (parameter == null) {
+                sb.append("null");
+            } else {
+                sb.append(parameter.getName()).append(':').append(parameter.getValueCase());
+            }
+            i++;
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private final String sql;
+    private final String parameters;
+    private final String transactionType;
+    private final String transactionLabel;
+    private final long beginNanos;
+    private final long executeNanos;
+    private final long fetchNanos;
+    private final long commitNanos;
+    private final long rows;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sql              SQL
+     * @param parameters       parameter summary
+     * @param transactionType  transaction type
+     * @param transactionLabel transaction label
+     * @param beginNanos       begin time [nanoseconds]
+     * @param executeNanos     execute time [nanoseconds]
+     * @param fetchNanos       fetch time [nanoseconds]
+     * @param commitNanos      commit time [nanoseconds]
+     * @param rows             number of rows returned or affected
+     */
+    public TsurugiJdbcSlowStatement(String sql, @Nullable String parameters, @Nullable String transactionType, @Nullable String transactionLabel, long beginNanos, long executeNanos,
+            long fetchNanos, long commitNanos, long rows) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.transactionType = transactionType;
+        this.transactionLabel = transactionLabel;
+        this.beginNanos = beginNanos;
+        this.executeNanos = executeNanos;
+        this.fetchNanos = fetchNanos;
+        this.commitNanos = commitNanos;
+        this.rows = rows;
+    }
+
+    /**
+     * Get SQL.
+     *
+     * @return SQL
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Get parameter summary.
+     *
+     * @return parameter summary
+     */
+    public @Nullable String getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Get transaction type.
+     *
+     * @return transaction type
+     */
+    public @Nullable String getTransactionType() {
+        return transactionType;
+    }
+
+    /**
+     * Get transaction label.
+     *
+     * @return transaction label
+     */
+    public @Nullable String getTransactionLabel() {
+        return transactionLabel;
+    }
+
+    /**
+     * Get begin time.
+     *
+     * @return begin time [nanoseconds]
+     */
+    public long getBeginNanos() {
+        return beginNanos;
+    }
+
+    /**
+     * Get execute time.
+     *
+     * @return execute time [nanoseconds]
+     */
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * Get fetch time.
+     *
+     * @return fetch time [nanoseconds]
+     */
+    public long getFetchNanos() {
+        return fetchNanos;
+    }
+
+    /**
+     * Get commit time.
+     *
+     * @return commit time [nanoseconds]
+     */
+    public long getCommitNanos() {
+        return commitNanos;
+    }
+
+    /**
+     * Get total time.
+     *
+     * @return total time [nanoseconds]
+     */
+    public long getTotalNanos() {
+        return beginNanos + executeNanos + fetchNanos + commitNanos;
+    }
+
+    /**
+     * Get number of rows.
+     *
+     * @return number of rows returned or affected
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Get log message.
+     *
+     * @return message
+     */
+    public String getMessage() {
+        return String.format("slow statement. elapsed=%d [ms] (begin=%d, execute=%d, fetch=%d, commit=%d), rows=%d, transactionType=%s, label=%s, sql=%s, parameters=%s", //
+                millis(getTotalNanos()), millis(beginNanos), millis(executeNanos), millis(fetchNanos), millis(commitNanos), rows, transactionType, transactionLabel, sql, parameters);
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.tsubakuro.sql.StatementMetadata;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Tsurugi JDBC slow statement log.
+ * <p>
+ * Statements whose elapsed time (including fetching all rows and the auto-commit) exceeds the threshold are logged at WARNING level. If explain is enabled, the execution plan is
+ * requested from the server and logged asynchronously.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcSlowStatementLog {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcSlowStatementLog.class.getName());
+
+    private static final int EXPLAIN_QUEUE_SIZE = 64;
+
+    private static final class ExplainHolder {
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+            var thread = new Thread(runnable, "tsurugi-jdbc-slow-statement-explain");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final long thresholdNanos;
+    private final boolean explain;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param thresholdMillis threshold [milliseconds]
+     * @param explain         whether to log the execution plan
+     */
+    public TsurugiJdbcSlowStatementLog(int thresholdMillis, boolean explain) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.explain = explain;
+    }
+
+    /**
+     * Get threshold.
+     *
+     * @return threshold [nanoseconds]
+     */
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Whether to log the execution plan.
+     *
+     * @return {@code true} if the execution plan is logged
+     */
+    public boolean isExplain() {
+        return explain;
+    }
+
+    /**
+     * Whether the elapsed time exceeds the threshold.
+     *
+     * @param elapsedNanos elapsed time [nanoseconds]
+     * @return {@code true} if slow
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * Log slow statement.
+     *
+     * @param statement     slow statement
+     * @param explainFuture future of the execution plan. null if not requested
+     * @param timeout       timeout of the execution plan [seconds]
+     */
+    public void log(TsurugiJdbcSlowStatement statement, @Nullable FutureResponse<StatementMetadata> explainFuture, int timeout) {
+        LOG.warning(statement.getMessage());
+
+        if (explainFuture != null) {
+            try {
+                ExplainHolder.EXECUTOR.execute(() -> logExplain(statement, explainFuture, timeout));
+            } catch (RuntimeException e) { // queue full
+                LOG.log(Level.CONFIG, "slow statement explain skipped", e);
+                closeQuietly(explainFuture);
+            }
+        }
+    }
+
+    /**
+     * Log execution plan.
+     *
+     * @param statement     slow statement
+     * @param explainFuture future of the execution plan
+     * @param timeout       timeout [seconds]
+     */
+    protected void logExplain(TsurugiJdbcSlowStatement statement, FutureResponse<StatementMetadata> explainFuture, int timeout) {
+        try (explainFuture) {
+            var metadata = explainFuture.await(timeout, TimeUnit.SECONDS);
+            LOG.warning(() -> String.format("slow statement plan. sql=%s, plan=%s", statement.getSql(), metadata.getContents()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.log(Level.CONFIG, "slow statement explain error. sql=" + statement.getSql(), e);
+        }
+    }
+
+    private static void closeQuietly(FutureResponse<?> future) {
+        try {
+            future.close();
+        } catch (Exception e) {
+            LOG.log(Level.FINE, "explain close error", e);
+        }
+    }
+}
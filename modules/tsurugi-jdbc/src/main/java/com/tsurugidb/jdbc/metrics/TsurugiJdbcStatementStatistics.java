@@ -0,0 +1,365 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+
+/**
+ * Tsurugi JDBC statement statistics.
+ * <p>
+ * Aggregates calls, latency, rows, retries and aborts per SQL fingerprint (see {@link SqlFingerprint}). The statistics are shared by all connections to the same endpoint. The
+ * number of fingerprints is bounded; when it is full, the entries with the smallest total time are evicted.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcStatementStatistics {
+
+    private static final Map<String, TsurugiJdbcStatementStatistics> STATISTICS_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Get the statement statistics for the endpoint.
+     *
+     * @param endpoint endpoint
+     * @return statement statistics
+     */
+    public static TsurugiJdbcStatementStatistics of(String endpoint) {
+        return STATISTICS_MAP.computeIfAbsent(String.valueOf(endpoint), TsurugiJdbcStatementStatistics::new);
+    }
+
+    /**
+     * Statement statistics entry.
+     */
+    public static class Entry {
+        private final String fingerprint;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder rowsAffected = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder aborts = new LongAdder();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fingerprint SQL fingerprint
+         */
+        protected Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void recordCall(long elapsedNanos) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        /**
+         * Get SQL fingerprint.
+         *
+         * @return SQL fingerprint
+         */
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Get number of calls.
+         *
+         * @return number of calls
+         */
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        /**
+         * Get total time.
+         *
+         * @return total time [nanoseconds]
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Get total time.
+         *
+         * @return total time [milliseconds]
+         */
+        public double getTotalMillis() {
+            return getTotalNanos() / 1_000_000d;
+        }
+
+        /**
+         * Get mean time.
+         *
+         * @return mean time [milliseconds]
+         */
+        public double getMeanMillis() {
+            long count = getCalls();
+            if (count == 0) {
+                return 0;
+            }
+            return getTotalMillis() / count;
+        }
+
+        /**
+         * Get max time.
+         *
+         * @return max time [milliseconds]
+         */
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000d;
+        }
+
+        /**
+         * Get number of rows returned by queries.
+         *
+         * @return number of rows
+         */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        /**
+         * Get number of rows affected by updates.
+         *
+         * @return number of rows
+         */
+        public long getRowsAffected() {
+            return rowsAffected.sum();
+        }
+
+        /**
+         * Get number of retries.
+         *
+         * @return number of retries
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        /**
+         * Get number of aborts.
+         *
+         * @return number of aborts
+         */
+        public long getAborts() {
+            return aborts.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{fingerprint=" + fingerprint + ", calls=" + getCalls() + ", totalMillis=" + getTotalMillis() + ", maxMillis=" + getMaxMillis() + ", rows=" + getRows()
+                    + ", rowsAffected=" + getRowsAffected() + ", retries=" + getRetries() + ", aborts=" + getAborts() + "}";
+        }
+    }
+
+    private final String endpoint;
+    private final Map<String, Entry> entryMap = new ConcurrentHashMap<>();
+    private volatile int maxSize = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param endpoint endpoint
+     */
+    protected TsurugiJdbcStatementStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Get endpoint.
+     *
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Ensure max number of fingerprints.
+     * <p>
+     * The statistics are shared by connections, so the largest size requested is used.
+     * </p>
+     *
+     * @param size max number of fingerprints
+     */
+    public synchronized void ensureMaxSize(int size) {
+        if (size > this.maxSize) {
+            this.maxSize = size;
+        }
+    }
+
+    /**
+     * Get max number of fingerprints.
+     *
+     * @return max number of fingerprints
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Record query.
+     *
+     * @param sql          SQL
+     * @param elapsedNanos elapsed time until all rows were read [nanoseconds]
+     * @param rows         number of rows returned
+     */
+    public void recordQuery(@Nullable String sql, long elapsedNanos, long rows) {
+        var entry = getEntry(sql);
+        if (entry != null) {
+            entry.recordCall(elapsedNanos);
+            entry.rows.add(rows);
+        }
+    }
+
+    /**
+     * Record update.
+     *
+     * @param sql          SQL
+     * @param elapsedNanos elapsed time [nanoseconds]
+     * @param rowsAffected number of rows affected. If negative, not counted
+     */
+    public void recordUpdate(@Nullable String sql, long elapsedNanos, long rowsAffected) {
+        var entry = getEntry(sql);
+        if (entry != null) {
+            entry.recordCall(elapsedNanos);
+            if (rowsAffected > 0) {
+                entry.rowsAffected.add(rowsAffected);
+            }
+        }
+    }
+
+    /**
+     * Record retry.
+     *
+     * @param sql SQL
+     */
+    public void recordRetry(@Nullable String sql) {
+        var entry = getEntry(sql);
+        if (entry != null) {
+            entry.retries.increment();
+        }
+    }
+
+    /**
+     * Record abort.
+     *
+     * @param sql SQL
+     */
+    public void recordAbort(@Nullable String sql) {
+        var entry = getEntry(sql);
+        if (entry != null) {
+            entry.aborts.increment();
+        }
+    }
+
+    /**
+     * Get entry.
+     *
+     * @param sql SQL
+     * @return entry. null if the statistics are disabled
+     */
+    protected @Nullable Entry getEntry(@Nullable String sql) {
+        if (sql == null) {
+            return null;
+        }
+        int max = this.maxSize;
+        if (max <= 0) {
+            return null;
+        }
+
+        String fingerprint = SqlFingerprint.of(sql);
+        var entry = entryMap.get(fingerprint);
+        if (entry != null) {
+            return entry;
+        }
+
+        if (entryMap.size() >= max) {
+            evict(max);
+        }
+        return entryMap.computeIfAbsent(fingerprint, Entry::new);
+    }
+
+    private synchronized void evict(int max) {
+        int size = entryMap.size();
+        if (size < max) {
+            return;
+        }
+
+        // evict about 10% of the entries at once to amortize sorting
+        int count = Math.max(1, size / 10) + (size - max);
+        var list = new ArrayList<>(entryMap.values());
+        list.sort(Comparator.comparingLong(Entry::getTotalNanos));
+        for (int i = 0; i < count && i < list.size(); i++) {
+            var entry = list.get(i);
+            entryMap.remove(entry.getFingerprint(), entry);
+        }
+    }
+
+    /**
+     * Get entries ordered by total time (descending).
+     *
+     * @return entries
+     */
+    public List<Entry> getEntries() {
+        return getEntries(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get top entries ordered by total time (descending).
+     *
+     * @param limit max number of entries
+     * @return entries
+     */
+    public List<Entry> getEntries(int limit) {
+        var list = new ArrayList<>(entryMap.values());
+        list.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        if (list.size() > limit) {
+            return new ArrayList<>(list.subList(0, Math.max(limit, 0)));
+        }
+        return list;
+    }
+
+    /**
+     * Get number of fingerprints.
+     *
+     * @return number of fingerprints
+     */
+    public int size() {
+        return entryMap.size();
+    }
+
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        entryMap.clear();
+    }
+}
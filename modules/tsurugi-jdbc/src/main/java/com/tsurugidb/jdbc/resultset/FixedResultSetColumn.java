@@ -88,6 +88,30 @@ public class FixedResultSetColumn {
         return new FixedResultSetColumn(name, type);
     }
 
+    /**
+     * Create long column.
+     *
+     * @param name column name
+     * @return column
+     * @since 0.5.0
+     */
+    public static FixedResultSetColumn ofLong(String name) {
+        var type = new FixedResultSetDataType(JDBCType.BIGINT, 0, 0, 0, false);
+        return new FixedResultSetColumn(name, type);
+    }
+
+    /**
+     * Create double column.
+     *
+     * @param name column name
+     * @return column
+     * @since 0.5.0
+     */
+    public static FixedResultSetColumn ofDouble(String name) {
+        var type = new FixedResultSetDataType(JDBCType.DOUBLE, 0, 0, 0, false);
+        return new FixedResultSetColumn(name, type);
+    }
+
     /**
      * Create boolean column.
      *
@@ -25,6 +25,10 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcNotSupported;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcObservation;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.resultset.type.TsurugiJdbcBlobReference;
+import com.tsurugidb.jdbc.resultset.type.TsurugiJdbcClobReference;
 import com.tsurugidb.jdbc.statement.TsurugiJdbcStatement;
 import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
 import com.tsurugidb.jdbc.util.SqlCloser;
@@ -53,6 +57,14 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
     private boolean isAfterLast = false;
     private boolean finished = false;
 
+    private final TsurugiJdbcObservation observation;
+    private final long startNanoTime;
+    private boolean firstRowFetched = false;
+    private boolean lobInlineRow = false;
+    private long firstRowNanos = 0;
+    private String sql = null;
+    private Throwable fetchException = null;
+
     /**
      * Creates a new instance.
      *
@@ -69,6 +81,34 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
         this.transaction = transaction;
         this.resultSetFuture = resultSetFuture;
         this.config = config;
+        this.startNanoTime = System.nanoTime();
+        this.observation = TsurugiJdbcObservation.startFetch(transaction);
+    }
+
+    /**
+     * Set SQL.
+     * <p>
+     * The fetch of the execution listeners starts here.
+     * </p>
+     *
+     * @param sql SQL
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void setSql(String sql) {
+        this.sql = sql;
+        TsurugiJdbcObservation.startFetchListener(observation, sql);
+    }
+
+    /**
+     * Get SQL.
+     *
+     * @return SQL, or null if not set
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public String getSql() {
+        return this.sql;
     }
 
     /**
@@ -114,9 +154,15 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
             int timeout = config.getQueryTimeout();
             try {
                 var io = getIoUtil();
-                this.lowResultSet = io.get(resultSetFuture, timeout);
+                this.lowResultSet = io.get(resultSetFuture, timeout, transaction.getDeadline());
             } catch (Exception e) {
-                throw getExceptionHandler().sqlException("LowResultSet get error", e);
+                var se = getExceptionHandler().sqlException("LowResultSet get error", e);
+                var deadline = transaction.getDeadline();
+                if (deadline != null && deadline.isExpired()) {
+                    this.resultSetFuture = null; // cancelled
+                }
+                transaction.rollbackIfDeadlineExpired(se);
+                throw se;
             }
             this.resultSetFuture = null;
 
@@ -145,19 +191,58 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
     public boolean next() throws SQLException {
         try {
             var lowRs = getLowResultSet();
-            if (nextRow(lowRs)) {
+            if (this.lobInlineRow) {
+                this.lobInlineRow = false;
+                closeLobInlineFetch();
+            }
+            boolean hasRow = nextRow(lowRs);
+            if (!this.firstRowFetched) {
+                this.firstRowFetched = true;
+                this.firstRowNanos = System.nanoTime() - startNanoTime;
+                transaction.recordSince(TsurugiJdbcMetrics.Operation.QUERY_FIRST_ROW, startNanoTime);
+            }
+            if (hasRow) {
                 this.currentRowNumber++;
                 this.isAfterLast = false;
 
                 initializeBuffer(lowRs);
-                for (int i = 0; nextLowColumn(lowRs); i++) {
-                    var getter = getters[i];
-                    values[i] = fetchLowValue(lowRs, getter);
+                int lobInlineThreshold = config.getLobInlineThreshold();
+                boolean lobInline = false;
+                try {
+                    for (int i = 0; nextLowColumn(lowRs); i++) {
+                        var getter = getters[i];
+                        var value = fetchLowValue(lowRs, getter);
+                        values[i] = value;
+                        if (lobInlineThreshold > 0 && isLobReference(value)) {
+                            lobInline = true;
+                            this.lobInlineRow = true;
+                            startLobInlineFetch(value);
+                        }
+                    }
+                    if (lobInline) {
+                        completeLobInlineFetch(lobInlineThreshold);
+                    }
+                } catch (Throwable e) {
+                    if (lobInline) {
+                        this.lobInlineRow = false;
+                        try {
+                            closeLobInlineFetch();
+                        } catch (Throwable ce) {
+                            e.addSuppressed(ce);
+                        }
+                    }
+                    throw e;
                 }
                 return true;
             }
+        } catch (SQLException e) {
+            transaction.setExceptionOccurs();
+            this.fetchException = e;
+            transaction.rollbackIfDeadlineExpired(e);
+            throw e;
         } catch (Throwable e) {
             transaction.setExceptionOccurs();
+            this.fetchException = e;
             throw e;
         }
 
@@ -184,6 +269,7 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
 
     private boolean nextLowRow(com.tsurugidb.tsubakuro.sql.ResultSet lowRs) throws SQLException {
         try {
+            applyDeadline(lowRs);
             return lowRs.nextRow();
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("ResultSet nextRow error", e);
@@ -206,8 +292,39 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
         }
     }
 
+    /**
+     * Bound the fetch wait by the transaction deadline.
+     * <p>
+     * The timeout is updated once per row; the column fetches of the row share it.
+     * </p>
+     *
+     * @param lowRs low ResultSet
+     * @throws TimeoutException if the deadline has passed
+     */
+    private void applyDeadline(com.tsurugidb.tsubakuro.sql.ResultSet lowRs) throws TimeoutException {
+        var deadline = transaction.getDeadline();
+        if (deadline == null) {
+            return;
+        }
+
+        long remaining = deadline.getRemainingNanos();
+        if (remaining <= 0) {
+            throw new TimeoutException("transaction deadline exceeded");
+        }
+        long timeout = TimeUnit.SECONDS.toNanos(config.getQueryTimeout());
+        lowRs.setTimeout((timeout <= 0) ? remaining : Math.min(timeout, remaining), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkDeadline() throws TimeoutException {
+        var deadline = transaction.getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+            throw new TimeoutException("transaction deadline exceeded");
+        }
+    }
+
     private boolean nextLowColumn(com.tsurugidb.tsubakuro.sql.ResultSet lowRs) throws SQLException {
         try {
+            checkDeadline();
             return lowRs.nextColumn();
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("ResultSet nextColumn error", e);
@@ -222,6 +339,83 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
         }
     }
 
+    private static boolean isLobReference(Object value) {
+        return value instanceof TsurugiJdbcBlobReference || value instanceof TsurugiJdbcClobReference;
+    }
+
+    private static void startLobInlineFetch(Object value) throws SQLException {
+        if (value instanceof TsurugiJdbcBlobReference) {
+            ((TsurugiJdbcBlobReference) value).startInlineFetch();
+        } else if (value instanceof TsurugiJdbcClobReference) {
+            ((TsurugiJdbcClobReference) value).startInlineFetch();
+        }
+    }
+
+    /**
+     * Complete inline fetch of all LOB columns. Even if one fails, the others are completed (or closed) so that no request is left.
+     */
+    private void completeLobInlineFetch(int threshold) throws SQLException {
+        SQLException exception = null;
+        for (var value : values) {
+            try {
+                if (value instanceof TsurugiJdbcBlobReference) {
+                    var blob = (TsurugiJdbcBlobReference) value;
+                    if (exception == null) {
+                        blob.completeInlineFetch(threshold);
+                    } else {
+                        blob.closeInlineFetch();
+                    }
+                } else if (value instanceof TsurugiJdbcClobReference) {
+                    var clob = (TsurugiJdbcClobReference) value;
+                    if (exception == null) {
+                        clob.completeInlineFetch(threshold);
+                    } else {
+                        clob.closeInlineFetch();
+                    }
+                }
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Close inline fetch (requests or kept streams) of all LOB columns in the current row.
+     */
+    private void closeLobInlineFetch() throws SQLException {
+        var values = this.values;
+        if (values == null) {
+            return;
+        }
+
+        SQLException exception = null;
+        for (var value : values) {
+            try {
+                if (value instanceof TsurugiJdbcBlobReference) {
+                    ((TsurugiJdbcBlobReference) value).closeInlineFetch();
+                } else if (value instanceof TsurugiJdbcClobReference) {
+                    ((TsurugiJdbcClobReference) value).closeInlineFetch();
+                }
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
     @Override
     public TsurugiJdbcResultSetMetaData getMetaData() throws SQLException {
         if (this.resultSetMetaData == null) {
@@ -376,6 +570,17 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
     public void close() throws SQLException {
         this.closed = true;
 
+        SQLException lobException = null;
+        if (this.lobInlineRow) {
+            this.lobInlineRow = false;
+            // the kept LOB streams must be closed before commit
+            try {
+                closeLobInlineFetch();
+            } catch (SQLException e) {
+                lobException = e;
+            }
+        }
+
         SqlCloser statement = () -> {
             if (ownerStatement.isCloseOnCompletion()) {
                 ownerStatement.close();
@@ -389,7 +594,14 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
             var io = getIoUtil();
             io.close(this.resultSetFuture, this.lowResultSet, timeout);
         } catch (Exception e) {
-            throw getExceptionHandler().sqlException("ResultSet close error", e);
+            var se = getExceptionHandler().sqlException("ResultSet close error", e);
+            if (lobException != null) {
+                se.addSuppressed(lobException);
+            }
+            throw se;
+        }
+        if (lobException != null) {
+            throw lobException;
         }
     }
 
@@ -402,8 +614,21 @@ public class TsurugiJdbcResultSet extends AbstractResultSet {
         if (!finished) {
             this.finished = true;
 
-            if (transaction.isAutoCommit()) {
-                transaction.commitIfNormalStatus();
+            if (this.isAfterLast) {
+                transaction.notifyQueryFinished(currentRowNumber);
+            }
+            long fetchNanos = TsurugiJdbcObservation.stopFetch(observation, transaction, sql, startNanoTime, currentRowNumber, isAfterLast) - firstRowNanos;
+            try {
+                if (transaction.isAutoCommit() && !transaction.isClosed()) { // closed by rollback when the deadline has passed
+                    transaction.commitIfNormalStatus();
+                }
+            } catch (Throwable e) {
+                TsurugiJdbcObservation.endFetch(observation, currentRowNumber, e);
+                throw e;
+            }
+            TsurugiJdbcObservation.endFetch(observation, currentRowNumber, fetchException);
+            if (sql != null) {
+                ownerStatement.checkSlowQuery(transaction, sql, System.nanoTime() - startNanoTime, fetchNanos, currentRowNumber);
             }
         }
     }
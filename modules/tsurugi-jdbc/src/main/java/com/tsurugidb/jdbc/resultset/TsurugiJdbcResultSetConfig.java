@@ -17,6 +17,7 @@ package com.tsurugidb.jdbc.resultset;
 
 import static com.tsurugidb.jdbc.TsurugiConfig.DEFAULT_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.LOB_DOWNLOAD_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.LOB_INLINE_THRESHOLD;
 import static com.tsurugidb.jdbc.TsurugiConfig.QUERY_TIMEOUT;
 
 import com.tsurugidb.jdbc.property.TsurugiJdbcProperties;
@@ -42,10 +43,11 @@ public class TsurugiJdbcResultSetConfig {
 
     private final TsurugiJdbcPropertyInt queryTimeout = new TsurugiJdbcPropertyInt(QUERY_TIMEOUT);
     private final TsurugiJdbcPropertyInt lobDownloadTimeout = new TsurugiJdbcPropertyInt(LOB_DOWNLOAD_TIMEOUT);
+    private final TsurugiJdbcPropertyInt lobInlineThreshold = new TsurugiJdbcPropertyInt(LOB_INLINE_THRESHOLD);
     private final TsurugiJdbcPropertyInt defaultTimeout = new TsurugiJdbcPropertyInt(DEFAULT_TIMEOUT);
 
     private final TsurugiJdbcProperties properties = TsurugiJdbcProperties.of(//
-            queryTimeout, lobDownloadTimeout, //
+            queryTimeout, lobDownloadTimeout, lobInlineThreshold, //
             defaultTimeout);
 
     /**
@@ -67,6 +69,16 @@ public class TsurugiJdbcResultSetConfig {
         return lobDownloadTimeout.value().orElse(getDefaultTimeout());
     }
 
+    /**
+     * Get large object inline fetch threshold.
+     *
+     * @return large object inline fetch threshold [bytes]. 0 if disabled
+     * @since 0.5.0
+     */
+    public int getLobInlineThreshold() {
+        return lobInlineThreshold.value().orElse(0);
+    }
+
     // Common
 
     /**
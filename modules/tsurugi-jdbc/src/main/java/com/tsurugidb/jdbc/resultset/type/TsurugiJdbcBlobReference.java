@@ -15,18 +15,29 @@
  */
 package com.tsurugidb.jdbc.resultset.type;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Path;
 import java.sql.Blob;
 import java.sql.SQLException;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.TsurugiJdbcLobTransferType;
+import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcObservation;
 import com.tsurugidb.jdbc.resultset.TsurugiJdbcResultSet;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcBlob;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
+import com.tsurugidb.jdbc.util.io.BytePatternSearcher;
+import com.tsurugidb.jdbc.util.io.FileChannelCopier;
 import com.tsurugidb.tsubakuro.sql.BlobReference;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
 
 /**
  * Tsurugi JDBC Blob Reference.
@@ -37,6 +48,8 @@ public class TsurugiJdbcBlobReference implements Blob {
     private final BlobReference lowBlob;
     private int timeout;
     private TsurugiJdbcBlob cachedBlob = null;
+    private FutureResponse<InputStream> inlineFuture = null;
+    private InputStream inlineStream = null;
     private boolean freed = false;
 
     /**
@@ -90,16 +103,177 @@ public class TsurugiJdbcBlobReference implements Blob {
     public InputStream openInputStream(long timeout, TimeUnit unit) throws SQLException {
         checkFreed();
 
+        var stream = takeInlineStream();
+        if (stream != null) {
+            return stream;
+        }
+
+        var transaction = ownerResultSet.getTransaction();
+        long startNanoTime = System.nanoTime();
+        var observation = TsurugiJdbcObservation.startLobDownload(transaction, "OPEN", "BLOB");
         try {
-            var transaction = ownerResultSet.getTransaction();
             var tx = transaction.getLowTransaction();
             var io = getIoUtil();
-            return io.get(tx.openInputStream(lowBlob), timeout, unit);
+            var result = io.get(tx.openInputStream(lowBlob), timeout, unit, transaction.getDeadline());
+            TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+            return result;
+        } catch (Exception e) {
+            var se = getExceptionHandler().sqlException("BLOB open error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            transaction.rollbackIfDeadlineExpired(se);
+            throw se;
+        }
+    }
+
+    /**
+     * Start inline fetch.
+     * <p>
+     * Sends the open request without waiting for the response. The response is received by {@link #completeInlineFetch(int)}.
+     * </p>
+     *
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void startInlineFetch() throws SQLException {
+        try {
+            var transaction = ownerResultSet.getTransaction();
+            var tx = transaction.getLowTransaction();
+            this.inlineFuture = tx.openInputStream(lowBlob);
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("BLOB open error", e);
         }
     }
 
+    /**
+     * Complete inline fetch.
+     * <p>
+     * If the BLOB is not larger than the threshold, its contents are kept in memory. Otherwise, the opened stream is kept and used by the next read, until
+     * {@link #closeInlineFetch()} is called.
+     * </p>
+     *
+     * @param threshold inline fetch threshold [bytes]
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void completeInlineFetch(int threshold) throws SQLException {
+        var future = this.inlineFuture;
+        if (future == null) {
+            return;
+        }
+        this.inlineFuture = null;
+
+        var transaction = ownerResultSet.getTransaction();
+        long startNanoTime = System.nanoTime();
+        var observation = TsurugiJdbcObservation.startLobDownload(transaction, "INLINE_FETCH", "BLOB");
+        var io = getIoUtil();
+        InputStream is = null;
+        try (future) {
+            is = io.get(future, timeout, transaction.getDeadline());
+            int limit = (threshold < Integer.MAX_VALUE) ? threshold + 1 : threshold;
+            byte[] data = is.readNBytes(limit);
+            if (data.length <= threshold) {
+                this.cachedBlob = new TsurugiJdbcBlob(data);
+                is.close();
+            } else {
+                // keep the stream to avoid opening the BLOB again
+                this.inlineStream = new SequenceInputStream(new ByteArrayInputStream(data), is);
+            }
+            is = null;
+            TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+        } catch (Exception e) {
+            closeQuietly(is, e);
+            var se = getExceptionHandler().sqlException("BLOB read error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            transaction.rollbackIfDeadlineExpired(se);
+            throw se;
+        }
+    }
+
+    private synchronized InputStream takeInlineStream() {
+        var stream = this.inlineStream;
+        this.inlineStream = null;
+        return stream;
+    }
+
+    /**
+     * Close the pending inline fetch.
+     * <p>
+     * Closes the request sent by {@link #startInlineFetch()} or the stream kept by {@link #completeInlineFetch(int)}. After this, the BLOB is opened again on
+     * demand.
+     * </p>
+     *
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void closeInlineFetch() throws SQLException {
+        var future = this.inlineFuture;
+        this.inlineFuture = null;
+        var stream = takeInlineStream();
+        try (future; stream) {
+            // close
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("BLOB close error", e);
+        }
+    }
+
+    private static void closeQuietly(@Nullable AutoCloseable resource, Exception cause) {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Copy BLOB to file.
+     * <p>
+     * In PRIVILEGED mode, the file materialized by the server is copied (or linked) directly using {@code lobPathMappingOnReceive}. Otherwise, the data is streamed into the file.
+     * </p>
+     *
+     * @param dstFile destination file
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public void copyTo(Path dstFile) throws SQLException {
+        checkFreed();
+
+        if (this.cachedBlob == null && getLobTransferType() == TsurugiJdbcLobTransferType.PRIVILEGED) {
+            closeInlineFetch();
+
+            var transaction = ownerResultSet.getTransaction();
+            long startNanoTime = System.nanoTime();
+            var observation = TsurugiJdbcObservation.startLobDownload(transaction, "COPY", "BLOB");
+            try {
+                var tx = transaction.getLowTransaction();
+                var io = getIoUtil();
+                io.get(tx.copyTo(lowBlob, dstFile), timeout, transaction.getDeadline());
+                TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+                return;
+            } catch (Exception e) {
+                var se = getExceptionHandler().sqlException("BLOB copy error", e);
+                TsurugiJdbcObservation.failed(observation, se);
+                transaction.rollbackIfDeadlineExpired(se);
+                throw se;
+            }
+        }
+
+        try (var is = getBinaryStream()) {
+            FileChannelCopier.copy(is, dstFile);
+        } catch (IOException e) {
+            throw getExceptionHandler().sqlException("BLOB copy error", e);
+        }
+    }
+
+    private TsurugiJdbcLobTransferType getLobTransferType() throws SQLException {
+        var connection = ownerResultSet.getStatement().getConnection();
+        return connection.getLobTransferType();
+    }
+
     private synchronized TsurugiJdbcBlob getCachedBlob() throws SQLException {
         if (this.cachedBlob == null) {
             byte[] data;
@@ -145,7 +319,19 @@ public class TsurugiJdbcBlobReference implements Blob {
     @Override
     public long position(byte[] pattern, long start) throws SQLException {
         checkFreed();
-        return getCachedBlob().position(pattern, start);
+
+        if (this.cachedBlob != null || pattern == null || pattern.length == 0 || start < 1) {
+            return getCachedBlob().position(pattern, start);
+        }
+
+        // search while streaming, without caching the whole BLOB
+        var searcher = new BytePatternSearcher(pattern);
+        try (var is = openInputStream(timeout, TimeUnit.SECONDS)) {
+            long n = searcher.indexOf(is, start - 1);
+            return (n >= 0) ? (n + 1) : -1;
+        } catch (IOException e) {
+            throw getExceptionHandler().sqlException("BLOB read error", e);
+        }
     }
 
     @Override
@@ -183,6 +369,7 @@ public class TsurugiJdbcBlobReference implements Blob {
         if (!this.freed) {
             this.freed = true;
 
+            closeInlineFetch();
             if (this.cachedBlob != null) {
                 cachedBlob.free();
             }
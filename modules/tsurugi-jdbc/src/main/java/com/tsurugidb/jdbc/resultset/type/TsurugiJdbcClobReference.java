@@ -18,18 +18,30 @@ package com.tsurugidb.jdbc.resultset.type;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.TsurugiJdbcLobTransferType;
+import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcObservation;
 import com.tsurugidb.jdbc.resultset.TsurugiJdbcResultSet;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcClob;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
+import com.tsurugidb.jdbc.util.io.CharPatternSearcher;
+import com.tsurugidb.jdbc.util.io.FileChannelCopier;
 import com.tsurugidb.jdbc.util.io.StringBuilderWriter;
 import com.tsurugidb.tsubakuro.sql.ClobReference;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
 
 /**
  * Tsurugi JDBC Clob Reference.
@@ -40,6 +52,8 @@ public class TsurugiJdbcClobReference implements Clob {
     private final ClobReference lowClob;
     private int timeout;
     private TsurugiJdbcClob cachedClob = null;
+    private FutureResponse<Reader> inlineFuture = null;
+    private Reader inlineStream = null;
     private boolean freed = false;
 
     /**
@@ -93,16 +107,188 @@ public class TsurugiJdbcClobReference implements Clob {
     public Reader openReader(long timeout, TimeUnit unit) throws SQLException {
         checkFreed();
 
+        var stream = takeInlineStream();
+        if (stream != null) {
+            return stream;
+        }
+
+        var transaction = ownerResultSet.getTransaction();
+        long startNanoTime = System.nanoTime();
+        var observation = TsurugiJdbcObservation.startLobDownload(transaction, "OPEN", "CLOB");
         try {
-            var transaction = ownerResultSet.getTransaction();
             var tx = transaction.getLowTransaction();
             var io = getIoUtil();
-            return io.get(tx.openReader(lowClob), timeout, unit);
+            var result = io.get(tx.openReader(lowClob), timeout, unit, transaction.getDeadline());
+            TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+            return result;
+        } catch (Exception e) {
+            var se = getExceptionHandler().sqlException("CLOB open error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            transaction.rollbackIfDeadlineExpired(se);
+            throw se;
+        }
+    }
+
+    /**
+     * Start inline fetch.
+     * <p>
+     * Sends the open request without waiting for the response. The response is received by {@link #completeInlineFetch(int)}.
+     * </p>
+     *
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void startInlineFetch() throws SQLException {
+        try {
+            var transaction = ownerResultSet.getTransaction();
+            var tx = transaction.getLowTransaction();
+            this.inlineFuture = tx.openReader(lowClob);
         } catch (Exception e) {
             throw getExceptionHandler().sqlException("CLOB open error", e);
         }
     }
 
+    /**
+     * Complete inline fetch.
+     * <p>
+     * If the CLOB is not longer than the threshold (in characters), its contents are kept in memory. Otherwise, the opened reader is kept and used by the next
+     * read, until {@link #closeInlineFetch()} is called.
+     * </p>
+     *
+     * @param threshold inline fetch threshold
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void completeInlineFetch(int threshold) throws SQLException {
+        var future = this.inlineFuture;
+        if (future == null) {
+            return;
+        }
+        this.inlineFuture = null;
+
+        var transaction = ownerResultSet.getTransaction();
+        long startNanoTime = System.nanoTime();
+        var observation = TsurugiJdbcObservation.startLobDownload(transaction, "INLINE_FETCH", "CLOB");
+        var io = getIoUtil();
+        Reader reader = null;
+        try (future) {
+            reader = io.get(future, timeout, transaction.getDeadline());
+            int limit = (threshold < Integer.MAX_VALUE) ? threshold + 1 : threshold;
+            var buffer = new StringBuilder(Math.min(limit, 1024));
+            var chars = new char[Math.min(limit, 8192)];
+            while (buffer.length() < limit) {
+                int n = reader.read(chars, 0, Math.min(chars.length, limit - buffer.length()));
+                if (n < 0) {
+                    break;
+                }
+                buffer.append(chars, 0, n);
+            }
+            if (buffer.length() <= threshold) {
+                this.cachedClob = new TsurugiJdbcClob(buffer);
+                reader.close();
+            } else {
+                // keep the reader to avoid opening the CLOB again
+                var pushback = new PushbackReader(reader, buffer.length());
+                pushback.unread(buffer.toString().toCharArray());
+                this.inlineStream = pushback;
+            }
+            reader = null;
+            TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+        } catch (Exception e) {
+            closeQuietly(reader, e);
+            var se = getExceptionHandler().sqlException("CLOB read error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            transaction.rollbackIfDeadlineExpired(se);
+            throw se;
+        }
+    }
+
+    private synchronized Reader takeInlineStream() {
+        var stream = this.inlineStream;
+        this.inlineStream = null;
+        return stream;
+    }
+
+    /**
+     * Close the pending inline fetch.
+     * <p>
+     * Closes the request sent by {@link #startInlineFetch()} or the stream kept by {@link #completeInlineFetch(int)}. After this, the CLOB is opened again on
+     * demand.
+     * </p>
+     *
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void closeInlineFetch() throws SQLException {
+        var future = this.inlineFuture;
+        this.inlineFuture = null;
+        var stream = takeInlineStream();
+        try (future; stream) {
+            // close
+        } catch (Exception e) {
+            throw getExceptionHandler().sqlException("CLOB close error", e);
+        }
+    }
+
+    private static void closeQuietly(@Nullable AutoCloseable resource, Exception cause) {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Copy CLOB to file.
+     * <p>
+     * In PRIVILEGED mode with UTF-8, the file materialized by the server is copied (or linked) directly using {@code lobPathMappingOnReceive}. Otherwise, the data is encoded and streamed into the file.
+     * </p>
+     *
+     * @param dstFile destination file
+     * @param charset charset of the file
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public void copyTo(Path dstFile, Charset charset) throws SQLException {
+        checkFreed();
+
+        if (this.cachedClob == null && StandardCharsets.UTF_8.equals(charset) && getLobTransferType() == TsurugiJdbcLobTransferType.PRIVILEGED) {
+            closeInlineFetch();
+
+            var transaction = ownerResultSet.getTransaction();
+            long startNanoTime = System.nanoTime();
+            var observation = TsurugiJdbcObservation.startLobDownload(transaction, "COPY", "CLOB");
+            try {
+                var tx = transaction.getLowTransaction();
+                var io = getIoUtil();
+                io.get(tx.copyTo(lowClob, dstFile), timeout, transaction.getDeadline());
+                TsurugiJdbcObservation.succeeded(observation, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_DOWNLOAD, startNanoTime, -1);
+                return;
+            } catch (Exception e) {
+                var se = getExceptionHandler().sqlException("CLOB copy error", e);
+                TsurugiJdbcObservation.failed(observation, se);
+                transaction.rollbackIfDeadlineExpired(se);
+                throw se;
+            }
+        }
+
+        try (var reader = getCharacterStream()) {
+            FileChannelCopier.copy(reader, dstFile, charset);
+        } catch (IOException e) {
+            throw getExceptionHandler().sqlException("CLOB copy error", e);
+        }
+    }
+
+    private TsurugiJdbcLobTransferType getLobTransferType() throws SQLException {
+        var connection = ownerResultSet.getStatement().getConnection();
+        return connection.getLobTransferType();
+    }
+
     private TsurugiJdbcClob getCachedClob() throws SQLException {
         if (this.cachedClob == null) {
             StringBuilder buffer;
@@ -156,7 +342,19 @@ public class TsurugiJdbcClobReference implements Clob {
     @Override
     public long position(String searchstr, long start) throws SQLException {
         checkFreed();
-        return getCachedClob().position(searchstr, start);
+
+        if (this.cachedClob != null || searchstr == null || searchstr.isEmpty() || start < 1) {
+            return getCachedClob().position(searchstr, start);
+        }
+
+        // search while streaming, without caching the whole CLOB
+        var searcher = new CharPatternSearcher(searchstr);
+        try (var reader = openReader(timeout, TimeUnit.SECONDS)) {
+            long n = searcher.indexOf(reader, start - 1);
+            return (n >= 0) ? (n + 1) : -1;
+        } catch (IOException e) {
+            throw getExceptionHandler().sqlException("CLOB read error", e);
+        }
     }
 
     @Override
@@ -200,6 +398,7 @@ public class TsurugiJdbcClobReference implements Clob {
         if (!this.freed) {
             this.freed = true;
 
+            closeInlineFetch();
             if (cachedClob != null) {
                 cachedClob.free();
             }
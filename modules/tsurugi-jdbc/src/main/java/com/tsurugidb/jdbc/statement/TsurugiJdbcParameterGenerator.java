@@ -17,8 +17,10 @@ package com.tsurugidb.jdbc.statement;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.text.MessageFormat;
@@ -41,6 +43,7 @@ import com.tsurugidb.jdbc.resultset.type.TsurugiJdbcBlobReference;
 import com.tsurugidb.jdbc.resultset.type.TsurugiJdbcClobReference;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcBlobUploader;
 import com.tsurugidb.jdbc.statement.type.TsurugiJdbcClobUploader;
+import com.tsurugidb.jdbc.statement.type.TsurugiJdbcUtf8ClobUploader;
 import com.tsurugidb.jdbc.util.TsurugiJdbcConvertUtil;
 import com.tsurugidb.sql.proto.SqlCommon.AtomType;
 import com.tsurugidb.sql.proto.SqlRequest.Parameter;
@@ -55,6 +58,7 @@ public class TsurugiJdbcParameterGenerator {
     private TsurugiJdbcConvertUtil convertUtil = null;
     private TsurugiJdbcBlobUploader blobUploader = null;
     private TsurugiJdbcClobUploader clobUploader = null;
+    private TsurugiJdbcUtf8ClobUploader utf8ClobUploader = null;
 
     /**
      * Creates a new instance.
@@ -502,6 +506,35 @@ public class TsurugiJdbcParameterGenerator {
         return Parameters.clobOf(name, lobInfo);
     }
 
+    /**
+     * Create parameter.
+     * <p>
+     * UTF-8 (and US-ASCII) streams are uploaded without decoding. Other streams are decoded and encoded to UTF-8 through fixed-size buffers.
+     * </p>
+     *
+     * @param name    parameter name
+     * @param value   encoded text InputStream value
+     * @param charset charset of the value
+     * @return parameter
+     * @throws SQLException if data convert error occurs
+     * @since 0.5.0
+     */
+    public Parameter createClob(String name, InputStream value, Charset charset) throws SQLException {
+        if (value == null) {
+            return Parameters.ofNull(name);
+        }
+
+        if (charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)) {
+            if (this.utf8ClobUploader == null) {
+                this.utf8ClobUploader = new TsurugiJdbcUtf8ClobUploader(ownerPreparedStatement);
+            }
+            var lobInfo = utf8ClobUploader.upload(value);
+            return Parameters.clobOf(name, lobInfo);
+        }
+
+        return createClob(name, new InputStreamReader(value, charset));
+    }
+
     /**
      * Create parameter.
      *
@@ -19,6 +19,7 @@ import java.io.Closeable;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
@@ -46,7 +47,11 @@ import javax.annotation.OverridingMethodsMustInvokeSuper;
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcNotSupported;
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.explain.TsurugiJdbcExplainResult;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionDispatcher;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
 import com.tsurugidb.jdbc.util.SqlCloser;
 import com.tsurugidb.jdbc.util.TsurugiJdbcConvertUtil;
 import com.tsurugidb.jdbc.util.TsurugiJdbcSqlTypeUtil;
@@ -128,28 +133,50 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
     protected com.tsurugidb.tsubakuro.sql.PreparedStatement getLowPreparedStatement() throws SQLException {
         if (this.lowPreparedStatement == null) {
             var sqlClient = connection.getLowSqlClient();
+            var context = TsurugiJdbcExecutionDispatcher.start(connection.getExecutionDispatcher(), TsurugiJdbcExecutionListener.Operation.PREPARE, sql, null);
             try {
                 int timeout = config.getDefaultTimeout();
                 var io = getIoUtil();
                 this.lowPreparedStatement = io.get(sqlClient.prepare(sql, lowPlaceholderList), timeout);
+                TsurugiJdbcExecutionDispatcher.succeeded(context, -1);
             } catch (Exception e) {
-                throw getExceptionHandler().sqlException("LowPreparedStatement create error", e);
+                var se = getExceptionHandler().sqlException("LowPreparedStatement create error", e);
+                TsurugiJdbcExecutionDispatcher.failed(context, se);
+                throw se;
             }
         }
         return this.lowPreparedStatement;
     }
 
+    /**
+     * Explain this statement with the current parameters.
+     *
+     * @return execution plan
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public TsurugiJdbcExplainResult explain() throws SQLException {
+        var lowPs = getLowPreparedStatement();
+        return connection.explain(lowPs, lowParameterList);
+    }
+
+    @Override
+    public void checkSlowQuery(TsurugiJdbcTransaction transaction, String sql, long elapsedNanos, long fetchNanos, long rows) {
+        connection.checkSlowStatement(transaction, sql, this.lowPreparedStatement, lowParameterList, elapsedNanos, fetchNanos, rows);
+    }
+
     @Override
     public ResultSet executeQuery() throws SQLException {
         closeExecutingResultSet();
 
         var lowPs = getLowPreparedStatement();
 
-        var transaction = connection.getTransaction();
-        var rs = transaction.executeOnly(lowTransaction -> {
+        var transaction = connection.getTransaction(sql, lowPs.hasResultRecords(), config.getScanParallel());
+        var rs = transaction.executeOnly(sql, lowTransaction -> {
             var future = lowTransaction.executeQuery(lowPs, lowParameterList);
             return factory.createResultSet(this, transaction, future, config);
         });
+        rs.setSql(sql);
 
         setExecutingResultSet(rs);
         closeCloseableSet();
@@ -164,17 +191,22 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
         int timeout = config.getExecuteTimeout();
 
-        var transaction = connection.getTransaction();
-        ExecuteResult result = transaction.executeAndAutoCommit(lowTransaction -> {
+        var transaction = connection.getTransaction(sql);
+        long start = System.nanoTime();
+        ExecuteResult result = transaction.executeAndAutoCommit(sql, lowTransaction -> {
             var io = getIoUtil();
-            return io.get(lowTransaction.executeStatement(lowPs, lowParameterList), timeout);
+            return io.get(lowTransaction.executeStatement(lowPs, lowParameterList), timeout, transaction.getDeadline());
         });
-        closeCloseableSet();
 
         long count = 0;
         for (long c : result.getCounters().values()) {
             count += c;
         }
+        long elapsed = System.nanoTime() - start;
+        connection.notifyExecuted(sql, elapsed, count);
+        connection.checkSlowStatement(transaction, sql, lowPs, lowParameterList, elapsed, 0, count);
+        closeCloseableSet();
+
         return (int) count;
     }
 
@@ -263,6 +295,24 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
         }
     }
 
+    /**
+     * Whether the placeholder is declared as CLOB.
+     * <p>
+     * Streams for CLOB placeholders are uploaded as large objects instead of being read into a string.
+     * </p>
+     *
+     * @param parameterIndex parameter index (1-origin)
+     * @return {@code true} if CLOB
+     */
+    protected boolean isClobPlaceholder(int parameterIndex) {
+        int index = parameterIndex - 1;
+        if (index < 0 || index >= lowPlaceholderList.size()) {
+            return false;
+        }
+        var lowPlaceholder = lowPlaceholderList.get(index);
+        return lowPlaceholder != null && lowPlaceholder.getAtomType() == AtomType.CLOB;
+    }
+
     private boolean overwritePlaceholder(Placeholder lowPlaceholder, AtomType newAtomType) {
         if (lowPlaceholder == null) {
             return true;
@@ -402,6 +452,12 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        if (isClobPlaceholder(parameterIndex)) {
+            var in = (length >= 0) ? LimitInputStream.of(x, length) : x;
+            setParameter(parameterIndex, AtomType.CLOB, name -> parameterGenerator.createClob(name, in, StandardCharsets.US_ASCII));
+            return;
+        }
+
         var atomType = AtomType.CHARACTER;
         setParameter(parameterIndex, atomType, name -> parameterGenerator.createAsciiStream(name, x, length));
     }
@@ -409,6 +465,12 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
     @Override
     @Deprecated
     public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        if (isClobPlaceholder(parameterIndex)) {
+            var in = LimitInputStream.of(x, length);
+            setParameter(parameterIndex, AtomType.CLOB, name -> parameterGenerator.createClob(name, in, StandardCharsets.UTF_16));
+            return;
+        }
+
         var atomType = AtomType.CHARACTER;
         setParameter(parameterIndex, atomType, name -> parameterGenerator.createUnicodeStream(name, x, length));
     }
@@ -448,23 +510,30 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
         var lowPs = getLowPreparedStatement();
 
-        var transaction = connection.getTransaction();
+        boolean query = lowPs.hasResultRecords();
+        var transaction = connection.getTransaction(sql, query, config.getScanParallel());
 
-        if (lowPs.hasResultRecords()) {
-            var rs = transaction.executeOnly(lowTransaction -> {
+        if (query) {
+            var rs = transaction.executeOnly(sql, lowTransaction -> {
                 var future = lowTransaction.executeQuery(lowPs, lowParameterList);
                 return factory.createResultSet(this, transaction, future, config);
             });
+            rs.setSql(sql);
 
             setExecutingResultSet(rs);
             closeCloseableSet();
             return true;
         } else {
             int timeout = config.getExecuteTimeout();
-            ExecuteResult lowResult = transaction.executeAndAutoCommit(lowTransaction -> {
+            long start = System.nanoTime();
+            ExecuteResult lowResult = transaction.executeAndAutoCommit(sql, lowTransaction -> {
                 var io = getIoUtil();
-                return io.get(lowTransaction.executeStatement(lowPs, lowParameterList), timeout);
+                return io.get(lowTransaction.executeStatement(lowPs, lowParameterList), timeout, transaction.getDeadline());
             });
+            int count = getUpdateCount(lowResult);
+            long elapsed = System.nanoTime() - start;
+            connection.notifyExecuted(sql, elapsed, count);
+            connection.checkSlowStatement(transaction, sql, lowPs, lowParameterList, elapsed, 0, count);
 
             setLowUpdateResult(lowResult);
             closeCloseableSet();
@@ -507,8 +576,9 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
         var lowPs = getLowPreparedStatement();
 
-        var transaction = connection.getTransaction();
-        int[] result = transaction.executeAndAutoCommit(lowTransaction -> {
+        var transaction = connection.getTransaction(sql);
+        long start = System.nanoTime();
+        int[] result = transaction.executeAndAutoCommit(sql, lowTransaction -> {
             int[] count = new int[parameterList.size()];
 
             int queueSize = getBatchQueueSize(parameterList.size());
@@ -521,12 +591,12 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
             for (List<Parameter> parameter : parameterList) {
                 var future = lowTransaction.executeStatement(lowPs, parameter);
                 if (queueSize == 0) {
-                    var er = io.get(future, timeout);
+                    var er = io.get(future, timeout, transaction.getDeadline());
                     count[i++] = getUpdateCount(er);
                 } else {
                     while (queue.size() >= queueSize) {
                         var future1 = queue.pollFirst();
-                        var er = io.get(future1, timeout);
+                        var er = io.get(future1, timeout, transaction.getDeadline());
                         count[i++] = getUpdateCount(er);
                     }
                     queue.addLast(future);
@@ -535,12 +605,19 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
             while (!queue.isEmpty()) {
                 var future = queue.pollFirst();
-                var er = io.get(future, timeout);
+                var er = io.get(future, timeout, transaction.getDeadline());
                 count[i++] = getUpdateCount(er);
             }
 
             return count;
         });
+        long rowsAffected = 0;
+        for (int c : result) {
+            rowsAffected += c;
+        }
+        long elapsed = System.nanoTime() - start;
+        connection.notifyExecuted(sql, elapsed, rowsAffected);
+        connection.checkSlowStatement(transaction, sql, lowPs, parameterList.get(0), elapsed, 0, rowsAffected);
 
         clearBatch();
         return result;
@@ -548,6 +625,12 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+        if (isClobPlaceholder(parameterIndex)) {
+            var in = (length >= 0) ? LimitReader.of(reader, length) : reader;
+            setParameter(parameterIndex, AtomType.CLOB, name -> parameterGenerator.createClob(name, in));
+            return;
+        }
+
         var atomType = AtomType.CHARACTER;
         setParameter(parameterIndex, atomType, name -> parameterGenerator.createCharacterStream(name, reader, length));
     }
@@ -721,8 +804,7 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
-        var atomType = AtomType.CHARACTER;
-        setParameter(parameterIndex, atomType, name -> parameterGenerator.createAsciiStream(name, x, -1));
+        setAsciiStream(parameterIndex, x, -1);
     }
 
     @Override
@@ -733,8 +815,7 @@ public class TsurugiJdbcPreparedStatement extends TsurugiJdbcStatement implement
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
-        var atomType = AtomType.CHARACTER;
-        setParameter(parameterIndex, atomType, name -> parameterGenerator.createCharacterStream(name, reader, -1));
+        setCharacterStream(parameterIndex, reader, -1);
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalInt;
 
 import javax.annotation.Nonnull;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -35,6 +36,7 @@ import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
 import com.tsurugidb.jdbc.factory.HasFactory;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
 import com.tsurugidb.jdbc.resultset.TsurugiJdbcResultSet;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
 import com.tsurugidb.jdbc.util.SqlCloser;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
 import com.tsurugidb.tsubakuro.sql.ExecuteResult;
@@ -134,11 +136,12 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
     public TsurugiJdbcResultSet executeQuery(String sql) throws SQLException {
         closeExecutingResultSet();
 
-        var transaction = connection.getTransaction();
-        var rs = transaction.executeOnly(lowTransaction -> {
+        var transaction = connection.getTransaction(sql, true, config.getScanParallel());
+        var rs = transaction.executeOnly(sql, lowTransaction -> {
             var future = lowTransaction.executeQuery(sql);
             return factory.createResultSet(this, transaction, future, config);
         });
+        rs.setSql(sql);
 
         setExecutingResultSet(rs);
         return rs;
@@ -150,13 +153,33 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
 
         int timeout = config.getExecuteTimeout();
 
-        var transaction = connection.getTransaction();
-        ExecuteResult lowResult = transaction.executeAndAutoCommit(lowTransaction -> {
+        var transaction = connection.getTransaction(sql);
+        long start = System.nanoTime();
+        ExecuteResult lowResult = transaction.executeAndAutoCommit(sql, lowTransaction -> {
             var io = getIoUtil();
-            return io.get(lowTransaction.executeStatement(sql), timeout);
+            return io.get(lowTransaction.executeStatement(sql), timeout, transaction.getDeadline());
         });
+        int count = getUpdateCount(lowResult);
+        long elapsed = System.nanoTime() - start;
+        connection.notifyExecuted(sql, elapsed, count);
+        connection.checkSlowStatement(transaction, sql, null, null, elapsed, 0, count);
 
-        return getUpdateCount(lowResult);
+        return count;
+    }
+
+    /**
+     * Log the query if it is slow.
+     *
+     * @param transaction  transaction
+     * @param sql          SQL
+     * @param elapsedNanos elapsed time from execution to completion [nanoseconds]
+     * @param fetchNanos   fetch time [nanoseconds]
+     * @param rows         number of rows
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void checkSlowQuery(TsurugiJdbcTransaction transaction, String sql, long elapsedNanos, long fetchNanos, long rows) {
+        connection.checkSlowStatement(transaction, sql, null, null, elapsedNanos, fetchNanos, rows);
     }
 
     /**
@@ -240,6 +263,29 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
         config.setQueryTimeout(seconds);
     }
 
+    /**
+     * Set RTX scan parallel.
+     * <p>
+     * Used when the statement begins an RTX. This takes precedence over the scan parallel of the connection and the adaptive scan parallel.
+     * </p>
+     *
+     * @param scanParallel scan parallel
+     * @since 0.5.0
+     */
+    public void setScanParallel(int scanParallel) {
+        config.setScanParallel(scanParallel);
+    }
+
+    /**
+     * Get RTX scan parallel.
+     *
+     * @return scan parallel. empty if not specified for the statement
+     * @since 0.5.0
+     */
+    public OptionalInt getScanParallel() {
+        return config.getScanParallel();
+    }
+
     @Override
     @TsurugiJdbcNotSupported
     public void cancel() throws SQLException {
@@ -290,13 +336,15 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
         };
 
         try (psCloser) {
-            var transaction = connection.getTransaction();
+            boolean query = lowPs.hasResultRecords();
+            var transaction = connection.getTransaction(sql, query, config.getScanParallel());
 
-            if (lowPs.hasResultRecords()) {
-                var rs = transaction.executeOnly(lowTransaction -> {
+            if (query) {
+                var rs = transaction.executeOnly(sql, lowTransaction -> {
                     var future = lowTransaction.executeQuery(lowPs, List.of());
                     return factory.createResultSet(this, transaction, future, config);
                 });
+                rs.setSql(sql);
 
                 rs.setLowPreparedStatement(lowPs);
                 needClose[0] = false;
@@ -305,10 +353,15 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
                 return true;
             } else {
                 int timeout = config.getExecuteTimeout();
-                ExecuteResult lowResult = transaction.executeAndAutoCommit(lowTransaction -> {
+                long start = System.nanoTime();
+                ExecuteResult lowResult = transaction.executeAndAutoCommit(sql, lowTransaction -> {
                     var io = getIoUtil();
-                    return io.get(lowTransaction.executeStatement(lowPs, List.of()), timeout);
+                    return io.get(lowTransaction.executeStatement(lowPs, List.of()), timeout, transaction.getDeadline());
                 });
+                int count = getUpdateCount(lowResult);
+                long elapsed = System.nanoTime() - start;
+                connection.notifyExecuted(sql, elapsed, count);
+                connection.checkSlowStatement(transaction, sql, null, null, elapsed, 0, count);
 
                 setLowUpdateResult(lowResult);
                 return false;
@@ -445,8 +498,9 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
             return new int[0];
         }
 
-        var transaction = connection.getTransaction();
-        int[] result = transaction.executeAndAutoCommit(lowTransaction -> {
+        var transaction = connection.getTransaction(sqlList.get(0));
+        long start = System.nanoTime();
+        int[] result = transaction.executeAndAutoCommit(sqlList.get(0), lowTransaction -> {
             int[] count = new int[sqlList.size()];
 
             int queueSize = getBatchQueueSize(sqlList.size());
@@ -459,12 +513,12 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
             for (String sql : sqlList) {
                 var future = lowTransaction.executeStatement(sql);
                 if (queueSize == 0) {
-                    var er = io.get(future, timeout);
+                    var er = io.get(future, timeout, transaction.getDeadline());
                     count[i++] = getUpdateCount(er);
                 } else {
                     while (queue.size() >= queueSize) {
                         var future1 = queue.pollFirst();
-                        var er = io.get(future1, timeout);
+                        var er = io.get(future1, timeout, transaction.getDeadline());
                         count[i++] = getUpdateCount(er);
                     }
                     queue.addLast(future);
@@ -473,12 +527,20 @@ public class TsurugiJdbcStatement implements Statement, HasFactory {
 
             while (!queue.isEmpty()) {
                 var future = queue.pollFirst();
-                var er = io.get(future, timeout);
+                var er = io.get(future, timeout, transaction.getDeadline());
                 count[i++] = getUpdateCount(er);
             }
 
             return count;
         });
+        // the statements are pipelined, so the elapsed time is divided equally
+        long elapsed = System.nanoTime() - start;
+        long rowsAffected = 0;
+        for (int i = 0; i < sqlList.size(); i++) {
+            connection.notifyExecuted(sqlList.get(i), elapsed / sqlList.size(), result[i]);
+            rowsAffected += result[i];
+        }
+        connection.checkSlowStatement(transaction, sqlList.get(0), null, null, elapsed, 0, rowsAffected);
 
         clearBatch();
         return result;
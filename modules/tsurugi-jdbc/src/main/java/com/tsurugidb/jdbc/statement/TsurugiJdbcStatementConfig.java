@@ -19,8 +19,12 @@ import static com.tsurugidb.jdbc.TsurugiConfig.BATCH_QUEUE_SIZE;
 import static com.tsurugidb.jdbc.TsurugiConfig.DEFAULT_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.EXECUTE_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.LOB_DOWNLOAD_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.LOB_INLINE_THRESHOLD;
 import static com.tsurugidb.jdbc.TsurugiConfig.LOB_UPLOAD_TIMEOUT;
 import static com.tsurugidb.jdbc.TsurugiConfig.QUERY_TIMEOUT;
+import static com.tsurugidb.jdbc.TsurugiConfig.SCAN_PARALLEL;
+
+import java.util.OptionalInt;
 
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
@@ -49,11 +53,13 @@ public class TsurugiJdbcStatementConfig {
     private final TsurugiJdbcPropertyInt batchQueueSize = new TsurugiJdbcPropertyInt(BATCH_QUEUE_SIZE);
     private final TsurugiJdbcPropertyInt queryTimeout = new TsurugiJdbcPropertyInt(QUERY_TIMEOUT);
     private final TsurugiJdbcPropertyInt lobDownloadTimeout = new TsurugiJdbcPropertyInt(LOB_DOWNLOAD_TIMEOUT);
+    private final TsurugiJdbcPropertyInt lobInlineThreshold = new TsurugiJdbcPropertyInt(LOB_INLINE_THRESHOLD);
     private final TsurugiJdbcPropertyInt defaultTimeout = new TsurugiJdbcPropertyInt(DEFAULT_TIMEOUT);
+    private final TsurugiJdbcPropertyInt scanParallel = new TsurugiJdbcPropertyInt(SCAN_PARALLEL); // not copied from connection
 
     private final TsurugiJdbcProperties properties = TsurugiJdbcProperties.of(//
             lobUploadTimeout, executeTimeout, batchQueueSize, //
-            queryTimeout, lobDownloadTimeout, //
+            queryTimeout, lobDownloadTimeout, lobInlineThreshold, //
             defaultTimeout);
 
     /**
@@ -131,6 +137,26 @@ public class TsurugiJdbcStatementConfig {
         return queryTimeout.value().orElse(getDefaultTimeout());
     }
 
+    /**
+     * Set RTX scan parallel.
+     *
+     * @param parallel scan parallel
+     * @since 0.5.0
+     */
+    public void setScanParallel(int parallel) {
+        scanParallel.setValue(parallel);
+    }
+
+    /**
+     * Get RTX scan parallel.
+     *
+     * @return scan parallel. empty if not specified for the statement
+     * @since 0.5.0
+     */
+    public OptionalInt getScanParallel() {
+        return scanParallel.value();
+    }
+
     /**
      * Set large object download timeout.
      *
@@ -151,6 +177,26 @@ public class TsurugiJdbcStatementConfig {
         return lobDownloadTimeout.value().orElse(getDefaultTimeout());
     }
 
+    /**
+     * Set large object inline fetch threshold.
+     *
+     * @param threshold large object inline fetch threshold [bytes]
+     * @since 0.5.0
+     */
+    public void setLobInlineThreshold(int threshold) {
+        lobInlineThreshold.setValue(threshold);
+    }
+
+    /**
+     * Get large object inline fetch threshold.
+     *
+     * @return large object inline fetch threshold [bytes]
+     * @since 0.5.0
+     */
+    public int getLobInlineThreshold() {
+        return lobInlineThreshold.value().orElse(0);
+    }
+
     // Common
 
     /**
@@ -22,6 +22,8 @@ import java.io.OutputStream;
 import java.sql.Blob;
 import java.sql.SQLException;
 
+import com.tsurugidb.jdbc.util.io.BytePatternSearcher;
+
 /**
  * Tsurugi JDBC Blob.
  *
@@ -128,15 +130,8 @@ public class TsurugiJdbcBlob implements Blob {
             return -1;
         }
 
-        loop: for (int i = index; i < this.length; i++) {
-            for (int j = 0; j < pattern.length; j++) {
-                if (i + j >= this.length || this.buffer[i + j] != pattern[j]) {
-                    continue loop;
-                }
-            }
-            return i + 1;
-        }
-        return -1;
+        int n = new BytePatternSearcher(pattern).indexOf(this.buffer, index, this.length);
+        return (n >= 0) ? (n + 1) : -1;
     }
 
     @Override
@@ -17,11 +17,10 @@ package com.tsurugidb.jdbc.statement.type;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 
 import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+import com.tsurugidb.jdbc.util.io.FileChannelCopier;
 import com.tsurugidb.tsubakuro.common.LargeObjectClient;
 import com.tsurugidb.tsubakuro.common.LargeObjectInfo;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
@@ -54,7 +53,8 @@ public class TsurugiJdbcBlobUploader extends TsurugiJdbcLobUploader<InputStream>
 
     @Override
     protected void writeFile(InputStream value, Path dstFile) throws IOException {
-        Files.copy(value, dstFile, StandardCopyOption.REPLACE_EXISTING);
+        // overwrite the existing file so that it is not re-created
+        FileChannelCopier.copy(value, dstFile);
     }
 
     @Override
@@ -18,10 +18,11 @@ package com.tsurugidb.jdbc.statement.type;
 import java.io.IOException;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+import com.tsurugidb.jdbc.util.io.FileChannelCopier;
+import com.tsurugidb.jdbc.util.io.Utf8EncodingInputStream;
 import com.tsurugidb.tsubakuro.common.LargeObjectClient;
 import com.tsurugidb.tsubakuro.common.LargeObjectInfo;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
@@ -54,13 +55,12 @@ public class TsurugiJdbcClobUploader extends TsurugiJdbcLobUploader<Reader> {
 
     @Override
     protected void writeFile(Reader value, Path dstFile) throws IOException {
-        try (var writer = Files.newBufferedWriter(dstFile, StandardCharsets.UTF_8)) {
-            value.transferTo(writer);
-        }
+        // encode through fixed-size buffers and overwrite the existing file
+        FileChannelCopier.copy(value, dstFile, StandardCharsets.UTF_8);
     }
 
     @Override
     protected FutureResponse<LargeObjectInfo> uploadValue(LargeObjectClient lowLargeObjectClient, Reader value) throws IOException {
-        return lowLargeObjectClient.upload(value);
+        return lowLargeObjectClient.upload(Utf8EncodingInputStream.of(value));
     }
 }
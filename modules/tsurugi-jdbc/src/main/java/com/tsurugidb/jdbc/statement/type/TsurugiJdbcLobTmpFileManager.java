@@ -0,0 +1,508 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.statement.type;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Tsurugi JDBC large object temporary file manager (for PRIVILEGED mode).
+ * <p>
+ * Temporary files are pooled per connection and reused for subsequent uploads. When a file type is used for the first time, the slot files are pre-created in the
+ * background up to the pool size, so that later uploads do not wait for file creation. Files which are not pooled are deleted in the background.
+ * </p>
+ * <p>
+ * Each JVM holds a lock file ({@code tsurugiJDBC-owner<id>.lock}) in the directory while it is running, and its temporary files are named with the same owner id. Files of an
+ * owner whose lock file can be locked (that is, the JVM is no longer running) are deleted when the directory is used for the first time. Since the liveness is judged by the file
+ * lock, the directory can be shared by other hosts or containers, as long as the file system supports file locks. Files without the lock file are deleted only if they are old
+ * enough.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcLobTmpFileManager implements Closeable {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcLobTmpFileManager.class.getName());
+
+    /** temporary file name prefix */
+    public static final String FILE_PREFIX = "tsurugiJDBC-";
+
+    private static final String LOCK_FILE_PREFIX = FILE_PREFIX + "owner";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile(Pattern.quote(FILE_PREFIX) + "[a-z]+(\\d+)-\\d+\\.[a-z]+");
+    private static final long ORPHAN_MIN_AGE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    /** id of this JVM, unique among the JVMs sharing the directory */
+    static final String OWNER_ID = Long.toString(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+    private static final AtomicLong SLOT_ID = new AtomicLong();
+    private static final Set<Path> SWEPT_DIRECTORIES = ConcurrentHashMap.newKeySet();
+    private static final Map<Path, FileLock> OWNER_LOCKS = new ConcurrentHashMap<>();
+
+    private static final class CleanerHolder {
+        static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "tsurugi-jdbc-lob-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Temporary file slot.
+     */
+    public static final class Slot {
+        private final String key;
+        private final Path path;
+        private long size = 0;
+
+        Slot(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+
+        /**
+         * Get file path.
+         *
+         * @return file path
+         */
+        public Path getPath() {
+            return this.path;
+        }
+    }
+
+    private final Path tmpDir;
+    private final int poolSize;
+    private final Map<String, ArrayDeque<Slot>> pool = new HashMap<>();
+    private boolean directoryReady = false;
+    private boolean closed = false;
+
+    private final LongAdder filesInFlight = new LongAdder();
+    private final LongAdder bytesInFlight = new LongAdder();
+    private final LongAdder createdFiles = new LongAdder();
+    private final LongAdder reusedFiles = new LongAdder();
+    private final AtomicLong pendingDeletes = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tmpDir   temporary directory
+     * @param poolSize number of pooled files per file type
+     */
+    public TsurugiJdbcLobTmpFileManager(Path tmpDir, int poolSize) {
+        this.tmpDir = tmpDir;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Get temporary directory.
+     *
+     * @return temporary directory
+     */
+    public Path getTmpDir() {
+        return this.tmpDir;
+    }
+
+    /**
+     * Acquire temporary file.
+     *
+     * @param prefix file name prefix
+     * @param suffix file name suffix
+     * @return slot
+     * @throws IOException if an I/O error occurs
+     */
+    public Slot acquire(String prefix, String suffix) throws IOException {
+        String key = prefix + suffix;
+        Slot slot;
+        boolean precreate = false;
+        synchronized (this) {
+            if (this.closed) {
+                throw new IOException("LOB temporary file manager already closed");
+            }
+            prepareDirectory();
+
+            var queue = pool.get(key);
+            if (queue == null) {
+                pool.put(key, new ArrayDeque<>());
+                precreate = this.poolSize > 1;
+                slot = null;
+            } else {
+                slot = queue.pollFirst();
+            }
+        }
+
+        if (precreate) {
+            CleanerHolder.EXECUTOR.execute(() -> precreate(key, prefix, suffix, poolSize - 1));
+        }
+
+        if (slot == null) {
+            slot = new Slot(key, createFile(prefix, suffix));
+        } else {
+            reusedFiles.increment();
+        }
+
+        filesInFlight.increment();
+        return slot;
+    }
+
+    private Path createFile(String prefix, String suffix) throws IOException {
+        var path = tmpDir.resolve(FILE_PREFIX + prefix + OWNER_ID + "-" + SLOT_ID.incrementAndGet() + suffix);
+        Files.createFile(path);
+        createdFiles.increment();
+        return path;
+    }
+
+    private void precreate(String key, String prefix, String suffix, int count) {
+        for (int i = 0; i < count; i++) {
+            Path path;
+            try {
+                path = createFile(prefix, suffix);
+            } catch (IOException e) {
+                LOG.log(Level.FINE, "LOB temporary file create error. dir=" + tmpDir, e);
+                return;
+            }
+
+            synchronized (this) {
+                if (!this.closed) {
+                    var queue = pool.computeIfAbsent(key, k -> new ArrayDeque<>());
+                    if (queue.size() < this.poolSize) {
+                        queue.addLast(new Slot(key, path));
+                        continue;
+                    }
+                }
+            }
+
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.log(Level.FINE, "LOB temporary file delete error. file=" + path, e);
+            }
+            return;
+        }
+    }
+
+    private void prepareDirectory() throws IOException {
+        if (this.directoryReady) {
+            return;
+        }
+        Files.createDirectories(tmpDir);
+        this.directoryReady = true;
+
+        var dir = tmpDir.toAbsolutePath().normalize();
+        lockOwner(dir);
+        if (SWEPT_DIRECTORIES.add(dir)) {
+            CleanerHolder.EXECUTOR.execute(() -> sweepOrphanFiles(dir));
+        }
+    }
+
+    /**
+     * Notify the size of the file written.
+     *
+     * @param slot slot
+     * @param size file size [bytes]
+     */
+    public void written(Slot slot, long size) {
+        slot.size = size;
+        bytesInFlight.add(size);
+    }
+
+    /**
+     * Release temporary file.
+     * <p>
+     * The file is truncated and kept for reuse, or deleted in the background if the pool is full.
+     * </p>
+     *
+     * @param slot slot
+     */
+    public void release(Slot slot) {
+        filesInFlight.decrement();
+        bytesInFlight.add(-slot.size);
+        slot.size = 0;
+
+        synchronized (this) {
+            if (!this.closed) {
+                var queue = pool.computeIfAbsent(slot.key, k -> new ArrayDeque<>());
+                if (queue.size() < this.poolSize && truncate(slot.path)) {
+                    queue.addLast(slot);
+                    return;
+                }
+            }
+        }
+
+        deleteAsync(slot.path);
+    }
+
+    private static boolean truncate(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+            return true;
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "LOB temporary file truncate error. file=" + path, e);
+            return false;
+        }
+    }
+
+    private void deleteAsync(Path path) {
+        pendingDeletes.incrementAndGet();
+        CleanerHolder.EXECUTOR.execute(() -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.log(Level.FINE, "LOB temporary file delete error. file=" + path, e);
+            } finally {
+                pendingDeletes.decrementAndGet();
+            }
+        });
+    }
+
+    static String lockFileName(String ownerId) {
+        return LOCK_FILE_PREFIX + ownerId + LOCK_FILE_SUFFIX;
+    }
+
+    /**
+     * Hold the lock file of this JVM in the directory until the JVM exits.
+     */
+    static void lockOwner(Path dir) {
+        OWNER_LOCKS.computeIfAbsent(dir, d -> {
+            var file = d.resolve(lockFileName(OWNER_ID));
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                var lock = channel.tryLock();
+                if (lock != null) {
+                    return lock;
+                }
+            } catch (IOException | OverlappingFileLockException e) {
+                LOG.log(Level.FINE, "LOB temporary file owner lock error. file=" + file, e);
+            }
+            closeQuietly(channel);
+            return null;
+        });
+    }
+
+    // for test
+    static void unlockOwner(Path dir) {
+        var lock = OWNER_LOCKS.remove(dir);
+        if (lock != null) {
+            closeQuietly(lock.channel());
+        }
+    }
+
+    private enum OwnerState {
+        /** the owner JVM is running */
+        ALIVE,
+        /** the owner JVM is no longer running (the lock is held by the sweeper) */
+        DEAD,
+        /** no lock file */
+        UNKNOWN,
+    }
+
+    static void sweepOrphanFiles(Path dir) {
+        long now = System.currentTimeMillis();
+        var ownerMap = new HashMap<String, OwnerState>();
+        var deadLocks = new HashMap<String, FileLock>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, FILE_PREFIX + "*")) {
+            for (var file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(LOCK_FILE_PREFIX) && fileName.endsWith(LOCK_FILE_SUFFIX)) {
+                    continue;
+                }
+                if (isOrphanFile(dir, file, now, ownerMap, deadLocks)) {
+                    try {
+                        Files.deleteIfExists(file);
+                        LOG.config(() -> String.format("orphan LOB temporary file deleted. file=%s", file));
+                    } catch (IOException e) {
+                        LOG.log(Level.FINE, "orphan LOB temporary file delete error. file=" + file, e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "orphan LOB temporary file sweep error. dir=" + dir, e);
+        } finally {
+            for (var entry : deadLocks.entrySet()) {
+                var lockFile = dir.resolve(lockFileName(entry.getKey()));
+                try {
+                    Files.deleteIfExists(lockFile);
+                } catch (IOException e) {
+                    LOG.log(Level.FINE, "orphan LOB temporary file delete error. file=" + lockFile, e);
+                }
+                closeQuietly(entry.getValue().channel());
+            }
+        }
+    }
+
+    private static boolean isOrphanFile(Path dir, Path file, long now, Map<String, OwnerState> ownerMap, Map<String, FileLock> deadLocks) {
+        var matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            String ownerId = matcher.group(1);
+            if (ownerId.equals(OWNER_ID)) {
+                return false;
+            }
+            var state = ownerMap.computeIfAbsent(ownerId, id -> ownerState(dir, id, deadLocks));
+            switch (state) {
+            case ALIVE:
+                return false;
+            case DEAD:
+                return true;
+            default:
+                break;
+            }
+        }
+
+        // files without the lock file (e.g. created by older versions): delete only if they are old enough
+        try {
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            return now - lastModified > ORPHAN_MIN_AGE_MILLIS;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static OwnerState ownerState(Path dir, String ownerId, Map<String, FileLock> deadLocks) {
+        var lockFile = dir.resolve(lockFileName(ownerId));
+        if (!Files.exists(lockFile)) {
+            return OwnerState.UNKNOWN;
+        }
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+            var lock = channel.tryLock();
+            if (lock == null) {
+                closeQuietly(channel);
+                return OwnerState.ALIVE;
+            }
+            deadLocks.put(ownerId, lock);
+            return OwnerState.DEAD;
+        } catch (OverlappingFileLockException e) {
+            // locked by this JVM
+            closeQuietly(channel);
+            return OwnerState.ALIVE;
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "LOB temporary file owner lock error. file=" + lockFile, e);
+            closeQuietly(channel);
+            return OwnerState.UNKNOWN;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.log(Level.FINE, "LOB temporary file owner lock close error", e);
+            }
+        }
+    }
+
+    /**
+     * Get number of files in use.
+     *
+     * @return number of files
+     */
+    public long getFilesInFlight() {
+        return filesInFlight.sum();
+    }
+
+    /**
+     * Get total size of files in use.
+     *
+     * @return size [bytes]
+     */
+    public long getBytesInFlight() {
+        return bytesInFlight.sum();
+    }
+
+    /**
+     * Get number of pooled files.
+     *
+     * @return number of files
+     */
+    public synchronized int getPooledFiles() {
+        int count = 0;
+        for (var queue : pool.values()) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    /**
+     * Get number of files created.
+     *
+     * @return number of files
+     */
+    public long getCreatedFiles() {
+        return createdFiles.sum();
+    }
+
+    /**
+     * Get number of files reused.
+     *
+     * @return number of files
+     */
+    public long getReusedFiles() {
+        return reusedFiles.sum();
+    }
+
+    /**
+     * Get number of files waiting to be deleted.
+     *
+     * @return number of files
+     */
+    public long getPendingDeletes() {
+        return pendingDeletes.get();
+    }
+
+    @Override
+    public void close() {
+        List<Slot> slots = new ArrayList<>();
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+
+            for (var queue : pool.values()) {
+                slots.addAll(queue);
+            }
+            pool.clear();
+        }
+
+        for (var slot : slots) {
+            deleteAsync(slot.path);
+        }
+    }
+}
@@ -21,12 +21,19 @@ import java.nio.file.Path;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.text.MessageFormat;
-import java.util.concurrent.TimeUnit;
+import java.util.Locale;
 import java.util.concurrent.TimeoutException;
 
-import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcObservation;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
 import com.tsurugidb.jdbc.statement.TsurugiJdbcPreparedStatement;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
+import com.tsurugidb.jdbc.util.TsurugiJdbcDeadline;
+import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
 import com.tsurugidb.tsubakuro.common.LargeObjectClient;
 import com.tsurugidb.tsubakuro.common.LargeObjectInfo;
 import com.tsurugidb.tsubakuro.exception.ServerException;
@@ -60,6 +67,15 @@ public abstract class TsurugiJdbcLobUploader<T> {
         return ownerPreparedStatement.getFactory().getExceptionHandler();
     }
 
+    /**
+     * Get I/O utility.
+     *
+     * @return I/O utility
+     */
+    protected TsurugiJdbcIoUtil getIoUtil() {
+        return ownerPreparedStatement.getFactory().getIoUtil();
+    }
+
     /**
      * Upload value.
      *
@@ -68,42 +84,66 @@ public abstract class TsurugiJdbcLobUploader<T> {
      * @throws SQLException if an SQL error occurs while uploading the value
      */
     public LargeObjectInfo upload(T value) throws SQLException {
+        var connection = ownerPreparedStatement.getConnection();
+        var transaction = connection.getCurrentTransaction();
+        long startNanoTime = System.nanoTime();
+        var observation = TsurugiJdbcObservation.startLobUpload(connection, getLobType());
         try {
-            var connection = ownerPreparedStatement.getConnection();
             var lowSession = connection.getLowSession();
             var lowLargeObjectClient = lowSession.getLargeObjectClient();
 
+            LargeObjectInfo info;
             var lobTransferType = connection.getLobTransferType();
             switch (lobTransferType) {
             case PRIVILEGED:
-                var config = connection.getConfig();
-                return uploadForPrivileged(lowLargeObjectClient, config, value);
+                info = uploadForPrivileged(lowLargeObjectClient, connection, value, transaction);
+                break;
             case RELAY:
-                return upload(lowLargeObjectClient, value);
+                info = upload(lowLargeObjectClient, value, transaction);
+                break;
             default:
                 throw new SQLFeatureNotSupportedException(MessageFormat.format("lobTransferType={0} does not support LOB upload", lobTransferType));
             }
+            TsurugiJdbcObservation.succeeded(observation, connection.getMetrics(), TsurugiJdbcMetrics.Operation.LOB_UPLOAD, startNanoTime, -1);
+            return info;
         } catch (SQLException e) {
+            TsurugiJdbcObservation.failed(observation, e);
             throw e;
+        } catch (TimeoutException e) {
+            var se = getExceptionHandler().dataException("Upload large object error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            if (transaction != null) {
+                transaction.rollbackIfDeadlineExpired(se);
+            }
+            throw se;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw getExceptionHandler().dataException("Upload large object interrupted", e);
+            var se = getExceptionHandler().dataException("Upload large object interrupted", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            throw se;
         } catch (Exception e) {
-            throw getExceptionHandler().dataException("Upload large object error", e);
+            var se = getExceptionHandler().dataException("Upload large object error", e);
+            TsurugiJdbcObservation.failed(observation, se);
+            throw se;
         }
     }
 
-    private LargeObjectInfo uploadForPrivileged(LargeObjectClient lowLargeObjectClient, TsurugiJdbcConnectionConfig config, T value)
+    private String getLobType() {
+        return getTmpFilePrefix().toUpperCase(Locale.ROOT);
+    }
+
+    private LargeObjectInfo uploadForPrivileged(LargeObjectClient lowLargeObjectClient, TsurugiJdbcConnection connection, T value, @Nullable TsurugiJdbcTransaction transaction)
             throws IOException, ServerException, InterruptedException, TimeoutException {
-        Path tmpDir = config.getLobTmpDir();
-        Files.createDirectories(tmpDir);
-        var tmpFile = Files.createTempFile(tmpDir, "tsurugiJDBC-" + getTmpFilePrefix(), getTmpFileSuffix());
+        var tmpFileManager = connection.getLobTmpFileManager();
+        var slot = tmpFileManager.acquire(getTmpFilePrefix(), getTmpFileSuffix());
 
-        ownerPreparedStatement.addCloseable(() -> Files.deleteIfExists(tmpFile));
+        ownerPreparedStatement.addCloseable(() -> tmpFileManager.release(slot));
+        Path tmpFile = slot.getPath();
         writeFile(value, tmpFile);
+        tmpFileManager.written(slot, Files.size(tmpFile));
 
         int timeout = getTimeout();
-        return lowLargeObjectClient.upload(tmpFile).await(timeout, TimeUnit.SECONDS);
+        return getIoUtil().get(lowLargeObjectClient.upload(tmpFile), timeout, getDeadline(transaction));
     }
 
     /**
@@ -124,14 +164,20 @@ public abstract class TsurugiJdbcLobUploader<T> {
      * Write value to file for privileged mode.
      *
      * @param value   value to write
-     * @param dstFile temporary file path
+     * @param dstFile temporary file path (may already exist, must be overwritten)
      * @throws IOException if an I/O error occurs while writing the file
      */
     protected abstract void writeFile(T value, Path dstFile) throws IOException;
 
-    private LargeObjectInfo upload(LargeObjectClient lowLargeObjectClient, T value) throws IOException, ServerException, InterruptedException, TimeoutException {
+    private LargeObjectInfo upload(LargeObjectClient lowLargeObjectClient, T value, @Nullable TsurugiJdbcTransaction transaction)
+            throws IOException, ServerException, InterruptedException, TimeoutException {
         int timeout = getTimeout();
-        return uploadValue(lowLargeObjectClient, value).await(timeout, TimeUnit.SECONDS);
+        return getIoUtil().get(uploadValue(lowLargeObjectClient, value), timeout, getDeadline(transaction));
+    }
+
+    private static @Nullable TsurugiJdbcDeadline getDeadline(@Nullable TsurugiJdbcTransaction transaction) {
+        // in AutoCommit, the transaction starts after the parameters are bound
+        return (transaction != null) ? transaction.getDeadline() : null;
     }
 
     /**
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+import com.tsurugidb.jdbc.util.SqlTableAnalyzer;
+
+/**
+ * Tsurugi JDBC adaptive transaction policy.
+ * <p>
+ * Tracks the abort rate of OCC transactions per transaction label (or the fingerprint of the first SQL of the transaction if no label is set, see {@link SqlFingerprint}). When the abort rate exceeds the threshold, the
+ * transactions are executed as LTX with the write preserve learned from the tables written by earlier attempts. After a number of LTX executions, the transactions are
+ * executed as OCC again to probe whether the contention has subsided.
+ * </p>
+ * <p>
+ * If an LTX execution fails, the write preserve is widened with the tables written by the failed SQL. If LTX executions fail repeatedly, the learned write preserve is dropped
+ * and the transactions are executed as OCC again.
+ * </p>
+ * <p>
+ * The policy is shared by all connections to the same endpoint.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcAdaptiveTransactionPolicy {
+    private static final Logger LOG = Logger.getLogger(TsurugiJdbcAdaptiveTransactionPolicy.class.getName());
+
+    private static final Map<String, TsurugiJdbcAdaptiveTransactionPolicy> POLICY_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Get the adaptive transaction policy for the endpoint.
+     *
+     * @param endpoint endpoint
+     * @return policy
+     */
+    public static TsurugiJdbcAdaptiveTransactionPolicy of(String endpoint) {
+        return POLICY_MAP.computeIfAbsent(String.valueOf(endpoint), key -> new TsurugiJdbcAdaptiveTransactionPolicy());
+    }
+
+    /** minimum number of OCC executions before escalation */
+    protected static final int MIN_SAMPLES = 10;
+    /** smoothing factor of abort rate */
+    protected static final double ALPHA = 0.1;
+    /** number of LTX executions before probing OCC again */
+    protected static final int LTX_PROBE_INTERVAL = 100;
+    /** number of consecutive LTX failures before falling back to OCC */
+    protected static final int LTX_MAX_FAILURES = 3;
+    /** maximum number of tracked keys */
+    protected static final int MAX_KEYS = 1024;
+    /** number of least recently used keys evicted at once when the number of keys reaches {@link #MAX_KEYS} */
+    protected static final int EVICT_KEYS = MAX_KEYS / 16;
+
+    private final Map<String, Stats> statsMap = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     */
+    protected TsurugiJdbcAdaptiveTransactionPolicy() {
+    }
+
+    /**
+     * Begin tracking a transaction.
+     *
+     * @param label            transaction label
+     * @param sql              first SQL of the transaction
+     * @param thresholdPercent abort rate threshold [%]
+     * @return tracker, or null if the transaction cannot be tracked
+     */
+    public @Nullable Tracker begin(@Nullable String label, @Nullable String sql, int thresholdPercent) {
+        String key = getKey(label, sql);
+        if (key == null) {
+            return null;
+        }
+
+        var stats = statsMap.get(key);
+        if (stats == null) {
+            if (statsMap.size() >= MAX_KEYS) {
+                evict();
+            }
+            stats = statsMap.computeIfAbsent(key, Stats::new);
+        }
+        stats.lastUsed = clock.incrementAndGet();
+
+        var tracker = stats.begin(thresholdPercent);
+        tracker.recordSql(sql);
+        return tracker;
+    }
+
+    private synchronized void evict() {
+        if (statsMap.size() < MAX_KEYS) {
+            return;
+        }
+
+        var list = new ArrayList<>(statsMap.values());
+        list.sort(Comparator.comparingLong(stats -> stats.lastUsed));
+        int size = Math.min(EVICT_KEYS, list.size());
+        for (int i = 0; i < size; i++) {
+            var stats = list.get(i);
+            statsMap.remove(stats.key, stats);
+        }
+    }
+
+    /**
+     * Get tracking key.
+     *
+     * @param label transaction label
+     * @param sql   first SQL of the transaction
+     * @return key, or null if not tracked
+     */
+    protected @Nullable String getKey(@Nullable String label, @Nullable String sql) {
+        if (label != null && !label.isEmpty()) {
+            return "label:" + label;
+        }
+        if (sql != null) {
+            return "sql:" + SqlFingerprint.of(sql);
+        }
+        return null;
+    }
+
+    /**
+     * Get abort rate of OCC transactions.
+     *
+     * @param label transaction label
+     * @param sql   first SQL of the transaction
+     * @return abort rate (0.0 - 1.0)
+     */
+    public double getAbortRate(@Nullable String label, @Nullable String sql) {
+        var stats = findStats(label, sql);
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.abortRate;
+        }
+    }
+
+    /**
+     * Whether the transactions are executed as LTX.
+     *
+     * @param label transaction label
+     * @param sql   first SQL of the transaction
+     * @return {@code true} if LTX
+     */
+    public boolean isLtx(@Nullable String label, @Nullable String sql) {
+        var stats = findStats(label, sql);
+        if (stats == null) {
+            return false;
+        }
+        synchronized (stats) {
+            return stats.ltx;
+        }
+    }
+
+    private Stats findStats(String label, String sql) {
+        String key = getKey(label, sql);
+        if (key == null) {
+            return null;
+        }
+        return statsMap.get(key);
+    }
+
+    /**
+     * Whether the statistics are tracked.
+     *
+     * @param label transaction label
+     * @param sql   first SQL of the transaction
+     * @return {@code true} if tracked
+     */
+    public boolean isTracked(@Nullable String label, @Nullable String sql) {
+        return findStats(label, sql) != null;
+    }
+
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statsMap.clear();
+    }
+
+    private static final class Stats {
+        private final String key;
+        private final Set<String> writeTables = ConcurrentHashMap.newKeySet();
+        private double abortRate = 0;
+        private int samples = 0;
+        private boolean ltx = false;
+        private int ltxCount = 0;
+        private int ltxFailures = 0;
+        private volatile long lastUsed = 0;
+
+        Stats(String key) {
+            this.key = key;
+        }
+
+        synchronized Tracker begin(int thresholdPercent) {
+            if (this.ltx) {
+                if (++this.ltxCount > LTX_PROBE_INTERVAL) {
+                    this.ltx = false;
+                    this.abortRate = 0;
+                    this.samples = 0;
+                    LOG.config(() -> String.format("adaptive transaction: probe OCC. key=%s", key));
+                }
+            } else if (samples >= MIN_SAMPLES && abortRate * 100 >= thresholdPercent && !writeTables.isEmpty()) {
+                this.ltx = true;
+                this.ltxCount = 0;
+                this.ltxFailures = 0;
+                double rate = this.abortRate;
+                LOG.config(() -> String.format("adaptive transaction: escalate to LTX. key=%s, abortRate=%.3f, writePreserve=%s", key, rate, writeTables));
+            }
+
+            List<String> writePreserve = ltx ? List.copyOf(writeTables) : List.of();
+            return new Tracker(this, ltx, writePreserve);
+        }
+
+        synchronized void record(boolean ltxTransaction, boolean aborted) {
+            if (ltxTransaction) {
+                if (!this.ltx) {
+                    return; // already fallen back
+                }
+                if (!aborted) {
+                    this.ltxFailures = 0;
+                    return;
+                }
+                if (++this.ltxFailures >= LTX_MAX_FAILURES) {
+                    // the learned write preserve does not fit the transactions. learn it again with OCC
+                    this.ltx = false;
+                    this.abortRate = 0;
+                    this.samples = 0;
+                    this.ltxFailures = 0;
+                    writeTables.clear();
+                    LOG.config(() -> String.format("adaptive transaction: LTX failed repeatedly, fall back to OCC. key=%s", key));
+                }
+                return;
+            }
+            this.abortRate += ALPHA * ((aborted ? 1 : 0) - abortRate);
+            this.samples++;
+        }
+    }
+
+    /**
+     * Transaction tracker.
+     */
+    public static final class Tracker {
+        private final Stats stats;
+        private final boolean ltx;
+        private final List<String> writePreserve;
+        private boolean finished = false;
+
+        private Tracker(Stats stats, boolean ltx, List<String> writePreserve) {
+            this.stats = stats;
+            this.ltx = ltx;
+            this.writePreserve = writePreserve;
+        }
+
+        /**
+         * Whether the transaction should be executed as LTX.
+         *
+         * @return {@code true} if LTX
+         */
+        public boolean isLtx() {
+            return this.ltx;
+        }
+
+        /**
+         * Get write preserve for LTX.
+         *
+         * @return table names
+         */
+        public List<String> getWritePreserve() {
+            return this.writePreserve;
+        }
+
+        /**
+         * Record executed SQL to learn the write preserve.
+         *
+         * @param sql SQL
+         */
+        public void recordSql(@Nullable String sql) {
+            if (sql == null) {
+                return;
+            }
+            stats.writeTables.addAll(SqlTableAnalyzer.of(sql).getWriteTables());
+        }
+
+        /**
+         * Record that the transaction has been committed.
+         */
+        public void committed() {
+            finish(false);
+        }
+
+        /**
+         * Record that the transaction has been aborted by conflict.
+         */
+        public void aborted() {
+            finish(true);
+        }
+
+        /**
+         * Record that the SQL has failed.
+         * <p>
+         * For OCC, only aborts are recorded. For LTX, any failure is recorded, and the write preserve is widened with the tables written by the SQL.
+         * </p>
+         *
+         * @param sql     failed SQL, or null if unknown (e.g. commit)
+         * @param aborted {@code true} if aborted by conflict
+         */
+        public void failed(@Nullable String sql, boolean aborted) {
+            if (this.ltx) {
+                recordSql(sql);
+                finish(true);
+            } else if (aborted) {
+                finish(true);
+            }
+        }
+
+        private void finish(boolean aborted) {
+            synchronized (this) {
+                if (this.finished) {
+                    return;
+                }
+                this.finished = true;
+            }
+            stats.record(ltx, aborted);
+        }
+    }
+
+    /**
+     * Get the table name written by the SQL.
+     *
+     * @param sql SQL
+     * @return table name, or null if the SQL is not INSERT, UPDATE or DELETE
+     * @see SqlTableAnalyzer#getWriteTables()
+     */
+    public static @Nullable String getWriteTableName(@Nullable String sql) {
+        if (sql == null) {
+            return null;
+        }
+
+        var tables = SqlTableAnalyzer.of(sql).getWriteTables();
+        return tables.isEmpty() ? null : tables.get(0);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.util.SqlTableAnalyzer;
+import com.tsurugidb.jdbc.util.SqlTokenizer;
+
+/**
+ * Routing of auto-commit queries to read-only transactions (RTX).
+ * <p>
+ * Whether SQL is a pure query is decided from the SQL text, and the decision is cached per SQL.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class TsurugiJdbcReadOnlyRouting {
+
+    private static final int CACHE_SIZE = 1024;
+    private static final Map<String, Boolean> CACHE = new ConcurrentHashMap<>();
+
+    private TsurugiJdbcReadOnlyRouting() {
+        // do nothing
+    }
+
+    /**
+     * Whether the SQL is a pure query (SELECT without writes).
+     *
+     * @param sql SQL
+     * @return {@code true} if pure query
+     */
+    public static boolean isReadOnlyQuery(@Nullable String sql) {
+        if (sql == null) {
+            return false;
+        }
+
+        var result = CACHE.get(sql);
+        if (result == null) {
+            result = analyze(sql);
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(sql, result);
+        }
+        return result;
+    }
+
+    static boolean analyze(String sql) {
+        String first = new SqlTokenizer(sql).next();
+        if (!SqlTokenizer.isKeyword(first, "SELECT") && !SqlTokenizer.isKeyword(first, "WITH")) {
+            return false;
+        }
+        return SqlTableAnalyzer.of(sql).getWriteTables().isEmpty();
+    }
+}
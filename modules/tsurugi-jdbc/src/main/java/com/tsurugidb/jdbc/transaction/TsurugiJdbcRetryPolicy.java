@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tsurugidb.jdbc.exception.SqlState;
+
+/**
+ * Tsurugi JDBC Transaction Retry Policy.
+ * <p>
+ * Retriable failures (serialization failure) are retried with exponential backoff and full jitter, until the number of attempts or the total time reaches the limit. The
+ * policy is thread-safe and can be shared by connections, and the retry metrics are accumulated in the policy.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcRetryPolicy {
+
+    private int maxAttempts = 10;
+    private long initialBackoffMillis = 10;
+    private long maxBackoffMillis = 1000;
+    private double backoffMultiplier = 2.0;
+    private long maxTotalMillis = 60_000;
+
+    private final LongAdder executeCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder retrySuccessCount = new LongAdder();
+    private final LongAdder retryExhaustedCount = new LongAdder();
+
+    /**
+     * Set max attempts (including the first execution).
+     *
+     * @param maxAttempts max attempts
+     * @return this
+     */
+    public TsurugiJdbcRetryPolicy maxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Get max attempts.
+     *
+     * @return max attempts
+     */
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * Set backoff.
+     *
+     * @param initialMillis initial backoff [milliseconds]
+     * @param maxMillis     max backoff [milliseconds]
+     * @param multiplier    backoff multiplier
+     * @return this
+     */
+    public TsurugiJdbcRetryPolicy backoff(long initialMillis, long maxMillis, double multiplier) {
+        this.initialBackoffMillis = initialMillis;
+        this.maxBackoffMillis = maxMillis;
+        this.backoffMultiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * Set max total time.
+     *
+     * @param maxTotalMillis max total time [milliseconds]. If 0 or less, unlimited
+     * @return this
+     */
+    public TsurugiJdbcRetryPolicy maxTotalTime(long maxTotalMillis) {
+        this.maxTotalMillis = maxTotalMillis;
+        return this;
+    }
+
+    /**
+     * Get max total time.
+     *
+     * @return max total time [milliseconds]
+     */
+    public long getMaxTotalTime() {
+        return this.maxTotalMillis;
+    }
+
+    /**
+     * Whether the exception is retriable.
+     *
+     * @param e exception
+     * @return {@code true} if retriable
+     */
+    public boolean isRetriable(SQLException e) {
+        if (e instanceof SQLTransactionRollbackException) {
+            return true;
+        }
+        return SqlState.S40001_SERIALIZATION_FAILURE.code().equals(e.getSQLState());
+    }
+
+    /**
+     * Get backoff time before the retry.
+     *
+     * @param retry retry number (1-origin)
+     * @return backoff time [milliseconds]
+     */
+    public long getBackoffMillis(int retry) {
+        double ceiling = initialBackoffMillis * Math.pow(backoffMultiplier, retry - 1);
+        long max = (long) Math.min(ceiling, maxBackoffMillis);
+        if (max <= 0) {
+            return 0;
+        }
+        // full jitter
+        return ThreadLocalRandom.current().nextLong(max + 1);
+    }
+
+    void executed() {
+        executeCount.increment();
+    }
+
+    void retried() {
+        retryCount.increment();
+    }
+
+    void succeeded(int attempt) {
+        if (attempt > 1) {
+            retrySuccessCount.increment();
+        }
+    }
+
+    void exhausted() {
+        retryExhaustedCount.increment();
+    }
+
+    /**
+     * Get number of executions.
+     *
+     * @return number of executions
+     */
+    public long getExecuteCount() {
+        return executeCount.sum();
+    }
+
+    /**
+     * Get number of retries.
+     *
+     * @return number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Get number of executions which succeeded after retry.
+     *
+     * @return number of executions
+     */
+    public long getRetrySuccessCount() {
+        return retrySuccessCount.sum();
+    }
+
+    /**
+     * Get number of executions which failed after exhausting retries.
+     *
+     * @return number of executions
+     */
+    public long getRetryExhaustedCount() {
+        return retryExhaustedCount.sum();
+    }
+}
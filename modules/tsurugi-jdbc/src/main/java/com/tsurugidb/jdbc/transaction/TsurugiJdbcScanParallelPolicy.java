@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+
+/**
+ * Tsurugi JDBC adaptive scan parallel policy.
+ * <p>
+ * Learns the row count and the elapsed time of RTX queries per SQL fingerprint (see {@link SqlFingerprint}), and decides the scan parallel of each RTX. Small queries are executed with scan parallel 1, and large
+ * queries get more parallelism. Scan parallel above 1 is granted only within the budget (the total scan parallel of the running transactions), so concurrent large queries
+ * share the budget instead of each taking the maximum.
+ * </p>
+ * <p>
+ * A transaction always gets scan parallel 1 or more, even if the budget is exhausted. Therefore the total may exceed the budget by the number of transactions started while
+ * the budget is exhausted (each of them uses scan parallel 1, as a query without parallelism would).
+ * </p>
+ * <p>
+ * The policy is shared by all connections to the same endpoint.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class TsurugiJdbcScanParallelPolicy {
+
+    private static final Map<String, TsurugiJdbcScanParallelPolicy> POLICY_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Get the adaptive scan parallel policy for the endpoint.
+     *
+     * @param endpoint endpoint
+     * @return policy
+     */
+    public static TsurugiJdbcScanParallelPolicy of(String endpoint) {
+        return POLICY_MAP.computeIfAbsent(String.valueOf(endpoint), key -> new TsurugiJdbcScanParallelPolicy());
+    }
+
+    /** number of rows per scan parallel */
+    protected static final long ROWS_PER_PARALLEL = 10_000;
+    /** queries faster than this are executed with scan parallel 1 [milliseconds] */
+    protected static final long SMALL_QUERY_MILLIS = 20;
+    /** smoothing factor */
+    protected static final double ALPHA = 0.3;
+    /** maximum number of tracked SQL fingerprints */
+    protected static final int MAX_KEYS = 1024;
+
+    private final Map<String, Stats> statsMap = new ConcurrentHashMap<>();
+    private int inUse = 0;
+
+    /**
+     * Creates a new instance.
+     */
+    protected TsurugiJdbcScanParallelPolicy() {
+    }
+
+    /**
+     * Acquire scan parallel for RTX.
+     * <p>
+     * If the budget is exhausted, scan parallel 1 is granted and counted in {@link #getInUse()}, which may then exceed the budget.
+     * </p>
+     *
+     * @param sql         SQL
+     * @param budget      total scan parallel of the endpoint
+     * @param maxParallel max scan parallel of a transaction
+     * @return lease
+     */
+    public Lease acquire(String sql, int budget, int maxParallel) {
+        String fingerprint = SqlFingerprint.of(sql);
+        String key = (fingerprint != null) ? fingerprint : "";
+        var stats = statsMap.get(key);
+        if (stats == null) {
+            if (statsMap.size() >= MAX_KEYS) {
+                statsMap.clear();
+            }
+            stats = statsMap.computeIfAbsent(key, k -> new Stats());
+        }
+
+        int desired = stats.getDesiredParallel(Math.max(1, maxParallel));
+        int granted;
+        synchronized (this) {
+            // scan parallel 1 even if the budget is exhausted. the overshoot is at most 1 per transaction
+            granted = Math.max(1, Math.min(desired, budget - inUse));
+            this.inUse += granted;
+        }
+        return new Lease(this, stats, granted);
+    }
+
+    private synchronized void release(int parallel) {
+        this.inUse -= parallel;
+    }
+
+    /**
+     * Get total scan parallel of the running transactions.
+     *
+     * @return scan parallel
+     */
+    public synchronized int getInUse() {
+        return this.inUse;
+    }
+
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statsMap.clear();
+    }
+
+    private static final class Stats {
+        private boolean sampled = false;
+        private double rows = 0;
+        private double elapsedMillis = 0;
+
+        synchronized int getDesiredParallel(int maxParallel) {
+            if (!this.sampled) {
+                return maxParallel;
+            }
+            if (elapsedMillis < SMALL_QUERY_MILLIS || rows < ROWS_PER_PARALLEL) {
+                return 1;
+            }
+            long parallel = (long) Math.ceil(rows / ROWS_PER_PARALLEL);
+            return (int) Math.min(parallel, maxParallel);
+        }
+
+        synchronized void record(long rowCount, long elapsedNanos) {
+            double millis = elapsedNanos / 1_000_000.0;
+            if (this.sampled) {
+                this.rows += ALPHA * (rowCount - rows);
+                this.elapsedMillis += ALPHA * (millis - elapsedMillis);
+            } else {
+                this.rows = rowCount;
+                this.elapsedMillis = millis;
+                this.sampled = true;
+            }
+        }
+    }
+
+    /**
+     * Scan parallel lease.
+     */
+    public static final class Lease {
+        private final TsurugiJdbcScanParallelPolicy owner;
+        private final Stats stats;
+        private final int scanParallel;
+        private long startTime = System.nanoTime();
+        private boolean recorded = false;
+        private boolean released = false;
+
+        private Lease(TsurugiJdbcScanParallelPolicy owner, Stats stats, int scanParallel) {
+            this.owner = owner;
+            this.stats = stats;
+            this.scanParallel = scanParallel;
+        }
+
+        /**
+         * Get scan parallel.
+         *
+         * @return scan parallel
+         */
+        public int getScanParallel() {
+            return this.scanParallel;
+        }
+
+        /**
+         * Start measuring the elapsed time of the query.
+         * <p>
+         * Called after the transaction has begun, so that the begin latency is not learned as part of the query.
+         * </p>
+         */
+        public synchronized void start() {
+            this.startTime = System.nanoTime();
+        }
+
+        /**
+         * Record the result of the query.
+         * <p>
+         * Only the first query of the transaction is recorded.
+         * </p>
+         *
+         * @param rowCount number of rows
+         */
+        public void record(long rowCount) {
+            long elapsed;
+            synchronized (this) {
+                if (this.recorded) {
+                    return;
+                }
+                this.recorded = true;
+                elapsed = System.nanoTime() - this.startTime;
+            }
+            stats.record(rowCount, elapsed);
+        }
+
+        /**
+         * Release the scan parallel.
+         */
+        public void release() {
+            synchronized (this) {
+                if (this.released) {
+                    return;
+                }
+                this.released = true;
+            }
+            owner.release(scanParallel);
+        }
+    }
+}
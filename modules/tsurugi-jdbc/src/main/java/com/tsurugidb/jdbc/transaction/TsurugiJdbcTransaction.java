@@ -16,15 +16,26 @@
 package com.tsurugidb.jdbc.transaction;
 
 import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionDispatcher;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener;
+import com.tsurugidb.jdbc.listener.TsurugiJdbcObservation;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcStatementStatistics;
+import com.tsurugidb.jdbc.util.TsurugiJdbcDeadline;
 import com.tsurugidb.jdbc.util.TsurugiJdbcIoUtil;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
 import com.tsurugidb.tsubakuro.sql.SqlServiceException;
 import com.tsurugidb.tsubakuro.sql.Transaction;
 
@@ -44,6 +55,17 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
     private volatile boolean executeException = false;
     private boolean closed = false;
 
+    private TsurugiJdbcAdaptiveTransactionPolicy.Tracker adaptiveTracker = null;
+    private TsurugiJdbcScanParallelPolicy.Lease scanParallelLease = null;
+    private TsurugiJdbcDeadline deadline = null;
+    private TsurugiJdbcMetrics metrics = null;
+    private TsurugiJdbcStatementStatistics statementStatistics = null;
+    private TsurugiJdbcExecutionDispatcher executionDispatcher = null;
+    private SqlRequest.TransactionOption lowTransactionOption = null;
+    private String sql = null;
+    private long beginNanos = 0;
+    private long commitNanos = 0;
+
     /**
      * Creates a new instance.
      *
@@ -96,6 +118,211 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
         return this.autoCommit;
     }
 
+    /**
+     * Set adaptive transaction tracker.
+     *
+     * @param tracker tracker
+     * @since 0.5.0
+     */
+    public void setAdaptiveTracker(TsurugiJdbcAdaptiveTransactionPolicy.Tracker tracker) {
+        this.adaptiveTracker = tracker;
+    }
+
+    /**
+     * Set transaction deadline.
+     *
+     * @param deadline deadline
+     * @since 0.5.0
+     */
+    public void setDeadline(TsurugiJdbcDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Get transaction deadline.
+     *
+     * @return deadline. null if no deadline is set or the transaction is closed
+     * @since 0.5.0
+     */
+    public TsurugiJdbcDeadline getDeadline() {
+        if (this.closed) {
+            return null;
+        }
+        return this.deadline;
+    }
+
+    /**
+     * Set metrics.
+     *
+     * @param metrics metrics
+     * @since 0.5.0
+     */
+    public void setMetrics(TsurugiJdbcMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get metrics.
+     *
+     * @return metrics, or null if not set
+     * @since 0.5.0
+     */
+    public TsurugiJdbcMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Set execution listener dispatcher.
+     *
+     * @param dispatcher dispatcher. null if no listener is registered
+     * @since 0.5.0
+     */
+    public void setExecutionDispatcher(TsurugiJdbcExecutionDispatcher dispatcher) {
+        this.executionDispatcher = dispatcher;
+    }
+
+    /**
+     * Get execution listener dispatcher.
+     *
+     * @return dispatcher. null if no listener is registered
+     * @since 0.5.0
+     */
+    public TsurugiJdbcExecutionDispatcher getExecutionDispatcher() {
+        return this.executionDispatcher;
+    }
+
+    /**
+     * Set time taken to begin this transaction.
+     *
+     * @param beginNanos begin time [nanoseconds]
+     * @since 0.5.0
+     */
+    public void setBeginNanos(long beginNanos) {
+        this.beginNanos = beginNanos;
+    }
+
+    /**
+     * Get time taken to begin this transaction, and clear it.
+     * <p>
+     * The begin time is attributed only to the first statement of the transaction.
+     * </p>
+     *
+     * @return begin time [nanoseconds]. 0 if already taken
+     * @since 0.5.0
+     */
+    public long takeBeginNanos() {
+        long nanos = this.beginNanos;
+        this.beginNanos = 0;
+        return nanos;
+    }
+
+    /**
+     * Get time taken to commit this transaction.
+     *
+     * @return commit time [nanoseconds]. 0 if not committed
+     * @since 0.5.0
+     */
+    public long getCommitNanos() {
+        return this.commitNanos;
+    }
+
+    /**
+     * Set statement statistics.
+     *
+     * @param statementStatistics statement statistics. null if disabled
+     * @since 0.5.0
+     */
+    public void setStatementStatistics(TsurugiJdbcStatementStatistics statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    /**
+     * Get statement statistics.
+     *
+     * @return statement statistics. null if disabled
+     * @since 0.5.0
+     */
+    public TsurugiJdbcStatementStatistics getStatementStatistics() {
+        return this.statementStatistics;
+    }
+
+    /**
+     * Set transaction option which started this transaction.
+     *
+     * @param option transaction option
+     * @since 0.5.0
+     */
+    public void setLowTransactionOption(SqlRequest.TransactionOption option) {
+        this.lowTransactionOption = option;
+    }
+
+    /**
+     * Get transaction option which started this transaction.
+     *
+     * @return transaction option, or null if not set
+     * @since 0.5.0
+     */
+    public SqlRequest.TransactionOption getLowTransactionOption() {
+        return this.lowTransactionOption;
+    }
+
+    /**
+     * Get transaction label.
+     *
+     * @return transaction label, or null if not set
+     * @since 0.5.0
+     */
+    public String getTransactionLabel() {
+        var option = this.lowTransactionOption;
+        if (option != null) {
+            return option.getLabel();
+        }
+        return config.getTransactionLabel();
+    }
+
+    /**
+     * Set the first SQL executed in this transaction.
+     *
+     * @param sql SQL
+     * @since 0.5.0
+     */
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Get the first SQL executed in this transaction.
+     *
+     * @return SQL, or null if not set
+     * @since 0.5.0
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Set adaptive scan parallel lease.
+     *
+     * @param lease lease (released on close)
+     * @since 0.5.0
+     */
+    public void setScanParallelLease(TsurugiJdbcScanParallelPolicy.Lease lease) {
+        this.scanParallelLease = lease;
+    }
+
+    /**
+     * Notify that the query has read all rows.
+     *
+     * @param rowCount number of rows
+     * @since 0.5.0
+     */
+    public void notifyQueryFinished(long rowCount) {
+        var lease = this.scanParallelLease;
+        if (lease != null) {
+            lease.record(rowCount);
+        }
+    }
+
     /**
      * Check if the transaction has already been executed.
      *
@@ -119,9 +346,31 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
      * @throws SQLException if a database access error occurs
      */
     public <R> R executeOnly(TsurugiJdbcTransactionFunction<R> action) throws SQLException {
-        checkExecuted();
+        return executeOnly(null, action);
+    }
+
+    /**
+     * Execute action.
+     *
+     * @param <R>    return type
+     * @param sql    SQL (passed to the execution listeners)
+     * @param action action
+     * @return result
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public <R> R executeOnly(@Nullable String sql, TsurugiJdbcTransactionFunction<R> action) throws SQLException {
+        var context = TsurugiJdbcExecutionDispatcher.start(executionDispatcher, TsurugiJdbcExecutionListener.Operation.EXECUTE, sql, this);
+        try {
+            checkExecuted();
 
-        return execute(action);
+            R result = execute(sql, action);
+            TsurugiJdbcExecutionDispatcher.succeeded(context, -1);
+            return result;
+        } catch (Throwable e) {
+            TsurugiJdbcExecutionDispatcher.failed(context, e);
+            throw e;
+        }
     }
 
     /**
@@ -133,25 +382,68 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
      * @throws SQLException if a database access error occurs
      */
     public <R> R executeAndAutoCommit(TsurugiJdbcTransactionFunction<R> action) throws SQLException {
-        checkExecuted();
+        return executeAndAutoCommit(null, action);
+    }
 
-        R result;
+    /**
+     * Execute action and auto commit.
+     *
+     * @param <R>    return type
+     * @param sql    SQL (passed to the execution listeners)
+     * @param action action
+     * @return result
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    public <R> R executeAndAutoCommit(@Nullable String sql, TsurugiJdbcTransactionFunction<R> action) throws SQLException {
+        var context = TsurugiJdbcExecutionDispatcher.start(executionDispatcher, TsurugiJdbcExecutionListener.Operation.EXECUTE, sql, this);
         try {
-            result = execute(action);
-        } catch (Throwable e) {
+            checkExecuted();
+
+            R result;
             try {
-                rollback();
-            } catch (Throwable t) {
-                e.addSuppressed(t);
+                result = execute(sql, action);
+            } catch (Throwable e) {
+                if (!isClosed()) {
+                    try {
+                        rollback();
+                    } catch (Throwable t) {
+                        e.addSuppressed(t);
+                    }
+                }
+                throw e;
+            }
+
+            if (autoCommit) {
+                commitIfNormalStatus();
+            }
+
+            if (context != null) {
+                TsurugiJdbcExecutionDispatcher.succeeded(context, rowCount(result));
             }
+            return result;
+        } catch (Throwable e) {
+            TsurugiJdbcExecutionDispatcher.failed(context, e);
             throw e;
         }
+    }
 
-        if (autoCommit) {
-            commitIfNormalStatus();
+    private static long rowCount(Object result) {
+        if (result instanceof ExecuteResult) {
+            long count = 0;
+            for (long c : ((ExecuteResult) result).getCounters().values()) {
+                count += c;
+            }
+            return count;
         }
-
-        return result;
+        if (result instanceof int[]) {
+            long count = 0;
+            for (int c : (int[]) result) {
+                count += c;
+            }
+            return count;
+        }
+        return -1;
     }
 
     /**
@@ -163,12 +455,31 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
      * @throws SQLException if a database access error occurs
      */
     protected <R> R execute(TsurugiJdbcTransactionFunction<R> action) throws SQLException {
+        return execute(null, action);
+    }
+
+    /**
+     * Execute action.
+     *
+     * @param <R>    return type
+     * @param sql    SQL (used to learn the adaptive write preserve on failure)
+     * @param action action
+     * @return result
+     * @throws SQLException if a database access error occurs
+     * @since 0.5.0
+     */
+    protected <R> R execute(@Nullable String sql, TsurugiJdbcTransactionFunction<R> action) throws SQLException {
+        long start = System.nanoTime();
         try {
             R result = action.execute(lowTransaction);
+            recordSince(TsurugiJdbcMetrics.Operation.EXECUTE, start);
             return result;
         } catch (Exception e) {
             this.executeException = true;
-            throw getExceptionHandler().sqlException("Transaction execute error", e);
+            var se = getExceptionHandler().sqlException("Transaction execute error", e);
+            trackFailed(sql, se);
+            rollbackIfDeadlineExpired(se);
+            throw se;
         } catch (Throwable e) {
             this.executeException = true;
             throw e;
@@ -208,9 +519,11 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
         int timeout = config.getDefaultTimeout();
         try {
             var io = getIoUtil();
-            return io.get(lowTransaction.getSqlServiceException(), timeout);
+            return io.get(lowTransaction.getSqlServiceException(), timeout, getDeadline());
         } catch (Exception e) {
-            throw getExceptionHandler().sqlException("getSqlServiceException error", e);
+            var se = getExceptionHandler().sqlException("getSqlServiceException error", e);
+            rollbackIfDeadlineExpired(se);
+            throw se;
         }
     }
 
@@ -227,11 +540,17 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
             int timeout = config.getCommitTimeout();
             LOG.config(() -> String.format("commitTimeout=%d [seconds]", timeout));
 
+            long startNanoTime = System.nanoTime();
+            var observation = TsurugiJdbcObservation.startCommit(this);
             try {
                 var io = getIoUtil();
-                io.get(lowTransaction.commit(commitOption), timeout);
+                io.get(lowTransaction.commit(commitOption), timeout, getDeadline());
+                this.commitNanos = TsurugiJdbcObservation.succeeded(observation, metrics, TsurugiJdbcMetrics.Operation.COMMIT, startNanoTime, -1);
             } catch (Exception e) {
-                throw getExceptionHandler().sqlException("Transaction commit error", e);
+                var se = getExceptionHandler().sqlException("Transaction commit error", e);
+                trackFailed(null, se);
+                TsurugiJdbcObservation.failed(observation, se);
+                throw se;
             }
         } catch (Throwable e) {
             try {
@@ -242,9 +561,74 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
             throw e;
         }
 
+        var tracker = this.adaptiveTracker;
+        if (tracker != null) {
+            tracker.committed();
+        }
         close();
     }
 
+    /**
+     * Rollback transaction if the deadline has passed.
+     * <p>
+     * Called when a wait in this transaction fails, so that a transaction which exceeded its deadline is not left open.
+     * </p>
+     *
+     * @param cause exception of the failed wait. exceptions thrown by rollback are added as suppressed
+     * @since 0.5.0
+     */
+    @TsurugiJdbcInternal
+    public void rollbackIfDeadlineExpired(Exception cause) {
+        if (this.closed) {
+            return;
+        }
+        var deadline = getDeadline();
+        if (deadline == null || !deadline.isExpired()) {
+            return;
+        }
+
+        LOG.config("transaction deadline exceeded. rollback");
+        try {
+            rollback();
+        } catch (Throwable t) {
+            cause.addSuppressed(t);
+        }
+    }
+
+    private void trackFailed(@Nullable String failedSql, SQLException e) {
+        boolean aborted = e instanceof SQLTransactionRollbackException;
+        var tracker = this.adaptiveTracker;
+        if (tracker != null) {
+            tracker.failed(failedSql, aborted);
+        }
+        if (!aborted) {
+            return;
+        }
+
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordAbort(e);
+        }
+        var statistics = this.statementStatistics;
+        if (statistics != null) {
+            statistics.recordAbort(this.sql);
+        }
+    }
+
+    /**
+     * Record latency to the metrics.
+     *
+     * @param operation     operation
+     * @param startNanoTime start time ({@link System#nanoTime()})
+     * @since 0.5.0
+     */
+    public void recordSince(TsurugiJdbcMetrics.Operation operation, long startNanoTime) {
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordSince(operation, startNanoTime);
+        }
+    }
+
     /**
      * Rollback transaction.
      *
@@ -255,11 +639,16 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
             int timeout = config.getRollbackTimeout();
             LOG.config(() -> String.format("rollbackTimeout=%d [seconds]", timeout));
 
+            long startNanoTime = System.nanoTime();
+            var observation = TsurugiJdbcObservation.startRollback(this);
             try {
                 var io = getIoUtil();
                 io.get(lowTransaction.rollback(), timeout);
+                TsurugiJdbcObservation.succeeded(observation, metrics, TsurugiJdbcMetrics.Operation.ROLLBACK, startNanoTime, -1);
             } catch (Exception e) {
-                throw getExceptionHandler().sqlException("Transaction rollback error", e);
+                var se = getExceptionHandler().sqlException("Transaction rollback error", e);
+                TsurugiJdbcObservation.failed(observation, se);
+                throw se;
             }
         } catch (Throwable e) {
             try {
@@ -277,6 +666,11 @@ public class TsurugiJdbcTransaction implements AutoCloseable {
     public void close() throws SQLException {
         this.closed = true;
 
+        var lease = this.scanParallelLease;
+        if (lease != null) {
+            lease.release();
+        }
+
         try {
             lowTransaction.close();
         } catch (Exception e) {
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import java.sql.SQLException;
+
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+
+/**
+ * Tsurugi JDBC Transaction Action.
+ * <p>
+ * The action may be executed more than once by {@link TsurugiJdbcConnection#executeInTransaction(TsurugiJdbcTransactionAction, TsurugiJdbcRetryPolicy)}.
+ * </p>
+ *
+ * @param <R> return type
+ * @since 0.5.0
+ */
+@FunctionalInterface
+public interface TsurugiJdbcTransactionAction<R> {
+
+    /**
+     * Execute action.
+     *
+     * @param connection connection (not auto-commit)
+     * @return result
+     * @throws SQLException if a database access error occurs
+     */
+    public R execute(TsurugiJdbcConnection connection) throws SQLException;
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * LIKE pattern matcher for DatabaseMetaData.
+ * <p>
+ * {@code %} matches any sequence of characters and {@code _} matches any single character. Exact and prefix-only patterns are matched without regular expressions. Compiled
+ * matchers are cached.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class LikePatternMatcher {
+
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, LikePatternMatcher> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Get matcher.
+     *
+     * @param likePattern LIKE pattern
+     * @param escape      escape string (one character), or null
+     * @return matcher, or null if the pattern is null or empty (matches everything)
+     */
+    public static LikePatternMatcher of(String likePattern, String escape) {
+        if (likePattern == null || likePattern.isEmpty()) {
+            return null;
+        }
+
+        String key = (escape != null) ? escape + "\u0000" + likePattern : likePattern;
+        var matcher = CACHE.get(key);
+        if (matcher == null) {
+            matcher = compile(likePattern, escape);
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(key, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Get matcher from a regular expression.
+     *
+     * @param regex regular expression, or null
+     * @return matcher, or null if the regular expression is null (matches everything)
+     */
+    public static LikePatternMatcher ofRegex(Pattern regex) {
+        if (regex == null) {
+            return null;
+        }
+        return new LikePatternMatcher(Kind.REGEX, "", regex);
+    }
+
+    private enum Kind {
+        ALL, EXACT, PREFIX, REGEX
+    }
+
+    static LikePatternMatcher compile(String likePattern, String escape) {
+        boolean hasEscape = (escape != null && escape.length() == 1);
+        char escapeChar = hasEscape ? escape.charAt(0) : 0;
+
+        var prefix = new StringBuilder();
+        var literal = new StringBuilder();
+        var regex = new StringBuilder();
+        boolean wildcardFound = false;
+        boolean onlyPercent = true; // after the prefix
+
+        int length = likePattern.length();
+        for (int i = 0; i < length; i++) {
+            char c = likePattern.charAt(i);
+            if (hasEscape && c == escapeChar && i + 1 < length) {
+                c = likePattern.charAt(++i);
+            } else if (c == '%' || c == '_') {
+                wildcardFound = true;
+                if (c == '_') {
+                    onlyPercent = false;
+                }
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append((c == '%') ? ".*" : ".");
+                continue;
+            }
+
+            if (wildcardFound) {
+                onlyPercent = false;
+            } else {
+                prefix.append(c);
+            }
+            literal.append(c);
+        }
+
+        if (!wildcardFound) {
+            return new LikePatternMatcher(Kind.EXACT, prefix.toString(), null);
+        }
+        if (onlyPercent) {
+            return new LikePatternMatcher(prefix.length() == 0 ? Kind.ALL : Kind.PREFIX, prefix.toString(), null);
+        }
+
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return new LikePatternMatcher(Kind.REGEX, prefix.toString(), Pattern.compile(regex.toString(), Pattern.DOTALL));
+    }
+
+    private final Kind kind;
+    private final String prefix;
+    private final Pattern regex;
+
+    private LikePatternMatcher(Kind kind, String prefix, Pattern regex) {
+        this.kind = kind;
+        this.prefix = prefix;
+        this.regex = regex;
+    }
+
+    /**
+     * Get the literal prefix which all matching strings start with.
+     *
+     * @return literal prefix (the whole string if the pattern has no wildcard)
+     */
+    public String getLiteralPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Whether the pattern has no wildcard.
+     *
+     * @return {@code true} if exact match
+     */
+    public boolean isExact() {
+        return this.kind == Kind.EXACT;
+    }
+
+    /**
+     * Matches the string.
+     *
+     * @param s string
+     * @return {@code true} if matches
+     */
+    public boolean matches(String s) {
+        switch (kind) {
+        case ALL:
+            return true;
+        case EXACT:
+            return prefix.equals(s);
+        case PREFIX:
+            return s.startsWith(prefix);
+        default:
+            return s.startsWith(prefix) && regex.matcher(s).matches();
+        }
+    }
+}
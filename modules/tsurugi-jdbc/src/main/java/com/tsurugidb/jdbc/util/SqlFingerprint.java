@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL fingerprint.
+ * <p>
+ * The fingerprint is the SQL with comments removed, whitespace normalized, and string and numeric literals replaced by {@code ?}. Statements which differ only in literal
+ * values have the same fingerprint. Computed fingerprints are cached.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class SqlFingerprint {
+
+    private static final int CACHE_SIZE = 1024;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+        // do nothing
+    }
+
+    /**
+     * Get fingerprint.
+     *
+     * @param sql SQL
+     * @return fingerprint, or null if the SQL is null
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return null;
+        }
+
+        var fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = compute(sql);
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String compute(String sql) {
+        var tokenizer = new SqlTokenizer(sql);
+        var sb = new StringBuilder(sql.length());
+        boolean lastLiteral = false;
+        boolean fraction = false; // after "<number>."
+        for (;;) {
+            String token = tokenizer.next();
+            if (token == null) {
+                break;
+            }
+
+            if (tokenizer.isQuoted()) {
+                append(sb, "\"" + token.replace("\"", "\"\"") + "\"");
+                lastLiteral = false;
+                fraction = false;
+                continue;
+            }
+
+            boolean number = Character.isDigit(token.charAt(0));
+            if (fraction && number) {
+                // "1.5" is tokenized as "1", ".", "5"
+                sb.setLength(sb.length() - 2); // remove " ."
+                fraction = false;
+                lastLiteral = true;
+                continue;
+            }
+            fraction = lastLiteral && token.equals(".");
+            if (number || token.charAt(0) == '\'') {
+                append(sb, "?");
+                lastLiteral = true;
+            } else {
+                append(sb, token);
+                lastLiteral = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String token) {
+        if (sb.length() > 0) {
+            sb.append(' ');
+        }
+        sb.append(token);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
+
+/**
+ * SQL table analyzer.
+ * <p>
+ * Infers the tables written and read by SQL statements from the target of INSERT/UPDATE/DELETE and the FROM/JOIN clauses. The result is accumulated over the added
+ * statements, and can be used as LTX write preserve and inclusive read area.
+ * </p>
+ * <p>
+ * This is a lightweight analysis with {@link SqlTokenizer}, not a SQL parser. Names of common table expressions are excluded.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+@TsurugiJdbcInternal
+public class SqlTableAnalyzer {
+
+    private static final Set<String> ALIAS_STOP_WORDS = Set.of("WHERE", "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL", "ON", "USING", "GROUP", "ORDER",
+            "HAVING", "LIMIT", "OFFSET", "FETCH", "UNION", "EXCEPT", "INTERSECT", "WINDOW", "FOR", "SET", "VALUES", "SELECT");
+
+    private static final class Token {
+        private final String text;
+        private final boolean quoted;
+
+        Token(String text, boolean quoted) {
+            this.text = text;
+            this.quoted = quoted;
+        }
+
+        boolean isKeyword(String keyword) {
+            return !quoted && text.equalsIgnoreCase(keyword);
+        }
+
+        boolean isSymbol(String symbol) {
+            return !quoted && text.equals(symbol);
+        }
+
+        boolean isName() {
+            if (quoted) {
+                return true;
+            }
+            char c = text.charAt(0);
+            return Character.isLetter(c) || c == '_';
+        }
+    }
+
+    private final Set<String> writeTables = new LinkedHashSet<>();
+    private final Set<String> readTables = new LinkedHashSet<>();
+
+    /**
+     * Analyze SQL.
+     *
+     * @param sql SQL
+     * @return analyzer
+     */
+    public static SqlTableAnalyzer of(@Nullable String sql) {
+        return new SqlTableAnalyzer().add(sql);
+    }
+
+    /**
+     * Analyze SQL statements.
+     *
+     * @param sqlList SQL statements
+     * @return analyzer
+     */
+    public static SqlTableAnalyzer of(List<String> sqlList) {
+        var analyzer = new SqlTableAnalyzer();
+        for (String sql : sqlList) {
+            analyzer.add(sql);
+        }
+        return analyzer;
+    }
+
+    /**
+     * Add SQL.
+     *
+     * @param sql SQL
+     * @return this
+     */
+    public SqlTableAnalyzer add(@Nullable String sql) {
+        if (sql == null) {
+            return this;
+        }
+
+        var tokens = tokenize(sql);
+        var cteNames = findCteNames(tokens);
+        int size = tokens.size();
+        for (int i = 0; i < size; i++) {
+            var token = tokens.get(i);
+            if (token.isKeyword("INSERT")) {
+                // INSERT [OR REPLACE | OR IGNORE | IF NOT EXISTS] INTO table
+                for (int j = i + 1; j < size && j <= i + 5; j++) {
+                    if (tokens.get(j).isKeyword("INTO")) {
+                        int[] next = { j + 1 };
+                        addTable(writeTables, readName(tokens, next), cteNames);
+                        i = next[0] - 1;
+                        break;
+                    }
+                }
+            } else if (token.isKeyword("UPDATE")) {
+                int[] next = { i + 1 };
+                String name = readName(tokens, next);
+                addTable(writeTables, name, cteNames);
+                addTable(readTables, name, cteNames);
+                i = next[0] - 1;
+            } else if (token.isKeyword("DELETE")) {
+                if (i + 1 < size && tokens.get(i + 1).isKeyword("FROM")) {
+                    int[] next = { i + 2 };
+                    String name = readName(tokens, next);
+                    addTable(writeTables, name, cteNames);
+                    addTable(readTables, name, cteNames);
+                    i = next[0] - 1;
+                }
+            } else if (token.isKeyword("FROM") || token.isKeyword("JOIN")) {
+                i = readTableList(tokens, i + 1, cteNames) - 1;
+            }
+        }
+        return this;
+    }
+
+    private int readTableList(List<Token> tokens, int start, Set<String> cteNames) {
+        int size = tokens.size();
+        int[] next = { start };
+        for (;;) {
+            String name = readName(tokens, next);
+            if (name == null) {
+                return next[0];
+            }
+            addTable(readTables, name, cteNames);
+
+            int i = next[0];
+            if (i < size && tokens.get(i).isKeyword("AS")) {
+                i += 2;
+            } else if (i < size && tokens.get(i).isName() && !isAliasStopWord(tokens.get(i))) {
+                i++;
+            }
+            if (i < size && tokens.get(i).isSymbol(",")) {
+                next[0] = i + 1;
+                continue;
+            }
+            return i;
+        }
+    }
+
+    private static boolean isAliasStopWord(Token token) {
+        return !token.quoted && ALIAS_STOP_WORDS.contains(token.text.toUpperCase(Locale.ROOT));
+    }
+
+    private static @Nullable String readName(List<Token> tokens, int[] position) {
+        int size = tokens.size();
+        int i = position[0];
+        if (i >= size || !tokens.get(i).isName()) {
+            return null;
+        }
+
+        var sb = new StringBuilder(tokens.get(i++).text);
+        while (i + 1 < size && tokens.get(i).isSymbol(".") && tokens.get(i + 1).isName()) {
+            sb.append('.').append(tokens.get(i + 1).text);
+            i += 2;
+        }
+        position[0] = i;
+        return sb.toString();
+    }
+
+    private static void addTable(Set<String> tables, @Nullable String name, Set<String> cteNames) {
+        if (name != null && !cteNames.contains(name)) {
+            tables.add(name);
+        }
+    }
+
+    private static List<Token> tokenize(String sql) {
+        var tokenizer = new SqlTokenizer(sql);
+        var tokens = new ArrayList<Token>();
+        for (;;) {
+            String text = tokenizer.next();
+            if (text == null) {
+                break;
+            }
+            tokens.add(new Token(text, tokenizer.isQuoted()));
+        }
+        return tokens;
+    }
+
+    private static Set<String> findCteNames(List<Token> tokens) {
+        var names = new HashSet<String>();
+        int size = tokens.size();
+        if (size == 0 || !tokens.get(0).isKeyword("WITH")) {
+            return names;
+        }
+
+        int i = 1;
+        if (i < size && tokens.get(i).isKeyword("RECURSIVE")) {
+            i++;
+        }
+        while (i < size && tokens.get(i).isName()) {
+            names.add(tokens.get(i++).text);
+            if (i < size && tokens.get(i).isSymbol("(")) {
+                i = skipParentheses(tokens, i);
+            }
+            if (i < size && tokens.get(i).isKeyword("AS")) {
+                i++;
+            }
+            if (i < size && tokens.get(i).isSymbol("(")) {
+                i = skipParentheses(tokens, i);
+            }
+            if (i < size && tokens.get(i).isSymbol(",")) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return names;
+    }
+
+    private static int skipParentheses(List<Token> tokens, int start) {
+        int depth = 0;
+        int size = tokens.size();
+        for (int i = start; i < size; i++) {
+            var token = tokens.get(i);
+            if (token.isSymbol("(")) {
+                depth++;
+            } else if (token.isSymbol(")")) {
+                if (--depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get tables written by the statements.
+     *
+     * @return table names
+     */
+    public List<String> getWriteTables() {
+        return List.copyOf(writeTables);
+    }
+
+    /**
+     * Get tables read by the statements.
+     * <p>
+     * Targets of UPDATE and DELETE are included because their conditions read the table.
+     * </p>
+     *
+     * @return table names
+     */
+    public List<String> getReadTables() {
+        return List.copyOf(readTables);
+    }
+}
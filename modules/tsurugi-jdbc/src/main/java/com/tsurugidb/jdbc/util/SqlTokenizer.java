@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+/**
+ * Simple SQL tokenizer.
+ * <p>
+ * Splits SQL into words, quoted identifiers, string literals and symbols, skipping whitespace and comments. This is not a SQL parser; it is intended for lightweight
+ * analysis such as finding the target table of a statement.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public final class SqlTokenizer {
+
+    private final String sql;
+    private int position = 0;
+    private boolean quoted = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sql SQL
+     */
+    public SqlTokenizer(String sql) {
+        this.sql = (sql != null) ? sql : "";
+    }
+
+    /**
+     * Get the next token.
+     * <p>
+     * Quoted identifiers are returned without quotes. String literals are returned as written, including the quotes.
+     * </p>
+     *
+     * @return token, or null if the end of SQL
+     */
+    public String next() {
+        skipSpaceAndComment();
+        this.quoted = false;
+
+        int length = sql.length();
+        if (position >= length) {
+            return null;
+        }
+
+        int start = position;
+        char c = sql.charAt(position);
+        if (isWordStart(c)) {
+            while (position < length && isWordPart(sql.charAt(position))) {
+                position++;
+            }
+            return sql.substring(start, position);
+        }
+        if (c == '"') {
+            this.quoted = true;
+            return readQuoted('"');
+        }
+        if (c == '\'') {
+            readQuoted('\'');
+            return sql.substring(start, position);
+        }
+
+        position++;
+        return String.valueOf(c);
+    }
+
+    /**
+     * Get the next token as a name, joining qualified names such as {@code schema.table}.
+     *
+     * @return name, or null if the end of SQL
+     */
+    public String nextName() {
+        String name = next();
+        if (name == null) {
+            return null;
+        }
+
+        var sb = new StringBuilder(name);
+        for (;;) {
+            int save = position;
+            String dot = next();
+            if (!".".equals(dot)) {
+                this.position = save;
+                break;
+            }
+            String part = next();
+            if (part == null) {
+                break;
+            }
+            sb.append('.').append(part);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Whether the next token is the keyword (case insensitive).
+     * <p>
+     * Does not advance the position except for skipping whitespace and comments, and does not create the token string.
+     * </p>
+     *
+     * @param keyword keyword
+     * @return {@code true} if the next token is the keyword
+     */
+    public boolean peekKeyword(String keyword) {
+        skipSpaceAndComment();
+        int end = position + keyword.length();
+        if (!sql.regionMatches(true, position, keyword, 0, keyword.length())) {
+            return false;
+        }
+        return end >= sql.length() || !isWordPart(sql.charAt(end));
+    }
+
+    /**
+     * Whether the last token is a quoted identifier.
+     *
+     * @return {@code true} if quoted
+     */
+    public boolean isQuoted() {
+        return this.quoted;
+    }
+
+    /**
+     * Whether the token is the keyword (case insensitive).
+     *
+     * @param token   token
+     * @param keyword keyword
+     * @return {@code true} if the token is the keyword
+     */
+    public static boolean isKeyword(String token, String keyword) {
+        return token != null && token.equalsIgnoreCase(keyword);
+    }
+
+    private String readQuoted(char quote) {
+        int length = sql.length();
+        var sb = new StringBuilder();
+        position++;
+        while (position < length) {
+            char c = sql.charAt(position++);
+            if (c == quote) {
+                if (position < length && sql.charAt(position) == quote) {
+                    sb.append(c);
+                    position++;
+                    continue;
+                }
+                break;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private void skipSpaceAndComment() {
+        int length = sql.length();
+        while (position < length) {
+            char c = sql.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (sql.startsWith("--", position) || sql.startsWith("//", position)) {
+                int end = sql.indexOf('\n', position);
+                position = (end < 0) ? length : end + 1;
+            } else if (sql.startsWith("/*", position)) {
+                int end = sql.indexOf("*/", position + 2);
+                position = (end < 0) ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private static boolean isWordStart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
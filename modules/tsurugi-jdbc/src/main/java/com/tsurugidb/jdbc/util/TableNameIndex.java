@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted table name index.
+ *
+ * @since 0.5.0
+ */
+public final class TableNameIndex {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tableNames table names
+     * @return index
+     */
+    public static TableNameIndex of(List<String> tableNames) {
+        var array = tableNames.toArray(new String[0]);
+        Arrays.sort(array);
+        return new TableNameIndex(array);
+    }
+
+    private final String[] sortedNames;
+
+    private TableNameIndex(String[] sortedNames) {
+        this.sortedNames = sortedNames;
+    }
+
+    /**
+     * Get number of table names.
+     *
+     * @return size
+     */
+    public int size() {
+        return sortedNames.length;
+    }
+
+    /**
+     * Whether the index contains the table name.
+     *
+     * @param tableName table name
+     * @return {@code true} if contains
+     */
+    public boolean contains(String tableName) {
+        int index = lowerBound(tableName);
+        return index < sortedNames.length && sortedNames[index].equals(tableName);
+    }
+
+    /**
+     * Get all table names.
+     *
+     * @return table names (sorted)
+     */
+    public List<String> getTableNames() {
+        return List.of(sortedNames);
+    }
+
+    /**
+     * Get table names which start with the prefix.
+     *
+     * @param prefix prefix
+     * @return table names (sorted)
+     */
+    public List<String> getTableNames(String prefix) {
+        if (prefix.isEmpty()) {
+            return getTableNames();
+        }
+
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+            to++;
+        }
+        return List.of(Arrays.copyOfRange(sortedNames, from, to));
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedNames[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.tsurugidb.jdbc.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -23,6 +25,13 @@ import java.util.regex.Pattern;
  */
 public class TableNameMatcher {
 
+    /**
+     * search string escape.
+     *
+     * @since 0.5.0
+     */
+    public static final String SEARCH_STRING_ESCAPE = "\\";
+
     /**
      * Create TableNameMatcher.
      *
@@ -40,26 +49,17 @@ public class TableNameMatcher {
             set = null;
         }
 
-        return new TableNameMatcher(catalog, toPattern(schemaPattern), toPattern(tableNamePattern), set);
+        return new TableNameMatcher(catalog, toMatcher(schemaPattern), toMatcher(tableNamePattern), set);
     }
 
-    private static Pattern toPattern(String likePattern) {
-        if (likePattern == null || likePattern.isEmpty()) {
-            return null;
-        }
-
-        String regex = likePattern //
-                .replaceAll(Pattern.quote("."), Pattern.quote(".")) //
-                .replaceAll(Pattern.quote("%"), ".*") //
-                .replaceAll(Pattern.quote("_"), ".") //
-        ;
-        return Pattern.compile(regex);
+    private static LikePatternMatcher toMatcher(String likePattern) {
+        return LikePatternMatcher.of(likePattern, SEARCH_STRING_ESCAPE);
     }
 
     // private String catalog;
-    // private Pattern schemaPattern;
-    private Pattern tableNamePattern;
-    private Pattern columnNamePattern;
+    // private LikePatternMatcher schemaPattern;
+    private LikePatternMatcher tableNamePattern;
+    private LikePatternMatcher columnNamePattern;
     private Set<String> types;
 
     /**
@@ -70,13 +70,27 @@ public class TableNameMatcher {
      * @param tableNamePattern table name pattern
      * @param types            types
      */
-    public TableNameMatcher(String catalog, Pattern schemaPattern, Pattern tableNamePattern, Set<String> types) {
+    public TableNameMatcher(String catalog, LikePatternMatcher schemaPattern, LikePatternMatcher tableNamePattern, Set<String> types) {
         // this.catalog = catalog;
         // this.schemaPattern = schemaPattern;
         this.tableNamePattern = tableNamePattern;
         this.types = types;
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @param catalog          database name
+     * @param schemaPattern    schema pattern (regular expression)
+     * @param tableNamePattern table name pattern (regular expression)
+     * @param types            types
+     * @deprecated use {@link #TableNameMatcher(String, LikePatternMatcher, LikePatternMatcher, Set)}
+     */
+    @Deprecated(since = "0.5.0")
+    public TableNameMatcher(String catalog, Pattern schemaPattern, Pattern tableNamePattern, Set<String> types) {
+        this(catalog, LikePatternMatcher.ofRegex(schemaPattern), LikePatternMatcher.ofRegex(tableNamePattern), types);
+    }
+
     /**
      * Matches table name and type.
      *
@@ -86,7 +100,7 @@ public class TableNameMatcher {
      */
     public boolean matches(String tableName, String type) {
         if (tableNamePattern != null) {
-            if (!tableNamePattern.matcher(tableName).matches()) {
+            if (!tableNamePattern.matches(tableName)) {
                 return false;
             }
         }
@@ -100,6 +114,36 @@ public class TableNameMatcher {
         return true;
     }
 
+    /**
+     * Select table names which may match the table name pattern.
+     * <p>
+     * Only the range of the literal prefix of the pattern is scanned.
+     * </p>
+     *
+     * @param index table name index
+     * @return table names (sorted)
+     * @since 0.5.0
+     */
+    public List<String> selectTableNames(TableNameIndex index) {
+        if (tableNamePattern == null) {
+            return index.getTableNames();
+        }
+
+        String prefix = tableNamePattern.getLiteralPrefix();
+        if (tableNamePattern.isExact()) {
+            return index.contains(prefix) ? List.of(prefix) : List.of();
+        }
+
+        var candidates = index.getTableNames(prefix);
+        var list = new ArrayList<String>(candidates.size());
+        for (String tableName : candidates) {
+            if (tableNamePattern.matches(tableName)) {
+                list.add(tableName);
+            }
+        }
+        return list;
+    }
+
     /**
      * Set column name pattern.
      *
@@ -107,7 +151,7 @@ public class TableNameMatcher {
      * @return this
      */
     public TableNameMatcher columnNamePattern(String columnNamePattern) {
-        this.columnNamePattern = toPattern(columnNamePattern);
+        this.columnNamePattern = toMatcher(columnNamePattern);
         return this;
     }
 
@@ -119,7 +163,7 @@ public class TableNameMatcher {
      */
     public boolean matchesColumnName(String columnName) {
         if (columnNamePattern != null) {
-            if (!columnNamePattern.matcher(columnName).matches()) {
+            if (!columnNamePattern.matches(columnName)) {
                 return false;
             }
         }
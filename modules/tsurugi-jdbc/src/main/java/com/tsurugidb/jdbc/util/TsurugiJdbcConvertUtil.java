@@ -15,7 +15,6 @@
  */
 package com.tsurugidb.jdbc.util;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
@@ -501,25 +500,25 @@ public class TsurugiJdbcConvertUtil {
      * @throws SQLException if data convert error occurs
      */
     public String convertToString(@Nonnull Reader reader, int length) throws SQLException {
-        try (var br = new BufferedReader(reader)) {
-            var sb = new StringBuilder(1024);
-            var buffer = new char[1024];
+        // read directly into the builder (no intermediate buffered reader, no read beyond length)
+        try (reader) {
+            var sb = new StringBuilder((length >= 0) ? Math.min(length, 64 * 1024) : 1024);
+            var buffer = new char[8 * 1024];
             for (;;) {
-                int len = br.read(buffer);
-                if (len < 0) {
-                    break;
-                }
-                sb.append(buffer, 0, len);
-
+                int size = buffer.length;
                 if (length >= 0) {
-                    if (sb.length() >= length) {
+                    int remain = length - sb.length();
+                    if (remain <= 0) {
                         break;
                     }
+                    size = Math.min(size, remain);
                 }
-            }
 
-            if (length >= 0 && sb.length() > length) {
-                sb.setLength(length);
+                int len = reader.read(buffer, 0, size);
+                if (len < 0) {
+                    break;
+                }
+                sb.append(buffer, 0, len);
             }
             return sb.toString();
         } catch (Exception e) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tsurugi JDBC deadline.
+ *
+ * @since 0.5.0
+ */
+public final class TsurugiJdbcDeadline {
+
+    /**
+     * Creates a deadline after the duration from now.
+     *
+     * @param duration duration
+     * @return deadline
+     */
+    public static TsurugiJdbcDeadline after(Duration duration) {
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (ArithmeticException e) {
+            nanos = Long.MAX_VALUE;
+        }
+        long now = System.nanoTime();
+        long time = now + nanos;
+        if (nanos > 0 && time - now < 0) { // overflow
+            time = now + Long.MAX_VALUE;
+        }
+        return new TsurugiJdbcDeadline(time);
+    }
+
+    private final long deadlineNanoTime;
+
+    private TsurugiJdbcDeadline(long deadlineNanoTime) {
+        this.deadlineNanoTime = deadlineNanoTime;
+    }
+
+    /**
+     * Get remaining time.
+     *
+     * @return remaining time [nanoseconds]. 0 or less if expired
+     */
+    public long getRemainingNanos() {
+        return deadlineNanoTime - System.nanoTime();
+    }
+
+    /**
+     * Whether the deadline has passed.
+     *
+     * @return {@code true} if expired
+     */
+    public boolean isExpired() {
+        return getRemainingNanos() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiJdbcDeadline(remaining=" + TimeUnit.NANOSECONDS.toMillis(getRemainingNanos()) + "ms)";
+    }
+}
@@ -16,6 +16,7 @@
 package com.tsurugidb.jdbc.util;
 
 import java.io.IOException;
+import java.lang.StackWalker.StackFrame;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -25,6 +26,7 @@ import com.tsurugidb.jdbc.annotation.TsurugiJdbcInternal;
 import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler;
 import com.tsurugidb.jdbc.factory.GetFactory;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.jfr.TsurugiJdbcWaitEvent;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.sql.ResultSet;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
@@ -37,6 +39,8 @@ import com.tsurugidb.tsubakuro.util.Timeout.Policy;
 @TsurugiJdbcInternal
 public class TsurugiJdbcIoUtil implements GetFactory {
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     private final TsurugiJdbcFactory factory;
 
     /**
@@ -92,7 +96,116 @@ public class TsurugiJdbcIoUtil implements GetFactory {
      * @throws TimeoutException     if the wait time out
      */
     public <V> V get(FutureResponse<V> future, long timeout, TimeUnit unit) throws IOException, InterruptedException, ServerException, TimeoutException {
-        return future.await(timeout, unit);
+        var event = new TsurugiJdbcWaitEvent();
+        if (!event.isEnabled()) {
+            return future.await(timeout, unit);
+        }
+
+        event.begin();
+        try {
+            return future.await(timeout, unit);
+        } catch (TimeoutException e) {
+            event.timedOut = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = findOperation();
+                event.timeout = unit.toNanos(timeout);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Find the operation which waits for the response.
+     *
+     * @return caller class and method name
+     */
+    protected String findOperation() {
+        return STACK_WALKER.walk(s -> s.filter(f -> !TsurugiJdbcIoUtil.class.isAssignableFrom(f.getDeclaringClass())) //
+                .findFirst().map(TsurugiJdbcIoUtil::operationName).orElse(null));
+    }
+
+    private static String operationName(StackFrame frame) {
+        String method = frame.getMethodName();
+        if (method.startsWith("lambda$")) { // lambda$executeUpdate$0
+            int end = method.indexOf('$', 7);
+            method = method.substring(7, (end < 0) ? method.length() : end);
+        }
+        return frame.getDeclaringClass().getSimpleName() + "." + method;
+    }
+
+    /**
+     * Get value from FutureResponse within the deadline.
+     *
+     * @param <V>      the result value type
+     * @param future   FutureResponse
+     * @param timeout  timeout [seconds]
+     * @param deadline deadline. If null, only the timeout is applied
+     * @return return value
+     * @throws IOException          if exception was occurred while communicating to the server
+     * @throws InterruptedException if interrupted from other threads while waiting for response
+     * @throws ServerException      if exception was occurred while processing the request in the server
+     * @throws TimeoutException     if the wait time out or the deadline has passed
+     * @since 0.5.0
+     */
+    public <V> V get(FutureResponse<V> future, int timeout, @Nullable TsurugiJdbcDeadline deadline) throws IOException, InterruptedException, ServerException, TimeoutException {
+        return get(future, timeout, TimeUnit.SECONDS, deadline);
+    }
+
+    /**
+     * Get value from FutureResponse within the deadline.
+     * <p>
+     * The wait time is the shorter of the timeout and the time remaining until the deadline. A timeout of 0 or less means no timeout, so only the deadline limits the
+     * wait. If the deadline passes, the request is cancelled.
+     * </p>
+     *
+     * @param <V>      the result value type
+     * @param future   FutureResponse
+     * @param timeout  timeout
+     * @param unit     time unit
+     * @param deadline deadline. If null, only the timeout is applied
+     * @return return value
+     * @throws IOException          if exception was occurred while communicating to the server
+     * @throws InterruptedException if interrupted from other threads while waiting for response
+     * @throws ServerException      if exception was occurred while processing the request in the server
+     * @throws TimeoutException     if the wait time out or the deadline has passed
+     * @since 0.5.0
+     */
+    public <V> V get(FutureResponse<V> future, long timeout, TimeUnit unit, @Nullable TsurugiJdbcDeadline deadline)
+            throws IOException, InterruptedException, ServerException, TimeoutException {
+        if (deadline == null) {
+            return get(future, timeout, unit);
+        }
+
+        long remaining = deadline.getRemainingNanos();
+        if (timeout > 0 && remaining >= unit.toNanos(timeout)) {
+            return get(future, timeout, unit);
+        }
+
+        if (remaining > 0) {
+            try {
+                return get(future, remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                var te = new TimeoutException("transaction deadline exceeded");
+                te.initCause(e);
+                cancel(future, te);
+                throw te;
+            }
+        }
+
+        var te = new TimeoutException("transaction deadline exceeded");
+        cancel(future, te);
+        throw te;
+    }
+
+    private static void cancel(FutureResponse<?> future, Exception cause) {
+        try {
+            future.close();
+        } catch (Exception e) {
+            cause.addSuppressed(e);
+        }
     }
 
     /**
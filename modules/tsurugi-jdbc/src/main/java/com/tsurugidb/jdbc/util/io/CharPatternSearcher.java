@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Character pattern searcher (Boyer-Moore-Horspool).
+ * <p>
+ * The shift table is indexed by the low 8 bits of each character, so it stays small for any alphabet.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class CharPatternSearcher {
+
+    /** minimum buffer size for stream search [chars] */
+    public static final int STREAM_BUFFER_SIZE = 32 * 1024;
+
+    private final char[] pattern;
+    private final int[] shift;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pattern search pattern (must not be empty)
+     */
+    public CharPatternSearcher(String pattern) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("pattern must not be empty");
+        }
+        this.pattern = pattern.toCharArray();
+        this.shift = createShiftTable(this.pattern);
+    }
+
+    private static int[] createShiftTable(char[] pattern) {
+        int m = pattern.length;
+        var table = new int[256];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = m;
+        }
+        // characters sharing the low 8 bits keep the smallest (safe) shift
+        for (int i = 0; i < m - 1; i++) {
+            table[pattern[i] & 0xff] = m - 1 - i;
+        }
+        return table;
+    }
+
+    /**
+     * Get pattern length.
+     *
+     * @return pattern length
+     */
+    public int patternLength() {
+        return pattern.length;
+    }
+
+    /**
+     * Find the pattern in the character sequence.
+     *
+     * @param text  character sequence
+     * @param from  start index (inclusive)
+     * @param limit end index (exclusive)
+     * @return index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(CharSequence text, int from, int limit) {
+        int m = pattern.length;
+        char last = pattern[m - 1];
+        int end = limit - m;
+        int i = Math.max(from, 0);
+        while (i <= end) {
+            char c = text.charAt(i + m - 1);
+            if (c == last && matchesPrefix(text, i)) {
+                return i;
+            }
+            i += shift[c & 0xff];
+        }
+        return -1;
+    }
+
+    private boolean matchesPrefix(CharSequence text, int offset) {
+        for (int j = pattern.length - 2; j >= 0; j--) {
+            if (text.charAt(offset + j) != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the pattern in the reader.
+     * <p>
+     * The reader is read with a bounded buffer. It is not closed.
+     * </p>
+     *
+     * @param reader reader
+     * @param from   number of characters to skip before searching
+     * @return offset of the first occurrence from the current reader position, or -1 if not found
+     * @throws IOException if an I/O error occurs
+     */
+    public long indexOf(Reader reader, long from) throws IOException {
+        if (!skipFully(reader, from)) {
+            return -1;
+        }
+
+        int m = pattern.length;
+        var buffer = new char[Math.max(STREAM_BUFFER_SIZE, m * 2)];
+        var text = CharBuffer.wrap(buffer);
+        long base = from; // reader offset of buffer[0]
+        int filled = 0;
+        int searchFrom = 0;
+        for (;;) {
+            int n = reader.read(buffer, filled, buffer.length - filled);
+            if (n < 0) {
+                return -1;
+            }
+            filled += n;
+
+            int index = indexOf(text, searchFrom, filled);
+            if (index >= 0) {
+                return base + index;
+            }
+
+            if (filled == buffer.length) {
+                // keep the tail which may be the head of a match
+                int keep = m - 1;
+                System.arraycopy(buffer, filled - keep, buffer, 0, keep);
+                base += filled - keep;
+                filled = keep;
+                searchFrom = 0;
+            } else {
+                searchFrom = Math.max(0, filled - m + 1);
+            }
+        }
+    }
+
+    private static boolean skipFully(Reader reader, long n) throws IOException {
+        long remain = n;
+        while (remain > 0) {
+            long skipped = reader.skip(remain);
+            if (skipped <= 0) {
+                if (reader.read() < 0) {
+                    return false;
+                }
+                skipped = 1;
+            }
+            remain -= skipped;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Copy streams to a file through {@link FileChannel} with a direct buffer.
+ *
+ * @since 0.5.0
+ */
+public final class FileChannelCopier {
+
+    /** default buffer size [bytes] */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private FileChannelCopier() {
+        // do nothing
+    }
+
+    /**
+     * Copy InputStream to file.
+     *
+     * @param in      input stream
+     * @param dstFile destination file (created or truncated)
+     * @return number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(InputStream in, Path dstFile) throws IOException {
+        return copy(in, dstFile, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Copy InputStream to file.
+     *
+     * @param in         input stream
+     * @param dstFile    destination file (created or truncated)
+     * @param bufferSize buffer size [bytes]
+     * @return number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(InputStream in, Path dstFile, int bufferSize) throws IOException {
+        var buffer = ByteBuffer.allocateDirect(bufferSize);
+        long total = 0;
+        try (var src = Channels.newChannel(in); //
+                var dst = openChannel(dstFile)) {
+            while (src.read(buffer) >= 0) {
+                buffer.flip();
+                total += writeFully(dst, buffer);
+                buffer.clear();
+            }
+            buffer.flip();
+            total += writeFully(dst, buffer);
+        }
+        return total;
+    }
+
+    /**
+     * Copy Reader to file.
+     *
+     * @param reader  reader
+     * @param dstFile destination file (created or truncated)
+     * @param charset charset of the file
+     * @return number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(Reader reader, Path dstFile, Charset charset) throws IOException {
+        return copy(reader, dstFile, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Copy Reader to file.
+     *
+     * @param reader     reader
+     * @param dstFile    destination file (created or truncated)
+     * @param charset    charset of the file
+     * @param bufferSize buffer size [bytes]
+     * @return number of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public static long copy(Reader reader, Path dstFile, Charset charset, int bufferSize) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        int charSize = Math.max(1, (int) (bufferSize / encoder.maxBytesPerChar()));
+        var charBuffer = CharBuffer.allocate(charSize);
+        var byteBuffer = ByteBuffer.allocateDirect(bufferSize);
+        long total = 0;
+        try (var dst = openChannel(dstFile)) {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = reader.read(charBuffer) < 0;
+                charBuffer.flip();
+                total += encode(encoder, charBuffer, byteBuffer, endOfInput, dst);
+                charBuffer.compact();
+            }
+            for (;;) {
+                CoderResult result = encoder.flush(byteBuffer);
+                total += drain(byteBuffer, dst);
+                if (result.isUnderflow()) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static long encode(CharsetEncoder encoder, CharBuffer src, ByteBuffer buffer, boolean endOfInput, FileChannel dst) throws IOException {
+        long total = 0;
+        for (;;) {
+            CoderResult result = encoder.encode(src, buffer, endOfInput);
+            if (result.isOverflow()) {
+                total += drain(buffer, dst);
+                continue;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            break;
+        }
+        return total;
+    }
+
+    private static long drain(ByteBuffer buffer, FileChannel dst) throws IOException {
+        buffer.flip();
+        long n = writeFully(dst, buffer);
+        buffer.clear();
+        return n;
+    }
+
+    private static FileChannel openChannel(Path dstFile) throws IOException {
+        return FileChannel.open(dstFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static long writeFully(FileChannel dst, ByteBuffer buffer) throws IOException {
+        long total = 0;
+        while (buffer.hasRemaining()) {
+            total += dst.write(buffer);
+        }
+        return total;
+    }
+}
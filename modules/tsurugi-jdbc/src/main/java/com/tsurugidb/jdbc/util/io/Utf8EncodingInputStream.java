@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * InputStream that encodes characters of a Reader to UTF-8 on the fly.
+ * <p>
+ * The characters are encoded through fixed-size buffers, so the memory usage does not depend on the length of the text.
+ * </p>
+ *
+ * @since 0.5.0
+ */
+public class Utf8EncodingInputStream extends InputStream {
+
+    /** default buffer size [bytes] */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param reader the reader to read from
+     * @return a new Utf8EncodingInputStream instance, or null if the reader is null
+     */
+    public static Utf8EncodingInputStream of(Reader reader) {
+        if (reader == null) {
+            return null;
+        }
+        return new Utf8EncodingInputStream(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    private final Reader reader;
+    private final CharsetEncoder encoder;
+    private final CharBuffer charBuffer;
+    private final ByteBuffer byteBuffer;
+    private boolean endOfInput = false;
+    private boolean finished = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param reader     the reader to read from
+     * @param bufferSize buffer size [bytes]
+     */
+    public Utf8EncodingInputStream(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.encoder = StandardCharsets.UTF_8.newEncoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        int size = Math.max(bufferSize, 8);
+        this.charBuffer = CharBuffer.allocate(size / 2);
+        this.byteBuffer = ByteBuffer.allocateDirect(size);
+        byteBuffer.flip(); // empty
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!byteBuffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return byteBuffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!byteBuffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+
+        int n = Math.min(len, byteBuffer.remaining());
+        byteBuffer.get(b, off, n);
+        return n;
+    }
+
+    private boolean fill() throws IOException {
+        byteBuffer.clear();
+        while (byteBuffer.position() == 0 && !this.finished) {
+            if (!this.endOfInput) {
+                int n = reader.read(charBuffer);
+                if (n < 0) {
+                    this.endOfInput = true;
+                }
+            }
+
+            charBuffer.flip();
+            CoderResult result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+            charBuffer.compact();
+            if (result.isError()) {
+                result.throwException();
+            }
+
+            if (this.endOfInput && result.isUnderflow()) {
+                if (encoder.flush(byteBuffer).isUnderflow()) {
+                    this.finished = true;
+                }
+            }
+        }
+        byteBuffer.flip();
+        return byteBuffer.hasRemaining();
+    }
+
+    @Override
+    public int available() throws IOException {
+        return byteBuffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -15,16 +15,33 @@
  */
 package com.tsurugidb.jdbc.connection;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import com.tsurugidb.jdbc.TsurugiConfig;
 import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.mock.LowSessionTestMock;
+import com.tsurugidb.jdbc.mock.LowSqlClientTestMock;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcRetryPolicy;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransactionType;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
 
 class TsurugiConnectionTest {
 
@@ -37,6 +54,17 @@ class TsurugiConnectionTest {
         return factory.createConnection(session, config);
     }
 
+    private static TsurugiJdbcConnection createTestConnection(LowSqlClientTestMock sqlClient) {
+        var factory = new TsurugiJdbcFactory() {
+            @Override
+            public SqlClient createLowSqlClient(Session lowSession) {
+                return sqlClient;
+            }
+        };
+        var config = TsurugiJdbcConnectionConfig.of(new TsurugiConfig());
+        return factory.createConnection(new LowSessionTestMock(), config);
+    }
+
     @Test
     void unwrap() throws SQLException {
         try (Connection connection = createTestConnection()) {
@@ -52,4 +80,187 @@ class TsurugiConnectionTest {
             assertTrue(actual);
         }
     }
+
+    @Test
+    void executeInTransaction_retry() throws SQLException {
+        var policy = new TsurugiJdbcRetryPolicy().backoff(0, 0, 2);
+        var count = new AtomicInteger();
+        try (var connection = createTestConnection()) {
+            String actual = connection.executeInTransaction(c -> {
+                assertFalse(c.getAutoCommit());
+                if (count.incrementAndGet() <= 2) {
+                    throw new SQLTransactionRollbackException("test", "40001");
+                }
+                return "ok";
+            }, policy);
+
+            assertEquals("ok", actual);
+            assertEquals(3, count.get());
+            assertTrue(connection.getAutoCommit());
+        }
+        assertEquals(1, policy.getExecuteCount());
+        assertEquals(2, policy.getRetryCount());
+        assertEquals(1, policy.getRetrySuccessCount());
+        assertEquals(0, policy.getRetryExhaustedCount());
+    }
+
+    @Test
+    void executeInTransaction_exhausted() throws SQLException {
+        var policy = new TsurugiJdbcRetryPolicy().maxAttempts(3).backoff(0, 0, 2);
+        var count = new AtomicInteger();
+        try (var connection = createTestConnection()) {
+            assertThrows(SQLTransactionRollbackException.class, () -> connection.executeInTransaction(c -> {
+                count.incrementAndGet();
+                throw new SQLTransactionRollbackException("test", "40001");
+            }, policy));
+
+            assertEquals(3, count.get());
+            assertTrue(connection.getAutoCommit());
+        }
+        assertEquals(2, policy.getRetryCount());
+        assertEquals(1, policy.getRetryExhaustedCount());
+    }
+
+    @Test
+    void executeInTransaction_notRetriable() throws SQLException {
+        var policy = new TsurugiJdbcRetryPolicy().backoff(0, 0, 2);
+        var count = new AtomicInteger();
+        try (var connection = createTestConnection()) {
+            var e = assertThrows(SQLException.class, () -> connection.executeInTransaction(c -> {
+                count.incrementAndGet();
+                throw new SQLException("test", "42000");
+            }, policy));
+
+            assertEquals("42000", e.getSQLState());
+            assertEquals(1, count.get());
+        }
+        assertEquals(0, policy.getRetryCount());
+    }
+
+    @Test
+    void executeInTransaction_runtimeException() throws SQLException {
+        var sqlClient = new LowSqlClientTestMock();
+        var policy = new TsurugiJdbcRetryPolicy().backoff(0, 0, 2);
+        try (var connection = createTestConnection(sqlClient)) {
+            var e = assertThrows(IllegalStateException.class, () -> connection.executeInTransaction(c -> {
+                try (var statement = c.createStatement()) {
+                    statement.executeUpdate("insert into test values(1)");
+                }
+                throw new IllegalStateException("test");
+            }, policy));
+
+            assertEquals("test", e.getMessage());
+            assertTrue(connection.getAutoCommit());
+        }
+        assertEquals(0, sqlClient.getCommitCount());
+        assertEquals(1, sqlClient.getRollbackCount());
+        assertEquals(0, policy.getRetryCount());
+    }
+
+    @Test
+    void executeInTransaction_activeTransaction() throws SQLException {
+        var sqlClient = new LowSqlClientTestMock();
+        var policy = new TsurugiJdbcRetryPolicy().backoff(0, 0, 2);
+        try (var connection = createTestConnection(sqlClient)) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.createStatement()) {
+                statement.executeUpdate("insert into test values(1)");
+            }
+
+            var count = new AtomicInteger();
+            var e = assertThrows(SQLException.class, () -> connection.executeInTransaction(c -> count.incrementAndGet(), policy));
+            assertEquals("25001", e.getSQLState());
+            assertEquals(0, count.get());
+            assertEquals(0, sqlClient.getCommitCount());
+
+            connection.rollback();
+            int actual = connection.executeInTransaction(c -> count.incrementAndGet(), policy);
+            assertEquals(1, actual);
+            assertFalse(connection.getAutoCommit());
+        }
+        assertEquals(1, sqlClient.getRollbackCount());
+    }
+
+    @Test
+    @Timeout(10)
+    void transactionDeadline_query() throws SQLException {
+        var sqlClient = new LowSqlClientTestMock();
+        sqlClient.setPendingQuery(true);
+        try (var connection = createTestConnection(sqlClient)) {
+            connection.setTransactionDeadline(Duration.ofMillis(50));
+            try (var statement = connection.createStatement(); var rs = statement.executeQuery("select * from test")) {
+                assertEquals(0, statement.getQueryTimeout());
+                var e = assertThrows(SQLException.class, () -> rs.next());
+                assertInstanceOf(TimeoutException.class, e.getCause());
+                assertEquals("transaction deadline exceeded", e.getCause().getMessage());
+                // rolled back by the deadline before the ResultSet is closed
+                assertEquals(1, sqlClient.getRollbackCount());
+                assertNull(connection.getCurrentTransaction());
+            }
+        }
+        assertEquals(0, sqlClient.getCommitCount());
+        assertEquals(1, sqlClient.getRollbackCount());
+    }
+
+    @Test
+    @Timeout(10)
+    void transactionDeadline_commit() throws SQLException {
+        var sqlClient = new LowSqlClientTestMock();
+        sqlClient.setPendingCommit(true);
+        try (var connection = createTestConnection(sqlClient)) {
+            assertEquals(0, connection.getConfig().getCommitTimeout());
+            connection.setAutoCommit(false);
+            connection.setTransactionDeadline(Duration.ofMillis(50));
+            try (var statement = connection.createStatement()) {
+                statement.executeUpdate("insert into test values(1)");
+            }
+
+            var e = assertThrows(SQLException.class, () -> connection.commit());
+            assertInstanceOf(TimeoutException.class, e.getCause());
+            assertEquals("transaction deadline exceeded", e.getCause().getMessage());
+            assertNull(connection.getCurrentTransaction());
+        }
+        assertEquals(0, sqlClient.getCommitCount());
+        assertEquals(1, sqlClient.getRollbackCount());
+    }
+
+    @Test
+    void declareLtxStatements() throws SQLException {
+        try (var connection = createTestConnection()) {
+            connection.declareLtxStatements(List.of( //
+                    "select * from master where id = :id", //
+                    "update stock set qty = qty - :qty where id = :id", //
+                    "insert into history values(:id, :qty)"));
+
+            assertEquals(TsurugiJdbcTransactionType.LTX, connection.getTransactionType());
+            assertEquals(List.of("stock", "history"), connection.getWritePreserve());
+            assertEquals(List.of("master", "stock"), connection.getInclusiveReadArea());
+
+            var option = connection.getLowTransactionOption();
+            assertEquals(SqlRequest.TransactionType.LONG, option.getType());
+            assertEquals(2, option.getWritePreservesCount());
+            assertEquals(2, option.getInclusiveReadAreasCount());
+        }
+    }
+
+    @Test
+    void readOnlyRouting() throws SQLException {
+        try (var connection = createTestConnection()) {
+            String sql = "select * from test";
+            assertFalse(connection.isReadOnlyRouting(sql));
+
+            var config = connection.getConfig();
+            config.setReadOnlyRouting(true);
+            config.setScanParallel(4);
+            assertTrue(connection.isReadOnlyRouting(sql));
+            assertFalse(connection.isReadOnlyRouting("update test set foo = 1"));
+
+            var option = config.getLowReadOnlyTransactionOption();
+            assertEquals(SqlRequest.TransactionType.READ_ONLY, option.getType());
+            assertEquals(4, option.getScanParallel());
+
+            connection.setAutoCommit(false);
+            assertFalse(connection.isReadOnlyRouting(sql));
+        }
+    }
 }
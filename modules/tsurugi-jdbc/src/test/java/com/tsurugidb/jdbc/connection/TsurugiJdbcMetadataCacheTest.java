@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcMetadataCacheTest {
+
+    @Test
+    void of() {
+        var cache1 = TsurugiJdbcMetadataCache.of("tcp://localhost:12345", "user1");
+        var cache2 = TsurugiJdbcMetadataCache.of("tcp://localhost:12345", "user1");
+        var cache3 = TsurugiJdbcMetadataCache.of("tcp://localhost:23456", "user1");
+        var cache4 = TsurugiJdbcMetadataCache.of("tcp://localhost:12345", "user2");
+        assertSame(cache1, cache2);
+        assertFalse(cache1 == cache3);
+        assertFalse(cache1 == cache4);
+    }
+
+    @Test
+    void invalidateEndpoint() throws Exception {
+        var cache1 = TsurugiJdbcMetadataCache.of("tcp://localhost:34567", "user1");
+        var cache2 = TsurugiJdbcMetadataCache.of("tcp://localhost:34567", "user2");
+        var cache3 = TsurugiJdbcMetadataCache.of("tcp://localhost:45678", "user1");
+        long generation1 = cache1.getGeneration();
+        long generation2 = cache2.getGeneration();
+        long generation3 = cache3.getGeneration();
+
+        TsurugiJdbcMetadataCache.invalidate("tcp://localhost:34567");
+        assertEquals(generation1 + 1, cache1.getGeneration());
+        assertEquals(generation2 + 1, cache2.getGeneration());
+        assertEquals(generation3, cache3.getGeneration());
+    }
+
+    @Test
+    void getTableNames() throws Exception {
+        var cache = new TsurugiJdbcMetadataCache("test", "user");
+        var count = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            var names = cache.getTableNames(60_000, () -> {
+                count.incrementAndGet();
+                return List.of("t1", "t2");
+            });
+            assertEquals(List.of("t1", "t2"), names.getTableNames());
+        }
+        assertEquals(1, count.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.invalidate();
+        cache.getTableNames(60_000, () -> {
+            count.incrementAndGet();
+            return List.of("t1");
+        });
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void getTableNamesNoCache() throws Exception {
+        var cache = new TsurugiJdbcMetadataCache("test", "user");
+        var count = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.getTableNames(0, () -> {
+                count.incrementAndGet();
+                return List.of("t1");
+            });
+        }
+        assertEquals(3, count.get());
+    }
+
+    @Test
+    void invalidateWhileLoading() throws Exception {
+        var cache = new TsurugiJdbcMetadataCache("test", "user");
+        var count = new AtomicInteger();
+
+        cache.getTableNames(60_000, () -> {
+            count.incrementAndGet();
+            cache.invalidate(); // DDL executed during the load
+            return List.of("old");
+        });
+        var names = cache.getTableNames(60_000, () -> {
+            count.incrementAndGet();
+            return List.of("new");
+        });
+        assertEquals(List.of("new"), names.getTableNames());
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void isDdl() {
+        assertTrue(TsurugiJdbcMetadataCache.isDdl("create table test (foo int)"));
+        assertTrue(TsurugiJdbcMetadataCache.isDdl("  DROP TABLE test"));
+        assertTrue(TsurugiJdbcMetadataCache.isDdl("/* comment */ alter table test"));
+        assertTrue(TsurugiJdbcMetadataCache.isDdl("-- comment\ncreate index i on test(foo)"));
+        assertFalse(TsurugiJdbcMetadataCache.isDdl("insert into test values(1)"));
+        assertFalse(TsurugiJdbcMetadataCache.isDdl("created"));
+        assertFalse(TsurugiJdbcMetadataCache.isDdl("\"create\" table test"));
+        assertTrue(TsurugiJdbcMetadataCache.isDdl("// comment\nDROP TABLE test"));
+        assertFalse(TsurugiJdbcMetadataCache.isDdl(""));
+        assertFalse(TsurugiJdbcMetadataCache.isDdl(null));
+    }
+}
@@ -16,11 +16,18 @@
 package com.tsurugidb.jdbc.exception;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLTransactionRollbackException;
 
 import org.junit.jupiter.api.Test;
 
+import com.tsurugidb.jdbc.exception.TsurugiJdbcExceptionHandler.ServerErrorKind;
 import com.tsurugidb.tsubakuro.exception.CoreServiceCode;
 import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.exception.CcException;
 
 class TsurugiJdbcExceptionHandlerTest {
 
@@ -36,4 +43,48 @@ class TsurugiJdbcExceptionHandlerTest {
     void vendorCode() {
         assertEquals(1_02_00003, TARGET.vendorCode(1, 2, 3));
     }
+
+    @Test
+    void serverErrorClass() {
+        var target = new TsurugiJdbcExceptionHandler();
+        var e = new CcException(SqlServiceCode.CC_EXCEPTION, "test");
+
+        var errorClass = target.serverErrorClass(e);
+        assertEquals(ServerErrorKind.TRANSACTION_ROLLBACK, errorClass.getKind());
+        assertEquals(SqlState.S40001_SERIALIZATION_FAILURE, errorClass.getSqlState());
+        assertEquals(target.vendorCode(0, 2, SqlServiceCode.CC_EXCEPTION.getCodeNumber()), errorClass.getVendorCode());
+        assertSame(errorClass, target.serverErrorClass(e));
+    }
+
+    @Test
+    void sqlException_ccException() {
+        var target = new TsurugiJdbcExceptionHandler();
+        var e = new CcException(SqlServiceCode.CC_EXCEPTION, "test");
+
+        var se = target.sqlException("execute error", e);
+        assertInstanceOf(SQLTransactionRollbackException.class, se);
+        assertEquals("40001", se.getSQLState());
+        assertSame(e, se.getCause());
+        assertEquals("execute error. " + SqlServiceCode.CC_EXCEPTION + ": " + e.getMessage(), se.getMessage());
+        assertTrue(se.getStackTrace().length > 0);
+
+        var outer = target.sqlException("Transaction execute error", se);
+        assertInstanceOf(SQLTransactionRollbackException.class, outer);
+        assertEquals("40001", outer.getSQLState());
+        assertEquals("Transaction execute error (" + se.getMessage() + ")", outer.getMessage());
+    }
+
+    @Test
+    void sqlException_retriableStackTrace() {
+        var target = new TsurugiJdbcExceptionHandler();
+        target.setRetriableStackTrace(false);
+        var e = new CcException(SqlServiceCode.CC_EXCEPTION, "test");
+
+        var se = target.sqlException("execute error", e);
+        assertEquals("40001", se.getSQLState());
+        assertEquals(0, se.getStackTrace().length);
+
+        var outer = target.sqlException("Transaction execute error", se);
+        assertEquals(0, outer.getStackTrace().length);
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.explain.TsurugiJdbcExplainNode.Kind;
+
+class TsurugiJdbcExplainNodeTest {
+
+    @Test
+    void parse() {
+        var root = TsurugiJdbcExplainNode.parse("{\"kind\":\"emit\",\"columns\":[{\"name\":\"foo\"},{\"name\":\"b\\\"ar\\u0041\"}],\"limit\":-1.5e3,\"distinct\":false,\"source\":null}");
+        assertEquals(Kind.OBJECT, root.getKind());
+        assertNull(root.getName());
+        assertEquals(0, root.getDepth());
+        assertEquals("$", root.getPath());
+        assertEquals(5, root.getChildren().size());
+
+        assertEquals("emit", root.getChildValue("kind").get());
+        assertEquals("-1.5e3", root.getChildValue("limit").get());
+        assertEquals(Kind.NUMBER, root.getChild("limit").get().getKind());
+        assertEquals(Kind.BOOLEAN, root.getChild("distinct").get().getKind());
+        assertEquals(Kind.NULL, root.getChild("source").get().getKind());
+        assertTrue(root.getChild("unknown").isEmpty());
+
+        var columns = root.getChild("columns").get();
+        assertEquals(Kind.ARRAY, columns.getKind());
+        var column1 = columns.getChild("1").get();
+        assertEquals(2, column1.getDepth());
+        assertEquals("$.columns[1]", column1.getPath());
+        assertEquals("b\"arA", column1.getChildValue("name").get());
+        assertEquals("$.columns[1].name", column1.getChild("name").get().getPath());
+    }
+
+    @Test
+    void findAll() {
+        var root = TsurugiJdbcExplainNode.parse("{\"name\":\"a\",\"input\":{\"name\":\"b\",\"input\":[{\"name\":\"c\"}]}}");
+        List<String> names = root.findAll("name").stream().map(TsurugiJdbcExplainNode::getValue).collect(Collectors.toList());
+        assertEquals(List.of("a", "b", "c"), names);
+    }
+
+    @Test
+    void parseEmpty() {
+        assertEquals(0, TsurugiJdbcExplainNode.parse(" { } ").getChildren().size());
+        assertEquals(0, TsurugiJdbcExplainNode.parse("[]").getChildren().size());
+    }
+
+    @Test
+    void parseError() {
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcExplainNode.parse("{\"a\":}"));
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcExplainNode.parse("[1,2"));
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcExplainNode.parse("{} x"));
+        assertThrows(IllegalArgumentException.class, () -> TsurugiJdbcExplainNode.parse(""));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+class TsurugiJdbcResultSetEventTest {
+
+    @Test
+    void finish() throws Exception {
+        var file = Files.createTempFile("tsurugi-jdbc-", ".jfr");
+        try {
+            try (var recording = new Recording()) {
+                recording.enable(TsurugiJdbcResultSetEvent.class);
+                recording.start();
+
+                var event = new TsurugiJdbcResultSetEvent();
+                event.begin();
+                event.finish("select * from test where k = 1", "label1", 3, true);
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            var events = RecordingFile.readAllEvents(file);
+            var list = events.stream().filter(e -> e.getEventType().getName().equals("com.tsurugidb.jdbc.ResultSet")).toArray();
+            assertEquals(1, list.length);
+            var event = (jdk.jfr.consumer.RecordedEvent) list[0];
+            assertEquals("select * from test where k = ?", event.getString("sqlFingerprint"));
+            assertEquals("label1", event.getString("transactionLabel"));
+            assertEquals(3, event.getLong("rowCount"));
+            assertTrue(event.getBoolean("completed"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void disabled() {
+        var event = new TsurugiJdbcResultSetEvent();
+        event.begin();
+        event.finish("select 1", null, 0, false); // not recorded
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.listener.TsurugiJdbcExecutionListener.Operation;
+
+class TsurugiJdbcExecutionDispatcherTest {
+
+    private static class TestListener implements TsurugiJdbcExecutionListener {
+        private final String name;
+        private final List<String> log;
+
+        TestListener(String name, List<String> log) {
+            this.name = name;
+            this.log = log;
+        }
+
+        @Override
+        public void before(TsurugiJdbcExecutionContext context) {
+            context.setAttachment(name);
+            log.add("before-" + name + "-" + context.getOperation());
+        }
+
+        @Override
+        public void after(TsurugiJdbcExecutionContext context) {
+            log.add("after-" + context.getAttachment() + "-" + context.getRowCount() + "-" + context.isSuccess());
+        }
+    }
+
+    @Test
+    void noDispatcher() {
+        var context = TsurugiJdbcExecutionDispatcher.start(null, Operation.EXECUTE, "select 1", null);
+        assertNull(context);
+
+        TsurugiJdbcExecutionDispatcher.succeeded(null, 1);
+        TsurugiJdbcExecutionDispatcher.failed(null, new RuntimeException("test"));
+    }
+
+    @Test
+    void succeeded() {
+        var log = new ArrayList<String>();
+        var target = new TsurugiJdbcExecutionDispatcher(null, List.of(new TestListener("a", log), new TestListener("b", log)));
+        assertEquals(2, target.getListenerCount());
+
+        var context = TsurugiJdbcExecutionDispatcher.start(target, Operation.EXECUTE, "update test set foo = 1", null);
+        assertEquals(Operation.EXECUTE, context.getOperation());
+        assertEquals("update test set foo = 1", context.getSql());
+        assertNull(context.getTransactionLabel());
+        assertEquals(0, context.getElapsedNanos());
+
+        TsurugiJdbcExecutionDispatcher.succeeded(context, 3);
+        assertEquals(List.of("before-a-EXECUTE", "before-b-EXECUTE", "after-b-3-true", "after-a-3-true"), log);
+        assertTrue(context.getElapsedNanos() >= 0);
+        assertNull(context.getException());
+    }
+
+    @Test
+    void failed() {
+        var log = new ArrayList<String>();
+        var target = new TsurugiJdbcExecutionDispatcher(null, List.of(new TestListener("a", log)));
+
+        var context = target.start(Operation.COMMIT, null, "label1");
+        var e = new RuntimeException("test");
+        TsurugiJdbcExecutionDispatcher.failed(context, e);
+
+        assertEquals(List.of("before-a-COMMIT", "after-a--1-false"), log);
+        assertEquals("label1", context.getTransactionLabel());
+        assertSame(e, context.getException());
+        assertFalse(context.isSuccess());
+    }
+
+    @Test
+    void listenerException() {
+        var log = new ArrayList<String>();
+        TsurugiJdbcExecutionListener error = new TsurugiJdbcExecutionListener() {
+            @Override
+            public void before(TsurugiJdbcExecutionContext context) {
+                throw new IllegalStateException("test");
+            }
+        };
+        var target = new TsurugiJdbcExecutionDispatcher(null, List.of(error, new TestListener("a", log)));
+
+        var context = target.start(Operation.ROLLBACK, null, null);
+        TsurugiJdbcExecutionDispatcher.succeeded(context, -1);
+
+        assertEquals(List.of("before-a-ROLLBACK", "after-a--1-true"), log);
+    }
+}
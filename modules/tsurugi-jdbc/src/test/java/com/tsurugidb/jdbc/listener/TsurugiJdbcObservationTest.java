@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.TsurugiConfig;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnection;
+import com.tsurugidb.jdbc.connection.TsurugiJdbcConnectionConfig;
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics;
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcStatementStatistics;
+import com.tsurugidb.jdbc.mock.LowSessionTestMock;
+import com.tsurugidb.jdbc.transaction.TsurugiJdbcTransaction;
+
+class TsurugiJdbcObservationTest {
+
+    private static class TestListener implements TsurugiJdbcExecutionListener {
+        private final List<String> log;
+
+        TestListener(List<String> log) {
+            this.log = log;
+        }
+
+        @Override
+        public void before(TsurugiJdbcExecutionContext context) {
+            log.add("before-" + context.getOperation());
+        }
+
+        @Override
+        public void after(TsurugiJdbcExecutionContext context) {
+            log.add("after-" + context.getOperation() + "-" + context.getRowCount() + "-" + context.isSuccess());
+        }
+    }
+
+    private static TsurugiJdbcConnection createTestConnection() {
+        var config = TsurugiJdbcConnectionConfig.of(new TsurugiConfig());
+        return new TsurugiJdbcFactory().createConnection(new LowSessionTestMock(), config);
+    }
+
+    private static TsurugiJdbcTransaction beginTransaction(TsurugiJdbcConnection connection, String endpoint, List<String> log) throws SQLException {
+        connection.setAutoCommit(false);
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate("insert into test values(1)");
+        }
+        var transaction = connection.getCurrentTransaction();
+        transaction.setMetrics(TsurugiJdbcMetrics.of(endpoint));
+        transaction.setExecutionDispatcher(new TsurugiJdbcExecutionDispatcher(connection, List.of(new TestListener(log))));
+        return transaction;
+    }
+
+    @Test
+    void succeeded() throws SQLException {
+        var log = new ArrayList<String>();
+        try (var connection = createTestConnection()) {
+            var transaction = beginTransaction(connection, "test-observation-succeeded", log);
+
+            long start = System.nanoTime();
+            var target = TsurugiJdbcObservation.startCommit(transaction);
+            assertNotNull(target);
+            long elapsed = TsurugiJdbcObservation.succeeded(target, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.COMMIT, start, -1);
+
+            assertTrue(elapsed >= 0);
+            assertEquals(1, transaction.getMetrics().getCommitLatency().getCount());
+            assertEquals(List.of("before-COMMIT", "after-COMMIT--1-true"), log);
+        }
+    }
+
+    @Test
+    void failed() throws SQLException {
+        var log = new ArrayList<String>();
+        try (var connection = createTestConnection()) {
+            var transaction = beginTransaction(connection, "test-observation-failed", log);
+
+            var target = TsurugiJdbcObservation.startLobDownload(transaction, "OPEN", "BLOB");
+            TsurugiJdbcObservation.failed(target, new SQLException("test"));
+
+            assertEquals(0, transaction.getMetrics().getLobDownloadLatency().getCount());
+            assertEquals(List.of("before-LOB_DOWNLOAD", "after-LOB_DOWNLOAD--1-false"), log);
+        }
+    }
+
+    @Test
+    void disabled() throws SQLException {
+        try (var connection = createTestConnection()) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.createStatement()) {
+                statement.executeUpdate("insert into test values(1)");
+            }
+            var transaction = connection.getCurrentTransaction();
+            transaction.setMetrics(TsurugiJdbcMetrics.of("test-observation-disabled"));
+
+            // no listener and JFR is not recording
+            assertNull(TsurugiJdbcObservation.startCommit(transaction));
+            assertNull(TsurugiJdbcObservation.startFetch(transaction));
+            assertNull(TsurugiJdbcObservation.startLobDownload(transaction, "OPEN", "BLOB"));
+
+            long start = System.nanoTime();
+            long elapsed = TsurugiJdbcObservation.succeeded(null, transaction.getMetrics(), TsurugiJdbcMetrics.Operation.ROLLBACK, start, -1);
+            assertTrue(elapsed >= 0);
+            assertEquals(1, transaction.getMetrics().getRollbackLatency().getCount());
+
+            TsurugiJdbcObservation.failed(null, new SQLException("test"));
+            TsurugiJdbcObservation.startFetchListener(null, "select * from test");
+            TsurugiJdbcObservation.endFetch(null, 0, null);
+        }
+    }
+
+    @Test
+    void stopFetch() throws SQLException {
+        var log = new ArrayList<String>();
+        var statistics = TsurugiJdbcStatementStatistics.of("test-observation-fetch");
+        statistics.ensureMaxSize(10);
+        String sql = "select * from test where foo = 1";
+        try (var connection = createTestConnection()) {
+            var transaction = beginTransaction(connection, "test-observation-fetch", log);
+            transaction.setStatementStatistics(statistics);
+
+            long start = System.nanoTime();
+            var target = TsurugiJdbcObservation.startFetch(transaction);
+            TsurugiJdbcObservation.startFetchListener(target, sql);
+            long elapsed = TsurugiJdbcObservation.stopFetch(target, transaction, sql, start, 3, true);
+            assertEquals(List.of("before-FETCH"), log);
+
+            TsurugiJdbcObservation.endFetch(target, 3, null);
+            assertEquals(1, transaction.getMetrics().getQueryFullScanLatency().getCount());
+            assertEquals(List.of("before-FETCH", "after-FETCH-3-true"), log);
+
+            var entry = statistics.getEntry(sql);
+            assertEquals(1, entry.getCalls());
+            assertEquals(3, entry.getRows());
+            assertEquals(elapsed, entry.getTotalNanos());
+        }
+    }
+}
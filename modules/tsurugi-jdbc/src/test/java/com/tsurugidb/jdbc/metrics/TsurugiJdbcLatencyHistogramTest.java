@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcLatencyHistogramTest {
+
+    @Test
+    void bucketIndex() {
+        assertEquals(0, TsurugiJdbcLatencyHistogram.bucketIndex(0));
+        assertEquals(0, TsurugiJdbcLatencyHistogram.bucketIndex(999));
+        assertEquals(1, TsurugiJdbcLatencyHistogram.bucketIndex(1_000));
+        assertEquals(2, TsurugiJdbcLatencyHistogram.bucketIndex(2_000));
+        assertEquals(2, TsurugiJdbcLatencyHistogram.bucketIndex(3_999));
+        assertEquals(3, TsurugiJdbcLatencyHistogram.bucketIndex(4_000));
+        assertEquals(TsurugiJdbcLatencyHistogram.BUCKET_SIZE - 1, TsurugiJdbcLatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void snapshot() {
+        var target = new TsurugiJdbcLatencyHistogram();
+        assertEquals(0, target.getSnapshot().getCount());
+
+        for (int i = 0; i < 99; i++) {
+            target.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        target.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        var snapshot = target.getSnapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(10.0, snapshot.getMaxMillis(), 0.0001);
+        assertEquals((0.1 * 99 + 10) / 100, snapshot.getMeanMillis(), 0.0001);
+        assertEquals(0.128, snapshot.getP50Millis(), 0.0001); // 128us bucket
+        assertEquals(0.128, snapshot.getP99Millis(), 0.0001);
+        assertTrue(snapshot.getP90Millis() <= snapshot.getP99Millis());
+    }
+
+    @Test
+    void percentileCappedByMax() {
+        var target = new TsurugiJdbcLatencyHistogram();
+        target.record(TimeUnit.MICROSECONDS.toNanos(300));
+
+        var snapshot = target.getSnapshot();
+        assertEquals(0.3, snapshot.getP50Millis(), 0.0001);
+    }
+
+    @Test
+    void reset() {
+        var target = new TsurugiJdbcLatencyHistogram();
+        target.record(1000);
+        assertEquals(1, target.getCount());
+
+        target.reset();
+        assertEquals(0, target.getCount());
+        assertEquals(0, target.getSnapshot().getMaxMillis());
+    }
+}
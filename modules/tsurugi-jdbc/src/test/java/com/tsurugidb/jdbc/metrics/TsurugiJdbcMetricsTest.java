@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.metrics.TsurugiJdbcMetrics.Operation;
+
+class TsurugiJdbcMetricsTest {
+
+    @Test
+    void of() {
+        var metrics = TsurugiJdbcMetrics.of("test-of");
+        assertSame(metrics, TsurugiJdbcMetrics.of("test-of"));
+        assertEquals("test-of", metrics.getEndpoint());
+    }
+
+    @Test
+    void record() {
+        var target = new TsurugiJdbcMetrics("test-record");
+        target.recordSince(Operation.COMMIT, System.nanoTime());
+        target.recordRetry();
+        target.recordAbort(null);
+
+        assertEquals(1, target.getCommitLatency().getCount());
+        assertEquals(0, target.getBeginLatency().getCount());
+        assertEquals(1, target.getRetryCount());
+        assertEquals(1, target.getAbortCount());
+        assertEquals(Map.of(), target.getAbortCountByCode());
+
+        target.reset();
+        assertEquals(0, target.getCommitLatency().getCount());
+        assertEquals(0, target.getRetryCount());
+    }
+
+    @Test
+    void register() throws Exception {
+        var target = new TsurugiJdbcMetrics("tcp://localhost:12345");
+        assertNull(target.getObjectName());
+
+        target.register();
+        var name = target.getObjectName();
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertTrue(server.isRegistered(name));
+
+            target.recordSince(Operation.EXECUTE, System.nanoTime());
+            target.recordConnect();
+            assertEquals(1L, server.getAttribute(name, "ConnectCount"));
+            var latency = (CompositeData) server.getAttribute(name, "ExecuteLatency");
+            assertEquals(1L, TsurugiJdbcLatencySnapshot.from(latency).getCount());
+
+            target.register(); // ignored
+        } finally {
+            target.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+        assertNull(target.getObjectName());
+    }
+
+    @Test
+    void attach() {
+        var target = new TsurugiJdbcMetrics("tcp://localhost:12346");
+        var server = ManagementFactory.getPlatformMBeanServer();
+
+        target.attach();
+        var name = target.getObjectName();
+        try {
+            assertTrue(server.isRegistered(name));
+            target.attach();
+            target.detach();
+            assertTrue(server.isRegistered(name));
+        } finally {
+            target.detach();
+        }
+        assertFalse(server.isRegistered(name));
+        assertNull(target.getObjectName());
+
+        target.detach(); // ignored
+        target.attach();
+        try {
+            assertTrue(server.isRegistered(name));
+        } finally {
+            target.detach();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void registerByAnotherInstance() {
+        var other = new TsurugiJdbcMetrics("tcp://localhost:12347");
+        var target = new TsurugiJdbcMetrics("tcp://localhost:12347");
+        var server = ManagementFactory.getPlatformMBeanServer();
+
+        other.register();
+        var name = other.getObjectName();
+        try {
+            target.register();
+            assertNull(target.getObjectName());
+
+            target.unregister(); // does not remove the other instance's MXBean
+            assertTrue(server.isRegistered(name));
+        } finally {
+            other.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
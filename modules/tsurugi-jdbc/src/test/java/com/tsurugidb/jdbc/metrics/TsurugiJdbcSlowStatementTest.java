@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcSlowStatementTest {
+
+    @Test
+    void summarizeParametersEmpty() {
+        assertNull(TsurugiJdbcSlowStatement.summarizeParameters(null));
+        assertNull(TsurugiJdbcSlowStatement.summarizeParameters(List.of()));
+    }
+
+    @Test
+    void getMessage() {
+        long ms = TimeUnit.MILLISECONDS.toNanos(1);
+        var target = new TsurugiJdbcSlowStatement("select * from test", "[foo:INT8_VALUE]", "SHORT", "label1", 1 * ms, 20 * ms, 300 * ms, 4 * ms, 10);
+
+        assertEquals(325 * ms, target.getTotalNanos());
+        assertEquals("slow statement. elapsed=325 [ms] (begin=1, execute=20, fetch=300, commit=4), rows=10, transactionType=SHORT, label=label1, sql=select * from test, parameters=[foo:INT8_VALUE]",
+                target.getMessage());
+    }
+
+    @Test
+    void isSlow() {
+        var target = new TsurugiJdbcSlowStatementLog(100, false);
+
+        assertFalse(target.isExplain());
+        assertFalse(target.isSlow(TimeUnit.MILLISECONDS.toNanos(99)));
+        assertTrue(target.isSlow(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.jdbc.util.SqlFingerprint;
+
+class TsurugiJdbcStatementStatisticsTest {
+
+    @Test
+    void of() {
+        var statistics = TsurugiJdbcStatementStatistics.of("test-of");
+        assertSame(statistics, TsurugiJdbcStatementStatistics.of("test-of"));
+        assertEquals("test-of", statistics.getEndpoint());
+    }
+
+    @Test
+    void disabled() {
+        var target = new TsurugiJdbcStatementStatistics("test-disabled");
+        target.recordUpdate("insert into test values(1)", 1000, 1);
+
+        assertNull(target.getEntry("insert into test values(1)"));
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void record() {
+        var target = new TsurugiJdbcStatementStatistics("test-record");
+        target.ensureMaxSize(10);
+        target.ensureMaxSize(5); // ignored
+        assertEquals(10, target.getMaxSize());
+
+        target.recordUpdate("insert into test values(1, 'a')", 1_000_000, 1);
+        target.recordUpdate("insert into test values(2, 'b')", 3_000_000, 1);
+        target.recordQuery("select * from test where foo = 1", 1_000_000, 10);
+        target.recordQuery("select * from test where foo = 2", 1_000_000, 20);
+        target.recordRetry("insert into test values(3, 'c')");
+        target.recordAbort("insert into test values(3, 'c')");
+        target.recordAbort(null); // ignored
+
+        var list = target.getEntries();
+        assertEquals(2, list.size());
+
+        var insert = list.get(0);
+        assertEquals(SqlFingerprint.of("insert into test values(0, '')"), insert.getFingerprint());
+        assertEquals(2, insert.getCalls());
+        assertEquals(4, insert.getTotalMillis());
+        assertEquals(2, insert.getMeanMillis());
+        assertEquals(3, insert.getMaxMillis());
+        assertEquals(0, insert.getRows());
+        assertEquals(2, insert.getRowsAffected());
+        assertEquals(1, insert.getRetries());
+        assertEquals(1, insert.getAborts());
+
+        var select = list.get(1);
+        assertEquals(SqlFingerprint.of("select * from test where foo = 0"), select.getFingerprint());
+        assertEquals(2, select.getCalls());
+        assertEquals(30, select.getRows());
+        assertEquals(0, select.getRowsAffected());
+
+        assertEquals(1, target.getEntries(1).size());
+
+        target.reset();
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void evict() {
+        var target = new TsurugiJdbcStatementStatistics("test-evict");
+        target.ensureMaxSize(10);
+
+        for (int i = 0; i < 10; i++) {
+            target.recordUpdate("insert into test" + i + " values(1)", (i + 1) * 1000, 1);
+        }
+        assertEquals(10, target.size());
+
+        target.recordUpdate("insert into test_new values(1)", 100_000, 1);
+        assertTrue(target.size() <= 10);
+
+        var list = target.getEntries();
+        assertEquals(SqlFingerprint.of("insert into test_new values(1)"), list.get(0).getFingerprint());
+        assertTrue(list.stream().noneMatch(entry -> entry.getFingerprint().equals(SqlFingerprint.of("insert into test0 values(1)"))));
+    }
+}
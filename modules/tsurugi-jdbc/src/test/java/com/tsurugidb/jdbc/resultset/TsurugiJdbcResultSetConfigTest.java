@@ -56,6 +56,29 @@ class TsurugiJdbcResultSetConfigTest {
         assertEquals(0, target.getDefaultTimeout());
     }
 
+    @Test
+    void getLobInlineThreshold() throws SQLException {
+        {
+            var root = new TsurugiConfig();
+
+            var connection = TsurugiJdbcConnectionConfig.of(root);
+            var statement = TsurugiJdbcStatementConfig.of(connection);
+            var target = TsurugiJdbcResultSetConfig.of(statement);
+
+            assertEquals(0, target.getLobInlineThreshold());
+        }
+        {
+            var root = new TsurugiConfig();
+            root.put(factory, "lobInlineThreshold", "1024");
+
+            var connection = TsurugiJdbcConnectionConfig.of(root);
+            var statement = TsurugiJdbcStatementConfig.of(connection);
+            var target = TsurugiJdbcResultSetConfig.of(statement);
+
+            assertEquals(1024, target.getLobInlineThreshold());
+        }
+    }
+
     @Test
     void getDefaultTimeout() throws SQLException {
         var root = new TsurugiConfig();
@@ -16,6 +16,7 @@
 package com.tsurugidb.jdbc.statement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.sql.SQLException;
 
@@ -50,4 +51,18 @@ class TsurugiJdbcStatementConfigTest {
 
         assertEquals(123, target.getBatchQueueSize());
     }
+
+    @Test
+    void getScanParallel() throws SQLException {
+        var root = new TsurugiConfig();
+        root.put(factory, "scanParallel", "4");
+
+        var connection = TsurugiJdbcConnectionConfig.of(root);
+        var target = TsurugiJdbcStatementConfig.of(connection);
+
+        assertFalse(target.getScanParallel().isPresent());
+
+        target.setScanParallel(8);
+        assertEquals(8, target.getScanParallel().getAsInt());
+    }
 }
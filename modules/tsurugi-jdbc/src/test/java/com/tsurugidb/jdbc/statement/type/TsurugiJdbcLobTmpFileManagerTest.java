@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.statement.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TsurugiJdbcLobTmpFileManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reuse() throws IOException {
+        try (var target = new TsurugiJdbcLobTmpFileManager(tempDir, 1)) {
+            var slot1 = target.acquire("blob", ".dat");
+            Path path1 = slot1.getPath();
+            assertTrue(Files.exists(path1));
+            assertTrue(path1.getFileName().toString().startsWith("tsurugiJDBC-blob"));
+
+            Files.write(path1, new byte[10]);
+            target.written(slot1, 10);
+            assertEquals(1, target.getFilesInFlight());
+            assertEquals(10, target.getBytesInFlight());
+
+            target.release(slot1);
+            assertEquals(0, target.getFilesInFlight());
+            assertEquals(0, target.getBytesInFlight());
+            assertEquals(1, target.getPooledFiles());
+            assertEquals(0, Files.size(path1));
+
+            var slot2 = target.acquire("blob", ".dat");
+            assertEquals(path1, slot2.getPath());
+            assertEquals(1, target.getCreatedFiles());
+            assertEquals(1, target.getReusedFiles());
+
+            var slot3 = target.acquire("clob", ".txt");
+            assertNotEquals(path1, slot3.getPath());
+            target.release(slot3);
+            target.release(slot2);
+            assertEquals(2, target.getPooledFiles());
+        }
+    }
+
+    @Test
+    void precreate() throws Exception {
+        try (var target = new TsurugiJdbcLobTmpFileManager(tempDir, 3)) {
+            var slot1 = target.acquire("blob", ".dat");
+            for (int i = 0; i < 100 && target.getPooledFiles() < 2; i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(2, target.getPooledFiles());
+            assertEquals(3, target.getCreatedFiles());
+
+            var slot2 = target.acquire("blob", ".dat");
+            assertTrue(Files.exists(slot2.getPath()));
+            assertNotEquals(slot1.getPath(), slot2.getPath());
+            assertEquals(1, target.getReusedFiles());
+            assertEquals(3, target.getCreatedFiles());
+
+            target.release(slot1);
+            target.release(slot2);
+            assertEquals(3, target.getPooledFiles());
+        }
+    }
+
+    @Test
+    void poolFull() throws Exception {
+        try (var target = new TsurugiJdbcLobTmpFileManager(tempDir, 1)) {
+            var slot1 = target.acquire("blob", ".dat");
+            var slot2 = target.acquire("blob", ".dat");
+            target.release(slot1);
+            target.release(slot2);
+            assertEquals(1, target.getPooledFiles());
+
+            waitDeleted(slot2.getPath());
+            assertTrue(Files.exists(slot1.getPath()));
+        }
+    }
+
+    @Test
+    void close() throws Exception {
+        var target = new TsurugiJdbcLobTmpFileManager(tempDir, 4);
+        var slot1 = target.acquire("blob", ".dat");
+        var slot2 = target.acquire("blob", ".dat");
+        target.release(slot1);
+
+        target.close();
+        waitDeleted(slot1.getPath());
+
+        target.release(slot2);
+        waitDeleted(slot2.getPath());
+
+        assertThrows(IOException.class, () -> target.acquire("blob", ".dat"));
+    }
+
+    private static void waitDeleted(Path path) throws InterruptedException {
+        for (int i = 0; i < 100 && Files.exists(path); i++) {
+            Thread.sleep(50);
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void sweepOrphanFiles() throws IOException {
+        long now = System.currentTimeMillis();
+        long old = now - TimeUnit.DAYS.toMillis(2);
+        TsurugiJdbcLobTmpFileManager.lockOwner(tempDir);
+
+        var own = Files.createFile(tempDir.resolve("tsurugiJDBC-blob" + TsurugiJdbcLobTmpFileManager.OWNER_ID + "-1.dat"));
+        Files.setLastModifiedTime(own, FileTime.fromMillis(old));
+
+        // owner whose lock file is not locked
+        var deadLock = Files.createFile(tempDir.resolve(TsurugiJdbcLobTmpFileManager.lockFileName("11")));
+        var dead = Files.createFile(tempDir.resolve("tsurugiJDBC-blob11-1.dat"));
+
+        // owner whose lock file is locked (by another host, for example)
+        var aliveLock = Files.createFile(tempDir.resolve(TsurugiJdbcLobTmpFileManager.lockFileName("22")));
+        var alive = Files.createFile(tempDir.resolve("tsurugiJDBC-blob22-1.dat"));
+        Files.setLastModifiedTime(alive, FileTime.fromMillis(old));
+
+        // no lock file
+        var unknownNew = Files.createFile(tempDir.resolve("tsurugiJDBC-blob33-1.dat"));
+        var unknownOld = Files.createFile(tempDir.resolve("tsurugiJDBC-clob33-2.txt"));
+        Files.setLastModifiedTime(unknownOld, FileTime.fromMillis(old));
+        var legacy = Files.createFile(tempDir.resolve("tsurugiJDBC-clob123456789.txt"));
+        Files.setLastModifiedTime(legacy, FileTime.fromMillis(old));
+
+        try (var channel = FileChannel.open(aliveLock, StandardOpenOption.WRITE); var lock = channel.lock()) {
+            TsurugiJdbcLobTmpFileManager.sweepOrphanFiles(tempDir);
+        } finally {
+            TsurugiJdbcLobTmpFileManager.unlockOwner(tempDir);
+        }
+
+        assertTrue(Files.exists(tempDir.resolve(TsurugiJdbcLobTmpFileManager.lockFileName(TsurugiJdbcLobTmpFileManager.OWNER_ID))));
+        assertTrue(Files.exists(own));
+        assertFalse(Files.exists(dead));
+        assertFalse(Files.exists(deadLock));
+        assertTrue(Files.exists(alive));
+        assertTrue(Files.exists(aliveLock));
+        assertTrue(Files.exists(unknownNew));
+        assertFalse(Files.exists(unknownOld));
+        assertFalse(Files.exists(legacy));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcAdaptiveTransactionPolicyTest {
+
+    private static final String SQL = "update test set value = value + 1 where foo = :foo";
+
+    @Test
+    void escalate() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MIN_SAMPLES; i++) {
+            var tracker = target.begin(null, SQL, 50);
+            assertFalse(tracker.isLtx());
+            tracker.aborted();
+        }
+        assertTrue(target.getAbortRate(null, SQL) >= 0.5);
+
+        var tracker = target.begin(null, SQL, 50);
+        assertTrue(tracker.isLtx());
+        assertEquals(List.of("test"), tracker.getWritePreserve());
+        assertTrue(target.isLtx(null, SQL));
+    }
+
+    @Test
+    void escalateSameFingerprint() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MIN_SAMPLES; i++) {
+            var tracker = target.begin(null, "update test set value = value + 1 where foo = " + i, 50);
+            assertFalse(tracker.isLtx());
+            tracker.aborted();
+        }
+
+        var tracker = target.begin(null, "update test set value = value + 1 where foo = 12345", 50);
+        assertTrue(tracker.isLtx());
+        assertEquals(List.of("test"), tracker.getWritePreserve());
+    }
+
+    @Test
+    void notEscalate() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < 100; i++) {
+            var tracker = target.begin(null, SQL, 50);
+            assertFalse(tracker.isLtx());
+            if (i % 4 == 0) {
+                tracker.aborted();
+            } else {
+                tracker.committed();
+            }
+        }
+        assertFalse(target.isLtx(null, SQL));
+    }
+
+    @Test
+    void notEscalateWithoutWrite() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+        String sql = "select * from test";
+
+        for (int i = 0; i < 20; i++) {
+            var tracker = target.begin(null, sql, 50);
+            assertFalse(tracker.isLtx());
+            tracker.aborted();
+        }
+    }
+
+    @Test
+    void learnWritePreserve() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < 20; i++) {
+            var tracker = target.begin("label1", "select * from test", 50);
+            tracker.recordSql("insert into log values(1)");
+            tracker.aborted();
+        }
+
+        var tracker = target.begin("label1", "select * from other", 50);
+        assertTrue(tracker.isLtx());
+        assertEquals(List.of("log"), tracker.getWritePreserve());
+    }
+
+    @Test
+    void probeOcc() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MIN_SAMPLES; i++) {
+            target.begin(null, SQL, 50).aborted();
+        }
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.LTX_PROBE_INTERVAL + 1; i++) {
+            var tracker = target.begin(null, SQL, 50);
+            assertTrue(tracker.isLtx(), "i=" + i);
+            tracker.committed();
+        }
+
+        var tracker = target.begin(null, SQL, 50);
+        assertFalse(tracker.isLtx());
+        assertEquals(0.0, target.getAbortRate(null, SQL));
+    }
+
+    @Test
+    void ltxFailureWidensWritePreserve() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MIN_SAMPLES; i++) {
+            target.begin(null, SQL, 50).aborted();
+        }
+
+        var tracker = target.begin(null, SQL, 50);
+        assertTrue(tracker.isLtx());
+        tracker.failed("insert into log values(1)", false);
+
+        tracker = target.begin(null, SQL, 50);
+        assertTrue(tracker.isLtx());
+        assertEquals(List.of("log", "test"), tracker.getWritePreserve().stream().sorted().collect(Collectors.toList()));
+        tracker.committed();
+    }
+
+    @Test
+    void ltxFailureFallBackToOcc() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MIN_SAMPLES; i++) {
+            target.begin(null, SQL, 50).aborted();
+        }
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.LTX_MAX_FAILURES; i++) {
+            var tracker = target.begin(null, SQL, 50);
+            assertTrue(tracker.isLtx(), "i=" + i);
+            tracker.failed(null, true);
+        }
+
+        var tracker = target.begin(null, SQL, 50);
+        assertFalse(tracker.isLtx());
+        assertFalse(target.isLtx(null, SQL));
+        assertEquals(0.0, target.getAbortRate(null, SQL));
+    }
+
+    @Test
+    void occFailureNotAborted() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        var tracker = target.begin(null, SQL, 50);
+        tracker.failed(SQL, false);
+        tracker.committed();
+        assertEquals(0.0, target.getAbortRate(null, SQL));
+    }
+
+    @Test
+    void evict() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        for (int i = 0; i < TsurugiJdbcAdaptiveTransactionPolicy.MAX_KEYS; i++) {
+            target.begin("label" + i, null, 50);
+        }
+        target.begin("label0", null, 50);
+        target.begin("new", null, 50);
+
+        assertTrue(target.isTracked("label0", null));
+        assertTrue(target.isTracked("new", null));
+        assertFalse(target.isTracked("label1", null));
+        assertFalse(target.isTracked("label" + TsurugiJdbcAdaptiveTransactionPolicy.EVICT_KEYS, null));
+        assertTrue(target.isTracked("label" + (TsurugiJdbcAdaptiveTransactionPolicy.EVICT_KEYS + 1), null));
+    }
+
+    @Test
+    void finishOnce() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        var tracker = target.begin(null, SQL, 50);
+        tracker.aborted();
+        tracker.committed();
+        tracker.aborted();
+        assertEquals(TsurugiJdbcAdaptiveTransactionPolicy.ALPHA, target.getAbortRate(null, SQL), 1e-9);
+    }
+
+    @Test
+    void noKey() {
+        var target = new TsurugiJdbcAdaptiveTransactionPolicy();
+
+        assertNull(target.begin(null, null, 50));
+    }
+
+    @Test
+    void getWriteTableName() {
+        assertEquals("test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("insert into test values(1)"));
+        assertEquals("test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("INSERT OR REPLACE INTO test(foo) VALUES(:foo)"));
+        assertEquals("test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("insert if not exists into test values(1)"));
+        assertEquals("test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName(" /* c */ update test set foo = 1"));
+        assertEquals("test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("delete from test where foo = 1"));
+        assertEquals("Test Table", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("delete from \"Test Table\""));
+        assertEquals("s.test", TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("update s.test set foo = 1"));
+        assertNull(TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName("select * from test"));
+        assertNull(TsurugiJdbcAdaptiveTransactionPolicy.getWriteTableName(null));
+    }
+}
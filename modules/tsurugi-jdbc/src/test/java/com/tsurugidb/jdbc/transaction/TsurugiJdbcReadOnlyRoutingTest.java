@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcReadOnlyRoutingTest {
+
+    @Test
+    void isReadOnlyQuery() {
+        assertTrue(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("select * from test"));
+        assertTrue(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(" /* report */ SELECT count(*) FROM test"));
+        assertTrue(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("with c as (select * from test) select * from c"));
+
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("insert into test select * from other"));
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("update test set foo = 1"));
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("delete from test"));
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery("create table test(foo int)"));
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(""));
+        assertFalse(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(null));
+    }
+
+    @Test
+    void cached() {
+        String sql = "select * from cached_test";
+        assertTrue(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(sql));
+        assertTrue(TsurugiJdbcReadOnlyRouting.isReadOnlyQuery(sql));
+    }
+}
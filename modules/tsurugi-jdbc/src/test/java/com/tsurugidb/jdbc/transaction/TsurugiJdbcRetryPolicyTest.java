@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcRetryPolicyTest {
+
+    @Test
+    void isRetriable() {
+        var target = new TsurugiJdbcRetryPolicy();
+
+        assertTrue(target.isRetriable(new SQLTransactionRollbackException("test")));
+        assertTrue(target.isRetriable(new SQLException("test", "40001")));
+        assertFalse(target.isRetriable(new SQLException("test", "42000")));
+        assertFalse(target.isRetriable(new SQLException("test")));
+    }
+
+    @Test
+    void getBackoffMillis() {
+        var target = new TsurugiJdbcRetryPolicy().backoff(10, 50, 2);
+
+        for (int i = 0; i < 100; i++) {
+            long b1 = target.getBackoffMillis(1);
+            assertTrue(0 <= b1 && b1 <= 10, "b1=" + b1);
+            long b2 = target.getBackoffMillis(2);
+            assertTrue(0 <= b2 && b2 <= 20, "b2=" + b2);
+            long b10 = target.getBackoffMillis(10);
+            assertTrue(0 <= b10 && b10 <= 50, "b10=" + b10);
+        }
+    }
+
+    @Test
+    void getBackoffMillis_zero() {
+        var target = new TsurugiJdbcRetryPolicy().backoff(0, 0, 2);
+
+        for (int i = 1; i <= 10; i++) {
+            assertTrue(target.getBackoffMillis(i) == 0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcScanParallelPolicyTest {
+
+    @Test
+    void firstExecution() {
+        var target = new TsurugiJdbcScanParallelPolicy();
+
+        var lease = target.acquire("select * from test", 16, 8);
+        assertEquals(8, lease.getScanParallel());
+        assertEquals(8, target.getInUse());
+
+        lease.release();
+        lease.release();
+        assertEquals(0, target.getInUse());
+    }
+
+    @Test
+    void smallQuery() {
+        var target = new TsurugiJdbcScanParallelPolicy();
+        String sql = "select * from test where pk = 1";
+
+        var lease = target.acquire(sql, 16, 8);
+        lease.record(1);
+        lease.release();
+
+        lease = target.acquire(sql, 16, 8);
+        assertEquals(1, lease.getScanParallel());
+        lease.release();
+    }
+
+    @Test
+    void largeQuery() throws InterruptedException {
+        var target = new TsurugiJdbcScanParallelPolicy();
+        String sql = "select * from large";
+
+        var lease = target.acquire(sql, 16, 8);
+        lease.start();
+        Thread.sleep(TsurugiJdbcScanParallelPolicy.SMALL_QUERY_MILLIS + 10);
+        lease.record(TsurugiJdbcScanParallelPolicy.ROWS_PER_PARALLEL * 3);
+        lease.release();
+
+        lease = target.acquire(sql, 16, 8);
+        assertEquals(3, lease.getScanParallel());
+        lease.release();
+    }
+
+    @Test
+    void sameFingerprint() throws InterruptedException {
+        var target = new TsurugiJdbcScanParallelPolicy();
+
+        var lease = target.acquire("select * from large where k = 1", 16, 8);
+        lease.start();
+        Thread.sleep(TsurugiJdbcScanParallelPolicy.SMALL_QUERY_MILLIS + 10);
+        lease.record(TsurugiJdbcScanParallelPolicy.ROWS_PER_PARALLEL * 3);
+        lease.release();
+
+        lease = target.acquire("select * from large where k = 2", 16, 8);
+        assertEquals(3, lease.getScanParallel());
+        lease.release();
+    }
+
+    @Test
+    void startAfterBegin() throws InterruptedException {
+        var target = new TsurugiJdbcScanParallelPolicy();
+        String sql = "select * from test";
+
+        var lease = target.acquire(sql, 16, 8);
+        Thread.sleep(TsurugiJdbcScanParallelPolicy.SMALL_QUERY_MILLIS + 10); // begin latency
+        lease.start();
+        lease.record(TsurugiJdbcScanParallelPolicy.ROWS_PER_PARALLEL * 3);
+        lease.release();
+
+        lease = target.acquire(sql, 16, 8);
+        assertEquals(1, lease.getScanParallel());
+        lease.release();
+    }
+
+    @Test
+    void budget() {
+        var target = new TsurugiJdbcScanParallelPolicy();
+
+        var lease1 = target.acquire("select * from t1", 10, 8);
+        assertEquals(8, lease1.getScanParallel());
+        var lease2 = target.acquire("select * from t2", 10, 8);
+        assertEquals(2, lease2.getScanParallel());
+        var lease3 = target.acquire("select * from t3", 10, 8);
+        assertEquals(1, lease3.getScanParallel());
+        assertEquals(11, target.getInUse());
+
+        lease1.release();
+        lease2.release();
+        lease3.release();
+        assertEquals(0, target.getInUse());
+    }
+
+    @Test
+    void budgetExhausted() {
+        var target = new TsurugiJdbcScanParallelPolicy();
+        int budget = 4;
+
+        var lease = target.acquire("select * from t0", budget, 8);
+        assertEquals(budget, lease.getScanParallel());
+
+        // every transaction started while the budget is exhausted overshoots the budget by 1
+        var saturated = new ArrayList<TsurugiJdbcScanParallelPolicy.Lease>();
+        for (int i = 1; i <= 3; i++) {
+            var s = target.acquire("select * from t" + i, budget, 8);
+            assertEquals(1, s.getScanParallel());
+            saturated.add(s);
+            assertEquals(budget + i, target.getInUse());
+        }
+
+        lease.release();
+        assertEquals(3, target.getInUse());
+        var next = target.acquire("select * from t9", budget, 8);
+        assertEquals(1, next.getScanParallel());
+        next.release();
+
+        saturated.forEach(TsurugiJdbcScanParallelPolicy.Lease::release);
+        assertEquals(0, target.getInUse());
+        next = target.acquire("select * from t9", budget, 8);
+        assertEquals(budget, next.getScanParallel());
+        next.release();
+    }
+}
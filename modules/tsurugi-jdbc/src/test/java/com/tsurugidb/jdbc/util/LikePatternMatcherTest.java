@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LikePatternMatcherTest {
+
+    @Test
+    void nullPattern() {
+        assertNull(LikePatternMatcher.of(null, "\\"));
+        assertNull(LikePatternMatcher.of("", "\\"));
+    }
+
+    @Test
+    void cache() {
+        assertSame(LikePatternMatcher.of("test%", "\\"), LikePatternMatcher.of("test%", "\\"));
+    }
+
+    @Test
+    void all() {
+        var matcher = LikePatternMatcher.compile("%", "\\");
+        assertTrue(matcher.matches(""));
+        assertTrue(matcher.matches("test"));
+        assertEquals("", matcher.getLiteralPrefix());
+    }
+
+    @Test
+    void exact() {
+        var matcher = LikePatternMatcher.compile("test", "\\");
+        assertTrue(matcher.isExact());
+        assertTrue(matcher.matches("test"));
+        assertFalse(matcher.matches("test1"));
+        assertFalse(matcher.matches("tes"));
+    }
+
+    @Test
+    void prefix() {
+        var matcher = LikePatternMatcher.compile("te.st%%", "\\");
+        assertFalse(matcher.isExact());
+        assertEquals("te.st", matcher.getLiteralPrefix());
+        assertTrue(matcher.matches("te.st"));
+        assertTrue(matcher.matches("te.st_1"));
+        assertFalse(matcher.matches("teXst"));
+    }
+
+    @Test
+    void regex() {
+        var matcher = LikePatternMatcher.compile("t_st%x(1)", "\\");
+        assertEquals("t", matcher.getLiteralPrefix());
+        assertTrue(matcher.matches("test_x(1)"));
+        assertTrue(matcher.matches("tast123x(1)"));
+        assertFalse(matcher.matches("test_x1"));
+        assertFalse(matcher.matches("tst_x(1)"));
+    }
+
+    @Test
+    void escape() {
+        var matcher = LikePatternMatcher.compile("test\\_1", "\\");
+        assertTrue(matcher.isExact());
+        assertTrue(matcher.matches("test_1"));
+        assertFalse(matcher.matches("testX1"));
+
+        var matcher2 = LikePatternMatcher.compile("a\\%b%", "\\");
+        assertEquals("a%b", matcher2.getLiteralPrefix());
+        assertTrue(matcher2.matches("a%bc"));
+        assertFalse(matcher2.matches("axbc"));
+
+        var matcher3 = LikePatternMatcher.compile("a\\\\%", "\\");
+        assertTrue(matcher3.matches("a\\b"));
+    }
+
+    @Test
+    void noEscape() {
+        var matcher = LikePatternMatcher.compile("test\\_1", null);
+        assertTrue(matcher.matches("test\\X1"));
+        assertFalse(matcher.matches("test_1"));
+    }
+}
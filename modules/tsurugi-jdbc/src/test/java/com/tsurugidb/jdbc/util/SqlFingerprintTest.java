@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of() {
+        assertEquals("select * from test where foo = ? and bar = ?", SqlFingerprint.of("select *\n  from test where foo = 123 and bar = 'abc'"));
+        assertEquals("select * from test where foo = ?", SqlFingerprint.of("/* comment */ select * from test where foo = 1.5 -- comment"));
+        assertEquals("insert into test values ( ? , ? , ? )", SqlFingerprint.of("insert into test values(?, 'x', 2)"));
+        assertEquals("select \"a b\" from t . x", SqlFingerprint.of("select \"a b\" from t.x"));
+        assertEquals("", SqlFingerprint.of(""));
+        assertNull(SqlFingerprint.of(null));
+    }
+
+    @Test
+    void sameFingerprint() {
+        assertEquals(SqlFingerprint.of("update test set v = 1 where k = 10"), SqlFingerprint.of("update test  set v = 2\nwhere k = 20"));
+    }
+
+    @Test
+    void cache() {
+        String sql = "select * from cache_test where k = 1";
+        assertSame(SqlFingerprint.of(sql), SqlFingerprint.of(sql));
+    }
+}
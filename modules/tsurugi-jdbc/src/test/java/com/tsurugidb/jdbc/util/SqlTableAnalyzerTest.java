@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SqlTableAnalyzerTest {
+
+    @Test
+    void insert() {
+        var target = SqlTableAnalyzer.of("insert into test values(1)");
+        assertEquals(List.of("test"), target.getWriteTables());
+        assertEquals(List.of(), target.getReadTables());
+
+        target = SqlTableAnalyzer.of("INSERT OR REPLACE INTO test(foo) VALUES(:foo)");
+        assertEquals(List.of("test"), target.getWriteTables());
+
+        target = SqlTableAnalyzer.of("insert if not exists into test values(1)");
+        assertEquals(List.of("test"), target.getWriteTables());
+
+        target = SqlTableAnalyzer.of("insert into test select * from src where foo > 0");
+        assertEquals(List.of("test"), target.getWriteTables());
+        assertEquals(List.of("src"), target.getReadTables());
+    }
+
+    @Test
+    void update() {
+        var target = SqlTableAnalyzer.of(" /* c */ update s.test set foo = (select max(v) from other) where bar = 1");
+        assertEquals(List.of("s.test"), target.getWriteTables());
+        assertEquals(List.of("s.test", "other"), target.getReadTables());
+    }
+
+    @Test
+    void delete() {
+        var target = SqlTableAnalyzer.of("delete from \"Test Table\" where foo in (select foo from other)");
+        assertEquals(List.of("Test Table"), target.getWriteTables());
+        assertEquals(List.of("Test Table", "other"), target.getReadTables());
+    }
+
+    @Test
+    void select() {
+        var target = SqlTableAnalyzer.of("select * from t1 a, t2 as b join t3 on a.x = t3.x left outer join t4 c on c.y = b.y where a.z = 'from x'");
+        assertEquals(List.of(), target.getWriteTables());
+        assertEquals(List.of("t1", "t2", "t3", "t4"), target.getReadTables());
+
+        target = SqlTableAnalyzer.of("select * from (select * from inner_table) t");
+        assertEquals(List.of("inner_table"), target.getReadTables());
+    }
+
+    @Test
+    void cte() {
+        var target = SqlTableAnalyzer.of("with c1 as (select * from base), c2(x) as (select x from c1) select * from c2 join other on true");
+        assertEquals(List.of("base", "other"), target.getReadTables());
+    }
+
+    @Test
+    void multiple() {
+        var target = SqlTableAnalyzer.of(List.of( //
+                "select * from master where id = :id", //
+                "update stock set qty = qty - :qty where id = :id", //
+                "insert into history values(:id, :qty)"));
+        assertEquals(List.of("stock", "history"), target.getWriteTables());
+        assertEquals(List.of("master", "stock"), target.getReadTables());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SqlTokenizerTest {
+
+    private static List<String> tokens(String sql) {
+        var tokenizer = new SqlTokenizer(sql);
+        var list = new ArrayList<String>();
+        for (;;) {
+            String token = tokenizer.next();
+            if (token == null) {
+                break;
+            }
+            list.add(token);
+        }
+        return list;
+    }
+
+    @Test
+    void next() {
+        assertEquals(List.of("select", "*", "from", "test", "where", "foo", "=", "'a''b'"), tokens("select * from test where foo = 'a''b'"));
+        assertEquals(List.of("select", "1"), tokens("-- comment\nselect /* c */ 1 // comment"));
+        assertEquals(List.of(), tokens(""));
+        assertEquals(List.of(), tokens(null));
+    }
+
+    @Test
+    void quoted() {
+        var tokenizer = new SqlTokenizer("\"A\"\"B\" c");
+        assertEquals("A\"B", tokenizer.next());
+        assertTrue(tokenizer.isQuoted());
+        assertEquals("c", tokenizer.next());
+        assertFalse(tokenizer.isQuoted());
+        assertNull(tokenizer.next());
+    }
+
+    @Test
+    void nextName() {
+        var tokenizer = new SqlTokenizer("s . t.\"U\" (x)");
+        assertEquals("s.t.U", tokenizer.nextName());
+        assertEquals("(", tokenizer.next());
+        assertEquals("x", tokenizer.nextName());
+        assertEquals(")", tokenizer.next());
+    }
+
+    @Test
+    void peekKeyword() {
+        var tokenizer = new SqlTokenizer("/* c */ Create table \"drop\" dropped");
+        assertTrue(tokenizer.peekKeyword("CREATE"));
+        assertFalse(tokenizer.peekKeyword("CREATED"));
+        assertEquals("Create", tokenizer.next());
+        assertTrue(tokenizer.peekKeyword("table"));
+        assertEquals("table", tokenizer.next());
+        assertFalse(tokenizer.peekKeyword("drop")); // quoted identifier
+        assertEquals("drop", tokenizer.next());
+        assertFalse(tokenizer.peekKeyword("drop"));
+        assertEquals("dropped", tokenizer.next());
+        assertFalse(tokenizer.peekKeyword("drop"));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class TableNameMatcherTest {
+
+    private static final TableNameIndex INDEX = TableNameIndex.of(List.of("test_b", "foo", "test", "test1", "bar", "testa_b"));
+
+    @Test
+    void matches() {
+        var matcher = TableNameMatcher.of(null, null, "test%", new String[] { "TABLE" });
+        assertTrue(matcher.matches("test1", "TABLE"));
+        assertFalse(matcher.matches("foo", "TABLE"));
+        assertFalse(matcher.matches("test1", "VIEW"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void matchesPattern() {
+        var matcher = new TableNameMatcher(null, (Pattern) null, Pattern.compile("test.*"), Set.of("TABLE"));
+        assertTrue(matcher.matches("test1", "TABLE"));
+        assertFalse(matcher.matches("foo", "TABLE"));
+        assertFalse(matcher.matches("test1", "VIEW"));
+        assertEquals(List.of("test", "test1", "test_b", "testa_b"), matcher.selectTableNames(INDEX));
+    }
+
+    @Test
+    void selectTableNames() {
+        assertEquals(List.of("bar", "foo", "test", "test1", "test_b", "testa_b"), TableNameMatcher.of(null, null, null, null).selectTableNames(INDEX));
+        assertEquals(List.of("bar", "foo", "test", "test1", "test_b", "testa_b"), TableNameMatcher.of(null, null, "%", null).selectTableNames(INDEX));
+        assertEquals(List.of("test", "test1", "test_b", "testa_b"), TableNameMatcher.of(null, null, "test%", null).selectTableNames(INDEX));
+        assertEquals(List.of("test_b", "testa_b"), TableNameMatcher.of(null, null, "test%_b", null).selectTableNames(INDEX));
+        assertEquals(List.of("test_b"), TableNameMatcher.of(null, null, "test\\_b", null).selectTableNames(INDEX));
+        assertEquals(List.of("test"), TableNameMatcher.of(null, null, "test", null).selectTableNames(INDEX));
+        assertEquals(List.of(), TableNameMatcher.of(null, null, "tes", null).selectTableNames(INDEX));
+        assertEquals(List.of(), TableNameMatcher.of(null, null, "zzz%", null).selectTableNames(INDEX));
+    }
+
+    @Test
+    void matchesColumnName() {
+        var matcher = TableNameMatcher.of(null, null, null, null).columnNamePattern("c\\_%");
+        assertTrue(matcher.matchesColumnName("c_1"));
+        assertFalse(matcher.matchesColumnName("cx1"));
+    }
+}
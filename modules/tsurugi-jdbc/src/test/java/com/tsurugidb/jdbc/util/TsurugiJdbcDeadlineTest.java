@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiJdbcDeadlineTest {
+
+    @Test
+    void after() {
+        var deadline = TsurugiJdbcDeadline.after(Duration.ofMinutes(1));
+        assertFalse(deadline.isExpired());
+        long remaining = deadline.getRemainingNanos();
+        assertTrue(remaining > 0 && remaining <= Duration.ofMinutes(1).toNanos());
+    }
+
+    @Test
+    void expired() {
+        assertTrue(TsurugiJdbcDeadline.after(Duration.ZERO).isExpired());
+        assertTrue(TsurugiJdbcDeadline.after(Duration.ofSeconds(-1)).isExpired());
+    }
+
+    @Test
+    void overflow() {
+        var deadline = TsurugiJdbcDeadline.after(Duration.ofSeconds(Long.MAX_VALUE));
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.getRemainingNanos() > 0);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.tsurugidb.jdbc.factory.TsurugiJdbcFactory;
+import com.tsurugidb.jdbc.mock.PendingFutureResponseTestMock;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiJdbcIoUtilTest {
+
+    private final TsurugiJdbcIoUtil io = new TsurugiJdbcIoUtil(new TsurugiJdbcFactory());
+
+    @Test
+    void getWithoutDeadline() throws Exception {
+        assertEquals("abc", io.get(FutureResponse.returns("abc"), 1, null));
+    }
+
+    @Test
+    void getTimeout() {
+        var future = new PendingFutureResponseTestMock<String>();
+        var deadline = TsurugiJdbcDeadline.after(Duration.ofMinutes(1));
+
+        var e = assertThrows(TimeoutException.class, () -> io.get(future, 1, TimeUnit.MILLISECONDS, deadline));
+        assertEquals("pending response timeout", e.getMessage());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), future.getLastTimeoutNanos());
+        assertFalse(future.isClosed());
+    }
+
+    @Test
+    void getDeadlineExceeded() {
+        var future = new PendingFutureResponseTestMock<String>();
+        var deadline = TsurugiJdbcDeadline.after(Duration.ofMillis(50));
+
+        var e = assertThrows(TimeoutException.class, () -> io.get(future, 60, deadline));
+        assertEquals("transaction deadline exceeded", e.getMessage());
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        long timeoutNanos = future.getLastTimeoutNanos();
+        assertTrue(timeoutNanos > 0 && timeoutNanos <= Duration.ofMillis(50).toNanos(), "timeout=" + timeoutNanos);
+        assertTrue(future.isClosed());
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    @Timeout(10)
+    void getDeadlineWithoutTimeout() {
+        var future = new PendingFutureResponseTestMock<String>();
+        var deadline = TsurugiJdbcDeadline.after(Duration.ofMillis(50));
+
+        var e = assertThrows(TimeoutException.class, () -> io.get(future, 0, deadline));
+        assertEquals("transaction deadline exceeded", e.getMessage());
+        long timeoutNanos = future.getLastTimeoutNanos();
+        assertTrue(timeoutNanos > 0 && timeoutNanos <= Duration.ofMillis(50).toNanos(), "timeout=" + timeoutNanos);
+        assertTrue(future.isClosed());
+    }
+
+    @Test
+    void getDeadlineExpired() {
+        var future = new PendingFutureResponseTestMock<String>();
+        var deadline = TsurugiJdbcDeadline.after(Duration.ZERO);
+
+        var e = assertThrows(TimeoutException.class, () -> io.get(future, 60, deadline));
+        assertEquals("transaction deadline exceeded", e.getMessage());
+        assertEquals(-1, future.getLastTimeoutNanos());
+        assertTrue(future.isClosed());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BytePatternSearcherTest {
+
+    @Test
+    void empty() {
+        assertThrows(IllegalArgumentException.class, () -> new BytePatternSearcher(new byte[0]));
+    }
+
+    @Test
+    void indexOf() {
+        byte[] text = { 1, 2, 3, 1, 2, 3, 4 };
+        var target = new BytePatternSearcher(new byte[] { 2, 3, 4 });
+
+        assertEquals(4, target.indexOf(text, 0, text.length));
+        assertEquals(4, target.indexOf(text, 4, text.length));
+        assertEquals(-1, target.indexOf(text, 5, text.length));
+        assertEquals(-1, target.indexOf(text, 0, text.length - 1));
+    }
+
+    @Test
+    void indexOf1() {
+        byte[] text = { 1, 2, 3, 1, 2, 3 };
+        var target = new BytePatternSearcher(new byte[] { 3 });
+
+        assertEquals(2, target.indexOf(text, 0, text.length));
+        assertEquals(5, target.indexOf(text, 3, text.length));
+        assertEquals(-1, target.indexOf(text, 0, 2));
+    }
+
+    @Test
+    void indexOfRandom() throws IOException {
+        var random = new Random(123);
+        for (int t = 0; t < 1000; t++) {
+            var text = new byte[random.nextInt(200)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = (byte) random.nextInt(3);
+            }
+            var pattern = new byte[1 + random.nextInt(5)];
+            for (int i = 0; i < pattern.length; i++) {
+                pattern[i] = (byte) random.nextInt(3);
+            }
+            int from = random.nextInt(text.length + 1);
+
+            int expected = naiveIndexOf(text, pattern, from);
+            var target = new BytePatternSearcher(pattern);
+            assertEquals(expected, target.indexOf(text, from, text.length));
+            assertEquals(expected, target.indexOf(new ByteArrayInputStream(text), from));
+        }
+    }
+
+    private static int naiveIndexOf(byte[] text, byte[] pattern, int from) {
+        loop: for (int i = from; i + pattern.length <= text.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (text[i + j] != pattern[j]) {
+                    continue loop;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    @Test
+    void indexOfStreamBoundary() throws IOException {
+        var text = new byte[BytePatternSearcher.STREAM_BUFFER_SIZE * 3];
+        int index = BytePatternSearcher.STREAM_BUFFER_SIZE - 1;
+        text[index] = 9;
+        text[index + 1] = 8;
+        text[index + 2] = 7;
+        var target = new BytePatternSearcher(new byte[] { 9, 8, 7 });
+
+        assertEquals(index, target.indexOf(new ByteArrayInputStream(text), 0));
+        assertEquals(index, target.indexOf(new ByteArrayInputStream(text), index));
+        assertEquals(-1, target.indexOf(new ByteArrayInputStream(text), index + 1));
+        assertEquals(-1, target.indexOf(new ByteArrayInputStream(text), text.length + 1));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CharPatternSearcherTest {
+
+    @Test
+    void empty() {
+        assertThrows(IllegalArgumentException.class, () -> new CharPatternSearcher(""));
+    }
+
+    @Test
+    void indexOf() {
+        String text = "abcabcd";
+        var target = new CharPatternSearcher("bcd");
+
+        assertEquals(4, target.indexOf(text, 0, text.length()));
+        assertEquals(4, target.indexOf(text, 4, text.length()));
+        assertEquals(-1, target.indexOf(text, 5, text.length()));
+        assertEquals(-1, target.indexOf(text, 0, text.length() - 1));
+    }
+
+    @Test
+    void indexOfSameLowByte() {
+        // 'š' and 'a' share the low 8 bits
+        String text = "xšaxša";
+        var target = new CharPatternSearcher("ša");
+
+        assertEquals(1, target.indexOf(text, 0, text.length()));
+        assertEquals(4, target.indexOf(text, 2, text.length()));
+    }
+
+    @Test
+    void indexOfRandom() throws IOException {
+        var random = new Random(123);
+        for (int t = 0; t < 1000; t++) {
+            var text = new StringBuilder();
+            int length = random.nextInt(200);
+            for (int i = 0; i < length; i++) {
+                text.append((char) ('a' + random.nextInt(3)));
+            }
+            var pattern = new StringBuilder();
+            int patternLength = 1 + random.nextInt(5);
+            for (int i = 0; i < patternLength; i++) {
+                pattern.append((char) ('a' + random.nextInt(3)));
+            }
+            int from = random.nextInt(length + 1);
+
+            int expected = text.indexOf(pattern.toString(), from);
+            var target = new CharPatternSearcher(pattern.toString());
+            assertEquals(expected, target.indexOf(text, from, length));
+            assertEquals(expected, target.indexOf(new StringReader(text.toString()), from));
+        }
+    }
+
+    @Test
+    void indexOfStreamBoundary() throws IOException {
+        var text = new StringBuilder("-".repeat(CharPatternSearcher.STREAM_BUFFER_SIZE * 3));
+        int index = CharPatternSearcher.STREAM_BUFFER_SIZE - 1;
+        text.replace(index, index + 3, "abc");
+        var target = new CharPatternSearcher("abc");
+
+        assertEquals(index, target.indexOf(new StringReader(text.toString()), 0));
+        assertEquals(-1, target.indexOf(new StringReader(text.toString()), index + 1));
+    }
+}
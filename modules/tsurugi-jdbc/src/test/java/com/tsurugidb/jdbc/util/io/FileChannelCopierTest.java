@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileChannelCopierTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void copyInputStream() throws IOException {
+        var data = new byte[10_001];
+        new Random(123).nextBytes(data);
+        var file = tempDir.resolve("test.dat");
+
+        long size = FileChannelCopier.copy(new ByteArrayInputStream(data), file, 1000);
+        assertEquals(data.length, size);
+        assertArrayEquals(data, Files.readAllBytes(file));
+    }
+
+    @Test
+    void copyInputStreamTruncate() throws IOException {
+        var file = tempDir.resolve("test.dat");
+        Files.write(file, new byte[100]);
+
+        long size = FileChannelCopier.copy(new ByteArrayInputStream(new byte[] { 1, 2, 3 }), file);
+        assertEquals(3, size);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(file));
+    }
+
+    @Test
+    void copyReader() throws IOException {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("aéあ😀");
+        }
+        String text = sb.toString();
+        var file = tempDir.resolve("test.txt");
+
+        long size = FileChannelCopier.copy(new StringReader(text), file, StandardCharsets.UTF_8, 7);
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, size);
+        assertEquals(text, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void copyReaderUtf16() throws IOException {
+        String text = "abcあ";
+        var file = tempDir.resolve("test.txt");
+
+        FileChannelCopier.copy(new StringReader(text), file, StandardCharsets.UTF_16);
+        assertEquals(text, Files.readString(file, StandardCharsets.UTF_16));
+    }
+
+    @Test
+    void copyEmpty() throws IOException {
+        var file = tempDir.resolve("test.txt");
+
+        assertEquals(0, FileChannelCopier.copy(new StringReader(""), file, StandardCharsets.UTF_8));
+        assertEquals(0, Files.size(file));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.util.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class Utf8EncodingInputStreamTest {
+
+    @Test
+    void readAll() throws IOException {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("aéあ😀");
+        }
+        String text = sb.toString();
+
+        // small buffer to split surrogate pairs and multi-byte characters
+        try (var in = new Utf8EncodingInputStream(new StringReader(text), 9)) {
+            assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void readByte() throws IOException {
+        String text = "aéあ😀";
+
+        var out = new ByteArrayOutputStream();
+        try (var in = new Utf8EncodingInputStream(new StringReader(text), 8)) {
+            for (;;) {
+                int b = in.read();
+                if (b < 0) {
+                    break;
+                }
+                out.write(b);
+            }
+        }
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    void malformed() throws IOException {
+        String text = "a\uD800b";
+
+        try (var in = Utf8EncodingInputStream.of(new StringReader(text))) {
+            assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void empty() throws IOException {
+        try (var in = Utf8EncodingInputStream.of(new StringReader(""))) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[10]));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.mock;
+
+import java.io.IOException;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+
+public class LowPreparedStatementTestMock implements PreparedStatement {
+
+    private final boolean hasResultRecords;
+
+    LowPreparedStatementTestMock(boolean hasResultRecords) {
+        this.hasResultRecords = hasResultRecords;
+    }
+
+    @Override
+    public boolean hasResultRecords() {
+        return this.hasResultRecords;
+    }
+
+    @Override
+    public void close() throws IOException, ServerException, InterruptedException {
+        // do nothing
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.List;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.types.DateTimeInterval;
+
+public class LowResultSetTestMock implements ResultSet {
+
+    private final ResultSetMetadata metadata;
+    private final Object[][] rows;
+    private final int columnSize;
+    private int rowIndex = -1;
+    private int columnIndex = -1;
+
+    LowResultSetTestMock(List<SqlCommon.Column> columns, Object[][] rows) {
+        this.metadata = new ResultSetMetadata() {
+            @Override
+            public List<? extends SqlCommon.Column> getColumns() {
+                return columns;
+            }
+        };
+        this.rows = rows;
+        this.columnSize = columns.size();
+    }
+
+    @Override
+    public ResultSetMetadata getMetadata() {
+        return this.metadata;
+    }
+
+    @Override
+    public boolean nextRow() {
+        this.columnIndex = -1;
+        return ++rowIndex < rows.length;
+    }
+
+    @Override
+    public boolean nextColumn() {
+        return ++columnIndex < columnSize;
+    }
+
+    private Object value() {
+        return rows[rowIndex][columnIndex];
+    }
+
+    @Override
+    public boolean isNull() {
+        return value() == null;
+    }
+
+    @Override
+    public boolean fetchBooleanValue() {
+        return (Boolean) value();
+    }
+
+    @Override
+    public int fetchInt4Value() {
+        return (Integer) value();
+    }
+
+    @Override
+    public long fetchInt8Value() {
+        return (Long) value();
+    }
+
+    @Override
+    public float fetchFloat4Value() {
+        return (Float) value();
+    }
+
+    @Override
+    public double fetchFloat8Value() {
+        return (Double) value();
+    }
+
+    @Override
+    public BigDecimal fetchDecimalValue() {
+        return (BigDecimal) value();
+    }
+
+    @Override
+    public String fetchCharacterValue() {
+        return (String) value();
+    }
+
+    @Override
+    public byte[] fetchOctetValue() {
+        return (byte[]) value();
+    }
+
+    @Override
+    public boolean[] fetchBitValue() {
+        return (boolean[]) value();
+    }
+
+    @Override
+    public LocalDate fetchDateValue() {
+        return (LocalDate) value();
+    }
+
+    @Override
+    public LocalTime fetchTimeOfDayValue() {
+        return (LocalTime) value();
+    }
+
+    @Override
+    public LocalDateTime fetchTimePointValue() {
+        return (LocalDateTime) value();
+    }
+
+    @Override
+    public OffsetTime fetchTimeOfDayWithTimeZoneValue() {
+        return (OffsetTime) value();
+    }
+
+    @Override
+    public OffsetDateTime fetchTimePointWithTimeZoneValue() {
+        return (OffsetDateTime) value();
+    }
+
+    @Override
+    public DateTimeInterval fetchDateTimeIntervalValue() {
+        return (DateTimeInterval) value();
+    }
+
+    @Override
+    public int beginArrayValue() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endArrayValue() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int beginRowValue() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endRowValue() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        // do nothing
+    }
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.tsurugidb.jdbc.connection;
+package com.tsurugidb.jdbc.mock;
 
 import java.io.IOException;
 import java.util.IdentityHashMap;
@@ -53,12 +53,12 @@ public class LowSessionTestMock implements Session {
     }
 
     @Override
-    public void put(ServerResource resource) {
+    public synchronized void put(ServerResource resource) {
         resourceSet.put(resource, true);
     }
 
     @Override
-    public void remove(ServerResource resource) {
+    public synchronized void remove(ServerResource resource) {
         resourceSet.remove(resource);
     }
 
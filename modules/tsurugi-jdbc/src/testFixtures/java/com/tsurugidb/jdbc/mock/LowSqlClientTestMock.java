@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.mock;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+public class LowSqlClientTestMock implements SqlClient {
+
+    private final List<SqlCommon.Column> columns;
+    private final Object[][] rows;
+    private final AtomicInteger commitCount = new AtomicInteger();
+    private final AtomicInteger rollbackCount = new AtomicInteger();
+    private volatile boolean pendingQuery = false;
+    private volatile boolean pendingCommit = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param columns columns of the query result
+     * @param rows    rows of the query result
+     */
+    public LowSqlClientTestMock(List<SqlCommon.Column> columns, Object[][] rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates a new instance without query result.
+     */
+    public LowSqlClientTestMock() {
+        this(List.of(), new Object[0][]);
+    }
+
+    LowResultSetTestMock createResultSet() {
+        return new LowResultSetTestMock(columns, rows);
+    }
+
+    /**
+     * Set whether the query responses never complete.
+     *
+     * @param pending {@code true} if pending
+     */
+    public void setPendingQuery(boolean pending) {
+        this.pendingQuery = pending;
+    }
+
+    boolean isPendingQuery() {
+        return this.pendingQuery;
+    }
+
+    /**
+     * Set whether the commit responses never complete.
+     *
+     * @param pending {@code true} if pending
+     */
+    public void setPendingCommit(boolean pending) {
+        this.pendingCommit = pending;
+    }
+
+    boolean isPendingCommit() {
+        return this.pendingCommit;
+    }
+
+    void committed() {
+        commitCount.incrementAndGet();
+    }
+
+    void rolledBack() {
+        rollbackCount.incrementAndGet();
+    }
+
+    /**
+     * Get number of commits.
+     *
+     * @return number of commits
+     */
+    public int getCommitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * Get number of rollbacks.
+     *
+     * @return number of rollbacks
+     */
+    public int getRollbackCount() {
+        return rollbackCount.get();
+    }
+
+    @Override
+    public FutureResponse<Transaction> createTransaction(SqlRequest.TransactionOption option) throws IOException {
+        return FutureResponse.returns(new LowTransactionTestMock(this));
+    }
+
+    @Override
+    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends SqlRequest.Placeholder> placeholders) throws IOException {
+        boolean hasResultRecords = source.trim().regionMatches(true, 0, "select", 0, 6);
+        return FutureResponse.returns(new LowPreparedStatementTestMock(hasResultRecords));
+    }
+
+    @Override
+    public void close() throws ServerException, IOException, InterruptedException {
+        // do nothing
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.mock;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import com.tsurugidb.sql.proto.SqlRequest;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+public class LowTransactionTestMock implements Transaction {
+
+    private static final ExecuteResult EXECUTE_RESULT = new ExecuteResult() {
+        private final Map<CounterType, Long> counters = Map.of(CounterType.INSERTED_ROWS, 1L);
+
+        @Override
+        public Map<CounterType, Long> getCounters() {
+            return counters;
+        }
+    };
+
+    private final LowSqlClientTestMock sqlClient;
+
+    LowTransactionTestMock(LowSqlClientTestMock sqlClient) {
+        this.sqlClient = sqlClient;
+    }
+
+    @Override
+    public FutureResponse<ExecuteResult> executeStatement(String source) throws IOException {
+        return FutureResponse.returns(EXECUTE_RESULT);
+    }
+
+    @Override
+    public FutureResponse<ExecuteResult> executeStatement(PreparedStatement statement, Collection<? extends SqlRequest.Parameter> parameters) throws IOException {
+        return FutureResponse.returns(EXECUTE_RESULT);
+    }
+
+    @Override
+    public FutureResponse<ResultSet> executeQuery(String source) throws IOException {
+        return query();
+    }
+
+    @Override
+    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends SqlRequest.Parameter> parameters) throws IOException {
+        return query();
+    }
+
+    private FutureResponse<ResultSet> query() {
+        if (sqlClient.isPendingQuery()) {
+            return new PendingFutureResponseTestMock<>();
+        }
+        return FutureResponse.returns(sqlClient.createResultSet());
+    }
+
+    @Override
+    public FutureResponse<Void> commit(SqlRequest.CommitOption option) throws IOException {
+        if (sqlClient.isPendingCommit()) {
+            return new PendingFutureResponseTestMock<>();
+        }
+        sqlClient.committed();
+        return FutureResponse.returns(null);
+    }
+
+    @Override
+    public FutureResponse<Void> rollback() throws IOException {
+        sqlClient.rolledBack();
+        return FutureResponse.returns(null);
+    }
+
+    @Override
+    public FutureResponse<SqlServiceException> getSqlServiceException() throws IOException {
+        return FutureResponse.returns(null);
+    }
+
+    @Override
+    public void close() throws IOException, ServerException, InterruptedException {
+        // do nothing
+    }
+}
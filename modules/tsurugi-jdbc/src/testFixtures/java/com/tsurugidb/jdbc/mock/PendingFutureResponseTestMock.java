@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.jdbc.mock;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * FutureResponse which never completes.
+ * <p>
+ * Every wait times out after the given timeout. As with tsubakuro, a timeout of 0 or less means no timeout, so the wait lasts until the response is closed.
+ * Records whether the response was closed (cancelled).
+ * </p>
+ *
+ * @param <V> the result value type
+ */
+public class PendingFutureResponseTestMock<V> implements FutureResponse<V> {
+
+    private volatile boolean closed = false;
+    private volatile long lastTimeoutNanos = -1;
+
+    @Override
+    public boolean isDone() {
+        return false;
+    }
+
+    @Override
+    public V get() throws IOException, ServerException, InterruptedException {
+        this.lastTimeoutNanos = 0;
+        waitUntilClosed();
+        throw new IOException("pending response closed");
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException, TimeoutException {
+        long nanos = unit.toNanos(timeout);
+        this.lastTimeoutNanos = nanos;
+        if (nanos <= 0) {
+            waitUntilClosed();
+            throw new IOException("pending response closed");
+        }
+        long end = System.nanoTime() + nanos;
+        for (long wait = nanos; wait > 0; wait = end - System.nanoTime()) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        throw new TimeoutException("pending response timeout");
+    }
+
+    private void waitUntilClosed() throws InterruptedException {
+        while (!closed) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * Get the timeout of the last wait.
+     *
+     * @return timeout [nanoseconds]. 0 if waited without timeout, -1 if not waited
+     */
+    public long getLastTimeoutNanos() {
+        return this.lastTimeoutNanos;
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+    }
+
+    /**
+     * Whether the response was closed.
+     *
+     * @return {@code true} if closed
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+}